@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import org.thinkit.api.gateway.github.response.repos.Repository;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.response.repos.issues.comments.IssueComment;
+import org.thinkit.api.gateway.github.response.user.User;
+import org.thinkit.api.gateway.github.response.user.receivedevents.ReceivedEvent;
+import org.thinkit.api.gateway.github.response.user.repos.UserRepository;
+import org.thinkit.api.gateway.github.response.user.subscriptions.UserSubscription;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The recorded responses of the GitHub API used by the benchmarks. Each fixture
+ * holds one resource, and the responses of the endpoints that return a list are
+ * built by repeating it.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum Fixture {
+
+    /**
+     * The response of {@code GET /repos/{owner}/{repo}}
+     */
+    REPOSITORY("repository.json", "/repos/octocat/Hello-World", Repository.class, false),
+
+    /**
+     * The response of {@code GET /users/{username}}
+     */
+    USER("user.json", "/users/octocat", User.class, false),
+
+    /**
+     * The response of {@code GET /users/{username}/repos}
+     */
+    USER_REPOSITORY("user_repository.json", "/users/octocat/repos", UserRepository.class, true),
+
+    /**
+     * The response of {@code GET /users/{username}/subscriptions}
+     */
+    USER_SUBSCRIPTION("user_subscription.json", "/users/octocat/subscriptions", UserSubscription.class, true),
+
+    /**
+     * The response of {@code GET /repos/{owner}/{repo}/issues}
+     */
+    ISSUE("issue.json", "/repos/octocat/Hello-World/issues", Issue.class, true),
+
+    /**
+     * The response of {@code GET /repos/{owner}/{repo}/issues/comments}
+     */
+    ISSUE_COMMENT("issue_comment.json", "/repos/octocat/Hello-World/issues/comments", IssueComment.class, true),
+
+    /**
+     * The response of {@code GET /users/{username}/received_events}
+     */
+    RECEIVED_EVENT("received_event.json", "/users/octocat/received_events", ReceivedEvent.class, true);
+
+    /**
+     * The resource name of the fixture
+     */
+    private final String resourceName;
+
+    /**
+     * The path of the endpoint
+     */
+    @Getter
+    private final String path;
+
+    /**
+     * The response class
+     */
+    @Getter
+    private final Class<?> responseClass;
+
+    /**
+     * {@code true} if the endpoint returns a list
+     */
+    @Getter
+    private final boolean list;
+
+    /**
+     * Returns the type the response is parsed into.
+     *
+     * @return The response type
+     */
+    public Type getResponseType() {
+        return this.list ? ListGenericResolver.of(this.responseClass) : this.responseClass;
+    }
+
+    /**
+     * Returns the JSON response. The response of the endpoint that returns a list
+     * holds the resource as many times as the count passed as an argument.
+     *
+     * @param itemCount The count of the items of the list
+     * @return The JSON response
+     */
+    public String json(final int itemCount) {
+        return this.list ? this.jsonArray(itemCount) : this.load();
+    }
+
+    /**
+     * Returns the JSON array that holds the resource as many times as the count
+     * passed as an argument, whether the endpoint returns a list or not.
+     *
+     * @param itemCount The count of the items of the array
+     * @return The JSON array
+     */
+    public String jsonArray(final int itemCount) {
+
+        final String resource = this.load();
+        final StringJoiner items = new StringJoiner(",", "[", "]");
+
+        for (int i = 0; i < itemCount; i++) {
+            items.add(resource);
+        }
+
+        return items.toString();
+    }
+
+    /**
+     * Loads the fixture from the class path.
+     *
+     * @return The fixture
+     */
+    private String load() {
+        try (InputStream fixture = Fixture.class.getResourceAsStream("/fixtures/" + this.resourceName)) {
+            return new String(fixture.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
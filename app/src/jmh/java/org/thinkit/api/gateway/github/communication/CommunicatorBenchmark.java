@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thinkit.api.gateway.github.Fixture;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The benchmark of the full round trip of {@link Communicator} , from sending
+ * the request to parsing the response, against a local stub server that
+ * returns the recorded responses. The {@code streaming} benchmark parses the
+ * list responses element by element by {@link Communicator#forEach} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class CommunicatorBenchmark {
+
+    /**
+     * The recorded response returned by the stub server
+     */
+    @Param({ "REPOSITORY", "USER", "USER_REPOSITORY", "USER_SUBSCRIPTION", "ISSUE", "ISSUE_COMMENT",
+            "RECEIVED_EVENT" })
+    public Fixture fixture;
+
+    /**
+     * The count of the items of the list response
+     */
+    @Param({ "30" })
+    public int itemCount;
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The communicator
+     */
+    private Communicator communicator;
+
+    /**
+     * The request url
+     */
+    private GenericUrl genericUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.stubServer = StubServer.start().route(this.fixture.getPath(), this.fixture.json(this.itemCount));
+        this.genericUrl = new GenericUrl(this.stubServer.url(this.fixture.getPath()));
+        this.communicator = HttpCommunicator.from(OAuthConfig.noneOf());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return this.fixture.isList() ? this.communicator.getAsList(this.genericUrl, this.fixture.getResponseClass())
+                : this.communicator.get(this.genericUrl, this.fixture.getResponseClass());
+    }
+
+    @Benchmark
+    public void streamingRoundTrip(final Blackhole blackhole) {
+        if (this.fixture.isList()) {
+            this.communicator.forEach(this.genericUrl, this.fixture.getResponseClass(), blackhole::consume);
+        } else {
+            blackhole.consume(this.communicator.get(this.genericUrl, this.fixture.getResponseClass()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The benchmark that compares the transports of the communicator against a
+ * local stub server.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class TransportBenchmark {
+
+    /**
+     * The transport to measure
+     */
+    @Param({ "net", "http2" })
+    public String transport;
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The communicator
+     */
+    private Communicator communicator;
+
+    /**
+     * The request url
+     */
+    private GenericUrl genericUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.stubServer = StubServer.start().route("/users/octocat/following", followingUsers(30));
+        this.genericUrl = new GenericUrl(this.stubServer.url("/users/octocat/following"));
+        this.communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                CommunicationConfig.builder().transport(this.createTransport()).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Benchmark
+    public List<FollowingUser> getAsList() {
+        return this.communicator.getAsList(this.genericUrl, FollowingUser.class);
+    }
+
+    private Transport createTransport() {
+        return switch (this.transport) {
+        case "net" -> NetTransport.newInstance();
+        case "http2" -> Http2Transport.builder().connectionPoolSize(4).maxConcurrentStreams(16).build();
+        default -> throw new IllegalArgumentException(this.transport);
+        };
+    }
+
+    private static String followingUsers(final int count) {
+
+        final StringJoiner users = new StringJoiner(",", "[", "]");
+
+        for (int i = 0; i < count; i++) {
+            users.add("{\"login\":\"user" + i + "\",\"id\":" + i + ",\"node_id\":\"MDQ6VXNlcj" + i
+                    + "\",\"url\":\"https://api.github.com/users/user" + i + "\",\"type\":\"User\","
+                    + "\"site_admin\":false}");
+        }
+
+        return users.toString();
+    }
+}
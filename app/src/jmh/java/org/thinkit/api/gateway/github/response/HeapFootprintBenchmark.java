@@ -0,0 +1,234 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.api.gateway.github.Fixture;
+import org.thinkit.api.gateway.github.cache.InternPool;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+
+/**
+ * The benchmark of the heap retained by the parsed response models.
+ *
+ * <p>
+ * Each invocation parses a JSON array of {@link #objectCount} objects and
+ * reports the growth of the used heap between before and after parsing, with
+ * the full garbage collections in between, as the {@code retainedBytes}
+ * counter. It compares the models parsed by reflection with the models decoded
+ * by the generated decoders in each mode of {@link Parser} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-XX:+UseSerialGC", "-Xms1g", "-Xmx1g" })
+public class HeapFootprintBenchmark {
+
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The recorded response to parse
+     */
+    @Param({ "REPOSITORY", "USER_SUBSCRIPTION" })
+    public Fixture fixture;
+
+    /**
+     * The count of the objects parsed at once
+     */
+    @Param({ "10000" })
+    public int objectCount;
+
+    /**
+     * The way to parse the response
+     */
+    @Param({ "REFLECTION", "RETAINING", "LEAN", "COMPACT", "INTERNED", "PROJECTED" })
+    public Parser parser;
+
+    /**
+     * The response body
+     */
+    private byte[] body;
+
+    /**
+     * The response type
+     */
+    private Type responseType;
+
+    @Setup
+    public void setUp() {
+        this.body = this.fixture.jsonArray(this.objectCount).getBytes(StandardCharsets.UTF_8);
+        this.responseType = ListGenericResolver.of(this.fixture.getResponseClass());
+    }
+
+    @Benchmark
+    public void parse(final Footprint footprint) throws IOException {
+
+        final long before = usedHeap();
+        final Object objects = this.parser.parse(this.body, this.responseType);
+        footprint.retainedBytes += usedHeap() - before;
+
+        Reference.reachabilityFence(objects);
+    }
+
+    /**
+     * Returns the used heap after the full garbage collections.
+     *
+     * @return The used heap in bytes
+     */
+    private static long usedHeap() {
+
+        final Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The counter of the retained heap.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * The heap retained by the parsed models in bytes
+         */
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.retainedBytes = 0;
+        }
+    }
+
+    /**
+     * The way to parse the response.
+     */
+    public enum Parser {
+
+        /**
+         * Parses by reflection with {@link JsonObjectParser}
+         */
+        REFLECTION {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JSON_OBJECT_PARSER.parseAndClose(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type);
+            }
+        },
+
+        /**
+         * Decodes by the generated decoders with the unknown fields retained
+         */
+        RETAINING {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        DecodeOptions.builder().retainUnknownFields(true).build());
+            }
+        },
+
+        /**
+         * Decodes by the generated decoders with the unknown fields skipped
+         */
+        LEAN {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        DecodeOptions.defaultOf());
+            }
+        },
+
+        /**
+         * Decodes by the generated decoders with the derivable URLs dropped
+         */
+        COMPACT {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        DecodeOptions.builder().compactUrls(true).build());
+            }
+        },
+
+        /**
+         * Decodes by the generated decoders with the equal nested entities
+         * collapsed within the response
+         */
+        INTERNED {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        DecodeOptions.builder().interner(InternPool.builder().acrossResponses(false).build()
+                                .newInterner()).build());
+            }
+        },
+
+        /**
+         * Decodes by the generated decoders reading only the fields of
+         * {@link ResponseParsingBenchmark#PROJECTED_FIELDS}
+         */
+        PROJECTED {
+            @Override
+            Object parse(final byte[] body, final Type type) throws IOException {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        DecodeOptions.builder().fields(ResponseParsingBenchmark.PROJECTED_FIELDS).build());
+            }
+        };
+
+        /**
+         * Parses the response body.
+         *
+         * @param body The response body
+         * @param type The response type
+         * @return The parsed response
+         *
+         * @throws IOException If an error occurs during parsing
+         */
+        abstract Object parse(byte[] body, Type type) throws IOException;
+    }
+}
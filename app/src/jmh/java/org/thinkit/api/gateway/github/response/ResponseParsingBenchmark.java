@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.api.gateway.github.Fixture;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+
+/**
+ * The benchmark of parsing the recorded responses of each response type by
+ * reflection with {@link JsonObjectParser} and by the decoders generated at
+ * compile time, with and without the projection of the fields.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The decode options that skip the unknown fields
+     */
+    private static final DecodeOptions LEAN = DecodeOptions.defaultOf();
+
+    /**
+     * The decode options that retain the unknown fields
+     */
+    private static final DecodeOptions RETAINING = DecodeOptions.builder().retainUnknownFields(true).build();
+
+    /**
+     * The fields that the bulk listings usually need
+     */
+    static final Set<String> PROJECTED_FIELDS = Set.of("id", "full_name", "stargazers_count", "pushed_at");
+
+    /**
+     * The decode options that read only {@link #PROJECTED_FIELDS}
+     */
+    private static final DecodeOptions PROJECTED = DecodeOptions.builder().fields(PROJECTED_FIELDS).build();
+
+    /**
+     * The recorded response to parse
+     */
+    @Param({ "REPOSITORY", "USER", "USER_REPOSITORY", "USER_SUBSCRIPTION", "ISSUE", "ISSUE_COMMENT",
+            "RECEIVED_EVENT" })
+    public Fixture fixture;
+
+    /**
+     * The count of the items of the list response
+     */
+    @Param({ "30" })
+    public int itemCount;
+
+    /**
+     * The response body
+     */
+    private byte[] body;
+
+    /**
+     * The response type
+     */
+    private Type responseType;
+
+    @Setup
+    public void setUp() {
+        this.body = this.fixture.json(this.itemCount).getBytes(StandardCharsets.UTF_8);
+        this.responseType = this.fixture.getResponseType();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8, this.responseType,
+                LEAN);
+    }
+
+    @Benchmark
+    public Object decodeProjected() throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8, this.responseType,
+                PROJECTED);
+    }
+
+    @Benchmark
+    public Object decodeRetainingUnknownFields() throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8, this.responseType,
+                RETAINING);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return JSON_OBJECT_PARSER.parseAndClose(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8,
+                this.responseType);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.response.user.repos;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.api.gateway.github.Fixture;
+import org.thinkit.api.gateway.github.catalog.RepositoryColumn;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+
+/**
+ * The benchmark of reading the repository listing into {@link RepositoryBatch}
+ * compared with decoding it into the models of {@link UserRepository} , and of
+ * scanning a numeric column of each representation.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBatchBenchmark {
+
+    /**
+     * The decode options that skip the unknown fields
+     */
+    private static final DecodeOptions LEAN = DecodeOptions.defaultOf();
+
+    /**
+     * The count of the repositories
+     */
+    @Param({ "1000" })
+    public int itemCount;
+
+    /**
+     * The response body
+     */
+    private byte[] body;
+
+    /**
+     * The decoded models
+     */
+    private List<UserRepository> repositories;
+
+    /**
+     * The batch
+     */
+    private RepositoryBatch batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.body = Fixture.USER_REPOSITORY.jsonArray(this.itemCount).getBytes(StandardCharsets.UTF_8);
+        this.repositories = this.decodeModels();
+        this.batch = this.readBatch();
+    }
+
+    @Benchmark
+    public List<UserRepository> decodeModels() throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8,
+                Fixture.USER_REPOSITORY.getResponseType(), LEAN);
+    }
+
+    @Benchmark
+    public RepositoryBatch readBatch() throws IOException {
+
+        final RepositoryBatchReader batchReader = RepositoryBatchReader.newInstance();
+        JsonDecoders.readEach(new ByteArrayInputStream(this.body), StandardCharsets.UTF_8, batchReader);
+
+        return batchReader.toBatch();
+    }
+
+    @Benchmark
+    public long scanModels() {
+
+        long sum = 0L;
+
+        for (final UserRepository repository : this.repositories) {
+            sum += repository.getStargazersCount();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long scanBatch() {
+        return this.batch.sum(RepositoryColumn.STARGAZERS_COUNT);
+    }
+}
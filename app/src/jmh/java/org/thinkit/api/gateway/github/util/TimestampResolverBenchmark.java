@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of resolving the timestamps returned by the GitHub API into
+ * the epoch milliseconds by {@link TimestampResolver} , compared with
+ * {@link Instant#parse(CharSequence)} and
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} .
+ *
+ * <p>
+ * Each invocation resolves one of the 1024 timestamps spread over 15 years,
+ * so the branch predictor cannot learn a single value.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimestampResolverBenchmark {
+
+    /**
+     * The count of the timestamps, which must be a power of two
+     */
+    private static final int TIMESTAMP_COUNT = 1024;
+
+    /**
+     * The timestamps in the format of the GitHub API
+     */
+    private final String[] timestamps = new String[TIMESTAMP_COUNT];
+
+    /**
+     * The index of the next timestamp
+     */
+    private int index;
+
+    @Setup
+    public void setUp() {
+
+        final Random random = new Random(42L);
+        final long start = Instant.parse("2008-01-01T00:00:00Z").getEpochSecond();
+
+        for (int i = 0; i < TIMESTAMP_COUNT; i++) {
+            this.timestamps[i] = Instant.ofEpochSecond(start + (long) (random.nextDouble() * 15 * 365 * 86_400L))
+                    .toString();
+        }
+    }
+
+    @Benchmark
+    public long resolve() {
+        return TimestampResolver.toEpochMillis(this.next());
+    }
+
+    @Benchmark
+    public long instantParse() {
+        return Instant.parse(this.next()).toEpochMilli();
+    }
+
+    @Benchmark
+    public long dateTimeFormatter() {
+        return OffsetDateTime.parse(this.next(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the next timestamp.
+     *
+     * @return The next timestamp
+     */
+    private String next() {
+        return this.timestamps[this.index++ & (TIMESTAMP_COUNT - 1)];
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+
+/**
+ * The benchmark of building the API URLs by {@link UrlResolver} .
+ *
+ * <p>
+ * The {@code legacy} benchmarks build the URLs in the way before the templates
+ * were compiled, which formats the whole template for each bind value, builds
+ * each query into its own string and parses the result into
+ * {@link GenericUrl} , so that both are compared side by side. The
+ * {@code build} benchmarks measure the URLs end to end, including the string
+ * built by {@link GenericUrl#build()} when the request is sent.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlResolverBenchmark {
+
+    /**
+     * The queries
+     */
+    private Map<String, Object> queries;
+
+    /**
+     * The bind data
+     */
+    private List<String> binds;
+
+    @Setup
+    public void setUp() {
+        this.queries = new LinkedHashMap<>();
+        this.queries.put("per_page", 100);
+        this.queries.put("page", 3);
+        this.queries.put("state", "open");
+        this.binds = List.of("octocat");
+    }
+
+    @Benchmark
+    public GenericUrl createUrl() {
+        return UrlResolver.createUrl(GithubApi.USER_REPOSITORY, Map.of(), this.binds);
+    }
+
+    @Benchmark
+    public GenericUrl createUrlWithQueries() {
+        return UrlResolver.createUrl(GithubApi.USER_REPOSITORY, this.queries, this.binds);
+    }
+
+    @Benchmark
+    public GenericUrl legacyCreateUrlWithQueries() {
+        return new GenericUrl(legacyExpand(GithubApi.USER_REPOSITORY, this.queries, this.binds));
+    }
+
+    @Benchmark
+    public String buildUrlWithQueries() {
+        return UrlResolver.createUrl(GithubApi.USER_REPOSITORY, this.queries, this.binds).build();
+    }
+
+    @Benchmark
+    public String legacyBuildUrlWithQueries() {
+        return new GenericUrl(legacyExpand(GithubApi.USER_REPOSITORY, this.queries, this.binds)).build();
+    }
+
+    /**
+     * Builds the URL in the way before the templates were compiled.
+     *
+     * @param githubApi The GitHub API
+     * @param queries   The query data
+     * @param binds     The bind data
+     * @return The URL
+     */
+    private static String legacyExpand(final GithubApi githubApi, final Map<String, Object> queries,
+            final List<String> binds) {
+
+        String bindedUrl = githubApi.getTag();
+
+        for (final String bindSequence : binds) {
+            bindedUrl = String.format(bindedUrl, bindSequence);
+        }
+
+        if (queries.isEmpty()) {
+            return bindedUrl;
+        }
+
+        final StringJoiner queryJoiner = new StringJoiner("&");
+
+        queries.forEach((key, value) -> {
+            final StringBuilder query = new StringBuilder();
+            query.append(key).append("=").append(value);
+            queryJoiner.add(query.toString());
+        });
+
+        return new StringJoiner("?").add(bindedUrl).add(queryJoiner.toString()).toString();
+    }
+}
@@ -16,13 +16,14 @@ package org.thinkit.api.gateway.github;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.api.client.http.GenericUrl;
 
 import org.thinkit.api.gateway.github.catalog.GithubApi;
-import org.thinkit.api.gateway.github.communication.Communicator;
+import org.thinkit.api.gateway.github.catalog.QueryKey;
 import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
 import org.thinkit.api.gateway.github.query.Pagination;
 import org.thinkit.api.gateway.github.query.QueryParameter;
@@ -48,6 +49,12 @@ import lombok.ToString;
  * {@link #createUrl(GithubApi, List)}
  * {@link #createUrl(GithubApi, QueryParameter, List)} .
  *
+ * <p>
+ * The type of the communicator is given as the type parameter so that the
+ * blocking API and the asynchronous API can share the URL generation.
+ *
+ * @param <C> The type of the communicator
+ *
  * @author Kato Shinya
  * @since 1.0.0
  */
@@ -55,7 +62,7 @@ import lombok.ToString;
 @EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
-abstract class AbstractApi implements Serializable {
+abstract class AbstractApi<C> implements Serializable {
 
     /**
      * The serial version UID
@@ -66,7 +73,7 @@ abstract class AbstractApi implements Serializable {
      * The http communicator
      */
     @Getter(AccessLevel.PROTECTED)
-    private Communicator communicator;
+    private C communicator;
 
     /**
      * The GitHub user
@@ -90,8 +97,8 @@ abstract class AbstractApi implements Serializable {
      */
     protected GenericUrl createUrl(@NonNull final GithubApi githubApi) {
         return this.createUrl(githubApi,
-                QueryParameter.from(Pagination.from(this.getDefaultPerPage(), this.getDefaultPage()), new HashMap<>(0)),
-                new ArrayList<>(0));
+                QueryParameter.from(Pagination.from(this.getDefaultPerPage(), this.getDefaultPage()), Map.of()),
+                List.of());
     }
 
     /**
@@ -105,7 +112,7 @@ abstract class AbstractApi implements Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected GenericUrl createUrl(@NonNull final GithubApi githubApi, @NonNull final QueryParameter queryParameter) {
-        return this.createUrl(githubApi, queryParameter, new ArrayList<>(0));
+        return this.createUrl(githubApi, queryParameter, List.of());
     }
 
     /**
@@ -120,7 +127,7 @@ abstract class AbstractApi implements Serializable {
      */
     protected GenericUrl createUrl(@NonNull final GithubApi githubApi, @NonNull final List<String> bindItems) {
         return this.createUrl(githubApi,
-                QueryParameter.from(Pagination.from(this.getDefaultPerPage(), this.getDefaultPage()), new HashMap<>(0)),
+                QueryParameter.from(Pagination.from(this.getDefaultPerPage(), this.getDefaultPage()), Map.of()),
                 bindItems);
     }
 
@@ -137,7 +144,7 @@ abstract class AbstractApi implements Serializable {
      */
     protected GenericUrl createUrl(@NonNull final GithubApi githubApi, @NonNull final QueryParameter queryParameter,
             @NonNull final List<String> bindItems) {
-        return UrlResolver.createUrl(githubApi, queryParameter.getQueries(), this.mergeBindItems(bindItems));
+        return UrlResolver.createUrl(githubApi, this.mergeQueries(queryParameter), this.mergeBindItems(bindItems));
     }
 
     /**
@@ -158,6 +165,34 @@ abstract class AbstractApi implements Serializable {
         return this.defaultQueryParameter.getPage();
     }
 
+    /**
+     * Merges the pagination of the query parameter passed as an argument into
+     * the queries, so that {@code per_page} and {@code page} are put on the URL.
+     *
+     * @param queryParameter The query parameter
+     * @return The merged queries
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private Map<String, Object> mergeQueries(@NonNull final QueryParameter queryParameter) {
+
+        final Pagination pagination = queryParameter.getPagination();
+        final Map<String, Object> queries = queryParameter.getQueries();
+        final Map<String, Object> mergedQueries = new LinkedHashMap<>(
+                (pagination != null ? 2 : 0) + (queries != null ? queries.size() : 0), 1.0f);
+
+        if (pagination != null) {
+            mergedQueries.put(QueryKey.PER_PAGE.getTag(), pagination.getPerPage());
+            mergedQueries.put(QueryKey.PAGE.getTag(), pagination.getPage());
+        }
+
+        if (queries != null) {
+            mergedQueries.putAll(queries);
+        }
+
+        return mergedQueries;
+    }
+
     /**
      * Merges the bind list passed as an argument with the GitHub user information.
      *
@@ -168,12 +203,13 @@ abstract class AbstractApi implements Serializable {
      */
     private List<String> mergeBindItems(@NonNull final List<String> binds) {
 
-        final List<String> mergedBinds = new ArrayList<>(0);
-        mergedBinds.add(this.githubUser.getUserName());
+        if (binds.isEmpty()) {
+            return List.of(this.githubUser.getUserName());
+        }
 
-        binds.forEach(bind -> {
-            mergedBinds.add(bind);
-        });
+        final List<String> mergedBinds = new ArrayList<>(binds.size() + 1);
+        mergedBinds.add(this.githubUser.getUserName());
+        mergedBinds.addAll(binds);
 
         return mergedBinds;
     }
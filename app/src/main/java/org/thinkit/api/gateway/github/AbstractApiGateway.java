@@ -16,8 +16,12 @@ package org.thinkit.api.gateway.github;
 
 import java.io.Serializable;
 
+import org.thinkit.api.gateway.github.communication.AsyncCommunicator;
+import org.thinkit.api.gateway.github.communication.AsyncHttpCommunicator;
+import org.thinkit.api.gateway.github.communication.CommunicationConfig;
 import org.thinkit.api.gateway.github.communication.Communicator;
 import org.thinkit.api.gateway.github.communication.HttpCommunicator;
+import org.thinkit.api.gateway.github.communication.TokenPool;
 import org.thinkit.api.gateway.github.content.DefaultQueryParameterMapper;
 import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
 import org.thinkit.api.gateway.github.user.GithubUser;
@@ -58,6 +62,20 @@ public abstract class AbstractApiGateway implements Gateway, Serializable {
     @Getter(AccessLevel.PROTECTED)
     private Communicator communicator;
 
+    /**
+     * The asynchronous http communicator
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private AsyncCommunicator asyncCommunicator;
+
+    /**
+     * The pool of the access tokens shared by the communicators
+     */
+    @Getter(AccessLevel.PROTECTED)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient TokenPool tokenPool;
+
     /**
      * The GitHub user
      */
@@ -78,9 +96,7 @@ public abstract class AbstractApiGateway implements Gateway, Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected AbstractApiGateway(@NonNull final GithubUser githubUser) {
-        this.githubUser = githubUser;
-        this.defaultQueryParameter = DefaultQueryParameterMapper.newInstance().scan().get(0);
-        this.communicator = HttpCommunicator.from(OAuthConfig.noneOf());
+        this(githubUser, TokenPool.of(OAuthConfig.noneOf()), CommunicationConfig.defaultOf());
     }
 
     /**
@@ -92,8 +108,38 @@ public abstract class AbstractApiGateway implements Gateway, Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected AbstractApiGateway(@NonNull final GithubUser githubUser, @NonNull final OAuthConfig oAuthConfig) {
+        this(githubUser, TokenPool.of(oAuthConfig), CommunicationConfig.defaultOf());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param githubUser          The GitHub user
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected AbstractApiGateway(@NonNull final GithubUser githubUser, @NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig) {
+        this(githubUser, TokenPool.of(oAuthConfig), communicationConfig);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param githubUser          The GitHub user
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected AbstractApiGateway(@NonNull final GithubUser githubUser, @NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
         this.githubUser = githubUser;
         this.defaultQueryParameter = DefaultQueryParameterMapper.newInstance().scan().get(0);
-        this.communicator = HttpCommunicator.from(oAuthConfig);
+        this.tokenPool = tokenPool;
+        this.communicator = HttpCommunicator.from(tokenPool, communicationConfig);
+        this.asyncCommunicator = AsyncHttpCommunicator.from(tokenPool, communicationConfig);
     }
 }
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.thinkit.api.gateway.github.communication.CommunicationConfig;
+import org.thinkit.api.gateway.github.communication.Communicator;
+import org.thinkit.api.gateway.github.communication.HttpCommunicator;
+import org.thinkit.api.gateway.github.content.DefaultQueryParameterMapper;
+import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
+import org.thinkit.api.gateway.github.response.repos.Repository;
+import org.thinkit.api.gateway.github.response.user.User;
+import org.thinkit.api.gateway.github.user.GithubUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/**
+ * The gateway that sends the same request for many users or repositories at the
+ * same time.
+ *
+ * <p>
+ * Each blocking request is run on its own virtual thread if the runtime
+ * supports them, otherwise on the daemon threads as many as the concurrency.
+ * At most {@code concurrency} requests are in flight in total, and at most
+ * {@code tokenConcurrency} of them are sent with the same access token. The
+ * access tokens are given in turn, and each of them is paced by its own rate
+ * limit.
+ *
+ * <p>
+ * The results are returned as the stream in the order the requests complete.
+ * An item that fails is returned as the failed {@link BulkResult} and does not
+ * abort the other items. Closing the stream cancels the requests that have not
+ * completed.
+ *
+ * <pre>
+ * <code>
+ * final BulkGateway bulkGateway = BulkGateway.builder().oAuthConfigs(oAuthConfigs).concurrency(64).build();
+ *
+ * try (Stream&lt;BulkResult&lt;GithubUser, User&gt;&gt; results = bulkGateway.fetchUsers(githubUsers)) {
+ *     results.filter(BulkResult::isSuccess).forEach(result -&gt; save(result.getValue()));
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class BulkGateway {
+
+    /**
+     * The default count of the requests in flight in total
+     */
+    private static final int DEFAULT_CONCURRENCY = 32;
+
+    /**
+     * The default count of the requests in flight with the same access token
+     */
+    private static final int DEFAULT_TOKEN_CONCURRENCY = 8;
+
+    /**
+     * The factory of the virtual threads, or {@code null} if the runtime does not
+     * support them
+     */
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = getVirtualThreadFactory();
+
+    /**
+     * The communicators for each access token
+     */
+    private final Communicator[] communicators;
+
+    /**
+     * The count of the requests in flight in total
+     */
+    private final int concurrency;
+
+    /**
+     * The count of the requests in flight with the same access token
+     */
+    private final int tokenConcurrency;
+
+    /**
+     * The default query parameter
+     */
+    private final DefaultQueryParameter defaultQueryParameter;
+
+    /**
+     * The constructor.
+     *
+     * @param communicators    The communicators for each access token
+     * @param concurrency      The count of the requests in flight in total, or
+     *                         {@code null} to use the default
+     * @param tokenConcurrency The count of the requests in flight with the same
+     *                         access token, or {@code null} to use the default
+     *
+     * @exception IllegalArgumentException If the communicators are empty or the
+     *                                     concurrency is not positive
+     */
+    private BulkGateway(final Communicator[] communicators, final Integer concurrency,
+            final Integer tokenConcurrency) {
+
+        if (communicators.length == 0) {
+            throw new IllegalArgumentException("The OAuth configs must not be empty");
+        }
+
+        if ((concurrency != null && concurrency < 1) || (tokenConcurrency != null && tokenConcurrency < 1)) {
+            throw new IllegalArgumentException("The concurrency must be positive");
+        }
+
+        this.communicators = communicators;
+        this.concurrency = concurrency == null ? DEFAULT_CONCURRENCY : concurrency;
+        this.tokenConcurrency = tokenConcurrency == null ? DEFAULT_TOKEN_CONCURRENCY : tokenConcurrency;
+        this.defaultQueryParameter = DefaultQueryParameterMapper.newInstance().scan().get(0);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param oAuthConfigs        The OAuth configs of the access tokens
+     * @param communicationConfig The communication config, or {@code null} to use
+     *                            the default
+     * @param concurrency         The count of the requests in flight in total, or
+     *                            {@code null} to use the default
+     * @param tokenConcurrency    The count of the requests in flight with the same
+     *                            access token, or {@code null} to use the default
+     *
+     * @exception NullPointerException     If {@code null} is passed as the OAuth
+     *                                     configs
+     * @exception IllegalArgumentException If the OAuth configs are empty or the
+     *                                     concurrency is not positive
+     */
+    @Builder
+    private BulkGateway(@NonNull final List<OAuthConfig> oAuthConfigs, final CommunicationConfig communicationConfig,
+            final Integer concurrency, final Integer tokenConcurrency) {
+        this(oAuthConfigs.stream()
+                .map(oAuthConfig -> HttpCommunicator.from(oAuthConfig,
+                        communicationConfig == null ? CommunicationConfig.defaultOf() : communicationConfig))
+                .toArray(Communicator[]::new), concurrency, tokenConcurrency);
+    }
+
+    /**
+     * Returns the new instance of {@link BulkGateway} that sends the requests
+     * through the communicators passed as an argument.
+     *
+     * @param communicators    The communicators for each access token
+     * @param concurrency      The count of the requests in flight in total
+     * @param tokenConcurrency The count of the requests in flight with the same
+     *                         access token
+     * @return The new instance of {@link BulkGateway}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the communicators are empty or the
+     *                                     concurrency is not positive
+     */
+    static BulkGateway of(@NonNull final List<Communicator> communicators, final int concurrency,
+            final int tokenConcurrency) {
+        return new BulkGateway(communicators.toArray(Communicator[]::new), concurrency, tokenConcurrency);
+    }
+
+    /**
+     * Returns the user information of each user passed as an argument through
+     * the GitHub API {@code https://api.github.com/users/userName}.
+     *
+     * @param githubUsers The GitHub users
+     * @return The stream of the results in the order the requests complete
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument or
+     *                                  an element
+     */
+    public Stream<BulkResult<GithubUser, User>> fetchUsers(@NonNull final Collection<GithubUser> githubUsers) {
+        return this.fetch(githubUsers, (communicator, githubUser) -> {
+            return GithubUsersApi.from(communicator, githubUser, this.defaultQueryParameter).getUser();
+        });
+    }
+
+    /**
+     * Returns the repository information of each repository passed as an
+     * argument through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName}. The
+     * repository is given by its full name like {@code "octocat/Hello-World"} ,
+     * and the item whose name is not in this format fails with
+     * {@link IllegalArgumentException} .
+     *
+     * @param repositoryFullNames The full names of the repositories
+     * @return The stream of the results in the order the requests complete
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument or
+     *                                  an element
+     */
+    public Stream<BulkResult<String, Repository>> fetchRepositories(
+            @NonNull final Collection<String> repositoryFullNames) {
+        return this.fetch(repositoryFullNames, (communicator, repositoryFullName) -> {
+            final int separator = repositoryFullName.indexOf('/');
+
+            if (separator < 1 || separator != repositoryFullName.lastIndexOf('/')
+                    || separator == repositoryFullName.length() - 1) {
+                throw new IllegalArgumentException(
+                        String.format("The full name of the repository is invalid: %s", repositoryFullName));
+            }
+
+            final GithubUser owner = GithubUser.builder().userName(repositoryFullName.substring(0, separator))
+                    .build();
+            return GithubRepositoryApi.from(communicator, owner, this.defaultQueryParameter)
+                    .getRepository(repositoryFullName.substring(separator + 1));
+        });
+    }
+
+    /**
+     * Sends the request for each key and returns the stream of the results.
+     *
+     * @param <K>     The type of the key
+     * @param <V>     The type of the value
+     * @param keys    The keys
+     * @param request The request for a key sent through a communicator
+     * @return The stream of the results in the order the requests complete
+     */
+    private <K, V> Stream<BulkResult<K, V>> fetch(final Collection<K> keys,
+            final BiFunction<Communicator, K, V> request) {
+        final BulkIterator<K, V> iterator = new BulkIterator<>(List.copyOf(keys), request);
+        return StreamSupport
+                .stream(Spliterators.spliterator(iterator, keys.size(), Spliterator.NONNULL | Spliterator.SIZED),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Returns the executor that runs the requests of a bulk request.
+     *
+     * @return The executor
+     */
+    private ExecutorService newExecutor() {
+
+        if (VIRTUAL_THREAD_FACTORY != null) {
+            return Executors.newCachedThreadPool(VIRTUAL_THREAD_FACTORY);
+        }
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(this.concurrency, this.concurrency, 10L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "github-api-gateway-bulk");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the factory of the virtual threads. It is looked up reflectively
+     * because the virtual threads are not in the Java version this library is
+     * compiled for.
+     *
+     * @return The factory of the virtual threads, or {@code null} if the runtime
+     *         does not support them
+     */
+    private static ThreadFactory getVirtualThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The virtual threads are not supported or are still a preview feature
+            return null;
+        }
+    }
+
+    /**
+     * The iterator that sends the requests of a bulk request and returns the
+     * results in the order the requests complete. The requests are sent when the
+     * first result is requested.
+     *
+     * @param <K> The type of the key
+     * @param <V> The type of the value
+     */
+    private final class BulkIterator<K, V> implements Iterator<BulkResult<K, V>>, AutoCloseable {
+
+        /**
+         * The keys
+         */
+        private final List<K> keys;
+
+        /**
+         * The request for a key
+         */
+        private final BiFunction<Communicator, K, V> request;
+
+        /**
+         * The results that have completed and are not returned yet
+         */
+        private final BlockingQueue<BulkResult<K, V>> results = new LinkedBlockingQueue<>();
+
+        /**
+         * The executor, or {@code null} if the requests are not sent yet
+         */
+        private ExecutorService executor;
+
+        /**
+         * The count of the results returned
+         */
+        private int returnedCount;
+
+        /**
+         * {@code true} if the iterator is closed
+         */
+        private boolean closed;
+
+        /**
+         * The constructor.
+         *
+         * @param keys    The keys
+         * @param request The request for a key
+         */
+        private BulkIterator(final List<K> keys, final BiFunction<Communicator, K, V> request) {
+            this.keys = keys;
+            this.request = request;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.closed && this.returnedCount < this.keys.size();
+        }
+
+        @Override
+        public BulkResult<K, V> next() {
+
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            if (this.executor == null) {
+                this.start();
+            }
+
+            final BulkResult<K, V> result;
+
+            try {
+                result = this.results.take();
+            } catch (InterruptedException e) {
+                this.close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+
+            if (++this.returnedCount == this.keys.size()) {
+                this.close();
+            }
+
+            return result;
+        }
+
+        /**
+         * Cancels the requests that have not completed and stops the threads.
+         */
+        @Override
+        public void close() {
+
+            this.closed = true;
+
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+            }
+        }
+
+        /**
+         * Submits the requests of all keys. The communicators are lent to the
+         * requests in turn, each of them as many times as the concurrency of an
+         * access token.
+         */
+        private void start() {
+
+            final Semaphore inFlight = new Semaphore(BulkGateway.this.concurrency);
+            final BlockingQueue<Communicator> lanes = new LinkedBlockingQueue<>();
+
+            for (int i = 0; i < BulkGateway.this.tokenConcurrency; i++) {
+                lanes.addAll(Arrays.asList(BulkGateway.this.communicators));
+            }
+
+            this.executor = BulkGateway.this.newExecutor();
+
+            for (final K key : this.keys) {
+                this.executor.execute(() -> this.send(key, inFlight, lanes));
+            }
+        }
+
+        /**
+         * Sends the request of a key and adds its result. The error thrown by the
+         * request is added as the failed result wrapped in
+         * {@link IllegalStateException} .
+         *
+         * @param key      The key
+         * @param inFlight The permits of the requests in flight in total
+         * @param lanes    The communicators that can be borrowed
+         */
+        private void send(final K key, final Semaphore inFlight, final BlockingQueue<Communicator> lanes) {
+            try {
+                inFlight.acquire();
+
+                try {
+                    final Communicator communicator = lanes.take();
+
+                    try {
+                        this.results.add(BulkResult.success(key, this.request.apply(communicator, key)));
+                    } catch (RuntimeException e) {
+                        this.results.add(BulkResult.failure(key, e));
+                    } catch (Throwable e) {
+                        // Every key must yield a result, otherwise the caller waits for it forever
+                        this.results.add(BulkResult.failure(key, new IllegalStateException(e)));
+                    } finally {
+                        lanes.add(communicator);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            } catch (InterruptedException e) {
+                // The bulk request is closed
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The result of an item of the bulk request sent by {@link BulkGateway} . The
+ * result has either the value or the exception thrown while the item was
+ * requested, so an item that failed does not abort the other items.
+ *
+ * @param <K> The type of the key of the item
+ * @param <V> The type of the value
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkResult<K, V> {
+
+    /**
+     * The key of the item
+     */
+    @Getter
+    private K key;
+
+    /**
+     * The value, or {@code null} if the request failed
+     */
+    @Getter
+    private V value;
+
+    /**
+     * The exception thrown while the item was requested, or {@code null} if the
+     * request succeeded
+     */
+    @Getter
+    private RuntimeException exception;
+
+    /**
+     * The constructor.
+     *
+     * @param key       The key of the item
+     * @param value     The value
+     * @param exception The exception
+     */
+    private BulkResult(final K key, final V value, final RuntimeException exception) {
+        this.key = key;
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the new instance of {@link BulkResult} of the item that succeeded.
+     *
+     * @param <K>   The type of the key of the item
+     * @param <V>   The type of the value
+     * @param key   The key of the item
+     * @param value The value
+     * @return The new instance of {@link BulkResult}
+     *
+     * @exception NullPointerException If {@code null} is passed as the key
+     */
+    public static <K, V> BulkResult<K, V> success(@NonNull final K key, final V value) {
+        return new BulkResult<>(key, value, null);
+    }
+
+    /**
+     * Returns the new instance of {@link BulkResult} of the item that failed.
+     *
+     * @param <K>       The type of the key of the item
+     * @param <V>       The type of the value
+     * @param key       The key of the item
+     * @param exception The exception thrown while the item was requested
+     * @return The new instance of {@link BulkResult}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <K, V> BulkResult<K, V> failure(@NonNull final K key, @NonNull final RuntimeException exception) {
+        return new BulkResult<>(key, null, exception);
+    }
+
+    /**
+     * Tests if the request of the item succeeded.
+     *
+     * @return {@code true} if the request succeeded, otherwise {@code false}
+     */
+    public boolean isSuccess() {
+        return this.exception == null;
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.thinkit.api.gateway.github;
 
+import org.thinkit.api.gateway.github.communication.RateLimit;
+
 /**
  * The interface that abstracts the gateway. It provides a gateway for intuitive
  * and easy access to the GitHub API.
@@ -56,4 +58,28 @@ public interface Gateway {
      * @return The GitHub repository API.
      */
     public RepositoryApi getRepositoryApi();
+
+    /**
+     * Returns the asynchronous GitHub users API.
+     *
+     * @return The asynchronous GitHub users API
+     */
+    public AsyncUsersApi getAsyncUsersApi();
+
+    /**
+     * Returns the asynchronous GitHub repository API.
+     *
+     * @return The asynchronous GitHub repository API
+     */
+    public AsyncRepositoryApi getAsyncRepositoryApi();
+
+    /**
+     * Returns the rate limit given by the latest response. The requests sent by
+     * the APIs of this gateway share the rate limit. If the gateway has a pool of
+     * the access tokens, the rate limits of the tokens are summed up.
+     *
+     * @return The latest rate limit, or the rate limit that is not known if no
+     *         response has been received yet
+     */
+    public RateLimit getRateLimit();
 }
@@ -14,6 +14,10 @@
 
 package org.thinkit.api.gateway.github;
 
+import org.thinkit.api.gateway.github.cache.ResponseCache;
+import org.thinkit.api.gateway.github.communication.CommunicationConfig;
+import org.thinkit.api.gateway.github.communication.RateLimit;
+import org.thinkit.api.gateway.github.communication.TokenPool;
 import org.thinkit.api.gateway.github.user.GithubUser;
 import org.thinkit.api.gateway.github.user.OAuthConfig;
 
@@ -104,6 +108,114 @@ public final class GithubApiGateway extends AbstractApiGateway {
         return new GithubApiGateway(githubUser, oAuthConfig);
     }
 
+    /**
+     * The constructor. This constructor does configure OAuth authentication and
+     * the HTTP communication.
+     *
+     * @param githubUser          The GitHub user
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private GithubApiGateway(@NonNull final GithubUser githubUser, @NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig) {
+        super(githubUser, oAuthConfig, communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link GithubApiGateway} based on the arguments.
+     *
+     * <p>
+     * The transport used to send the requests can be selected through
+     * {@link CommunicationConfig} .
+     *
+     * @param githubUser          The GitHub user
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link GithubApiGateway}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Gateway from(@NonNull final GithubUser githubUser, @NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new GithubApiGateway(githubUser, oAuthConfig, communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link GithubApiGateway} based on the arguments.
+     *
+     * <p>
+     * The responses are served from the response cache passed as an argument
+     * until their time to live elapses. The other settings of the HTTP
+     * communication are the default.
+     *
+     * @param githubUser    The GitHub user
+     * @param oAuthConfig   The OAuth config
+     * @param responseCache The response cache
+     * @return The new instance of {@link GithubApiGateway}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Gateway from(@NonNull final GithubUser githubUser, @NonNull final OAuthConfig oAuthConfig,
+            @NonNull final ResponseCache responseCache) {
+        return new GithubApiGateway(githubUser, oAuthConfig,
+                CommunicationConfig.builder().responseCache(responseCache).build());
+    }
+
+    /**
+     * The constructor. This constructor does configure the pool of the access
+     * tokens and the HTTP communication.
+     *
+     * @param githubUser          The GitHub user
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private GithubApiGateway(@NonNull final GithubUser githubUser, @NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        super(githubUser, tokenPool, communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link GithubApiGateway} based on the arguments.
+     *
+     * <p>
+     * Each request is sent with the access token of the pool that has the most
+     * remaining budget of the rate limit, so the requests are spread over the
+     * tokens. The other settings of the HTTP communication are the default.
+     *
+     * @param githubUser The GitHub user
+     * @param tokenPool  The pool of the access tokens
+     * @return The new instance of {@link GithubApiGateway}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Gateway from(@NonNull final GithubUser githubUser, @NonNull final TokenPool tokenPool) {
+        return new GithubApiGateway(githubUser, tokenPool, CommunicationConfig.defaultOf());
+    }
+
+    /**
+     * Returns the new instance of {@link GithubApiGateway} based on the arguments.
+     *
+     * <p>
+     * Each request is sent with the access token of the pool that has the most
+     * remaining budget of the rate limit, so the requests are spread over the
+     * tokens.
+     *
+     * @param githubUser          The GitHub user
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link GithubApiGateway}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Gateway from(@NonNull final GithubUser githubUser, @NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new GithubApiGateway(githubUser, tokenPool, communicationConfig);
+    }
+
     @Override
     public UsersApi getUsersApi() {
         return GithubUsersApi.from(super.getCommunicator(), super.getGithubUser(), super.getDefaultQueryParameter());
@@ -114,4 +226,21 @@ public final class GithubApiGateway extends AbstractApiGateway {
         return GithubRepositoryApi.from(super.getCommunicator(), super.getGithubUser(),
                 super.getDefaultQueryParameter());
     }
+
+    @Override
+    public AsyncUsersApi getAsyncUsersApi() {
+        return GithubAsyncUsersApi.from(super.getAsyncCommunicator(), super.getGithubUser(),
+                super.getDefaultQueryParameter());
+    }
+
+    @Override
+    public AsyncRepositoryApi getAsyncRepositoryApi() {
+        return GithubAsyncRepositoryApi.from(super.getAsyncCommunicator(), super.getGithubUser(),
+                super.getDefaultQueryParameter());
+    }
+
+    @Override
+    public RateLimit getRateLimit() {
+        return super.getTokenPool().getRateLimit();
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+import org.thinkit.api.gateway.github.communication.AsyncCommunicator;
+import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
+import org.thinkit.api.gateway.github.query.QueryParameter;
+import org.thinkit.api.gateway.github.response.repos.Repository;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.response.repos.issues.comments.IssueComment;
+import org.thinkit.api.gateway.github.user.GithubUser;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The implementation of {@link AsyncRepositoryApi} that sends the requests
+ * through {@link AsyncCommunicator} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+final class GithubAsyncRepositoryApi extends AbstractApi<AsyncCommunicator> implements AsyncRepositoryApi {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 3916227403588457735L;
+
+    /**
+     * The constructor.
+     *
+     * @param communicator          The asynchronous http communicator
+     * @param githubUser            The GitHub user
+     * @param defaultQueryParameter The default query parameter
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private GithubAsyncRepositoryApi(@NonNull final AsyncCommunicator communicator,
+            @NonNull final GithubUser githubUser, @NonNull final DefaultQueryParameter defaultQueryParameter) {
+        super(communicator, githubUser, defaultQueryParameter);
+    }
+
+    /**
+     * Returns the new instance of {@link GithubAsyncRepositoryApi} based on the
+     * arguments.
+     *
+     * @param communicator          The asynchronous http communicator
+     * @param githubUser            The GitHub user
+     * @param defaultQueryParameter The default query parameter
+     * @return The new instance of {@link GithubAsyncRepositoryApi}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static AsyncRepositoryApi from(@NonNull final AsyncCommunicator communicator,
+            @NonNull final GithubUser githubUser, @NonNull final DefaultQueryParameter defaultQueryParameter) {
+        return new GithubAsyncRepositoryApi(communicator, githubUser, defaultQueryParameter);
+    }
+
+    @Override
+    public CompletableFuture<Repository> getRepository(@NonNull final String repositoryName) {
+        return super.getCommunicator().get(super.createUrl(GithubApi.REPOSITORY, List.of(repositoryName)),
+                Repository.class);
+    }
+
+    @Override
+    public CompletableFuture<Repository> getRepository(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter) {
+        return super.getCommunicator().get(
+                super.createUrl(GithubApi.REPOSITORY, queryParameter, List.of(repositoryName)), Repository.class);
+    }
+
+    @Override
+    public CompletableFuture<List<Issue>> getIssues(@NonNull String repositoryName) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.ISSUES, List.of(repositoryName)),
+                Issue.class);
+    }
+
+    @Override
+    public CompletableFuture<List<Issue>> getIssues(@NonNull String repositoryName,
+            @NonNull QueryParameter queyParameter) {
+        return super.getCommunicator()
+                .getAsList(super.createUrl(GithubApi.ISSUES, queyParameter, List.of(repositoryName)), Issue.class);
+    }
+
+    @Override
+    public CompletableFuture<List<IssueComment>> getIssuesComments(@NonNull String repositoryName) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.ISSUE_COMMENTS, List.of(repositoryName)),
+                IssueComment.class);
+    }
+
+    @Override
+    public CompletableFuture<List<IssueComment>> getIssuesComments(@NonNull String repositoryName,
+            @NonNull QueryParameter queyParameter) {
+        return super.getCommunicator().getAsList(
+                super.createUrl(GithubApi.ISSUE_COMMENTS, queyParameter, List.of(repositoryName)), IssueComment.class);
+    }
+}
@@ -15,10 +15,17 @@
 package org.thinkit.api.gateway.github;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import org.thinkit.api.gateway.github.catalog.GithubApi;
 import org.thinkit.api.gateway.github.communication.Communicator;
+import org.thinkit.api.gateway.github.communication.PageIterator;
+import org.thinkit.api.gateway.github.communication.PagePublisher;
+import org.thinkit.api.gateway.github.communication.ParallelPageIterator;
 import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.query.QueryParameter;
 import org.thinkit.api.gateway.github.response.repos.Repository;
 import org.thinkit.api.gateway.github.response.repos.issues.Issue;
@@ -36,7 +43,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class GithubRepositoryApi extends AbstractApi implements RepositoryApi {
+final class GithubRepositoryApi extends AbstractApi<Communicator> implements RepositoryApi {
 
     /**
      * The serial version UID
@@ -74,12 +81,41 @@ final class GithubRepositoryApi extends AbstractApi implements RepositoryApi {
     }
 
     @Override
+    public Repository getRepository(@NonNull final String repositoryName) {
+        return super.getCommunicator().get(super.createUrl(GithubApi.REPOSITORY, List.of(repositoryName)),
+                Repository.class);
+    }
+
+    @Override
+    public Repository getRepository(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter) {
+        return super.getCommunicator().get(
+                super.createUrl(GithubApi.REPOSITORY, queryParameter, List.of(repositoryName)), Repository.class);
+    }
+
+    @Override
+    public Repository getRepository(@NonNull final String repositoryName, @NonNull final Projection projection) {
+        return super.getCommunicator().get(super.createUrl(GithubApi.REPOSITORY, List.of(repositoryName)),
+                Repository.class, projection);
+    }
+
+    @Override
+    public Repository getRepository(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter, @NonNull final Projection projection) {
+        return super.getCommunicator().get(
+                super.createUrl(GithubApi.REPOSITORY, queryParameter, List.of(repositoryName)), Repository.class,
+                projection);
+    }
+
+    @Override
+    @Deprecated
     public List<Repository> getRepositories(@NonNull final String repositoryName) {
         return super.getCommunicator().getAsList(super.createUrl(GithubApi.REPOSITORY, List.of(repositoryName)),
                 Repository.class);
     }
 
     @Override
+    @Deprecated
     public List<Repository> getRepositories(@NonNull final String repositoryName,
             @NonNull final QueryParameter queryParameter) {
         return super.getCommunicator().getAsList(
@@ -109,4 +145,87 @@ final class GithubRepositoryApi extends AbstractApi implements RepositoryApi {
         return super.getCommunicator().getAsList(
                 super.createUrl(GithubApi.ISSUE_COMMENTS, queyParameter, List.of(repositoryName)), IssueComment.class);
     }
+
+    @Override
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName) {
+        return PageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, List.of(repositoryName)), Issue.class);
+    }
+
+    @Override
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter) {
+        return PageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, queyParameter, List.of(repositoryName)), Issue.class);
+    }
+
+    @Override
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName) {
+        return PageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, List.of(repositoryName)), IssueComment.class);
+    }
+
+    @Override
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter) {
+        return PageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, queyParameter, List.of(repositoryName)), IssueComment.class);
+    }
+
+    @Override
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, List.of(repositoryName)), Issue.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter, @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, queyParameter, List.of(repositoryName)), Issue.class,
+                parallelPagination);
+    }
+
+    @Override
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, List.of(repositoryName)), IssueComment.class,
+                parallelPagination);
+    }
+
+    @Override
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter, @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, queyParameter, List.of(repositoryName)), IssueComment.class,
+                parallelPagination);
+    }
+
+    @Override
+    public Flow.Publisher<Issue> publishIssues(@NonNull final String repositoryName) {
+        return PagePublisher.from(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, List.of(repositoryName)), Issue.class);
+    }
+
+    @Override
+    public Flow.Publisher<Issue> publishIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUES, queryParameter, List.of(repositoryName)), Issue.class);
+    }
+
+    @Override
+    public Flow.Publisher<IssueComment> publishIssuesComments(@NonNull final String repositoryName) {
+        return PagePublisher.from(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, List.of(repositoryName)), IssueComment.class);
+    }
+
+    @Override
+    public Flow.Publisher<IssueComment> publishIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(),
+                super.createUrl(GithubApi.ISSUE_COMMENTS, queryParameter, List.of(repositoryName)), IssueComment.class);
+    }
 }
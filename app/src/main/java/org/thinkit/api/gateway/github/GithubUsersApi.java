@@ -15,15 +15,26 @@
 package org.thinkit.api.gateway.github;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import com.google.api.client.http.GenericUrl;
 
 import org.thinkit.api.gateway.github.catalog.GithubApi;
 import org.thinkit.api.gateway.github.communication.Communicator;
+import org.thinkit.api.gateway.github.communication.PageIterator;
+import org.thinkit.api.gateway.github.communication.PagePublisher;
+import org.thinkit.api.gateway.github.communication.ParallelPageIterator;
 import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.query.QueryParameter;
 import org.thinkit.api.gateway.github.response.user.User;
 import org.thinkit.api.gateway.github.response.user.followers.UserFollower;
 import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
 import org.thinkit.api.gateway.github.response.user.receivedevents.ReceivedEvent;
+import org.thinkit.api.gateway.github.response.user.repos.RepositoryBatch;
+import org.thinkit.api.gateway.github.response.user.repos.RepositoryBatchReader;
 import org.thinkit.api.gateway.github.response.user.repos.UserRepository;
 import org.thinkit.api.gateway.github.response.user.subscriptions.UserSubscription;
 import org.thinkit.api.gateway.github.user.GithubUser;
@@ -39,7 +50,7 @@ import lombok.ToString;
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-final class GithubUsersApi extends AbstractApi implements UsersApi {
+final class GithubUsersApi extends AbstractApi<Communicator> implements UsersApi {
 
     /**
      * The serial version UID
@@ -118,6 +129,29 @@ final class GithubUsersApi extends AbstractApi implements UsersApi {
                 UserRepository.class);
     }
 
+    @Override
+    public List<UserRepository> getUserRepositories(@NonNull final Projection projection) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.USER_REPOSITORY), UserRepository.class,
+                projection);
+    }
+
+    @Override
+    public List<UserRepository> getUserRepositories(@NonNull final QueryParameter queryParameter,
+            @NonNull final Projection projection) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.USER_REPOSITORY, queryParameter),
+                UserRepository.class, projection);
+    }
+
+    @Override
+    public RepositoryBatch getUserRepositoryBatch() {
+        return this.readBatch(super.createUrl(GithubApi.USER_REPOSITORY));
+    }
+
+    @Override
+    public RepositoryBatch getUserRepositoryBatch(@NonNull final QueryParameter queryParameter) {
+        return this.readBatch(super.createUrl(GithubApi.USER_REPOSITORY, queryParameter));
+    }
+
     @Override
     public List<ReceivedEvent> getReceivedEvents() {
         return super.getCommunicator().getAsList(super.createUrl(GithubApi.RECEIVED_EVENTS), ReceivedEvent.class);
@@ -139,4 +173,222 @@ final class GithubUsersApi extends AbstractApi implements UsersApi {
         return super.getCommunicator().getAsList(super.createUrl(GithubApi.USER_SUBSCRIPTIONS, queryParameter),
                 UserSubscription.class);
     }
+
+    @Override
+    public List<UserSubscription> getUserSubscriptions(@NonNull final Projection projection) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.USER_SUBSCRIPTIONS), UserSubscription.class,
+                projection);
+    }
+
+    @Override
+    public List<UserSubscription> getUserSubscriptions(@NonNull final QueryParameter queryParameter,
+            @NonNull final Projection projection) {
+        return super.getCommunicator().getAsList(super.createUrl(GithubApi.USER_SUBSCRIPTIONS, queryParameter),
+                UserSubscription.class, projection);
+    }
+
+    @Override
+    public Stream<FollowingUser> streamFollowingUsers() {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.FOLLOWING_USER),
+                FollowingUser.class);
+    }
+
+    @Override
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final QueryParameter queryParameter) {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.FOLLOWING_USER, queryParameter),
+                FollowingUser.class);
+    }
+
+    @Override
+    public Stream<UserFollower> streamUserFollowers() {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_FOLLOWERS),
+                UserFollower.class);
+    }
+
+    @Override
+    public Stream<UserFollower> streamUserFollowers(@NonNull final QueryParameter queryParameter) {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_FOLLOWERS, queryParameter),
+                UserFollower.class);
+    }
+
+    @Override
+    public Stream<UserRepository> streamUserRepositories() {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_REPOSITORY),
+                UserRepository.class);
+    }
+
+    @Override
+    public Stream<UserRepository> streamUserRepositories(@NonNull final QueryParameter queryParameter) {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_REPOSITORY, queryParameter),
+                UserRepository.class);
+    }
+
+    @Override
+    public Stream<ReceivedEvent> streamReceivedEvents() {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.RECEIVED_EVENTS),
+                ReceivedEvent.class);
+    }
+
+    @Override
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final QueryParameter queryParameter) {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.RECEIVED_EVENTS, queryParameter),
+                ReceivedEvent.class);
+    }
+
+    @Override
+    public Stream<UserSubscription> streamUserSubscriptions() {
+        return PageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_SUBSCRIPTIONS),
+                UserSubscription.class);
+    }
+
+    @Override
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final QueryParameter queryParameter) {
+        return PageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.USER_SUBSCRIPTIONS, queryParameter), UserSubscription.class);
+    }
+
+    @Override
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.FOLLOWING_USER),
+                FollowingUser.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.FOLLOWING_USER, queryParameter), FollowingUser.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserFollower> streamUserFollowers(@NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_FOLLOWERS),
+                UserFollower.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserFollower> streamUserFollowers(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.USER_FOLLOWERS, queryParameter), UserFollower.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserRepository> streamUserRepositories(@NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_REPOSITORY),
+                UserRepository.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserRepository> streamUserRepositories(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.USER_REPOSITORY, queryParameter), UserRepository.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.RECEIVED_EVENTS),
+                ReceivedEvent.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.RECEIVED_EVENTS, queryParameter), ReceivedEvent.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(), super.createUrl(GithubApi.USER_SUBSCRIPTIONS),
+                UserSubscription.class, parallelPagination);
+    }
+
+    @Override
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination) {
+        return ParallelPageIterator.stream(super.getCommunicator(),
+                super.createUrl(GithubApi.USER_SUBSCRIPTIONS, queryParameter), UserSubscription.class,
+                parallelPagination);
+    }
+
+    /**
+     * Reads the repositories of all pages from the first page into the columnar
+     * batch.
+     *
+     * @param firstUrl The URL of the first page
+     * @return The batch of the repositories
+     */
+    private RepositoryBatch readBatch(final GenericUrl firstUrl) {
+
+        final RepositoryBatchReader batchReader = RepositoryBatchReader.newInstance();
+        GenericUrl pageUrl = firstUrl;
+
+        while (pageUrl != null) {
+            pageUrl = super.getCommunicator().readEach(pageUrl, batchReader);
+        }
+
+        return batchReader.toBatch();
+    }
+
+    @Override
+    public Flow.Publisher<FollowingUser> publishFollowingUsers() {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.FOLLOWING_USER),
+                FollowingUser.class);
+    }
+
+    @Override
+    public Flow.Publisher<FollowingUser> publishFollowingUsers(@NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.FOLLOWING_USER, queryParameter),
+                FollowingUser.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserFollower> publishUserFollowers() {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.USER_FOLLOWERS),
+                UserFollower.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserFollower> publishUserFollowers(@NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.USER_FOLLOWERS, queryParameter),
+                UserFollower.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserRepository> publishUserRepositories() {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.USER_REPOSITORY),
+                UserRepository.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserRepository> publishUserRepositories(@NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.USER_REPOSITORY, queryParameter),
+                UserRepository.class);
+    }
+
+    @Override
+    public Flow.Publisher<ReceivedEvent> publishReceivedEvents() {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.RECEIVED_EVENTS),
+                ReceivedEvent.class);
+    }
+
+    @Override
+    public Flow.Publisher<ReceivedEvent> publishReceivedEvents(@NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.RECEIVED_EVENTS, queryParameter),
+                ReceivedEvent.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserSubscription> publishUserSubscriptions() {
+        return PagePublisher.from(super.getCommunicator(), super.createUrl(GithubApi.USER_SUBSCRIPTIONS),
+                UserSubscription.class);
+    }
+
+    @Override
+    public Flow.Publisher<UserSubscription> publishUserSubscriptions(@NonNull final QueryParameter queryParameter) {
+        return PagePublisher.from(super.getCommunicator(),
+                super.createUrl(GithubApi.USER_SUBSCRIPTIONS, queryParameter), UserSubscription.class);
+    }
 }
@@ -15,7 +15,11 @@
 package org.thinkit.api.gateway.github;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.query.QueryParameter;
 import org.thinkit.api.gateway.github.response.repos.Repository;
 import org.thinkit.api.gateway.github.response.repos.issues.Issue;
@@ -39,6 +43,62 @@ public interface RepositoryApi {
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
+    public Repository getRepository(@NonNull final String repositoryName);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName}.
+     *
+     * @param repositoryName The repository name
+     * @param queryParameter The query parameter
+     * @return The repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Repository getRepository(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName}, reading only
+     * the fields selected by the projection.
+     *
+     * @param repositoryName The repository name
+     * @param projection     The projection of the response fields
+     * @return The repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Repository getRepository(@NonNull final String repositoryName, @NonNull final Projection projection);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName}, reading only
+     * the fields selected by the projection.
+     *
+     * @param repositoryName The repository name
+     * @param queryParameter The query parameter
+     * @param projection     The projection of the response fields
+     * @return The repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Repository getRepository(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter, @NonNull final Projection projection);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName}.
+     *
+     * @param repositoryName The repository name
+     * @return The repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @deprecated The GitHub API returns a single repository, which cannot be
+     *             parsed as a list. Use {@link #getRepository(String)} instead.
+     */
+    @Deprecated
     public List<Repository> getRepositories(@NonNull final String repositoryName);
 
     /**
@@ -50,7 +110,12 @@ public interface RepositoryApi {
      * @return The repository information
      *
      * @exception NullPointerException If {@code null} is passed as an argument
+     *
+     * @deprecated The GitHub API returns a single repository, which cannot be
+     *             parsed as a list. Use
+     *             {@link #getRepository(String, QueryParameter)} instead.
      */
+    @Deprecated
     public List<Repository> getRepositories(@NonNull final String repositoryName,
             @NonNull final QueryParameter queyParameter);
 
@@ -100,4 +165,166 @@ public interface RepositoryApi {
      */
     public List<IssueComment> getIssuesComments(@NonNull final String repositoryName,
             @NonNull final QueryParameter queyParameter);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the stream that
+     * follows the pages lazily.
+     *
+     * @param repositoryName The repository name
+     * @return The stream of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the stream that
+     * follows the pages lazily.
+     *
+     * @param repositoryName The repository name
+     * @param queyParameter  The query parameter
+     * @return The stream of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the stream that
+     * follows the pages lazily.
+     *
+     * @param repositoryName The repository name
+     * @return The stream of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the stream that
+     * follows the pages lazily.
+     *
+     * @param repositoryName The repository name
+     * @param queyParameter  The query parameter
+     * @return The stream of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the stream whose
+     * pages are fetched in parallel.
+     *
+     * @param repositoryName     The repository name
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the stream whose
+     * pages are fetched in parallel.
+     *
+     * @param repositoryName     The repository name
+     * @param queyParameter      The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<Issue> streamIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter, @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the stream whose
+     * pages are fetched in parallel.
+     *
+     * @param repositoryName     The repository name
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the stream whose
+     * pages are fetched in parallel.
+     *
+     * @param repositoryName     The repository name
+     * @param queyParameter      The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<IssueComment> streamIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queyParameter, @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the publisher that fetches
+     * the pages as the subscriber demands the items.
+     *
+     * @param repositoryName The repository name
+     * @return The publisher of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<Issue> publishIssues(@NonNull final String repositoryName);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues} as the publisher that fetches
+     * the pages as the subscriber demands the items.
+     *
+     * @param repositoryName The repository name
+     * @param queryParameter The query parameter
+     * @return The publisher of the issue information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<Issue> publishIssues(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the publisher that fetches
+     * the pages as the subscriber demands the items.
+     *
+     * @param repositoryName The repository name
+     * @return The publisher of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<IssueComment> publishIssuesComments(@NonNull final String repositoryName);
+
+    /**
+     * Returns the repository information through the GitHub API
+     * {@code https://api.github.com/repos/loginName/repositoryName/issues/comments} as the publisher that fetches
+     * the pages as the subscriber demands the items.
+     *
+     * @param repositoryName The repository name
+     * @param queryParameter The query parameter
+     * @return The publisher of the issue comment information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<IssueComment> publishIssuesComments(@NonNull final String repositoryName,
+            @NonNull final QueryParameter queryParameter);
 }
@@ -15,12 +15,17 @@
 package org.thinkit.api.gateway.github;
 
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.query.QueryParameter;
 import org.thinkit.api.gateway.github.response.user.User;
 import org.thinkit.api.gateway.github.response.user.followers.UserFollower;
 import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
 import org.thinkit.api.gateway.github.response.user.receivedevents.ReceivedEvent;
+import org.thinkit.api.gateway.github.response.user.repos.RepositoryBatch;
 import org.thinkit.api.gateway.github.response.user.repos.UserRepository;
 import org.thinkit.api.gateway.github.response.user.subscriptions.UserSubscription;
 
@@ -109,6 +114,57 @@ public interface UsersApi {
      */
     public List<UserRepository> getUserRepositories(@NonNull final QueryParameter queryParameter);
 
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos}, reading only the fields
+     * selected by the projection.
+     *
+     * @param projection The projection of the response fields
+     * @return The specific user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<UserRepository> getUserRepositories(@NonNull final Projection projection);
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos}, reading only the fields
+     * selected by the projection.
+     *
+     * @param queryParameter The query parameter
+     * @param projection     The projection of the response fields
+     * @return The specific user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<UserRepository> getUserRepositories(@NonNull final QueryParameter queryParameter,
+            @NonNull final Projection projection);
+
+    /**
+     * Returns all of the specific user's repositories through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the columnar batch.
+     * All pages are followed, and the columns of the batch are filled directly
+     * from the responses without creating {@link UserRepository} for each
+     * repository.
+     *
+     * @return The batch of the user's repositories
+     */
+    public RepositoryBatch getUserRepositoryBatch();
+
+    /**
+     * Returns all of the specific user's repositories through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the columnar batch.
+     * All pages are followed from the page of the query parameter, and the
+     * columns of the batch are filled directly from the responses without
+     * creating {@link UserRepository} for each repository.
+     *
+     * @param queryParameter The query parameter
+     * @return The batch of the user's repositories
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public RepositoryBatch getUserRepositoryBatch(@NonNull final QueryParameter queryParameter);
+
     /**
      * Returns the specific received events information through the GitHub API
      * {@code https://api.github.com/users/username/received_events}.
@@ -146,4 +202,370 @@ public interface UsersApi {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     public List<UserSubscription> getUserSubscriptions(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions}, reading only the fields
+     * selected by the projection.
+     *
+     * @param projection The projection of the response fields
+     * @return The specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<UserSubscription> getUserSubscriptions(@NonNull final Projection projection);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions}, reading only the fields
+     * selected by the projection.
+     *
+     * @param queryParameter The query parameter
+     * @param projection     The projection of the response fields
+     * @return The specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public List<UserSubscription> getUserSubscriptions(@NonNull final QueryParameter queryParameter,
+            @NonNull final Projection projection);
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the stream that follows the
+     * pages lazily.
+     *
+     * @return The stream of the user's following information
+     */
+    public Stream<FollowingUser> streamFollowingUsers();
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the stream that follows the
+     * pages lazily.
+     *
+     * @param queryParameter The query parameter
+     * @return The stream of the user's following information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the stream that follows the
+     * pages lazily.
+     *
+     * @return The stream of the user's follower information
+     */
+    public Stream<UserFollower> streamUserFollowers();
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the stream that follows the
+     * pages lazily.
+     *
+     * @param queryParameter The query parameter
+     * @return The stream of the user's follower information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserFollower> streamUserFollowers(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the stream that follows the
+     * pages lazily.
+     *
+     * @return The stream of the user's repository information
+     */
+    public Stream<UserRepository> streamUserRepositories();
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the stream that follows the
+     * pages lazily.
+     *
+     * @param queryParameter The query parameter
+     * @return The stream of the user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserRepository> streamUserRepositories(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the stream that follows the
+     * pages lazily.
+     *
+     * @return The stream of the received events information
+     */
+    public Stream<ReceivedEvent> streamReceivedEvents();
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the stream that follows the
+     * pages lazily.
+     *
+     * @param queryParameter The query parameter
+     * @return The stream of the received events information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the stream that follows the
+     * pages lazily.
+     *
+     * @return The stream of the specific user's subscription information
+     */
+    public Stream<UserSubscription> streamUserSubscriptions();
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the stream that follows the
+     * pages lazily.
+     *
+     * @param queryParameter The query parameter
+     * @return The stream of the specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's following information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param queryParameter     The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's following information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<FollowingUser> streamFollowingUsers(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's follower information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserFollower> streamUserFollowers(@NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param queryParameter     The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's follower information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserFollower> streamUserFollowers(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserRepository> streamUserRepositories(@NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param queryParameter     The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserRepository> streamUserRepositories(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the received events information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param queryParameter     The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the received events information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<ReceivedEvent> streamReceivedEvents(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the stream whose pages are
+     * fetched in parallel.
+     *
+     * @param queryParameter     The query parameter
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Stream<UserSubscription> streamUserSubscriptions(@NonNull final QueryParameter queryParameter,
+            @NonNull final ParallelPagination parallelPagination);
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @return The publisher of the user's following information
+     */
+    public Flow.Publisher<FollowingUser> publishFollowingUsers();
+
+    /**
+     * Returns the specific user's following information through the GitHub API
+     * {@code https://api.github.com/users/username/following} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @param queryParameter The query parameter
+     * @return The publisher of the user's following information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<FollowingUser> publishFollowingUsers(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @return The publisher of the user's follower information
+     */
+    public Flow.Publisher<UserFollower> publishUserFollowers();
+
+    /**
+     * Returns the specific user's follower information through the GitHub API
+     * {@code https://api.github.com/users/username/followers} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @param queryParameter The query parameter
+     * @return The publisher of the user's follower information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<UserFollower> publishUserFollowers(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @return The publisher of the user's repository information
+     */
+    public Flow.Publisher<UserRepository> publishUserRepositories();
+
+    /**
+     * Returns the specific user's repository information through the GitHub API
+     * {@code https://api.github.com/users/username/repos} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @param queryParameter The query parameter
+     * @return The publisher of the user's repository information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<UserRepository> publishUserRepositories(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @return The publisher of the received events information
+     */
+    public Flow.Publisher<ReceivedEvent> publishReceivedEvents();
+
+    /**
+     * Returns the specific received events information through the GitHub API
+     * {@code https://api.github.com/users/username/received_events} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @param queryParameter The query parameter
+     * @return The publisher of the received events information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<ReceivedEvent> publishReceivedEvents(@NonNull final QueryParameter queryParameter);
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @return The publisher of the specific user's subscription information
+     */
+    public Flow.Publisher<UserSubscription> publishUserSubscriptions();
+
+    /**
+     * Returns the specific user's subscription information through the GitHub API
+     * {@code https://api.github.com/users/username/subscriptions} as the publisher that fetches the
+     * pages as the subscriber demands the items.
+     *
+     * @param queryParameter The query parameter
+     * @return The publisher of the specific user's subscription information
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Flow.Publisher<UserSubscription> publishUserSubscriptions(@NonNull final QueryParameter queryParameter);
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The input stream that reads the remaining bytes of a byte buffer, so the
+ * body mapped from a file is parsed without copying it to the heap first.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer, whose position is advanced as the bytes are read
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The constructor.
+     *
+     * @param buffer The buffer that is read from its position to its limit
+     */
+    ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!this.buffer.hasRemaining()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(final long count) {
+
+        final int skipped = (int) Math.max(0L, Math.min(count, this.buffer.remaining()));
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
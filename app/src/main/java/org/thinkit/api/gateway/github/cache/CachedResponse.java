@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages a response stored in {@link ConditionalRequestCache}
+ * with its {@code "ETag"} header.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CachedResponse implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 5020364913297866407L;
+
+    /**
+     * The value of {@code "ETag"} header
+     */
+    @Getter
+    private String etag;
+
+    /**
+     * The type the body was parsed into
+     */
+    @Getter
+    private Type responseType;
+
+    /**
+     * The parsed body
+     */
+    @Getter
+    private Object body;
+
+    /**
+     * The size of the body in bytes
+     */
+    @Getter
+    private long size;
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The cache that stores the {@code "ETag"} header and the parsed body of the
+ * responses for each request, which is identified by the canonical URL and the
+ * access token.
+ *
+ * <p>
+ * The communicator sends the stored {@code "ETag"} as the
+ * {@code "If-None-Match"} header on the repeat request, and the stored body is
+ * returned as is when the GitHub API answers {@code 304 Not Modified} . The
+ * GitHub API does not count such responses against the rate limit.
+ *
+ * <p>
+ * The counters of the cache can be read by {@link #getStats()} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class ConditionalRequestCache {
+
+    /**
+     * The default count of the responses stored in the cache
+     */
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000L;
+
+    /**
+     * The responses for each key
+     */
+    private final Cache<String, CachedResponse> responses;
+
+    /**
+     * The maximum count of the responses stored in the cache
+     */
+    @ToString.Include
+    private final long maximumSize;
+
+    /**
+     * The count of the requests sent with {@code "If-None-Match"} header
+     */
+    private final LongAdder conditionalRequestCount = new LongAdder();
+
+    /**
+     * The count of the requests sent without {@code "If-None-Match"} header
+     */
+    private final LongAdder unconditionalRequestCount = new LongAdder();
+
+    /**
+     * The count of the responses served from the cache on
+     * {@code 304 Not Modified}
+     */
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param maximumSize The maximum count of the responses stored in the cache
+     *
+     * @exception IllegalArgumentException If {@code maximumSize} is not positive
+     */
+    private ConditionalRequestCache(final long maximumSize) {
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.responses = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Returns the new instance of {@link ConditionalRequestCache} that stores at
+     * most 1000 responses.
+     *
+     * @return The new instance of {@link ConditionalRequestCache}
+     */
+    public static ConditionalRequestCache newInstance() {
+        return new ConditionalRequestCache(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Returns the new instance of {@link ConditionalRequestCache} based on the
+     * argument.
+     *
+     * @param maximumSize The maximum count of the responses stored in the cache
+     * @return The new instance of {@link ConditionalRequestCache}
+     *
+     * @exception IllegalArgumentException If {@code maximumSize} is not positive
+     */
+    public static ConditionalRequestCache of(final long maximumSize) {
+        return new ConditionalRequestCache(maximumSize);
+    }
+
+    /**
+     * Returns the response stored for the URL and the type passed as arguments,
+     * and counts the request as conditional if the response is found, or as
+     * unconditional if not. The request is served from the cache only if the
+     * GitHub API answers {@code 304 Not Modified} , which is counted by
+     * {@link #recordNotModified()} .
+     *
+     * @param key          The key that identifies the request
+     * @param responseType The type the body is parsed into
+     * @return The stored response, or {@code null} if there is no response
+     *         parsed into the type for the key
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public CachedResponse lookup(@NonNull final String key, @NonNull final Type responseType) {
+
+        final CachedResponse cachedResponse = this.responses.getIfPresent(key);
+
+        if (cachedResponse == null || !cachedResponse.getResponseType().equals(responseType)) {
+            this.unconditionalRequestCount.increment();
+            return null;
+        }
+
+        this.conditionalRequestCount.increment();
+        return cachedResponse;
+    }
+
+    /**
+     * Stores the response for the key passed as an argument.
+     *
+     * @param key          The key that identifies the request
+     * @param etag         The value of {@code "ETag"} header
+     * @param responseType The type the body was parsed into
+     * @param body         The parsed body
+     * @param size         The size of the body in bytes
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public void store(@NonNull final String key, @NonNull final String etag,
+            @NonNull final Type responseType, @NonNull final Object body, final long size) {
+        this.responses.put(key, new CachedResponse(etag, responseType, body, size));
+    }
+
+    /**
+     * Counts the response served from the cache on {@code 304 Not Modified} .
+     */
+    public void recordNotModified() {
+        this.notModifiedCount.increment();
+    }
+
+    /**
+     * Removes all the stored responses. The counters are not reset.
+     */
+    public void invalidateAll() {
+        this.responses.invalidateAll();
+    }
+
+    /**
+     * Returns the snapshot of the counters.
+     *
+     * @return The snapshot of the counters
+     */
+    public ConditionalRequestStats getStats() {
+        return ConditionalRequestStats.from(this.conditionalRequestCount.sum(), this.unconditionalRequestCount.sum(),
+                this.notModifiedCount.sum());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the snapshot of the counters of
+ * {@link ConditionalRequestCache} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class ConditionalRequestStats implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -1871543330590185405L;
+
+    /**
+     * The count of the requests sent with {@code "If-None-Match"} header
+     */
+    @Getter
+    private long conditionalRequestCount;
+
+    /**
+     * The count of the requests sent without {@code "If-None-Match"} header
+     */
+    @Getter
+    private long unconditionalRequestCount;
+
+    /**
+     * The count of the responses served from the cache on
+     * {@code 304 Not Modified} , which are the actual hits of the cache
+     */
+    @Getter
+    private long notModifiedCount;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The entity that manages a response stored in {@link DiskResponseCache} with
+ * its validators. The body is not copied to the heap but refers to the region
+ * of the file mapped into memory.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class DiskCachedResponse {
+
+    /**
+     * The value of {@code "ETag"} header, or {@code null} if it was not sent
+     */
+    @Getter
+    private final String etag;
+
+    /**
+     * The value of {@code "Last-Modified"} header, or {@code null} if it was not
+     * sent
+     */
+    @Getter
+    private final String lastModified;
+
+    /**
+     * The value of {@code "Link"} header, or {@code null} if it was not sent
+     */
+    @Getter
+    private final String link;
+
+    /**
+     * The charset of the body
+     */
+    @Getter
+    private final Charset charset;
+
+    /**
+     * The raw body in the mapped file
+     */
+    @ToString.Exclude
+    private final ByteBuffer body;
+
+    /**
+     * Returns the raw body as the read-only buffer that refers to the mapped
+     * file.
+     *
+     * @return The raw body
+     */
+    public ByteBuffer getBody() {
+        return this.body.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the size of the raw body in bytes.
+     *
+     * @return The size of the raw body
+     */
+    @ToString.Include
+    public int getSize() {
+        return this.body.remaining();
+    }
+
+    /**
+     * Returns the new input stream that reads the raw body from the mapped file.
+     *
+     * @return The input stream of the raw body
+     */
+    public InputStream openBody() {
+        return new ByteBufferInputStream(this.getBody());
+    }
+}
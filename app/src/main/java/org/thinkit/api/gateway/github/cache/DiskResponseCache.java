@@ -0,0 +1,941 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import com.google.common.hash.Hashing;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The cache that stores the raw bodies of the responses with their
+ * {@code "ETag"} and {@code "Last-Modified"} headers on the disk, so the
+ * conditional requests can be sent even after the process is restarted.
+ *
+ * <p>
+ * The responses are appended to the segment files in the directory, which are
+ * mapped into memory. The index from the hash of the key to the location of
+ * the latest record is kept in memory and rebuilt by scanning the segments when
+ * the cache is opened. A record is written with its checksum and its length is
+ * written last, so the record torn by a crash is ignored on the next open. The
+ * body returned by {@link #lookup(String)} refers to the mapped segment and is
+ * not copied to the heap.
+ *
+ * <p>
+ * A response is removed by appending a tombstone record for its key, so the
+ * removal also survives the restart. The records overwritten by the newer
+ * responses and the tombstones are left in the segments until the segments
+ * are compacted. The live records are copied to the new
+ * segments by {@link #compact()} , which is also done automatically when a new
+ * segment is needed and the overwritten records take more bytes than the live
+ * ones.
+ *
+ * <p>
+ * A directory belongs to one cache at a time. The cache holds the lock on the
+ * {@code "lock"} file in the directory until it is closed, and opening the
+ * directory locked by another cache, in this process or in another one, fails
+ * fast instead of letting the caches overwrite the records of each other.
+ *
+ * <p>
+ * The counters of the cache can be read by {@link #getStats()} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class DiskResponseCache implements AutoCloseable {
+
+    /**
+     * The default size of a segment file in bytes
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The minimum size of a segment file in bytes
+     */
+    private static final int MINIMUM_SEGMENT_SIZE = 4 * 1024;
+
+    /**
+     * The size of the record header, which consists of the length and the
+     * checksum of the payload
+     */
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * The length written for {@code null} string
+     */
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * The pattern of the segment file name
+     */
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("(\\d{8})\\.segment");
+
+    /**
+     * The name of the file locked while the directory is used
+     */
+    private static final String LOCK_FILE_NAME = "lock";
+
+    /**
+     * The directory of the segment files
+     */
+    @ToString.Include
+    private final Path directory;
+
+    /**
+     * The size of a segment file in bytes
+     */
+    @ToString.Include
+    private final int segmentSize;
+
+    /**
+     * The channel of the lock file
+     */
+    private final FileChannel lockChannel;
+
+    /**
+     * {@code true} if the cache is closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * The segments in the order they were created
+     */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * The location of the latest record for each hash of the key
+     */
+    private volatile Map<Long, Location> index = new ConcurrentHashMap<>();
+
+    /**
+     * The segment the records are appended to
+     */
+    private Segment currentSegment;
+
+    /**
+     * The identifier of the next segment
+     */
+    private int nextSegmentId;
+
+    /**
+     * The total size of the records in the index in bytes
+     */
+    private long liveBytes;
+
+    /**
+     * The total size of the overwritten records in bytes
+     */
+    private long deadBytes;
+
+    /**
+     * The count of the requests sent with the validators of the stored response
+     */
+    private final LongAdder conditionalRequestCount = new LongAdder();
+
+    /**
+     * The count of the requests sent without validators
+     */
+    private final LongAdder unconditionalRequestCount = new LongAdder();
+
+    /**
+     * The count of the responses served from the disk on
+     * {@code 304 Not Modified}
+     */
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param directory   The directory of the segment files
+     * @param segmentSize The size of a segment file in bytes
+     *
+     * @exception IllegalArgumentException If {@code segmentSize} is less than
+     *                                     4 KiB
+     * @exception IllegalStateException    If the directory is used by another
+     *                                     cache or an error occurs while the
+     *                                     segments are opened
+     */
+    private DiskResponseCache(@NonNull final Path directory, final int segmentSize) {
+
+        if (segmentSize < MINIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("The segment size must not be less than 4 KiB");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = lock(directory.resolve(LOCK_FILE_NAME));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            this.open();
+        } catch (IOException | RuntimeException e) {
+            this.close();
+            throw e instanceof IOException ? new IllegalStateException(e) : (RuntimeException) e;
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link DiskResponseCache} that stores the
+     * responses in the 64 MiB segment files in the directory passed as an
+     * argument. The responses already stored in the directory are loaded.
+     *
+     * @param directory The directory of the segment files
+     * @return The new instance of {@link DiskResponseCache}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the directory is used by another cache
+     *                                  or an error occurs while the segments are
+     *                                  opened
+     */
+    public static DiskResponseCache from(@NonNull final Path directory) {
+        return new DiskResponseCache(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns the new instance of {@link DiskResponseCache} based on the
+     * arguments. The responses already stored in the directory are loaded.
+     *
+     * @param directory   The directory of the segment files
+     * @param segmentSize The size of a segment file in bytes
+     * @return The new instance of {@link DiskResponseCache}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code segmentSize} is less than
+     *                                     4 KiB
+     * @exception IllegalStateException    If the directory is used by another
+     *                                     cache or an error occurs while the
+     *                                     segments are opened
+     */
+    public static DiskResponseCache from(@NonNull final Path directory, final int segmentSize) {
+        return new DiskResponseCache(directory, segmentSize);
+    }
+
+    /**
+     * Returns the response stored for the key passed as an argument, and counts
+     * the request as conditional if the response is found, or as unconditional
+     * if not. The request is served from the disk only if the GitHub API answers
+     * {@code 304 Not Modified} , which is counted by
+     * {@link #recordNotModified()} .
+     *
+     * @param key The key that identifies the request
+     * @return The stored response, or {@code null} if there is no response for
+     *         the key
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the cache is closed
+     */
+    public DiskCachedResponse lookup(@NonNull final String key) {
+
+        this.ensureOpen();
+
+        final Location location = this.index.get(hash(key));
+        final DiskCachedResponse cachedResponse = location == null ? null : location.read(key);
+
+        if (cachedResponse == null) {
+            this.unconditionalRequestCount.increment();
+            return null;
+        }
+
+        this.conditionalRequestCount.increment();
+        return cachedResponse;
+    }
+
+    /**
+     * Stores the raw body of the response for the key passed as an argument. The
+     * response larger than a segment is not stored, and the response stored for
+     * the key before is invalidated instead.
+     *
+     * @param key          The key that identifies the request
+     * @param etag         The value of {@code "ETag"} header, or {@code null} if
+     *                     it was not sent
+     * @param lastModified The value of {@code "Last-Modified"} header, or
+     *                     {@code null} if it was not sent
+     * @param link         The value of {@code "Link"} header, or {@code null} if
+     *                     it was not sent
+     * @param charset      The charset of the body
+     * @param body         The raw body
+     *
+     * @exception NullPointerException  If {@code null} is passed as
+     *                                  {@code key} , {@code charset} or
+     *                                  {@code body}
+     * @exception IllegalStateException If the cache is closed or an error
+     *                                  occurs while a segment is created
+     */
+    public synchronized void store(@NonNull final String key, final String etag, final String lastModified,
+            final String link, @NonNull final Charset charset, @NonNull final byte[] body) {
+
+        this.ensureOpen();
+
+        final ByteBuffer payload = encode(key, etag, lastModified, link, charset.name(), body);
+
+        if (HEADER_SIZE + payload.remaining() > this.segmentSize) {
+            this.invalidate(key);
+            return;
+        }
+
+        final Location location = this.append(payload);
+        final long hash = hash(key);
+        this.remove(hash);
+        this.index.put(hash, location);
+        this.liveBytes += location.size;
+    }
+
+    /**
+     * Removes the response stored for the key passed as an argument by appending
+     * the tombstone record for the key. Nothing is written if no response is
+     * stored for the key.
+     *
+     * @param key The key that identifies the request
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the cache is closed or an error
+     *                                  occurs while a segment is created
+     */
+    public synchronized void invalidate(@NonNull final String key) {
+
+        this.ensureOpen();
+
+        final long hash = hash(key);
+        final Location location = this.index.get(hash);
+
+        if (location == null || !key.equals(location.readKey())) {
+            return;
+        }
+
+        final Location tombstone = this.append(encode(key));
+        this.remove(hash);
+        this.deadBytes += tombstone.size;
+    }
+
+    /**
+     * Counts the response served from the disk on {@code 304 Not Modified} .
+     */
+    public void recordNotModified() {
+        this.notModifiedCount.increment();
+    }
+
+    /**
+     * Copies the live records to the new segments and deletes the old segments.
+     * The responses already returned by {@link #lookup(String)} are still
+     * readable after the compaction.
+     *
+     * @exception IllegalStateException If the cache is closed or an error
+     *                                  occurs while a segment is created
+     */
+    public synchronized void compact() {
+
+        this.ensureOpen();
+
+        final List<Segment> oldSegments = new ArrayList<>(this.segments);
+        final Map<Long, Location> compactedIndex = new ConcurrentHashMap<>();
+
+        this.segments.clear();
+        this.currentSegment = null;
+        this.liveBytes = 0L;
+        this.deadBytes = 0L;
+
+        for (final Map.Entry<Long, Location> entry : this.index.entrySet()) {
+            final Location location = entry.getValue();
+
+            if (this.currentSegment == null || this.currentSegment.remaining() < location.size) {
+                this.currentSegment = this.createSegment();
+            }
+
+            final Location compactedLocation = this.currentSegment.append(location.payload());
+            compactedIndex.put(entry.getKey(), compactedLocation);
+            this.liveBytes += compactedLocation.size;
+        }
+
+        this.index = compactedIndex;
+        oldSegments.forEach(Segment::delete);
+    }
+
+    /**
+     * Writes the mapped segments to the storage device.
+     *
+     * @exception IllegalStateException If the cache is closed
+     */
+    public synchronized void flush() {
+        this.ensureOpen();
+        this.segments.forEach(segment -> segment.buffer.force());
+    }
+
+    /**
+     * Removes all the stored responses and deletes the segment files. The
+     * counters are not reset.
+     *
+     * @exception IllegalStateException If the cache is closed
+     */
+    public synchronized void invalidateAll() {
+        this.ensureOpen();
+        this.index = new ConcurrentHashMap<>();
+        this.segments.forEach(Segment::delete);
+        this.segments.clear();
+        this.currentSegment = null;
+        this.liveBytes = 0L;
+        this.deadBytes = 0L;
+    }
+
+    /**
+     * Writes the mapped segments to the storage device and releases the lock on
+     * the directory, so the directory can be opened by another cache. The
+     * responses already returned by {@link #lookup(String)} are still readable
+     * after the cache is closed.
+     *
+     * @exception IllegalStateException If an error occurs while the lock is
+     *                                  released
+     */
+    @Override
+    public synchronized void close() {
+
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+        this.segments.forEach(segment -> segment.buffer.force());
+
+        try {
+            // Closing the channel releases the lock
+            this.lockChannel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the count of the stored responses.
+     *
+     * @return The count of the stored responses
+     */
+    public int getEntryCount() {
+        return this.index.size();
+    }
+
+    /**
+     * Returns the count of the segment files.
+     *
+     * @return The count of the segment files
+     */
+    public synchronized int getSegmentCount() {
+        return this.segments.size();
+    }
+
+    /**
+     * Returns the snapshot of the counters. The conditional and the
+     * unconditional requests are the lookups that found the response and the
+     * ones that did not, and the responses served from the disk are counted as
+     * not modified.
+     *
+     * @return The snapshot of the counters
+     */
+    public ConditionalRequestStats getStats() {
+        return ConditionalRequestStats.from(this.conditionalRequestCount.sum(), this.unconditionalRequestCount.sum(),
+                this.notModifiedCount.sum());
+    }
+
+    /**
+     * Throws the exception if the cache is closed.
+     *
+     * @exception IllegalStateException If the cache is closed
+     */
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The cache is closed");
+        }
+    }
+
+    /**
+     * Opens the segment files in the directory and rebuilds the index by scanning
+     * their records in the order they were created.
+     *
+     * @throws IOException If an error occurs while the segments are opened
+     */
+    private void open() throws IOException {
+
+        final List<Path> segmentFiles = new ArrayList<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory)) {
+            for (final Path file : files) {
+                if (SEGMENT_FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+                    segmentFiles.add(file);
+                }
+            }
+        }
+
+        segmentFiles.sort(null);
+
+        for (final Path segmentFile : segmentFiles) {
+            final Matcher matcher = SEGMENT_FILE_NAME.matcher(segmentFile.getFileName().toString());
+            matcher.matches();
+
+            final Segment segment = new Segment(segmentFile, map(segmentFile, Files.size(segmentFile)));
+            this.segments.add(segment);
+            this.currentSegment = segment;
+            this.nextSegmentId = Integer.parseInt(matcher.group(1)) + 1;
+
+            for (Location location = segment.next(); location != null; location = segment.next()) {
+                final long hash = hash(location.readKey());
+                this.remove(hash);
+
+                if (location.isTombstone()) {
+                    this.deadBytes += location.size;
+                } else {
+                    this.index.put(hash, location);
+                    this.liveBytes += location.size;
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the record of the payload to the current segment. If the record
+     * does not fit in the current segment, the segments are compacted when the
+     * overwritten records take more bytes than the live ones, and the new
+     * segment is created if the record still does not fit.
+     *
+     * @param payload The payload
+     * @return The location of the record
+     *
+     * @exception IllegalStateException If an error occurs while a segment is
+     *                                  created
+     */
+    private Location append(final ByteBuffer payload) {
+
+        final int recordSize = HEADER_SIZE + payload.remaining();
+
+        if (this.currentSegment == null || this.currentSegment.remaining() < recordSize) {
+            if (this.deadBytes > this.liveBytes) {
+                this.compact();
+            }
+
+            if (this.currentSegment == null || this.currentSegment.remaining() < recordSize) {
+                this.currentSegment = this.createSegment();
+            }
+        }
+
+        return this.currentSegment.append(payload);
+    }
+
+    /**
+     * Creates the new segment file and maps it into memory.
+     *
+     * @return The new segment
+     *
+     * @exception IllegalStateException If an error occurs while the segment is
+     *                                  created
+     */
+    private Segment createSegment() {
+
+        final Path segmentFile = this.directory.resolve(String.format("%08d.segment", this.nextSegmentId++));
+
+        try {
+            final Segment segment = new Segment(segmentFile, map(segmentFile, this.segmentSize));
+            this.segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Removes the record for the hash from the index and counts it as
+     * overwritten.
+     *
+     * @param hash The hash of the key
+     */
+    private void remove(final long hash) {
+
+        final Location location = this.index.remove(hash);
+
+        if (location != null) {
+            this.liveBytes -= location.size;
+            this.deadBytes += location.size;
+        }
+    }
+
+    /**
+     * Locks the lock file, creating it if it does not exist.
+     *
+     * @param lockFile The lock file
+     * @return The channel of the lock file, which holds the lock until it is
+     *         closed
+     *
+     * @exception IllegalStateException If the lock file is locked by another
+     *                                  cache
+     * @throws IOException If an error occurs while the lock file is locked
+     */
+    private static FileChannel lock(final Path lockFile) throws IOException {
+
+        final FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock lock;
+
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // The lock is held by another cache in this process
+            lock = null;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        if (lock == null) {
+            channel.close();
+            throw new IllegalStateException(
+                    String.format("The directory is used by another cache: %s", lockFile.getParent()));
+        }
+
+        return channel;
+    }
+
+    /**
+     * Maps the file into memory, creating it if it does not exist. The channel is
+     * closed after mapping, and the mapping stays valid until it is garbage
+     * collected.
+     *
+     * @param file The file
+     * @param size The size of the mapping in bytes
+     * @return The mapped buffer
+     *
+     * @throws IOException If an error occurs while the file is mapped
+     */
+    private static MappedByteBuffer map(final Path file, final long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+        }
+    }
+
+    /**
+     * Returns the hash of the key.
+     *
+     * @param key The key
+     * @return The hash of the key
+     */
+    private static long hash(final String key) {
+        return Hashing.murmur3_128().hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * Encodes the payload of a record.
+     *
+     * @param key          The key
+     * @param etag         The value of {@code "ETag"} header
+     * @param lastModified The value of {@code "Last-Modified"} header
+     * @param link         The value of {@code "Link"} header
+     * @param charset      The name of the charset of the body
+     * @param body         The raw body
+     * @return The payload
+     */
+    private static ByteBuffer encode(final String key, final String etag, final String lastModified,
+            final String link, final String charset, final byte[] body) {
+
+        final byte[][] strings = { toBytes(key), toBytes(etag), toBytes(lastModified), toBytes(link),
+                toBytes(charset) };
+        int size = Integer.BYTES + body.length;
+
+        for (final byte[] string : strings) {
+            size += Integer.BYTES + (string == null ? 0 : string.length);
+        }
+
+        final ByteBuffer payload = ByteBuffer.allocate(size);
+
+        for (final byte[] string : strings) {
+            if (string == null) {
+                payload.putInt(NULL_LENGTH);
+            } else {
+                payload.putInt(string.length).put(string);
+            }
+        }
+
+        return payload.putInt(body.length).put(body).flip();
+    }
+
+    /**
+     * Encodes the payload of the tombstone record, which consists of the key
+     * only.
+     *
+     * @param key The key
+     * @return The payload
+     */
+    private static ByteBuffer encode(final String key) {
+        final byte[] bytes = toBytes(key);
+        return ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes).flip();
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the string.
+     *
+     * @param string The string
+     * @return The UTF-8 bytes, or {@code null} if the string is {@code null}
+     */
+    private static byte[] toBytes(final String string) {
+        return string == null ? null : string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the string written by {@link #encode} from the buffer.
+     *
+     * @param buffer The buffer positioned at the string
+     * @return The string
+     */
+    private static String readString(final ByteBuffer buffer) {
+
+        final int length = buffer.getInt();
+
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the checksum of the payload.
+     *
+     * @param payload The payload
+     * @return The checksum
+     */
+    private static int checksum(final ByteBuffer payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * The segment file mapped into memory.
+     */
+    private static final class Segment {
+
+        /**
+         * The segment file
+         */
+        private final Path file;
+
+        /**
+         * The mapped buffer
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The offset of the next record
+         */
+        private int position;
+
+        /**
+         * The constructor.
+         *
+         * @param file   The segment file
+         * @param buffer The mapped buffer
+         */
+        private Segment(final Path file, final MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the count of the bytes left for the records.
+         *
+         * @return The count of the bytes left
+         */
+        private int remaining() {
+            return this.buffer.capacity() - this.position;
+        }
+
+        /**
+         * Appends the record of the payload. The length is written after the
+         * checksum and the payload, so the record is not visible to the scan until
+         * it is complete.
+         *
+         * @param payload The payload
+         * @return The location of the record
+         */
+        private Location append(final ByteBuffer payload) {
+
+            final int offset = this.position;
+            final int length = payload.remaining();
+
+            this.buffer.putInt(offset + Integer.BYTES, checksum(payload));
+            this.buffer.duplicate().position(offset + HEADER_SIZE).put(payload.duplicate());
+            this.buffer.putInt(offset, length);
+            this.position += HEADER_SIZE + length;
+
+            return new Location(this, offset, HEADER_SIZE + length);
+        }
+
+        /**
+         * Scans the next record and moves the position after it.
+         *
+         * @return The location of the next record, or {@code null} if there is no
+         *         valid record left
+         */
+        private Location next() {
+
+            if (this.remaining() < HEADER_SIZE) {
+                return null;
+            }
+
+            final int length = this.buffer.getInt(this.position);
+
+            if (length <= 0 || length > this.remaining() - HEADER_SIZE) {
+                return null;
+            }
+
+            final Location location = new Location(this, this.position, HEADER_SIZE + length);
+
+            if (checksum(location.payload()) != this.buffer.getInt(this.position + Integer.BYTES)) {
+                return null;
+            }
+
+            this.position += location.size;
+            return location;
+        }
+
+        /**
+         * Deletes the segment file. The mapping stays readable until it is
+         * garbage collected, and the file that cannot be deleted while it is
+         * mapped is left to be overridden by the newer segments.
+         */
+        private void delete() {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                // The records in the file are older than the ones in the newer segments
+            }
+        }
+    }
+
+    /**
+     * The location of a record in a segment.
+     */
+    private static final class Location {
+
+        /**
+         * The segment
+         */
+        private final Segment segment;
+
+        /**
+         * The offset of the record in the segment
+         */
+        private final int offset;
+
+        /**
+         * The size of the record including its header
+         */
+        private final int size;
+
+        /**
+         * The constructor.
+         *
+         * @param segment The segment
+         * @param offset  The offset of the record in the segment
+         * @param size    The size of the record including its header
+         */
+        private Location(final Segment segment, final int offset, final int size) {
+            this.segment = segment;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns the payload of the record as the view of the mapped buffer.
+         *
+         * @return The payload
+         */
+        private ByteBuffer payload() {
+            return this.segment.buffer.duplicate().position(this.offset + HEADER_SIZE)
+                    .limit(this.offset + this.size).slice();
+        }
+
+        /**
+         * Reads the key of the record.
+         *
+         * @return The key
+         */
+        private String readKey() {
+            return readString(this.payload());
+        }
+
+        /**
+         * Tests if the record is the tombstone, which has no field after the key.
+         *
+         * @return {@code true} if the record is the tombstone, otherwise
+         *         {@code false}
+         */
+        private boolean isTombstone() {
+            final ByteBuffer payload = this.payload();
+            readString(payload);
+            return !payload.hasRemaining();
+        }
+
+        /**
+         * Reads the response of the record.
+         *
+         * @param key The key expected to be stored in the record
+         * @return The response, or {@code null} if the record is for the other key
+         *         whose hash collides
+         */
+        private DiskCachedResponse read(final String key) {
+
+            final ByteBuffer payload = this.payload();
+
+            if (!key.equals(readString(payload))) {
+                return null;
+            }
+
+            final String etag = readString(payload);
+            final String lastModified = readString(payload);
+            final String link = readString(payload);
+            final Charset charset = Charset.forName(readString(payload));
+            final int bodyLength = payload.getInt();
+
+            return new DiskCachedResponse(etag, lastModified, link, charset,
+                    payload.slice().limit(bodyLength).asReadOnlyBuffer());
+        }
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.util.Data;
+
+import org.thinkit.api.gateway.github.codec.Interner;
+import org.thinkit.api.gateway.github.response.common.Creator;
+import org.thinkit.api.gateway.github.response.common.License;
+import org.thinkit.api.gateway.github.response.user.receivedevents.EventActor;
+import org.thinkit.api.gateway.github.response.user.receivedevents.EventRepository;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The pool that collapses the equal instances of the nested entities repeated
+ * in the responses into one canonical instance.
+ *
+ * <p>
+ * The interned entities are {@link Creator} , {@link EventActor} and
+ * {@link EventRepository} keyed by their {@code "id"} , and {@link License}
+ * keyed by its {@code "key"} . The instance of the other type is returned as
+ * it is. An instance is collapsed into the canonical instance of the same key
+ * only if they are equal including the unknown fields, otherwise it replaces
+ * the canonical instance, so a user renamed between two responses is never
+ * replaced with the stale one.
+ *
+ * <p>
+ * If {@code acrossResponses} is {@code true} , the canonical instances are
+ * shared across the responses in the concurrent table bounded by
+ * {@code maximumSize} , where the entries are evicted by the Window TinyLFU
+ * policy. Otherwise the instances are collapsed only within each response by
+ * the interner returned by {@link #newInterner()} , which holds at most
+ * {@code maximumSize} entries until the response is decoded.
+ *
+ * <p>
+ * The interning is done by the generated decoders as soon as each entity is
+ * read, so the duplicates are released before the response is returned. The
+ * canonical instances are shared by the models, so they must not be modified
+ * through {@link GenericJson#set(String, Object)} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class InternPool implements Interner {
+
+    /**
+     * The default maximum count of the canonical instances
+     */
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    /**
+     * The functions that return the key of each interned type
+     */
+    private static final Map<Class<?>, Function<Object, Object>> KEYS = Map.of(Creator.class,
+            value -> ((Creator) value).getId(), EventActor.class, value -> ((EventActor) value).getId(),
+            EventRepository.class, value -> ((EventRepository) value).getId(), License.class,
+            value -> ((License) value).getKey());
+
+    /**
+     * The layout of each interned type used to estimate the size of its instance
+     */
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(final Class<?> type) {
+            return new Layout(type);
+        }
+    };
+
+    /**
+     * The canonical instances shared across the responses, or {@code null} if
+     * they are not shared
+     */
+    private final Cache<InternKey, CanonicalEntry> entries;
+
+    /**
+     * The maximum count of the canonical instances
+     */
+    @ToString.Include
+    private final long maximumSize;
+
+    /**
+     * {@code true} if the canonical instances are shared across the responses
+     */
+    @ToString.Include
+    private final boolean acrossResponses;
+
+    /**
+     * The count of the instances collapsed into the canonical instance
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The count of the instances that became the canonical instance
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The estimated size in bytes of the collapsed instances, summing the size
+     * estimated once for each canonical instance
+     */
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param maximumSize     The maximum count of the canonical instances, or
+     *                        {@code null} to use the default
+     * @param acrossResponses {@code true} if the canonical instances are shared
+     *                        across the responses, or {@code null} to use the
+     *                        default {@code true}
+     *
+     * @exception IllegalArgumentException If {@code maximumSize} is not positive
+     */
+    @Builder
+    private InternPool(final Long maximumSize, final Boolean acrossResponses) {
+
+        this.maximumSize = maximumSize == null ? DEFAULT_MAXIMUM_SIZE : maximumSize;
+        this.acrossResponses = acrossResponses == null || acrossResponses;
+
+        if (this.maximumSize < 1L) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+
+        this.entries = this.acrossResponses ? Caffeine.newBuilder().maximumSize(this.maximumSize).build() : null;
+    }
+
+    /**
+     * Returns the new instance of {@link InternPool} with the default settings.
+     *
+     * @return The new instance of {@link InternPool}
+     */
+    public static InternPool newInstance() {
+        return InternPool.builder().build();
+    }
+
+    /**
+     * Returns the interner used to decode a response. It is this pool itself if
+     * the canonical instances are shared across the responses, otherwise it is
+     * the new interner that collapses the instances only within the response
+     * and is not thread-safe.
+     *
+     * @return The interner used to decode a response
+     */
+    public Interner newInterner() {
+        return this.acrossResponses ? this : new ResponseInterner();
+    }
+
+    /**
+     * Returns the canonical instance shared across the responses that is equal
+     * to the value passed as an argument. If the canonical instances are not
+     * shared across the responses, the value is returned as it is.
+     *
+     * @param <T>   The type of the value
+     * @param value The value
+     * @return The canonical instance, or the value itself if it is the first one
+     *         or its type is not interned
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T intern(@NonNull final T value) {
+
+        final InternKey key = this.entries == null ? null : createKey(value);
+
+        if (key == null) {
+            return value;
+        }
+
+        final CanonicalEntry canonical = this.entries.get(key, unused -> new CanonicalEntry(value));
+        final CanonicalEntry resolved = this.resolve(canonical, value);
+
+        if (resolved != canonical) {
+            this.entries.put(key, resolved);
+        }
+
+        return (T) resolved.value;
+    }
+
+    /**
+     * Removes all the canonical instances shared across the responses. The
+     * statistics are not reset.
+     */
+    public void invalidateAll() {
+        if (this.entries != null) {
+            this.entries.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the snapshot of the statistics.
+     *
+     * @return The snapshot of the statistics
+     */
+    public InternStats getStats() {
+        return InternStats.from(this.hitCount.sum(), this.missCount.sum(),
+                this.entries == null ? 0L : this.entries.estimatedSize(), this.savedBytes.sum());
+    }
+
+    /**
+     * Returns the entry of the instance that should be used in place of the
+     * value, and records it in the statistics.
+     *
+     * @param canonical The entry of the canonical instance of the same key
+     * @param value     The value
+     * @return The entry passed as an argument if its instance is the value or
+     *         equal to it, otherwise the new entry of the value
+     */
+    private CanonicalEntry resolve(final CanonicalEntry canonical, final Object value) {
+
+        if (canonical.value == value) {
+            this.missCount.increment();
+            return canonical;
+        }
+
+        if (isEqual(canonical.value, value)) {
+            // The equal instances have the strings of the same length, so the estimate is shared
+            this.hitCount.increment();
+            this.savedBytes.add(canonical.size);
+            return canonical;
+        }
+
+        this.missCount.increment();
+        return new CanonicalEntry(value);
+    }
+
+    /**
+     * Returns the key of the value.
+     *
+     * @param value The value
+     * @return The key, or {@code null} if the type of the value is not interned
+     *         or the value has no key
+     */
+    private static InternKey createKey(final Object value) {
+
+        final Function<Object, Object> key = KEYS.get(value.getClass());
+
+        if (key == null) {
+            return null;
+        }
+
+        final Object id = key.apply(value);
+        return id == null || Data.isNull(id) ? null : new InternKey(value.getClass(), id);
+    }
+
+    /**
+     * Tests if the two instances are equal including the unknown fields.
+     *
+     * @param canonical The canonical instance
+     * @param value     The value
+     * @return {@code true} if they are equal, otherwise {@code false}
+     */
+    private static boolean isEqual(final Object canonical, final Object value) {
+
+        if (!canonical.equals(value)) {
+            return false;
+        }
+
+        return !(value instanceof GenericJson)
+                || ((GenericJson) canonical).getUnknownKeys().equals(((GenericJson) value).getUnknownKeys());
+    }
+
+    /**
+     * The interner that collapses the instances only within a response.
+     */
+    private final class ResponseInterner implements Interner {
+
+        /**
+         * The canonical instances of the response
+         */
+        private final Map<InternKey, CanonicalEntry> entries = new HashMap<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T intern(final T value) {
+
+            final InternKey key = createKey(value);
+
+            if (key == null) {
+                return value;
+            }
+
+            final CanonicalEntry canonical = this.entries.get(key);
+
+            if (canonical == null) {
+                if (this.entries.size() < InternPool.this.maximumSize) {
+                    this.entries.put(key, new CanonicalEntry(value));
+                }
+
+                InternPool.this.missCount.increment();
+                return value;
+            }
+
+            final CanonicalEntry resolved = InternPool.this.resolve(canonical, value);
+
+            if (resolved != canonical) {
+                this.entries.put(key, resolved);
+            }
+
+            return (T) resolved.value;
+        }
+    }
+
+    /**
+     * The key that identifies the interned instance by its type and id.
+     */
+    private static final class InternKey {
+
+        /**
+         * The type
+         */
+        private final Class<?> type;
+
+        /**
+         * The id
+         */
+        private final Object id;
+
+        /**
+         * The constructor.
+         *
+         * @param type The type
+         * @param id   The id
+         */
+        private InternKey(final Class<?> type, final Object id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+
+            if (!(other instanceof InternKey)) {
+                return false;
+            }
+
+            final InternKey key = (InternKey) other;
+            return this.type == key.type && this.id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.id);
+        }
+    }
+
+    /**
+     * The canonical instance and its size estimated when it is stored.
+     */
+    private static final class CanonicalEntry {
+
+        /**
+         * The canonical instance
+         */
+        private final Object value;
+
+        /**
+         * The estimated size of the canonical instance in bytes
+         */
+        private final long size;
+
+        /**
+         * The constructor.
+         *
+         * @param value The canonical instance
+         */
+        private CanonicalEntry(final Object value) {
+            this.value = value;
+            this.size = LAYOUTS.get(value.getClass()).estimate(value);
+        }
+    }
+
+    /**
+     * The layout of a type used to estimate the size of its instance, assuming
+     * the compressed references and the strings of Latin-1.
+     */
+    private static final class Layout {
+
+        /**
+         * The size of the object header
+         */
+        private static final long HEADER = 12L;
+
+        /**
+         * The size of the string without its array
+         */
+        private static final long STRING = 24L;
+
+        /**
+         * The size of the array header
+         */
+        private static final long ARRAY_HEADER = 16L;
+
+        /**
+         * The size of the map of the unknown fields held by {@link GenericJson}
+         */
+        private static final long UNKNOWN_FIELDS = 24L;
+
+        /**
+         * The size of the instance without the strings
+         */
+        private final long shallowSize;
+
+        /**
+         * The fields of the strings
+         */
+        private final List<Field> stringFields = new ArrayList<>();
+
+        /**
+         * The constructor.
+         *
+         * @param type The type
+         */
+        private Layout(final Class<?> type) {
+
+            long size = HEADER;
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+
+                    size += sizeOf(field.getType());
+
+                    if (current == type && field.getType() == String.class) {
+                        field.setAccessible(true);
+                        this.stringFields.add(field);
+                    }
+                }
+            }
+
+            this.shallowSize = align(size) + (GenericJson.class.isAssignableFrom(type) ? UNKNOWN_FIELDS : 0L);
+        }
+
+        /**
+         * Returns the estimated size of the instance including its strings.
+         *
+         * @param value The instance
+         * @return The estimated size in bytes
+         */
+        private long estimate(final Object value) {
+
+            long size = this.shallowSize;
+
+            for (final Field field : this.stringFields) {
+                try {
+                    final Object string = field.get(value);
+
+                    if (string != null && !Data.isNull(string)) {
+                        size += STRING + align(ARRAY_HEADER + ((String) string).length());
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            return size;
+        }
+
+        /**
+         * Returns the size of the field of the type.
+         *
+         * @param type The type of the field
+         * @return The size in bytes
+         */
+        private static long sizeOf(final Class<?> type) {
+
+            if (type == long.class || type == double.class) {
+                return 8L;
+            } else if (type == byte.class || type == boolean.class) {
+                return 1L;
+            } else if (type == short.class || type == char.class) {
+                return 2L;
+            }
+
+            return 4L;
+        }
+
+        /**
+         * Aligns the size to 8 bytes.
+         *
+         * @param size The size
+         * @return The aligned size
+         */
+        private static long align(final long size) {
+            return (size + 7L) & ~7L;
+        }
+    }
+}
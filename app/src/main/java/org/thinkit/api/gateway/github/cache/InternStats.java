@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the snapshot of the statistics of
+ * {@link InternPool} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class InternStats implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -7419186021453304876L;
+
+    /**
+     * The count of the instances collapsed into the canonical instance
+     */
+    @Getter
+    private long hitCount;
+
+    /**
+     * The count of the instances that became the canonical instance
+     */
+    @Getter
+    private long missCount;
+
+    /**
+     * The count of the canonical instances shared across the responses
+     */
+    @Getter
+    private long entryCount;
+
+    /**
+     * The estimated size in bytes of the instances collapsed into the canonical
+     * instance, which were released instead of being retained
+     */
+    @Getter
+    private long savedBytes;
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+import org.thinkit.api.gateway.github.util.GithubApiResolver;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.ToString;
+
+/**
+ * The cache that serves the parsed responses without sending the requests
+ * until their time to live elapses.
+ *
+ * <p>
+ * The cache is bounded by the total size of the response bodies in bytes, and
+ * the responses are evicted by the Window TinyLFU policy, so a scan over many
+ * resources read only once does not flush the resources read frequently. The
+ * time to live is given for each {@link GithubApi} , which is resolved from the
+ * path of the URL. The URL that matches no {@link GithubApi} uses the default
+ * time to live, and the response whose time to live is zero is not cached.
+ *
+ * <p>
+ * If no value is set to the builder, the default value of each item is used.
+ * The time to live of each {@link GithubApi} is 10 minutes for the user and
+ * the repository, 30 seconds for the received events, 1 minute for the issues
+ * and their comments, and 5 minutes for the others.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class ResponseCache {
+
+    /**
+     * The default maximum total size of the responses in bytes
+     */
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024L * 1024L;
+
+    /**
+     * The default time to live of the URL that matches no {@link GithubApi}
+     */
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    /**
+     * The default time to live for each GitHub API
+     */
+    private static final Map<GithubApi, Duration> DEFAULT_TTLS = createDefaultTtls();
+
+    /**
+     * The responses for each key
+     */
+    private final Cache<String, Entry> responses;
+
+    /**
+     * The maximum total size of the responses in bytes
+     */
+    @ToString.Include
+    private final long maximumWeight;
+
+    /**
+     * The time to live of the URL that matches no {@link GithubApi}
+     */
+    @ToString.Include
+    private final Duration defaultTtl;
+
+    /**
+     * The time to live for each GitHub API
+     */
+    @ToString.Include
+    private final Map<GithubApi, Duration> ttls;
+
+    /**
+     * The constructor.
+     *
+     * @param maximumWeight The maximum total size of the responses in bytes, or
+     *                      {@code null} to use the default
+     * @param defaultTtl    The time to live of the URL that matches no
+     *                      {@link GithubApi} , or {@code null} to use the
+     *                      default
+     * @param ttls          The time to live for each GitHub API that overrides
+     *                      the default
+     *
+     * @exception IllegalArgumentException If {@code maximumWeight} is not
+     *                                     positive or a time to live is
+     *                                     negative
+     */
+    @Builder
+    private ResponseCache(final Long maximumWeight, final Duration defaultTtl,
+            @Singular final Map<GithubApi, Duration> ttls) {
+
+        this.maximumWeight = maximumWeight == null ? DEFAULT_MAXIMUM_WEIGHT : maximumWeight;
+        this.defaultTtl = defaultTtl == null ? DEFAULT_TTL : defaultTtl;
+        this.ttls = new EnumMap<>(DEFAULT_TTLS);
+
+        if (ttls != null) {
+            this.ttls.putAll(ttls);
+        }
+
+        if (this.maximumWeight < 1L) {
+            throw new IllegalArgumentException("The maximum weight must be positive");
+        }
+
+        if (this.defaultTtl.isNegative() || this.ttls.values().stream().anyMatch(Duration::isNegative)) {
+            throw new IllegalArgumentException("The time to live must not be negative");
+        }
+
+        this.responses = Caffeine.newBuilder().maximumWeight(this.maximumWeight)
+                .weigher((String key, Entry entry) -> entry.weight).expireAfter(new EntryExpiry()).recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the new instance of {@link ResponseCache} with the default
+     * settings.
+     *
+     * @return The new instance of {@link ResponseCache}
+     */
+    public static ResponseCache newInstance() {
+        return ResponseCache.builder().build();
+    }
+
+    /**
+     * Returns the response stored for the key passed as an argument.
+     *
+     * @param key The key that identifies the request
+     * @return The parsed response, or {@code null} if there is no live response
+     *         for the key
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public Object getIfPresent(@NonNull final String key) {
+        final Entry entry = this.responses.getIfPresent(key);
+        return entry == null ? null : entry.body;
+    }
+
+    /**
+     * Stores the response for the key passed as an argument with the time to
+     * live of the {@link GithubApi} resolved from the URL.
+     *
+     * @param key        The key that identifies the request
+     * @param genericUrl The URL the response was received from
+     * @param body       The parsed response
+     * @param size       The size of the response body in bytes
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public void put(@NonNull final String key, @NonNull final GenericUrl genericUrl, @NonNull final Object body,
+            final long size) {
+
+        final Duration ttl = this.getTtl(GithubApiResolver.resolve(genericUrl));
+
+        if (ttl.isZero()) {
+            return;
+        }
+
+        final int weight = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, size + key.length()));
+        this.responses.put(key, new Entry(body, weight, ttl.toNanos()));
+    }
+
+    /**
+     * Removes all the stored responses. The statistics are not reset.
+     */
+    public void invalidateAll() {
+        this.responses.invalidateAll();
+    }
+
+    /**
+     * Returns the time to live of the GitHub API passed as an argument.
+     *
+     * @param githubApi The GitHub API, or {@code null} for the URL that matches no
+     *                  {@link GithubApi}
+     * @return The time to live
+     */
+    public Duration getTtl(final GithubApi githubApi) {
+        return githubApi == null ? this.defaultTtl : this.ttls.getOrDefault(githubApi, this.defaultTtl);
+    }
+
+    /**
+     * Returns the snapshot of the statistics. The pending maintenance of the
+     * cache is done first, so the entries put so far are counted in the sizes.
+     *
+     * @return The snapshot of the statistics
+     */
+    public ResponseCacheStats getStats() {
+
+        // The sizes are updated asynchronously after each write
+        this.responses.cleanUp();
+
+        final CacheStats cacheStats = this.responses.stats();
+        final long weightedSize = this.responses.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+
+        return ResponseCacheStats.from(cacheStats.hitCount(), cacheStats.missCount(), cacheStats.hitRate(),
+                cacheStats.evictionCount(), this.responses.estimatedSize(), weightedSize);
+    }
+
+    /**
+     * Returns the default time to live for each GitHub API.
+     *
+     * @return The default time to live for each GitHub API
+     */
+    private static Map<GithubApi, Duration> createDefaultTtls() {
+
+        final Map<GithubApi, Duration> defaultTtls = new EnumMap<>(GithubApi.class);
+
+        for (final GithubApi githubApi : GithubApi.values()) {
+            defaultTtls.put(githubApi, switch (githubApi) {
+            case USER, REPOSITORY -> Duration.ofMinutes(10);
+            case RECEIVED_EVENTS -> Duration.ofSeconds(30);
+            case ISSUES, ISSUE_COMMENTS -> Duration.ofMinutes(1);
+            default -> Duration.ofMinutes(5);
+            });
+        }
+
+        return defaultTtls;
+    }
+
+    /**
+     * The entry that holds a response with its weight and time to live.
+     */
+    private static final class Entry {
+
+        /**
+         * The parsed response
+         */
+        private final Object body;
+
+        /**
+         * The weight in bytes
+         */
+        private final int weight;
+
+        /**
+         * The time to live in nanoseconds
+         */
+        private final long ttlNanos;
+
+        /**
+         * The constructor.
+         *
+         * @param body     The parsed response
+         * @param weight   The weight in bytes
+         * @param ttlNanos The time to live in nanoseconds
+         */
+        private Entry(final Object body, final int weight, final long ttlNanos) {
+            this.body = body;
+            this.weight = weight;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    /**
+     * The expiry that expires each entry after its own time to live since it is
+     * stored.
+     */
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Entry entry, final long currentTime) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Entry entry, final long currentTime,
+                final long currentDuration) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Entry entry, final long currentTime,
+                final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
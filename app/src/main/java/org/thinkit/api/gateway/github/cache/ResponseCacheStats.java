@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the snapshot of the statistics of
+ * {@link ResponseCache} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class ResponseCacheStats implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 2398470569314872360L;
+
+    /**
+     * The count of the lookups that found the response
+     */
+    @Getter
+    private long hitCount;
+
+    /**
+     * The count of the lookups that did not find the response
+     */
+    @Getter
+    private long missCount;
+
+    /**
+     * The ratio of the hits to the lookups, or {@code 1.0} if there is no lookup
+     */
+    @Getter
+    private double hitRate;
+
+    /**
+     * The count of the responses evicted by the size
+     */
+    @Getter
+    private long evictionCount;
+
+    /**
+     * The count of the responses in the cache
+     */
+    @Getter
+    private long entryCount;
+
+    /**
+     * The total size of the responses in the cache in bytes
+     */
+    @Getter
+    private long weightedSize;
+}
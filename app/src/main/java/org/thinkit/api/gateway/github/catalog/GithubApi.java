@@ -56,7 +56,7 @@ public enum GithubApi implements BiCatalog<GithubApi, String> {
     /**
      * The API that retrieves repository information
      */
-    REPOSITORY(5, "https://api.github.com/repos/%s"),
+    REPOSITORY(5, "https://api.github.com/repos/%s/%s"),
 
     /**
      * The API that retrieves specific user's subscription information
@@ -66,12 +66,12 @@ public enum GithubApi implements BiCatalog<GithubApi, String> {
     /**
      * The API that retrieves specific issue information
      */
-    ISSUES(6, "https://api.github.com/repos/%s/issues"),
+    ISSUES(6, "https://api.github.com/repos/%s/%s/issues"),
 
     /**
      * The API that retrieves specific issue comment information
      */
-    ISSUE_COMMENTS(6, "https://api.github.com/repos/%s/issues/comments");
+    ISSUE_COMMENTS(6, "https://api.github.com/repos/%s/%s/issues/comments");
 
     /**
      * The code
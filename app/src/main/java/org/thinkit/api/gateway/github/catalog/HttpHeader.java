@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.catalog;
+
+import org.thinkit.api.catalog.BiCatalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages HTTP header name.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum HttpHeader implements BiCatalog<HttpHeader, String> {
+
+    /**
+     * The {@code "Link"} header
+     */
+    LINK(0, "Link"),
+
+    /**
+     * The {@code "X-RateLimit-Limit"} header
+     */
+    RATE_LIMIT_LIMIT(1, "X-RateLimit-Limit"),
+
+    /**
+     * The {@code "X-RateLimit-Remaining"} header
+     */
+    RATE_LIMIT_REMAINING(2, "X-RateLimit-Remaining"),
+
+    /**
+     * The {@code "X-RateLimit-Reset"} header
+     */
+    RATE_LIMIT_RESET(3, "X-RateLimit-Reset"),
+
+    /**
+     * The {@code "Retry-After"} header
+     */
+    RETRY_AFTER(4, "Retry-After");
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * The tag
+     */
+    @Getter
+    private final String tag;
+}
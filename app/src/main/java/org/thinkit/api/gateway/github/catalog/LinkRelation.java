@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.catalog;
+
+import org.thinkit.api.catalog.BiCatalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages link relation of the {@code "Link"} header.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum LinkRelation implements BiCatalog<LinkRelation, String> {
+
+    /**
+     * The next page
+     */
+    NEXT(0, "next"),
+
+    /**
+     * The last page
+     */
+    LAST(1, "last"),
+
+    /**
+     * The first page
+     */
+    FIRST(2, "first"),
+
+    /**
+     * The previous page
+     */
+    PREV(3, "prev");
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * The tag
+     */
+    @Getter
+    private final String tag;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.catalog;
+
+import org.thinkit.api.catalog.BiCatalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages query key.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum QueryKey implements BiCatalog<QueryKey, String> {
+
+    /**
+     * The count per page
+     */
+    PER_PAGE(0, "per_page"),
+
+    /**
+     * The page
+     */
+    PAGE(1, "page"),
+
+    /**
+     * The timestamp after which the resources were updated
+     */
+    SINCE(2, "since"),
+
+    /**
+     * The field to sort by
+     */
+    SORT(3, "sort"),
+
+    /**
+     * The direction of the sort
+     */
+    DIRECTION(4, "direction"),
+
+    /**
+     * The state of the issues
+     */
+    STATE(5, "state");
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * The tag
+     */
+    @Getter
+    private final String tag;
+}
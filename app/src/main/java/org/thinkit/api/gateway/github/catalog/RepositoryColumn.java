@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.catalog;
+
+import org.thinkit.api.catalog.BiCatalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages the numeric columns of the repository batch. The
+ * tag is the JSON key of the field, and the code is the index of the column.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum RepositoryColumn implements BiCatalog<RepositoryColumn, String> {
+
+    /**
+     * The count of the stargazers
+     */
+    STARGAZERS_COUNT(0, "stargazers_count"),
+
+    /**
+     * The count of the forks
+     */
+    FORKS_COUNT(1, "forks_count"),
+
+    /**
+     * The count of the open issues
+     */
+    OPEN_ISSUES_COUNT(2, "open_issues_count"),
+
+    /**
+     * The size of the repository in kilobytes
+     */
+    SIZE(3, "size");
+
+    /**
+     * The code
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * The tag
+     */
+    @Getter
+    private final String tag;
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.catalog;
+
+import org.thinkit.api.catalog.BiCatalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The catalog that manages the URL fields of the repository that are derived
+ * from the full name of the repository, such as
+ * {@code https://api.github.com/repos/octocat/Hello-World/forks} . The tag is
+ * the JSON key of the field.
+ *
+ * <p>
+ * Each URL consists of the prefix, the full name and the suffix, so the
+ * response models in the compact mode can drop the stored URL that is equal
+ * to the derived one and derive it again when the getter is called. The
+ * stored URL is compared without being copied, and the URL that is not equal
+ * to the derived one, such as the URL of GitHub Enterprise Server, is kept as
+ * it is.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@RequiredArgsConstructor
+public enum RepositoryUrl implements BiCatalog<RepositoryUrl, String> {
+
+    /**
+     * The API URL of the repository
+     */
+    URL(0, "url", Prefix.API, ""),
+
+    /**
+     * The web page of the repository
+     */
+    HTML(1, "html_url", Prefix.WEB, ""),
+
+    /**
+     * The forks URL
+     */
+    FORKS(2, "forks_url", Prefix.API, "/forks"),
+
+    /**
+     * The keys URL
+     */
+    KEYS(3, "keys_url", Prefix.API, "/keys{/key_id}"),
+
+    /**
+     * The collaborators URL
+     */
+    COLLABORATORS(4, "collaborators_url", Prefix.API, "/collaborators{/collaborator}"),
+
+    /**
+     * The teams URL
+     */
+    TEAMS(5, "teams_url", Prefix.API, "/teams"),
+
+    /**
+     * The hooks URL
+     */
+    HOOKS(6, "hooks_url", Prefix.API, "/hooks"),
+
+    /**
+     * The issue events URL
+     */
+    ISSUE_EVENTS(7, "issue_events_url", Prefix.API, "/issues/events{/number}"),
+
+    /**
+     * The events URL
+     */
+    EVENTS(8, "events_url", Prefix.API, "/events"),
+
+    /**
+     * The assignees URL
+     */
+    ASSIGNEES(9, "assignees_url", Prefix.API, "/assignees{/user}"),
+
+    /**
+     * The branches URL
+     */
+    BRANCHES(10, "branches_url", Prefix.API, "/branches{/branch}"),
+
+    /**
+     * The tags URL
+     */
+    TAGS(11, "tags_url", Prefix.API, "/tags"),
+
+    /**
+     * The blobs URL
+     */
+    BLOBS(12, "blobs_url", Prefix.API, "/git/blobs{/sha}"),
+
+    /**
+     * The git tags URL
+     */
+    GIT_TAGS(13, "git_tags_url", Prefix.API, "/git/tags{/sha}"),
+
+    /**
+     * The git refs URL
+     */
+    GIT_REFS(14, "git_refs_url", Prefix.API, "/git/refs{/sha}"),
+
+    /**
+     * The trees URL
+     */
+    TREES(15, "trees_url", Prefix.API, "/git/trees{/sha}"),
+
+    /**
+     * The statuses URL
+     */
+    STATUSES(16, "statuses_url", Prefix.API, "/statuses/{sha}"),
+
+    /**
+     * The languages URL
+     */
+    LANGUAGES(17, "languages_url", Prefix.API, "/languages"),
+
+    /**
+     * The stargazers URL
+     */
+    STARGAZERS(18, "stargazers_url", Prefix.API, "/stargazers"),
+
+    /**
+     * The contributors URL
+     */
+    CONTRIBUTORS(19, "contributors_url", Prefix.API, "/contributors"),
+
+    /**
+     * The subscribers URL
+     */
+    SUBSCRIBERS(20, "subscribers_url", Prefix.API, "/subscribers"),
+
+    /**
+     * The subscription URL
+     */
+    SUBSCRIPTION(21, "subscription_url", Prefix.API, "/subscription"),
+
+    /**
+     * The commits URL
+     */
+    COMMITS(22, "commits_url", Prefix.API, "/commits{/sha}"),
+
+    /**
+     * The git commits URL
+     */
+    GIT_COMMITS(23, "git_commits_url", Prefix.API, "/git/commits{/sha}"),
+
+    /**
+     * The comments URL
+     */
+    COMMENTS(24, "comments_url", Prefix.API, "/comments{/number}"),
+
+    /**
+     * The issue comment URL
+     */
+    ISSUE_COMMENT(25, "issue_comment_url", Prefix.API, "/issues/comments{/number}"),
+
+    /**
+     * The contents URL
+     */
+    CONTENTS(26, "contents_url", Prefix.API, "/contents/{+path}"),
+
+    /**
+     * The compare URL
+     */
+    COMPARE(27, "compare_url", Prefix.API, "/compare/{base}...{head}"),
+
+    /**
+     * The merges URL
+     */
+    MERGES(28, "merges_url", Prefix.API, "/merges"),
+
+    /**
+     * The archive URL
+     */
+    ARCHIVE(29, "archive_url", Prefix.API, "/{archive_format}{/ref}"),
+
+    /**
+     * The downloads URL
+     */
+    DOWNLOADS(30, "downloads_url", Prefix.API, "/downloads"),
+
+    /**
+     * The issues URL
+     */
+    ISSUES(31, "issues_url", Prefix.API, "/issues{/number}"),
+
+    /**
+     * The pulls URL
+     */
+    PULLS(32, "pulls_url", Prefix.API, "/pulls{/number}"),
+
+    /**
+     * The milestones URL
+     */
+    MILESTONES(33, "milestones_url", Prefix.API, "/milestones{/number}"),
+
+    /**
+     * The notifications URL
+     */
+    NOTIFICATIONS(34, "notifications_url", Prefix.API, "/notifications{?since,all,participating}"),
+
+    /**
+     * The labels URL
+     */
+    LABELS(35, "labels_url", Prefix.API, "/labels{/name}"),
+
+    /**
+     * The releases URL
+     */
+    RELEASES(36, "releases_url", Prefix.API, "/releases{/id}"),
+
+    /**
+     * The deployments URL
+     */
+    DEPLOYMENTS(37, "deployments_url", Prefix.API, "/deployments"),
+
+    /**
+     * The git URL
+     */
+    GIT(38, "git_url", Prefix.GIT, ".git"),
+
+    /**
+     * The SSH URL
+     */
+    SSH(39, "ssh_url", Prefix.SSH, ".git"),
+
+    /**
+     * The clone URL
+     */
+    CLONE(40, "clone_url", Prefix.WEB, ".git"),
+
+    /**
+     * The Subversion URL
+     */
+    SVN(41, "svn_url", Prefix.WEB, "");
+
+    /**
+     * The code, which is also the bit of the mask
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * The tag
+     */
+    @Getter
+    private final String tag;
+
+    /**
+     * The prefix before the full name
+     */
+    private final String prefix;
+
+    /**
+     * The suffix after the full name
+     */
+    private final String suffix;
+
+    /**
+     * Returns the bit of this URL in the mask of the derived URLs.
+     *
+     * @return The bit of this URL
+     */
+    public long getMask() {
+        return 1L << this.code;
+    }
+
+    /**
+     * Returns the URL derived from the full name of the repository.
+     *
+     * @param fullName The full name like {@code "octocat/Hello-World"}
+     * @return The derived URL
+     */
+    public String derive(final String fullName) {
+        return new StringBuilder(this.prefix.length() + fullName.length() + this.suffix.length()).append(this.prefix)
+                .append(fullName).append(this.suffix).toString();
+    }
+
+    /**
+     * Tests if the URL is equal to the one derived from the full name of the
+     * repository.
+     *
+     * @param fullName The full name, or {@code null}
+     * @param url      The URL, or {@code null}
+     * @return {@code true} if neither is {@code null} and the URL is equal to
+     *         the derived one, otherwise {@code false}
+     */
+    public boolean matches(final String fullName, final String url) {
+
+        if (fullName == null || url == null) {
+            return false;
+        }
+
+        return url.length() == this.prefix.length() + fullName.length() + this.suffix.length()
+                && url.startsWith(this.prefix) && url.startsWith(fullName, this.prefix.length())
+                && url.endsWith(this.suffix);
+    }
+
+    /**
+     * Returns the URL of the field, deriving it from the full name if its bit is
+     * set in the mask of the derived URLs.
+     *
+     * @param url         The stored URL
+     * @param fullName    The full name of the repository
+     * @param derivedUrls The mask of the derived URLs
+     * @return The derived URL if the bit is set, otherwise the stored URL
+     */
+    public String resolve(final String url, final String fullName, final long derivedUrls) {
+        return (derivedUrls & this.getMask()) != 0 ? this.derive(fullName) : url;
+    }
+
+    /**
+     * The prefixes of the URLs.
+     */
+    private static final class Prefix {
+
+        /**
+         * The prefix of the API URLs
+         */
+        static final String API = "https://api.github.com/repos/";
+
+        /**
+         * The prefix of the web URLs
+         */
+        static final String WEB = "https://github.com/";
+
+        /**
+         * The prefix of the git URL
+         */
+        static final String GIT = "git://github.com/";
+
+        /**
+         * The prefix of the SSH URL
+         */
+        static final String SSH = "git@github.com:";
+    }
+}
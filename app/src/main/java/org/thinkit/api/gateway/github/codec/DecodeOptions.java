@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.codec;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * This data class manages the options of the generated decoders. If no value
+ * is set, the default value of each item is used.
+ *
+ * <p>
+ * By default the fields not declared in the response model are skipped while
+ * they are read, so the model holds only the declared fields. If
+ * {@link #isRetainUnknownFields()} is {@code true} , they are retained in the
+ * model extending {@link com.google.api.client.json.GenericJson} in the same
+ * way as the parser by reflection.
+ *
+ * <p>
+ * If {@link #getFields()} is set, only the fields whose JSON keys are
+ * contained in it are read into the top level model, and the values of the
+ * other fields are skipped. The nested models are read with all of their
+ * fields.
+ *
+ * <p>
+ * If {@link #isCompactUrls()} is {@code true} , the URL fields of the
+ * repository that are equal to the ones derived from its full name are not
+ * stored in the model, and they are derived again when their getters are
+ * called. See {@link org.thinkit.api.gateway.github.catalog.RepositoryUrl} .
+ *
+ * <p>
+ * If {@link #getInterner()} is set, each model is passed to it as soon as it
+ * is read, and the equal models are collapsed into one instance.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(staticName = "defaultOf")
+public final class DecodeOptions implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 2583021774893315634L;
+
+    /**
+     * {@code true} if the fields not declared in the model are retained
+     */
+    @Getter
+    @Builder.Default
+    private boolean retainUnknownFields = false;
+
+    /**
+     * {@code true} if the URLs derivable from the other fields are not stored
+     */
+    @Getter
+    @Builder.Default
+    private boolean compactUrls = false;
+
+    /**
+     * The JSON keys of the fields to be read, or {@code null} if all fields are
+     * read
+     */
+    @Getter
+    private Set<String> fields;
+
+    /**
+     * The interner of the nested models, or {@code null} if they are not
+     * interned
+     */
+    @Getter
+    @ToString.Exclude
+    private transient Interner interner;
+
+    /**
+     * Tests if the field is read.
+     *
+     * @param name The JSON key of the field
+     * @return {@code true} if all fields are read or the field is contained in
+     *         {@link #getFields()} , otherwise {@code false}
+     */
+    public boolean includes(final String name) {
+        return this.fields == null || this.fields.contains(name);
+    }
+
+    /**
+     * Returns the options that read all fields, which are used for the nested
+     * models.
+     *
+     * @return This options if all fields are already read, otherwise the copy of
+     *         this options without {@link #getFields()}
+     */
+    public DecodeOptions unprojected() {
+        return this.fields == null ? this : this.toBuilder().fields(null).build();
+    }
+}
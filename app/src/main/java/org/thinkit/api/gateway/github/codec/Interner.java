@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.codec;
+
+/**
+ * The interface that collapses the equal instances of the nested models into
+ * one canonical instance while the responses are decoded. The instance
+ * returned by {@link #intern(Object)} may be shared by the other models and
+ * the other responses, so it must not be modified.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public interface Interner {
+
+    /**
+     * Returns the canonical instance that is equal to the value passed as an
+     * argument.
+     *
+     * @param <T>   The type of the value
+     * @param value The value that has just been decoded
+     * @return The canonical instance, or the value itself if it is the first one
+     *         or its type is not interned
+     */
+    public <T> T intern(T value);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.codec;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * The interface that decodes a JSON object into the response model.
+ *
+ * <p>
+ * The implementation is generated for each response model at compile time by
+ * the annotation processor of the {@code processor} project, and it is named
+ * after the model with the suffix {@code "JsonDecoder"} .
+ *
+ * @param <T> The type of the response model
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public interface JsonDecoder<T> {
+
+    /**
+     * Decodes the JSON object at the current position of the reader passed as an
+     * argument. The reader is positioned after the end of the object when it
+     * returns.
+     *
+     * @param reader  The JSON reader
+     * @param options The decode options
+     * @return The decoded response model
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public T decode(JsonReader reader, DecodeOptions options) throws IOException;
+}
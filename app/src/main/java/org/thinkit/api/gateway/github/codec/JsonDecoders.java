@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.google.gson.stream.JsonReader;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that looks up the generated decoders and decodes the JSON
+ * responses with them.
+ *
+ * <p>
+ * The decoder of a model is looked up by its name only once and is cached for
+ * the class, so no reflection is used once the decoder is found. The type that
+ * can be decoded is a model that has its generated decoder, or
+ * {@link List} of such a model.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonDecoders {
+
+    /**
+     * The suffix of the generated decoder class
+     */
+    private static final String DECODER_SUFFIX = "JsonDecoder";
+
+    /**
+     * The generated decoders for each class
+     */
+    private static final ClassValue<Optional<JsonDecoder<?>>> DECODERS = new ClassValue<>() {
+
+        @Override
+        protected Optional<JsonDecoder<?>> computeValue(final Class<?> type) {
+            try {
+                final Class<?> decoderClass = Class.forName(type.getName() + DECODER_SUFFIX, true,
+                        type.getClassLoader());
+                return Optional.of((JsonDecoder<?>) decoderClass.getField("INSTANCE").get(null));
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Returns the generated decoder of the class passed as an argument.
+     *
+     * @param <T>  The type of the model
+     * @param type The class of the model
+     * @return The decoder, or {@code null} if the decoder is not generated for
+     *         the class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonDecoder<T> of(@NonNull final Class<T> type) {
+        return (JsonDecoder<T>) DECODERS.get(type).orElse(null);
+    }
+
+    /**
+     * Tests if the type passed as an argument can be decoded by the generated
+     * decoder.
+     *
+     * @param type The type
+     * @return {@code true} if the type can be decoded, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static boolean isDecodable(@NonNull final Type type) {
+        return getItemClass(type) != null || (type instanceof Class && of((Class<?>) type) != null);
+    }
+
+    /**
+     * Decodes the JSON response into the type passed as an argument. The content
+     * is closed after decoding.
+     *
+     * @param <T>     The response type
+     * @param content The content of the response
+     * @param charset The charset of the content
+     * @param type    The response type that satisfies
+     *                {@link #isDecodable(Type)}
+     * @param options The decode options
+     * @return The decoded response
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the type cannot be decoded
+     * @throws IOException If an error occurs while reading the JSON, or the JSON
+     *                     does not match the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(@NonNull final InputStream content, @NonNull final Charset charset,
+            @NonNull final Type type, @NonNull final DecodeOptions options) throws IOException {
+
+        final Class<?> itemClass = getItemClass(type);
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(content, charset))) {
+            if (itemClass != null) {
+                final List<Object> items = new ArrayList<>();
+                decodeEach(reader, itemClass, options, items::add);
+                return (T) items;
+            }
+
+            if (type instanceof Class) {
+                final Class<T> responseClass = (Class<T>) type;
+                final JsonDecoder<T> decoder = getDecoder(responseClass);
+                return JsonDecoding.readObject(reader, options, decoder, responseClass);
+            }
+
+            throw new IllegalArgumentException(String.format("The type %s cannot be decoded", type));
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the JSON array element by element and passes each element to the
+     * action as soon as it is decoded. The content is closed after decoding.
+     *
+     * @param <T>           The response type
+     * @param content       The content of the response
+     * @param charset       The charset of the content
+     * @param responseClass The class of the element that has its generated
+     *                      decoder
+     * @param options       The decode options
+     * @param action        The action performed for each element
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the class cannot be decoded
+     * @throws IOException If an error occurs while reading the JSON, or the JSON
+     *                     is not an array of the objects
+     */
+    public static <T> void decodeEach(@NonNull final InputStream content, @NonNull final Charset charset,
+            @NonNull final Class<T> responseClass, @NonNull final DecodeOptions options,
+            @NonNull final Consumer<? super T> action) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(content, charset))) {
+            decodeEach(reader, responseClass, options, action);
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the JSON array element by element with the element reader passed as
+     * an argument. No response model is created, and the content is closed after
+     * reading.
+     *
+     * @param content       The content of the response
+     * @param charset       The charset of the content
+     * @param elementReader The reader of each element
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs while reading the JSON, or the JSON
+     *                     is not an array
+     */
+    public static void readEach(@NonNull final InputStream content, @NonNull final Charset charset,
+            @NonNull final JsonElementReader elementReader) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(content, charset))) {
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                elementReader.read(reader);
+            }
+
+            reader.endArray();
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the JSON array element by element.
+     *
+     * @param <T>           The response type
+     * @param reader        The JSON reader
+     * @param responseClass The class of the element
+     * @param options       The decode options
+     * @param action        The action performed for each element
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    private static <T> void decodeEach(final JsonReader reader, final Class<T> responseClass,
+            final DecodeOptions options, final Consumer<? super T> action) throws IOException {
+
+        final JsonDecoder<T> decoder = getDecoder(responseClass);
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            action.accept(JsonDecoding.readObject(reader, options, decoder, responseClass));
+        }
+
+        reader.endArray();
+    }
+
+    /**
+     * Returns the generated decoder of the class, or throws the exception if it
+     * is not generated.
+     *
+     * @param <T>  The type of the model
+     * @param type The class of the model
+     * @return The decoder
+     *
+     * @exception IllegalArgumentException If the decoder is not generated for the
+     *                                     class
+     */
+    private static <T> JsonDecoder<T> getDecoder(final Class<T> type) {
+
+        final JsonDecoder<T> decoder = of(type);
+
+        if (decoder == null) {
+            throw new IllegalArgumentException(String.format("The decoder of %s is not generated", type.getName()));
+        }
+
+        return decoder;
+    }
+
+    /**
+     * Returns the class of the item if the type is {@link List} of a model that
+     * has its generated decoder.
+     *
+     * @param type The type
+     * @return The class of the item, or {@code null} if the type is not such a
+     *         list
+     */
+    private static Class<?> getItemClass(final Type type) {
+
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+
+        final ParameterizedType parameterizedType = (ParameterizedType) type;
+
+        if (parameterizedType.getRawType() != List.class || parameterizedType.getActualTypeArguments().length != 1
+                || !(parameterizedType.getActualTypeArguments()[0] instanceof Class)) {
+            return null;
+        }
+
+        final Class<?> itemClass = (Class<?>) parameterizedType.getActualTypeArguments()[0];
+        return of(itemClass) != null ? itemClass : null;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.codec;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.ArrayMap;
+import com.google.api.client.util.Data;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class that provides the reading operations used by the generated
+ * decoders.
+ *
+ * <p>
+ * The values are read into the same representation as
+ * {@link com.google.api.client.json.JsonObjectParser} gives, so the decoded
+ * model is equal to the one parsed by reflection. The {@code null} of JSON is
+ * read as the null value of {@link Data} . The fields not declared in the model
+ * are skipped unless {@link DecodeOptions#isRetainUnknownFields()} is
+ * {@code true} , in which case they are retained in the model that extends
+ * {@link GenericJson} as {@link ArrayMap} , {@link ArrayList} ,
+ * {@link BigDecimal} , {@link String} and {@link Boolean} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonDecoding {
+
+    /**
+     * The JSON factory set to the decoded models
+     */
+    private static final GsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    /**
+     * Begins to read the JSON object into the model passed as an argument.
+     *
+     * @param <T>    The type of the model
+     * @param reader The JSON reader
+     * @param model  The new model
+     * @return The model passed as an argument
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static <T> T beginObject(final JsonReader reader, final T model) throws IOException {
+
+        reader.beginObject();
+
+        if (model instanceof GenericJson) {
+            ((GenericJson) model).setFactory(JSON_FACTORY);
+        }
+
+        return model;
+    }
+
+    /**
+     * Reads the number as {@code int} .
+     *
+     * @param reader The JSON reader
+     * @return The value
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static int readInt(final JsonReader reader) throws IOException {
+        return reader.nextInt();
+    }
+
+    /**
+     * Reads the number as {@code long} .
+     *
+     * @param reader The JSON reader
+     * @return The value
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static long readLong(final JsonReader reader) throws IOException {
+        return reader.nextLong();
+    }
+
+    /**
+     * Reads the number as {@code double} .
+     *
+     * @param reader The JSON reader
+     * @return The value
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static double readDouble(final JsonReader reader) throws IOException {
+        return reader.nextDouble();
+    }
+
+    /**
+     * Reads the boolean.
+     *
+     * @param reader The JSON reader
+     * @return The value
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static boolean readBoolean(final JsonReader reader) throws IOException {
+        return reader.nextBoolean();
+    }
+
+    /**
+     * Reads the string.
+     *
+     * @param reader The JSON reader
+     * @return The value, or {@link Data#NULL_STRING} if it is {@code null}
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static String readString(final JsonReader reader) throws IOException {
+
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Data.NULL_STRING;
+        }
+
+        return reader.nextString();
+    }
+
+    /**
+     * Reads the JSON object by the decoder passed as an argument. If the
+     * interner is set in the options, the canonical instance equal to the model
+     * is returned.
+     *
+     * @param <T>     The type of the model
+     * @param reader  The JSON reader
+     * @param options The decode options
+     * @param decoder The decoder of the model
+     * @param type    The class of the model
+     * @return The model, or the null value of {@link Data} if it is {@code null}
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static <T> T readObject(final JsonReader reader, final DecodeOptions options,
+            final JsonDecoder<T> decoder, final Class<T> type) throws IOException {
+
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Data.nullOf(type);
+        }
+
+        final T model = decoder.decode(reader, options);
+        final Interner interner = options.getInterner();
+
+        return interner == null ? model : interner.intern(model);
+    }
+
+    /**
+     * Reads the JSON array of the objects by the decoder passed as an argument.
+     *
+     * @param <T>     The type of the model
+     * @param reader  The JSON reader
+     * @param options The decode options
+     * @param decoder The decoder of the model
+     * @param type    The class of the model
+     * @return The list of the models, or the null value of {@link Data} if it is
+     *         {@code null}
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> readList(final JsonReader reader, final DecodeOptions options,
+            final JsonDecoder<T> decoder, final Class<T> type) throws IOException {
+
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Data.nullOf(ArrayList.class);
+        }
+
+        final List<T> items = new ArrayList<>();
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            items.add(readObject(reader, options, decoder, type));
+        }
+
+        reader.endArray();
+
+        return items;
+    }
+
+    /**
+     * Reads the value of the field not declared in the model. The value is
+     * retained in the model if the model is {@link GenericJson} ,
+     * {@link DecodeOptions#isRetainUnknownFields()} is {@code true} and the field
+     * is not excluded by {@link DecodeOptions#getFields()} , otherwise it is
+     * skipped without being materialized.
+     *
+     * @param reader  The JSON reader
+     * @param options The decode options
+     * @param model   The model
+     * @param name    The name of the field
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public static void readUnknown(final JsonReader reader, final DecodeOptions options, final Object model,
+            final String name) throws IOException {
+
+        if (options.isRetainUnknownFields() && model instanceof GenericJson && options.includes(name)) {
+            ((GenericJson) model).set(name, readValue(reader));
+        } else {
+            reader.skipValue();
+        }
+    }
+
+    /**
+     * Reads the value of any type.
+     *
+     * @param reader The JSON reader
+     * @return The value
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    private static Object readValue(final JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+        case BEGIN_OBJECT -> {
+            final Map<String, Object> object = ArrayMap.create();
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                object.put(reader.nextName(), readValue(reader));
+            }
+
+            reader.endObject();
+            yield object;
+        }
+        case BEGIN_ARRAY -> {
+            final List<Object> array = new ArrayList<>();
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                array.add(readValue(reader));
+            }
+
+            reader.endArray();
+            yield array;
+        }
+        case NUMBER -> new BigDecimal(reader.nextString());
+        case BOOLEAN -> reader.nextBoolean();
+        case NULL -> {
+            reader.nextNull();
+            yield Data.nullOf(Object.class);
+        }
+        default -> reader.nextString();
+        };
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.codec;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * The interface that reads the elements of a JSON array into its own
+ * representation instead of a response model, such as the columns of
+ * {@link org.thinkit.api.gateway.github.response.user.repos.RepositoryBatch} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface JsonElementReader {
+
+    /**
+     * Reads the element at the current position of the reader passed as an
+     * argument. The reader is positioned after the end of the element when it
+     * returns.
+     *
+     * @param reader The JSON reader
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    public void read(JsonReader reader) throws IOException;
+}
@@ -1,33 +1,38 @@
 package org.thinkit.api.gateway.github.communication;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpMethods;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
 import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.JsonToken;
 import com.google.api.client.json.gson.GsonFactory;
 
-import org.thinkit.api.catalog.BiCatalog;
-import org.thinkit.api.gateway.github.catalog.ErrorHttpStatus;
-import org.thinkit.api.gateway.github.exception.AccessForbiddenException;
-import org.thinkit.api.gateway.github.exception.BadGatewayException;
-import org.thinkit.api.gateway.github.exception.BadRequestException;
-import org.thinkit.api.gateway.github.exception.InternalServerErrorException;
-import org.thinkit.api.gateway.github.exception.NotAcceptableException;
-import org.thinkit.api.gateway.github.exception.NotFoundException;
-import org.thinkit.api.gateway.github.exception.ServiceUnavailableException;
-import org.thinkit.api.gateway.github.exception.UserUnauthorizedException;
+import org.thinkit.api.gateway.github.cache.InternPool;
+import org.thinkit.api.gateway.github.catalog.HttpHeader;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+import org.thinkit.api.gateway.github.codec.JsonElementReader;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.user.OAuthConfig;
-import org.thinkit.api.gateway.github.util.SecuritySchemeResolver;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.ToString;
@@ -35,23 +40,90 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor
 public abstract class AbstractHttpCommunicator {
 
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The pool of the access tokens
+     */
+    @Getter(AccessLevel.PROTECTED)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient TokenPool tokenPool;
+
     /**
      * The http request factory
      */
-    private static final HttpRequestFactory HTTP_REQUEST_FACTORY = (new NetHttpTransport()).createRequestFactory();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient HttpRequestFactory httpRequestFactory;
 
     /**
-     * The JSON object parser
+     * The retrier
      */
-    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Retrier retrier;
+
+    /**
+     * The limiter of the requests in flight, or {@code null} if the requests are
+     * not limited
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient ConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * The options of the generated decoders, or {@code null} if the responses
+     * are parsed by reflection
+     */
+    private DecodeOptions decodeOptions;
+
+    /**
+     * The pool that collapses the equal nested entities, or {@code null} if they
+     * are not collapsed
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient InternPool internPool;
+
+    /**
+     * The constructor.
+     *
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @param rateLimitScheduler  The rate limit scheduler
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected AbstractHttpCommunicator(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig,
+            @NonNull final RateLimitScheduler rateLimitScheduler) {
+        this(TokenPool.of(oAuthConfig, rateLimitScheduler), communicationConfig);
+    }
 
     /**
-     * The OAuth config
+     * The constructor.
+     *
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private OAuthConfig oAuthConfig;
+    protected AbstractHttpCommunicator(@NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        this.tokenPool = tokenPool;
+        this.httpRequestFactory = communicationConfig.getTransport().getHttpTransport().createRequestFactory();
+        this.retrier = new Retrier(communicationConfig.getRetryPolicy(), communicationConfig.getRetryMetrics());
+        this.decodeOptions = communicationConfig.isGeneratedDecoders() ? communicationConfig.getDecodeOptions()
+                : null;
+        this.internPool = communicationConfig.getInternPool();
+        this.concurrencyLimiter = communicationConfig.getConcurrencyLimiter();
+    }
 
     /**
      * Sends a GET request to the URL set in the URL object passed as an argument.
@@ -63,9 +135,138 @@ public abstract class AbstractHttpCommunicator {
      * @throws IOException If an error occurs during HTTP communication
      */
     protected HttpResponse sendGetRequest(@NonNull final GenericUrl genericUrl) throws IOException {
-        final HttpRequest httpRequest = HTTP_REQUEST_FACTORY.buildGetRequest(genericUrl);
-        httpRequest.getHeaders().setAuthorization(SecuritySchemeResolver.bearer(this.oAuthConfig.getAccessToken()));
-        return this.checkHttpStatus(httpRequest.setParser(JSON_OBJECT_PARSER).execute());
+        return this.sendGetRequest(genericUrl, null);
+    }
+
+    /**
+     * Sends a GET request to the URL set in the URL object passed as an argument.
+     * If the entity tag is passed as an argument, it is sent as the
+     * {@code "If-None-Match"} header and the response may be
+     * {@code 304 Not Modified} .
+     *
+     * <p>
+     * The request that failed transiently is retried according to the
+     * {@link RetryPolicy} set in {@link CommunicationConfig} .
+     *
+     * @param genericUrl The API URL
+     * @param etag       The entity tag, or {@code null} if the request is not
+     *                   conditional
+     * @return The HTTP response
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                  {@code genericUrl}
+     * @throws IOException If an error occurs during HTTP communication
+     */
+    protected HttpResponse sendGetRequest(@NonNull final GenericUrl genericUrl, final String etag)
+            throws IOException {
+        return this.sendGetRequest(genericUrl, etag, null);
+    }
+
+    /**
+     * Sends a GET request to the URL set in the URL object passed as an argument.
+     * If the entity tag or the last modified time is passed as an argument, it is
+     * sent as the {@code "If-None-Match"} or {@code "If-Modified-Since"} header
+     * and the response may be {@code 304 Not Modified} .
+     *
+     * <p>
+     * The request that failed transiently is retried according to the
+     * {@link RetryPolicy} set in {@link CommunicationConfig} .
+     *
+     * @param genericUrl   The API URL
+     * @param etag         The entity tag, or {@code null} if it is not sent
+     * @param lastModified The value of {@code "Last-Modified"} header of the
+     *                     previous response, or {@code null} if it is not sent
+     * @return The HTTP response
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                  {@code genericUrl}
+     * @throws IOException If an error occurs during HTTP communication
+     */
+    protected HttpResponse sendGetRequest(@NonNull final GenericUrl genericUrl, final String etag,
+            final String lastModified) throws IOException {
+
+        for (int attempt = 1;; this.retrier.backoff(attempt++)) {
+            final HttpResponse httpResponse;
+
+            try {
+                httpResponse = this.execute(genericUrl, etag, lastModified);
+            } catch (IOException e) {
+                if (this.retrier.shouldRetry(HttpMethods.GET, e, attempt)) {
+                    continue;
+                }
+
+                throw e;
+            }
+
+            if (!this.retrier.shouldRetry(HttpMethods.GET, httpResponse.getStatusCode(), attempt)) {
+                return this.checkHttpStatus(httpResponse);
+            }
+
+            httpResponse.disconnect();
+        }
+    }
+
+    /**
+     * Executes a GET request to the URL within the rate limit. The request is
+     * sent with the token selected from {@link TokenPool} . If the request is
+     * rejected by the rate limit, it is sent again with the token selected again,
+     * after the caller is parked until the rate limit of the token allows it.
+     *
+     * <p>
+     * If {@link ConcurrencyLimiter} is set in {@link CommunicationConfig} , the
+     * caller waits for the limit before the request is sent, and the latency or
+     * the rejection of the request adapts the limit.
+     *
+     * @param genericUrl   The API URL
+     * @param etag         The entity tag, or {@code null} if it is not sent
+     * @param lastModified The value of {@code "Last-Modified"} header of the
+     *                     previous response, or {@code null} if it is not sent
+     * @return The HTTP response whose status code is not checked yet
+     *
+     * @throws IOException If an error occurs during HTTP communication
+     */
+    private HttpResponse execute(final GenericUrl genericUrl, final String etag, final String lastModified)
+            throws IOException {
+
+        for (int parkingCount = 0;; parkingCount++) {
+            final TokenPool.Token token = this.tokenPool.select();
+            final HttpRequest httpRequest = this.httpRequestFactory.buildGetRequest(genericUrl);
+            httpRequest.getHeaders().setAuthorization(token.getAuthorization());
+
+            if (etag != null) {
+                httpRequest.getHeaders().setIfNoneMatch(etag);
+            }
+
+            if (lastModified != null) {
+                httpRequest.getHeaders().setIfModifiedSince(lastModified);
+            }
+
+            this.acquire(token);
+
+            final long startNanos = this.acquireConcurrency();
+            final HttpResponse httpResponse;
+
+            try {
+                httpResponse = httpRequest.setParser(JSON_OBJECT_PARSER).setThrowExceptionOnExecuteError(false)
+                        .execute();
+            } catch (IOException | RuntimeException e) {
+                if (this.concurrencyLimiter != null) {
+                    this.concurrencyLimiter.onIgnored();
+                }
+
+                throw e;
+            }
+
+            final boolean rejected = this.recordRateLimit(token, httpResponse);
+            this.releaseConcurrency(startNanos, rejected || httpResponse.getStatusCode() == 429);
+
+            if (!rejected || parkingCount >= RateLimitScheduler.MAX_PARKING_COUNT) {
+                return httpResponse;
+            }
+
+            // The request is sent again after the caller is parked until the reset
+            httpResponse.disconnect();
+        }
     }
 
     /**
@@ -84,6 +285,147 @@ public abstract class AbstractHttpCommunicator {
         return (T) httpResponse.parseAs(responseClass);
     }
 
+    /**
+     * Parses the content encoded in the charset passed as an argument into the
+     * type specified as an argument. The content is closed after parsing. If the
+     * generated decoders are enabled and the type has its generated decoder, the
+     * content is decoded by it instead of reflection.
+     *
+     * @param <T>     The response type
+     * @param charset The charset of the content
+     * @param content The content
+     * @param type    The response type
+     * @return The JSON response as the response type specified as the argument
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs during parsing
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T parseAs(@NonNull final Charset charset, @NonNull final InputStream content,
+            @NonNull final Type type) throws IOException {
+        if (this.decodeOptions != null && JsonDecoders.isDecodable(type)) {
+            return JsonDecoders.decode(content, charset, type, this.createDecodeOptions(null));
+        }
+
+        return (T) JSON_OBJECT_PARSER.parseAndClose(content, charset, type);
+    }
+
+    /**
+     * Parses the content encoded in the charset passed as an argument into the
+     * type specified as an argument, reading only the fields selected by the
+     * projection. The content is closed after parsing. The projection is applied
+     * only if the generated decoders are enabled and the type has its generated
+     * decoder, otherwise all fields are parsed by reflection.
+     *
+     * @param <T>        The response type
+     * @param charset    The charset of the content
+     * @param content    The content
+     * @param type       The response type
+     * @param projection The projection of the response fields
+     * @return The JSON response as the response type specified as the argument
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs during parsing
+     */
+    protected <T> T parseAs(@NonNull final Charset charset, @NonNull final InputStream content,
+            @NonNull final Type type, @NonNull final Projection projection) throws IOException {
+        if (this.decodeOptions != null && JsonDecoders.isDecodable(type)) {
+            return JsonDecoders.decode(content, charset, type, this.createDecodeOptions(projection));
+        }
+
+        return this.parseAs(charset, content, type);
+    }
+
+    /**
+     * Returns the options to decode a response. The new interner is set for each
+     * response if {@link InternPool} is configured.
+     *
+     * @param projection The projection of the response fields, or {@code null}
+     *                   if all fields are read
+     * @return The decode options
+     */
+    private DecodeOptions createDecodeOptions(final Projection projection) {
+
+        if (projection == null && this.internPool == null) {
+            return this.decodeOptions;
+        }
+
+        final DecodeOptions.DecodeOptionsBuilder builder = this.decodeOptions.toBuilder();
+
+        if (projection != null) {
+            builder.fields(projection.getFields());
+        }
+
+        if (this.internPool != null) {
+            builder.interner(this.internPool.newInterner());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Parses the JSON array in the content of the HTTP response element by
+     * element, and passes each element to the action as soon as it is parsed.
+     * Only the element being parsed is held in memory, not the whole array. The
+     * content is closed after parsing.
+     *
+     * @param <T>           The response type
+     * @param httpResponse  The http response
+     * @param content       The content of the HTTP response
+     * @param responseClass The response class
+     * @param action        The action performed for each element
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs during parsing, or the content is
+     *                     not a JSON array
+     */
+    protected <T> void parseEach(@NonNull final HttpResponse httpResponse, @NonNull final InputStream content,
+            @NonNull final Class<T> responseClass, @NonNull final Consumer<? super T> action) throws IOException {
+
+        if (this.decodeOptions != null && JsonDecoders.of(responseClass) != null) {
+            JsonDecoders.decodeEach(content, httpResponse.getContentCharset(), responseClass,
+                    this.createDecodeOptions(null), action);
+            return;
+        }
+
+        final JsonParser jsonParser = JSON_OBJECT_PARSER.getJsonFactory().createJsonParser(content,
+                httpResponse.getContentCharset());
+
+        try {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("The response is not a JSON array");
+            }
+
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                if (jsonParser.getCurrentToken() == null) {
+                    throw new IOException("The JSON array is not closed");
+                }
+
+                action.accept(jsonParser.parse(responseClass));
+            }
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /**
+     * Reads the JSON array in the content of the HTTP response element by element
+     * with the element reader passed as an argument. The content is closed after
+     * reading.
+     *
+     * @param httpResponse  The http response
+     * @param content       The content of the HTTP response
+     * @param elementReader The reader of each element
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs during reading, or the content is
+     *                     not a JSON array
+     */
+    protected void readEach(@NonNull final HttpResponse httpResponse, @NonNull final InputStream content,
+            @NonNull final JsonElementReader elementReader) throws IOException {
+        JsonDecoders.readEach(content, httpResponse.getContentCharset(), elementReader);
+    }
+
     /**
      * Parses the HTTP response into list of the type specified as an argument.
      *
@@ -114,38 +456,121 @@ public abstract class AbstractHttpCommunicator {
         return httpResponse.getStatusMessage();
     }
 
+    /**
+     * Parks the current thread until the rate limit of the token allows the
+     * request.
+     *
+     * @param token The token the request is sent with
+     *
+     * @throws InterruptedIOException If the current thread is interrupted while
+     *                                parking
+     */
+    private void acquire(final TokenPool.Token token) throws InterruptedIOException {
+        try {
+            token.getRateLimitScheduler().acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Waits until the concurrency limiter allows the request.
+     *
+     * @return The time the request is started in nanoseconds, or {@code 0} if
+     *         the requests are not limited
+     *
+     * @throws InterruptedIOException If the current thread is interrupted while
+     *                                waiting
+     */
+    private long acquireConcurrency() throws InterruptedIOException {
+
+        if (this.concurrencyLimiter == null) {
+            return 0L;
+        }
+
+        try {
+            return this.concurrencyLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Tells the concurrency limiter that the request received the response.
+     *
+     * @param startNanos The time the request is started in nanoseconds
+     * @param dropped    {@code true} if the request is rejected by the rate limit
+     *                   or with {@code 429 Too Many Requests}
+     */
+    private void releaseConcurrency(final long startNanos, final boolean dropped) {
+
+        if (this.concurrencyLimiter == null) {
+            return;
+        }
+
+        if (dropped) {
+            this.concurrencyLimiter.onDropped();
+        } else {
+            this.concurrencyLimiter.onSuccess(startNanos);
+        }
+    }
+
+    /**
+     * Records the rate limit of the token given by the headers of the HTTP
+     * response.
+     *
+     * @param token        The token the request is sent with
+     * @param httpResponse The HTTP response
+     * @return {@code true} if the request is rejected by the rate limit, otherwise
+     *         {@code false}
+     */
+    private boolean recordRateLimit(final TokenPool.Token token, final HttpResponse httpResponse) {
+        final HttpHeaders headers = httpResponse.getHeaders();
+        return token.record(httpResponse.getStatusCode(),
+                headers.getFirstHeaderStringValue(HttpHeader.RATE_LIMIT_LIMIT.getTag()),
+                headers.getFirstHeaderStringValue(HttpHeader.RATE_LIMIT_REMAINING.getTag()),
+                headers.getFirstHeaderStringValue(HttpHeader.RATE_LIMIT_RESET.getTag()),
+                headers.getFirstHeaderStringValue(HttpHeader.RETRY_AFTER.getTag()));
+    }
+
     /**
      * Check the status code of the HTTP response.
      *
      * <p>
      * The exception will always be raised at runtime if a status code indicating a
      * client error and a server error is detected. If no error is detected, the
-     * HTTP response passed as an argument will be returned as is.
+     * HTTP response passed as an argument will be returned as is. The response
+     * {@code 304 Not Modified} is not an error.
      *
      * @param httpResponse The http response
      * @return The http response passed as an argument
      *
      * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If the status code is not successful and not mapped to
+     *                     an exception
      */
-    private HttpResponse checkHttpStatus(@NonNull final HttpResponse httpResponse) {
+    private HttpResponse checkHttpStatus(@NonNull final HttpResponse httpResponse) throws IOException {
 
-        final ErrorHttpStatus errorHttpStatus = BiCatalog.getEnumByTag(ErrorHttpStatus.class,
-                httpResponse.getStatusCode());
+        final int statusCode = httpResponse.getStatusCode();
 
-        if (errorHttpStatus == null) {
-            return httpResponse;
+        try {
+            HttpStatusChecker.check(statusCode, this.getStatusMessage(httpResponse));
+        } catch (RuntimeException e) {
+            try {
+                httpResponse.disconnect();
+            } catch (IOException disconnectException) {
+                e.addSuppressed(disconnectException);
+            }
+
+            throw e;
         }
 
-        switch (errorHttpStatus) {
-        case BAD_REQUEST -> throw new BadRequestException(this.getStatusMessage(httpResponse));
-        case UNAUTHORIZED -> throw new UserUnauthorizedException(this.getStatusMessage(httpResponse));
-        case FORBIDDEN -> throw new AccessForbiddenException(this.getStatusMessage(httpResponse));
-        case NOT_FOUND -> throw new NotFoundException(this.getStatusMessage(httpResponse));
-        case NOT_ACCEPTABLE -> throw new NotAcceptableException(this.getStatusMessage(httpResponse));
-        case INTERNAL_SERVER_ERROR -> throw new InternalServerErrorException(this.getStatusMessage(httpResponse));
-        case BAD_GATEWAY -> throw new BadGatewayException(this.getStatusMessage(httpResponse));
-        case SERVICE_UNAVAILABLE -> throw new ServiceUnavailableException(this.getStatusMessage(httpResponse));
-        default -> throw new IllegalStateException(); // it will never happen
+        if (!httpResponse.isSuccessStatusCode() && statusCode != HttpStatusCodes.STATUS_CODE_NOT_MODIFIED) {
+            throw new HttpResponseException(httpResponse);
         }
+
+        return httpResponse;
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.api.client.http.GenericUrl;
+
+import lombok.NonNull;
+
+/**
+ * The interface that abstracts the asynchronous communicator.
+ *
+ * <p>
+ * Unlike {@link Communicator} , the methods of this interface return
+ * immediately without blocking the caller thread. The returned future is
+ * completed with the parsed response, or completed exceptionally with the
+ * exception that {@link Communicator} would have thrown.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public interface AsyncCommunicator {
+
+    /**
+     * Sends a Get request to the request URL asynchronously.
+     *
+     * <p>
+     * The response will be parsed into the response type specified as the second
+     * argument.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @return The future of the JSON response
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> CompletableFuture<T> get(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass);
+
+    /**
+     * Sends a Get request to the request URL asynchronously.
+     *
+     * <p>
+     * The response will be parsed into the list of response type specified as the
+     * second argument.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @return The future of the JSON responses as list
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> CompletableFuture<List<T>> getAsList(@NonNull final GenericUrl genericUrl,
+            @NonNull final Class<T> responseClass);
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+
+import org.apache.commons.lang3.StringUtils;
+import org.thinkit.api.gateway.github.catalog.HttpHeader;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that provides asynchronous HTTP communication.
+ *
+ * <p>
+ * The requests are sent with the non-blocking API of
+ * {@link java.net.http.HttpClient} , so no thread waits for the response while
+ * it is in flight. The received body is parsed on the parsing executor set in
+ * {@link CommunicationConfig} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+public final class AsyncHttpCommunicator implements AsyncCommunicator, Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -6316694437651367254L;
+
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The default timeout
+     */
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(20);
+
+    /**
+     * The pool of the access tokens
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient TokenPool tokenPool;
+
+    /**
+     * The communication config
+     */
+    private CommunicationConfig communicationConfig;
+
+    /**
+     * The http client that is created lazily
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile HttpClient httpClient;
+
+    /**
+     * The constructor.
+     *
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private AsyncHttpCommunicator(@NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        this.tokenPool = tokenPool;
+        this.communicationConfig = communicationConfig;
+    }
+
+    /**
+     * Returns the new instance of {@link AsyncHttpCommunicator} based on the
+     * arguments.
+     *
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link AsyncHttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static AsyncCommunicator from(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new AsyncHttpCommunicator(TokenPool.of(oAuthConfig), communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link AsyncHttpCommunicator} based on the
+     * arguments. The rate limit scheduler passed as an argument can be shared
+     * with the other communicators that send the requests with the same access
+     * token.
+     *
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @param rateLimitScheduler  The rate limit scheduler
+     * @return The new instance of {@link AsyncHttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static AsyncCommunicator from(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig,
+            @NonNull final RateLimitScheduler rateLimitScheduler) {
+        return new AsyncHttpCommunicator(TokenPool.of(oAuthConfig, rateLimitScheduler), communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link AsyncHttpCommunicator} that spreads the
+     * requests over the access tokens of the pool passed as an argument. The pool
+     * can be shared with the other communicators.
+     *
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link AsyncHttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static AsyncCommunicator from(@NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new AsyncHttpCommunicator(tokenPool, communicationConfig);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> get(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass) {
+        return this.sendGetRequest(genericUrl).thenApplyAsync(body -> this.parse(body, responseClass),
+                this.communicationConfig.getParsingExecutor());
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> getAsList(@NonNull final GenericUrl genericUrl,
+            @NonNull final Class<T> responseClass) {
+        return this.sendGetRequest(genericUrl).thenApplyAsync(
+                body -> this.parse(body, ListGenericResolver.of(responseClass)),
+                this.communicationConfig.getParsingExecutor());
+    }
+
+    /**
+     * Sends a GET request to the URL without blocking and returns the future of
+     * the response body.
+     *
+     * @param genericUrl The API URL
+     * @return The future of the response body
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private CompletableFuture<byte[]> sendGetRequest(@NonNull final GenericUrl genericUrl) {
+        return this.sendGetRequest(genericUrl, 0);
+    }
+
+    /**
+     * Sends a GET request to the URL without blocking and returns the future of
+     * the response body. If the rate limit does not allow the request yet, the
+     * request is delayed instead of blocking the caller, and if the request is
+     * rejected by the rate limit, it is sent again after the delay.
+     *
+     * <p>
+     * The future fails with the same exceptions as the blocking communicator
+     * throws for the status code that is not successful, which is
+     * {@link HttpResponseException} for the status code that has no dedicated
+     * exception.
+     *
+     * @param genericUrl   The API URL
+     * @param parkingCount The count of the times the request has been rejected
+     * @return The future of the response body
+     */
+    private CompletableFuture<byte[]> sendGetRequest(final GenericUrl genericUrl, final int parkingCount) {
+
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(genericUrl.build()))
+                .timeout(this.getTimeout()).GET();
+        final TokenPool.Token token = this.tokenPool.select();
+        final String authorization = token.getAuthorization();
+
+        if (StringUtils.isNotEmpty(authorization)) {
+            requestBuilder.header("Authorization", authorization);
+        }
+
+        final HttpRequest httpRequest = requestBuilder.build();
+        final long delay = token.getRateLimitScheduler().reserve();
+        final CompletableFuture<HttpResponse<byte[]>> response = delay > 0
+                ? CompletableFuture.runAsync(() -> {
+                }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                        .thenCompose(ignored -> this.getHttpClient().sendAsync(httpRequest,
+                                HttpResponse.BodyHandlers.ofByteArray()))
+                : this.getHttpClient().sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        return response.thenCompose(httpResponse -> {
+            if (this.recordRateLimit(token, httpResponse) && parkingCount < RateLimitScheduler.MAX_PARKING_COUNT) {
+                return this.sendGetRequest(genericUrl, parkingCount + 1);
+            }
+
+            final int statusCode = httpResponse.statusCode();
+            final String reasonPhrase = HttpStatusChecker.getReasonPhrase(statusCode);
+            HttpStatusChecker.check(statusCode, reasonPhrase);
+
+            if (statusCode < 200 || statusCode >= 300) {
+                return CompletableFuture.failedFuture(createHttpResponseException(httpResponse, reasonPhrase));
+            }
+
+            return CompletableFuture.completedFuture(httpResponse.body());
+        });
+    }
+
+    /**
+     * Records the rate limit of the token given by the headers of the HTTP
+     * response.
+     *
+     * @param token        The token the request is sent with
+     * @param httpResponse The HTTP response
+     * @return {@code true} if the request is rejected by the rate limit, otherwise
+     *         {@code false}
+     */
+    private boolean recordRateLimit(final TokenPool.Token token, final HttpResponse<byte[]> httpResponse) {
+        final HttpHeaders headers = httpResponse.headers();
+        return token.record(httpResponse.statusCode(),
+                headers.firstValue(HttpHeader.RATE_LIMIT_LIMIT.getTag()).orElse(null),
+                headers.firstValue(HttpHeader.RATE_LIMIT_REMAINING.getTag()).orElse(null),
+                headers.firstValue(HttpHeader.RATE_LIMIT_RESET.getTag()).orElse(null),
+                headers.firstValue(HttpHeader.RETRY_AFTER.getTag()).orElse(null));
+    }
+
+    /**
+     * Returns the exception for the HTTP response whose status code is not
+     * successful and has no dedicated exception.
+     *
+     * @param httpResponse The HTTP response
+     * @param reasonPhrase The reason phrase of the status code
+     * @return The exception
+     */
+    private static HttpResponseException createHttpResponseException(final HttpResponse<byte[]> httpResponse,
+            final String reasonPhrase) {
+
+        final com.google.api.client.http.HttpHeaders headers = new com.google.api.client.http.HttpHeaders();
+        httpResponse.headers().map().forEach(headers::set);
+
+        return new HttpResponseException.Builder(httpResponse.statusCode(), reasonPhrase, headers)
+                .setContent(new String(httpResponse.body(), StandardCharsets.UTF_8)).build();
+    }
+
+    /**
+     * Parses the response body into the type specified as an argument.
+     *
+     * @param <T>  The response type
+     * @param body The response body
+     * @param type The response type
+     * @return The parsed response
+     *
+     * @throws UncheckedIOException If an error occurs during parsing
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parse(final byte[] body, final Type type) {
+        try {
+            if (this.communicationConfig.isGeneratedDecoders() && JsonDecoders.isDecodable(type)) {
+                return JsonDecoders.decode(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type,
+                        this.communicationConfig.getDecodeOptions());
+            }
+
+            return (T) JSON_OBJECT_PARSER.parseAndClose(new ByteArrayInputStream(body), StandardCharsets.UTF_8, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the http client, creating it on the first call.
+     *
+     * @return The http client
+     */
+    private HttpClient getHttpClient() {
+
+        HttpClient client = this.httpClient;
+
+        if (client == null) {
+            synchronized (this) {
+                client = this.httpClient;
+
+                if (client == null) {
+                    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+                            .connectTimeout(this.getConnectTimeout()).followRedirects(HttpClient.Redirect.NORMAL)
+                            .build();
+                    this.httpClient = client;
+                }
+            }
+        }
+
+        return client;
+    }
+
+    /**
+     * Returns the connect timeout of {@link Http2Transport} if it is selected,
+     * otherwise the default timeout.
+     *
+     * @return The connect timeout
+     */
+    private Duration getConnectTimeout() {
+        final Transport transport = this.communicationConfig.getTransport();
+        return transport instanceof Http2Transport ? ((Http2Transport) transport).getConnectTimeout()
+                : DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Returns the read timeout of {@link Http2Transport} if it is selected,
+     * otherwise the default timeout.
+     *
+     * @return The timeout of each request
+     */
+    private Duration getTimeout() {
+        final Transport transport = this.communicationConfig.getTransport();
+        return transport instanceof Http2Transport ? ((Http2Transport) transport).getReadTimeout() : DEFAULT_TIMEOUT;
+    }
+}
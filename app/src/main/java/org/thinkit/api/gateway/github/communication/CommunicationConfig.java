@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.thinkit.api.gateway.github.cache.ConditionalRequestCache;
+import org.thinkit.api.gateway.github.cache.DiskResponseCache;
+import org.thinkit.api.gateway.github.cache.InternPool;
+import org.thinkit.api.gateway.github.cache.ResponseCache;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * This data class manages the settings of the HTTP communication. If no value
+ * is set, the default value of each item is used.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(staticName = "defaultOf")
+public final class CommunicationConfig implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -3096184751216011238L;
+
+    /**
+     * The transport
+     */
+    @Getter
+    @Builder.Default
+    private Transport transport = NetTransport.newInstance();
+
+    /**
+     * The executor that parses the responses received by
+     * {@link AsyncCommunicator} , or {@code null} if they are parsed on
+     * {@link ForkJoinPool#commonPool()} . The executor is not serialized.
+     */
+    private transient Executor parsingExecutor;
+
+    /**
+     * The cache of the conditional requests sent by {@link HttpCommunicator} , or
+     * {@code null} if the conditional requests are not sent
+     */
+    @Getter
+    private ConditionalRequestCache conditionalRequestCache;
+
+    /**
+     * The cache on the disk of the raw responses received by
+     * {@link HttpCommunicator} , which are sent again as the conditional
+     * requests even after the restart, or {@code null} if the responses are not
+     * stored on the disk
+     */
+    @Getter
+    private DiskResponseCache diskResponseCache;
+
+    /**
+     * The coalescer of the identical requests in flight sent by
+     * {@link HttpCommunicator} , or {@code null} if the requests are not
+     * coalesced
+     */
+    @Getter
+    private RequestCoalescer requestCoalescer;
+
+    /**
+     * The limiter of the requests in flight sent by {@link HttpCommunicator} , or
+     * {@code null} if the requests are not limited
+     */
+    @Getter
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * The cache of the responses received by {@link HttpCommunicator} , or
+     * {@code null} if the responses are not cached
+     */
+    @Getter
+    private ResponseCache responseCache;
+
+    /**
+     * The pool that collapses the equal nested entities in the responses parsed
+     * by the generated decoders, or {@code null} if they are not collapsed
+     */
+    @Getter
+    private InternPool internPool;
+
+    /**
+     * The policy to retry the requests sent by {@link HttpCommunicator}
+     */
+    @Getter
+    @Builder.Default
+    private RetryPolicy retryPolicy = RetryPolicy.defaultOf();
+
+    /**
+     * The metrics of the retries sent according to the retry policy
+     */
+    @Getter
+    @Builder.Default
+    private RetryMetrics retryMetrics = RetryMetrics.newInstance();
+
+    /**
+     * {@code true} if the responses are parsed by the decoders generated at
+     * compile time for the response models, otherwise they are parsed by
+     * reflection. The type that has no generated decoder is always parsed by
+     * reflection.
+     */
+    @Getter
+    @Builder.Default
+    private boolean generatedDecoders = true;
+
+    /**
+     * {@code true} if the fields not declared in the response models are
+     * retained in the models, otherwise they are skipped while the responses are
+     * parsed. The fields are always retained when the responses are parsed by
+     * reflection.
+     */
+    @Getter
+    @Builder.Default
+    private boolean retainUnknownFields = false;
+
+    /**
+     * {@code true} if the URL fields of the repositories that are derivable from
+     * their full names are not stored in the response models but derived when
+     * their getters are called. It takes effect only when the responses are
+     * parsed by the generated decoders.
+     */
+    @Getter
+    @Builder.Default
+    private boolean compactUrls = false;
+
+    /**
+     * Returns the executor that parses the responses received by
+     * {@link AsyncCommunicator} .
+     *
+     * @return The executor set to the builder, or
+     *         {@link ForkJoinPool#commonPool()} if no executor is set
+     */
+    public Executor getParsingExecutor() {
+        return this.parsingExecutor == null ? ForkJoinPool.commonPool() : this.parsingExecutor;
+    }
+
+    /**
+     * Returns the options of the generated decoders. If {@link InternPool} is
+     * configured, the options have the new interner of the pool, so they should
+     * be created for each response.
+     *
+     * @return The decode options
+     */
+    public DecodeOptions getDecodeOptions() {
+        return DecodeOptions.builder().retainUnknownFields(this.retainUnknownFields).compactUrls(this.compactUrls)
+                .interner(this.internPool == null ? null : this.internPool.newInterner()).build();
+    }
+}
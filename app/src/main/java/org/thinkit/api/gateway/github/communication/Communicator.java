@@ -1,9 +1,13 @@
 package org.thinkit.api.gateway.github.communication;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.google.api.client.http.GenericUrl;
 
+import org.thinkit.api.gateway.github.codec.JsonElementReader;
+import org.thinkit.api.gateway.github.query.Projection;
+
 import lombok.NonNull;
 
 public interface Communicator {
@@ -39,4 +43,131 @@ public interface Communicator {
      * @exception NullPointerException if {@code null} is passed as an argument
      */
     public <T> List<T> getAsList(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass);
+
+    /**
+     * Sends a Get request to the request URL of a paginated resource.
+     *
+     * <p>
+     * The response will be parsed into the list of response type specified as the
+     * second argument, and returned with the links to the other pages given by the
+     * {@code "Link"} header.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @return The page of the JSON responses
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> Page<T> getPage(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass);
+
+    /**
+     * Sends a Get request to the request URL and reads only the fields selected
+     * by the projection.
+     *
+     * <p>
+     * The response will be parsed into the response type specified as the second
+     * argument and returned. The values of the fields not selected by the
+     * projection are skipped while they are read, and the corresponding fields of
+     * the response are left unset. The projected response is cached separately
+     * from the full response.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @param projection    The projection of the response fields
+     * @return The JSON response
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> T get(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection);
+
+    /**
+     * Sends a Get request to the request URL and reads only the fields selected
+     * by the projection.
+     *
+     * <p>
+     * The response will be parsed into the list of response type specified as the
+     * second argument and returned. The values of the fields not selected by the
+     * projection are skipped while they are read, and the corresponding fields of
+     * the responses are left unset.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @param projection    The projection of the response fields
+     * @return The JSON responses as list
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> List<T> getAsList(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection);
+
+    /**
+     * Sends a Get request to the request URL of a paginated resource and reads
+     * only the fields selected by the projection.
+     *
+     * <p>
+     * The response will be parsed into the list of response type specified as the
+     * second argument, and returned with the links to the other pages given by the
+     * {@code "Link"} header. The values of the fields not selected by the
+     * projection are skipped while they are read.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @param projection    The projection of the response fields
+     * @return The page of the JSON responses
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> Page<T> getPage(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection);
+
+    /**
+     * Sends a Get request to the request URL and streams the response.
+     *
+     * <p>
+     * The response must be a JSON array. Its elements are parsed into the
+     * response type specified as the second argument one at a time while they are
+     * read from the connection, and each of them is passed to the action before
+     * the next one is parsed. The whole list is never materialized, so the memory
+     * stays flat however large the response is.
+     *
+     * <p>
+     * The streamed response is neither cached nor shared with the identical
+     * requests in flight. If the action throws an exception, the connection is
+     * closed and the exception is propagated to the caller.
+     *
+     * @param <T>           The response type
+     * @param genericUrl    The request url object
+     * @param responseClass The response class
+     * @param action        The action performed for each element
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public <T> void forEach(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Consumer<? super T> action);
+
+    /**
+     * Sends a Get request to the request URL and reads the response with the
+     * element reader.
+     *
+     * <p>
+     * The response must be a JSON array. Its elements are passed to the element
+     * reader one at a time while they are read from the connection, so the
+     * reader can fill its own representation such as the columns of
+     * {@link org.thinkit.api.gateway.github.response.user.repos.RepositoryBatch}
+     * without creating the response models. The response is neither cached nor
+     * shared with the identical requests in flight like
+     * {@link #forEach(GenericUrl, Class, Consumer)} .
+     *
+     * @param genericUrl    The request url object
+     * @param elementReader The reader of each element
+     * @return The URL of the next page, or {@code null} if there is no next page
+     *
+     * @exception NullPointerException if {@code null} is passed as an argument
+     */
+    public GenericUrl readEach(@NonNull final GenericUrl genericUrl, @NonNull final JsonElementReader elementReader);
 }
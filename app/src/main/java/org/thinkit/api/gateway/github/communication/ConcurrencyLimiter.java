@@ -0,0 +1,316 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import lombok.ToString;
+
+/**
+ * The class that limits the count of the requests in flight, adapting the
+ * limit to the latency and the rejections of the GitHub API.
+ *
+ * <p>
+ * The limit follows AIMD. The latency is smoothed twice: a short-term average
+ * that follows the last few responses, and a long-term average over about the
+ * last hundred responses that is the baseline. While the short-term average
+ * stays within twice the baseline, the limit grows by one for each round trip
+ * of the requests in flight, as long as at least half of it is in use. If the
+ * short-term average inflates beyond it, the limit is cut by 10 percent, and if
+ * a request is rejected with {@code 403} or {@code 429} by the secondary rate
+ * limit, it is halved.
+ *
+ * <p>
+ * Comparing the averages instead of single responses keeps the limit stable
+ * when fast responses such as {@code 304} are mixed with slow ones, because
+ * both averages follow the mix. The latency cut happens at most once per round
+ * trip: the responses to the requests started before the last cut carry the
+ * congestion that is already answered, so they cannot cut the limit again.
+ *
+ * <p>
+ * The callers beyond the limit wait until a request in flight completes. The
+ * current limit and the count of the waiting callers can be read as metrics.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class ConcurrencyLimiter {
+
+    /**
+     * The default initial limit
+     */
+    private static final int DEFAULT_INITIAL_LIMIT = 10;
+
+    /**
+     * The default maximum limit
+     */
+    private static final int DEFAULT_MAX_LIMIT = 100;
+
+    /**
+     * The ratio the limit is multiplied by when a request is rejected
+     */
+    private static final double BACKOFF_RATIO = 0.5;
+
+    /**
+     * The ratio the limit is multiplied by when the latency inflates
+     */
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The ratio of the short-term latency to the baseline beyond which the
+     * latency is considered inflated
+     */
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * The weight of a new sample in the short-term latency
+     */
+    private static final double SHORT_SMOOTHING = 0.2;
+
+    /**
+     * The weight of a new sample in the baseline latency
+     */
+    private static final double BASELINE_SMOOTHING = 0.01;
+
+    /**
+     * The maximum limit
+     */
+    private final int maxLimit;
+
+    /**
+     * The current limit
+     */
+    private double limit;
+
+    /**
+     * The count of the requests in flight
+     */
+    private int inFlightCount;
+
+    /**
+     * The count of the callers waiting for the limit
+     */
+    private int queueDepth;
+
+    /**
+     * The short-term average of the latency in nanoseconds, or {@code 0} if not
+     * sampled yet
+     */
+    private double shortRttNanos;
+
+    /**
+     * The long-term average of the latency in nanoseconds, or {@code 0} if not
+     * sampled yet
+     */
+    private double baselineRttNanos;
+
+    /**
+     * The time the limit was last cut by the latency in nanoseconds
+     */
+    private long lastCutNanos;
+
+    /**
+     * {@code true} if the limit has been cut by the latency
+     */
+    private boolean cut;
+
+    /**
+     * The count of the requests rejected by the secondary rate limit
+     */
+    private long droppedCount;
+
+    /**
+     * The constructor.
+     *
+     * @param initialLimit The initial limit
+     * @param maxLimit     The maximum limit
+     *
+     * @exception IllegalArgumentException If {@code initialLimit} is not positive
+     *                                     or {@code maxLimit} is less than
+     *                                     {@code initialLimit}
+     */
+    private ConcurrencyLimiter(final int initialLimit, final int maxLimit) {
+
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("The initial limit must be positive");
+        }
+
+        if (maxLimit < initialLimit) {
+            throw new IllegalArgumentException("The max limit must not be less than the initial limit");
+        }
+
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Returns the new instance of {@link ConcurrencyLimiter} whose limit starts
+     * at 10 and grows up to 100.
+     *
+     * @return The new instance of {@link ConcurrencyLimiter}
+     */
+    public static ConcurrencyLimiter newInstance() {
+        return new ConcurrencyLimiter(DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * Returns the new instance of {@link ConcurrencyLimiter} based on the
+     * arguments.
+     *
+     * @param initialLimit The initial limit
+     * @param maxLimit     The maximum limit
+     * @return The new instance of {@link ConcurrencyLimiter}
+     *
+     * @exception IllegalArgumentException If {@code initialLimit} is not positive
+     *                                     or {@code maxLimit} is less than
+     *                                     {@code initialLimit}
+     */
+    public static ConcurrencyLimiter of(final int initialLimit, final int maxLimit) {
+        return new ConcurrencyLimiter(initialLimit, maxLimit);
+    }
+
+    /**
+     * Returns the current limit of the requests in flight.
+     *
+     * @return The current limit
+     */
+    @ToString.Include
+    public synchronized int getLimit() {
+        return (int) this.limit;
+    }
+
+    /**
+     * Returns the count of the requests in flight.
+     *
+     * @return The count of the requests in flight
+     */
+    @ToString.Include
+    public synchronized int getInFlightCount() {
+        return this.inFlightCount;
+    }
+
+    /**
+     * Returns the count of the callers waiting for the limit.
+     *
+     * @return The count of the waiting callers
+     */
+    @ToString.Include
+    public synchronized int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * Returns the count of the requests rejected by the secondary rate limit.
+     *
+     * @return The count of the rejected requests
+     */
+    @ToString.Include
+    public synchronized long getDroppedCount() {
+        return this.droppedCount;
+    }
+
+    /**
+     * Waits until the count of the requests in flight is below the limit, and
+     * counts the request in flight.
+     *
+     * @return The time the request is started in nanoseconds
+     *
+     * @throws InterruptedException If the current thread is interrupted while
+     *                              waiting
+     */
+    synchronized long acquire() throws InterruptedException {
+
+        this.queueDepth++;
+
+        try {
+            while (this.inFlightCount >= (int) this.limit) {
+                this.wait();
+            }
+        } finally {
+            this.queueDepth--;
+        }
+
+        this.inFlightCount++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Completes the request that received the response, and adapts the limit to
+     * its latency.
+     *
+     * @param startNanos The time the request is started in nanoseconds
+     */
+    void onSuccess(final long startNanos) {
+        this.release(System.nanoTime() - startNanos, false);
+    }
+
+    /**
+     * Completes the request that is rejected by the secondary rate limit, and
+     * cuts the limit.
+     */
+    void onDropped() {
+        this.release(0L, true);
+    }
+
+    /**
+     * Completes the request that failed without a response. The limit is not
+     * adapted because the failure tells nothing about the load.
+     */
+    synchronized void onIgnored() {
+        this.inFlightCount--;
+        this.notifyAll();
+    }
+
+    /**
+     * Completes a request and adapts the limit to its outcome.
+     *
+     * @param rttNanos The latency of the request in nanoseconds
+     * @param dropped  {@code true} if the request is rejected by the secondary
+     *                 rate limit
+     */
+    synchronized void release(final long rttNanos, final boolean dropped) {
+
+        final int inFlight = this.inFlightCount--;
+
+        if (dropped) {
+            this.droppedCount++;
+            this.limit = Math.max(1.0, this.limit * BACKOFF_RATIO);
+        } else {
+            final long nowNanos = System.nanoTime();
+
+            if (this.baselineRttNanos == 0.0) {
+                this.shortRttNanos = Math.max(rttNanos, 1L);
+                this.baselineRttNanos = this.shortRttNanos;
+            } else {
+                this.shortRttNanos += (rttNanos - this.shortRttNanos) * SHORT_SMOOTHING;
+                this.baselineRttNanos += (rttNanos - this.baselineRttNanos) * BASELINE_SMOOTHING;
+            }
+
+            if (this.shortRttNanos > this.baselineRttNanos * LATENCY_TOLERANCE) {
+                // Cuts once per round trip, ignoring the requests started before the last cut
+                if (!this.cut || nowNanos - rttNanos - this.lastCutNanos > 0L) {
+                    this.limit = Math.max(1.0, this.limit * LATENCY_BACKOFF_RATIO);
+                    this.lastCutNanos = nowNanos;
+                    this.cut = true;
+                }
+            } else if (inFlight * 2 >= (int) this.limit) {
+                // Grows by one for each round trip of the requests in flight
+                this.limit = Math.min(this.maxLimit, this.limit + 1.0 / this.limit);
+            }
+        }
+
+        this.notifyAll();
+    }
+}
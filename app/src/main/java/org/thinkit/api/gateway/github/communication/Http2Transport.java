@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import com.google.api.client.http.HttpTransport;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The transport based on {@link java.net.http.HttpClient} that speaks HTTP/2.
+ *
+ * <p>
+ * The requests are multiplexed as streams over a bounded pool of connections.
+ * The pool consists of {@link #getConnectionPoolSize()} clients, and each
+ * client keeps one connection per origin and carries up to
+ * {@link #getMaxConcurrentStreams()} concurrent streams on it. If every stream
+ * of the pool is in use, the caller waits until one of them is released.
+ *
+ * <pre>
+ * <code>
+ * final CommunicationConfig config = CommunicationConfig.builder()
+ *         .transport(Http2Transport.builder().connectionPoolSize(2).maxConcurrentStreams(50).build()).build();
+ * final Gateway gateway = GithubApiGateway.from(githubUser, oAuthConfig, config);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+public final class Http2Transport implements Transport, Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 6170224981307412873L;
+
+    /**
+     * The default connection pool size
+     */
+    private static final int DEFAULT_CONNECTION_POOL_SIZE = 4;
+
+    /**
+     * The default count of the concurrent streams per connection
+     */
+    private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+
+    /**
+     * The default connect timeout
+     */
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(20);
+
+    /**
+     * The default read timeout
+     */
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(20);
+
+    /**
+     * The count of the connections in the pool
+     */
+    @Getter
+    private final int connectionPoolSize;
+
+    /**
+     * The count of the concurrent streams per connection
+     */
+    @Getter
+    private final int maxConcurrentStreams;
+
+    /**
+     * The connect timeout
+     */
+    @Getter
+    private final Duration connectTimeout;
+
+    /**
+     * The read timeout
+     */
+    @Getter
+    private final Duration readTimeout;
+
+    /**
+     * The http transport that is created lazily
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile HttpTransport httpTransport;
+
+    /**
+     * The constructor. The default value is used for the argument that is not
+     * positive or {@code null} .
+     *
+     * @param connectionPoolSize   The count of the connections in the pool
+     * @param maxConcurrentStreams The count of the concurrent streams per
+     *                             connection
+     * @param connectTimeout       The connect timeout
+     * @param readTimeout          The read timeout
+     */
+    @Builder
+    private Http2Transport(final int connectionPoolSize, final int maxConcurrentStreams,
+            final Duration connectTimeout, final Duration readTimeout) {
+        this.connectionPoolSize = connectionPoolSize > 0 ? connectionPoolSize : DEFAULT_CONNECTION_POOL_SIZE;
+        this.maxConcurrentStreams = maxConcurrentStreams > 0 ? maxConcurrentStreams : DEFAULT_MAX_CONCURRENT_STREAMS;
+        this.connectTimeout = connectTimeout != null ? connectTimeout : DEFAULT_CONNECT_TIMEOUT;
+        this.readTimeout = readTimeout != null ? readTimeout : DEFAULT_READ_TIMEOUT;
+    }
+
+    /**
+     * Returns the new instance of {@link Http2Transport} with the default
+     * settings.
+     *
+     * @return The new instance of {@link Http2Transport}
+     */
+    public static Http2Transport newInstance() {
+        return builder().build();
+    }
+
+    @Override
+    public HttpTransport getHttpTransport() {
+
+        HttpTransport transport = this.httpTransport;
+
+        if (transport == null) {
+            synchronized (this) {
+                transport = this.httpTransport;
+
+                if (transport == null) {
+                    transport = new JdkHttpTransport(this.connectionPoolSize, this.maxConcurrentStreams,
+                            this.connectTimeout, this.readTimeout);
+                    this.httpTransport = transport;
+                }
+            }
+        }
+
+        return transport;
+    }
+}
@@ -14,14 +14,36 @@
 
 package org.thinkit.api.gateway.github.communication;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.common.io.CountingInputStream;
 
+import org.thinkit.api.gateway.github.cache.CachedResponse;
+import org.thinkit.api.gateway.github.cache.ConditionalRequestCache;
+import org.thinkit.api.gateway.github.cache.DiskCachedResponse;
+import org.thinkit.api.gateway.github.cache.DiskResponseCache;
+import org.thinkit.api.gateway.github.cache.ResponseCache;
+import org.thinkit.api.gateway.github.catalog.HttpHeader;
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+import org.thinkit.api.gateway.github.codec.JsonElementReader;
+import org.thinkit.api.gateway.github.query.Projection;
 import org.thinkit.api.gateway.github.user.OAuthConfig;
+import org.thinkit.api.gateway.github.util.LinkResolver;
 import org.thinkit.api.gateway.github.util.ListGenericResolver;
+import org.thinkit.api.gateway.github.util.UrlResolver;
 
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -42,29 +64,478 @@ public final class HttpCommunicator extends AbstractHttpCommunicator implements
      */
     private static final long serialVersionUID = 294272078327803469L;
 
-    private HttpCommunicator(@NonNull final OAuthConfig oAuthConfig) {
-        super(oAuthConfig);
+    /**
+     * The cache of the conditional requests, or {@code null} if the conditional
+     * requests are not sent
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient ConditionalRequestCache conditionalRequestCache;
+
+    /**
+     * The coalescer of the identical requests in flight, or {@code null} if the
+     * requests are not coalesced
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient RequestCoalescer requestCoalescer;
+
+    /**
+     * The cache of the responses, or {@code null} if the responses are not
+     * cached
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient ResponseCache responseCache;
+
+    /**
+     * The cache of the raw responses on the disk, or {@code null} if the
+     * responses are not stored on the disk
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient DiskResponseCache diskResponseCache;
+
+    /**
+     * The digest of the access tokens that tells the callers of the shared cache
+     * and coalescer apart
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient String identity;
+
+    private HttpCommunicator(@NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        super(tokenPool, communicationConfig);
+        this.conditionalRequestCache = communicationConfig.getConditionalRequestCache();
+        this.requestCoalescer = communicationConfig.getRequestCoalescer();
+        this.responseCache = communicationConfig.getResponseCache();
+        this.diskResponseCache = communicationConfig.getDiskResponseCache();
+        this.identity = tokenPool.getIdentity();
     }
 
     public static Communicator from(@NonNull final OAuthConfig oAuthConfig) {
-        return new HttpCommunicator(oAuthConfig);
+        return new HttpCommunicator(TokenPool.of(oAuthConfig), CommunicationConfig.defaultOf());
+    }
+
+    /**
+     * Returns the new instance of {@link HttpCommunicator} based on the arguments.
+     *
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link HttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Communicator from(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new HttpCommunicator(TokenPool.of(oAuthConfig), communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link HttpCommunicator} based on the arguments.
+     * The rate limit scheduler passed as an argument can be shared with the other
+     * communicators that send the requests with the same access token.
+     *
+     * @param oAuthConfig         The OAuth config
+     * @param communicationConfig The communication config
+     * @param rateLimitScheduler  The rate limit scheduler
+     * @return The new instance of {@link HttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Communicator from(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final CommunicationConfig communicationConfig,
+            @NonNull final RateLimitScheduler rateLimitScheduler) {
+        return new HttpCommunicator(TokenPool.of(oAuthConfig, rateLimitScheduler), communicationConfig);
+    }
+
+    /**
+     * Returns the new instance of {@link HttpCommunicator} that spreads the
+     * requests over the access tokens of the pool passed as an argument. The pool
+     * can be shared with the other communicators.
+     *
+     * @param tokenPool           The pool of the access tokens
+     * @param communicationConfig The communication config
+     * @return The new instance of {@link HttpCommunicator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static Communicator from(@NonNull final TokenPool tokenPool,
+            @NonNull final CommunicationConfig communicationConfig) {
+        return new HttpCommunicator(tokenPool, communicationConfig);
     }
 
     @Override
     public <T> T get(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass) {
+        return this.send(genericUrl, responseClass, null,
+                (charset, link, content) -> super.parseAs(charset, content, responseClass));
+    }
+
+    @Override
+    public <T> List<T> getAsList(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass) {
+        return this.getPage(genericUrl, responseClass).getItems();
+    }
+
+    @Override
+    public <T> Page<T> getPage(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass) {
+
+        final ParameterizedType listType = ListGenericResolver.of(responseClass);
+
+        return this.send(genericUrl, listType, null, (charset, link, content) -> Page
+                .from(super.<List<T>>parseAs(charset, content, listType), LinkResolver.resolve(link)));
+    }
+
+    @Override
+    public <T> T get(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection) {
+        return this.send(genericUrl, responseClass, projection,
+                (charset, link, content) -> super.parseAs(charset, content, responseClass, projection));
+    }
+
+    @Override
+    public <T> List<T> getAsList(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection) {
+        return this.getPage(genericUrl, responseClass, projection).getItems();
+    }
+
+    @Override
+    public <T> Page<T> getPage(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Projection projection) {
+
+        final ParameterizedType listType = ListGenericResolver.of(responseClass);
+
+        return this.send(genericUrl, listType, projection, (charset, link, content) -> Page.from(
+                super.<List<T>>parseAs(charset, content, listType, projection), LinkResolver.resolve(link)));
+    }
+
+    @Override
+    public <T> void forEach(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Consumer<? super T> action) {
         try {
-            return super.parseAs(super.sendGetRequest(genericUrl), responseClass);
+            final HttpResponse httpResponse = super.sendGetRequest(genericUrl);
+
+            try {
+                final InputStream content = httpResponse.getContent();
+
+                if (content != null) {
+                    super.parseEach(httpResponse, content, responseClass, action);
+                }
+            } finally {
+                httpResponse.disconnect();
+            }
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
     @Override
-    public <T> List<T> getAsList(@NonNull final GenericUrl genericUrl, @NonNull final Class<T> responseClass) {
+    public GenericUrl readEach(@NonNull final GenericUrl genericUrl, @NonNull final JsonElementReader elementReader) {
+        try {
+            final HttpResponse httpResponse = super.sendGetRequest(genericUrl);
+
+            try {
+                final InputStream content = httpResponse.getContent();
+
+                if (content != null) {
+                    super.readEach(httpResponse, content, elementReader);
+                }
+
+                final String link = httpResponse.getHeaders().getFirstHeaderStringValue(HttpHeader.LINK.getTag());
+                final String nextUrl = LinkResolver.resolve(link).get(LinkRelation.NEXT);
+
+                return nextUrl == null ? null : new GenericUrl(nextUrl);
+            } finally {
+                httpResponse.disconnect();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sends a GET request to the URL and parses the response by the parser passed
+     * as an argument.
+     *
+     * <p>
+     * If {@link RequestCoalescer} is configured, the identical requests in flight
+     * with the same access token share one request and its parsed response.
+     *
+     * @param <R>          The type of the parsed response
+     * @param genericUrl   The API URL
+     * @param responseType The type the response is parsed into
+     * @param projection   The projection of the response fields, or
+     *                     {@code null} if all fields are parsed
+     * @param parser       The parser of the response
+     * @return The parsed response
+     *
+     * @exception IllegalStateException If an error occurs during HTTP
+     *                                  communication
+     */
+    private <R> R send(final GenericUrl genericUrl, final Type responseType, final Projection projection,
+            final ResponseParser<R> parser) {
+
+        if (this.responseCache == null && this.conditionalRequestCache == null && this.diskResponseCache == null
+                && this.requestCoalescer == null) {
+            return this.fetch(genericUrl, null, responseType, parser);
+        }
+
+        final String key = String.join("\n", this.identity, responseType.toString(),
+                projection == null ? "" : projection.getKey(), UrlResolver.canonicalize(genericUrl));
+
+        if (this.requestCoalescer == null) {
+            return this.fetch(genericUrl, key, responseType, parser);
+        }
+
+        return this.requestCoalescer.execute(key, () -> this.fetch(genericUrl, key, responseType, parser));
+    }
+
+    /**
+     * Sends a GET request to the URL and parses the response by the parser passed
+     * as an argument.
+     *
+     * <p>
+     * If {@link ResponseCache} is configured, the live response stored for the
+     * key is returned without sending the request. If
+     * {@link ConditionalRequestCache} is configured, the request is sent with the
+     * {@code "If-None-Match"} header when the response for the key is stored, and
+     * the stored body is returned on {@code 304 Not Modified} instead of parsing
+     * the response.
+     *
+     * <p>
+     * If {@link DiskResponseCache} is configured and the parsed response is not
+     * in {@link ConditionalRequestCache} , the request is sent with the
+     * {@code "If-None-Match"} and {@code "If-Modified-Since"} headers of the raw
+     * response stored on the disk, and the raw response is parsed again on
+     * {@code 304 Not Modified} . The raw response received with either header is
+     * stored on the disk, and the one received with neither header invalidates
+     * the raw response stored for the URL.
+     *
+     * @param <R>          The type of the parsed response
+     * @param genericUrl   The API URL
+     * @param key          The key that identifies the request, or {@code null} if
+     *                     neither the caches nor the coalescer is configured
+     * @param responseType The type the response is parsed into
+     * @param parser       The parser of the response
+     * @return The parsed response
+     *
+     * @exception IllegalStateException If an error occurs during HTTP
+     *                                  communication
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R fetch(final GenericUrl genericUrl, final String key, final Type responseType,
+            final ResponseParser<R> parser) {
         try {
-            return super.parseAsList(super.sendGetRequest(genericUrl), ListGenericResolver.of(responseClass));
+            if (this.responseCache != null) {
+                final Object cachedBody = this.responseCache.getIfPresent(key);
+
+                if (cachedBody != null) {
+                    return (R) cachedBody;
+                }
+            }
+
+            final CachedResponse cachedResponse = this.conditionalRequestCache == null ? null
+                    : this.conditionalRequestCache.lookup(key, responseType);
+            final String diskKey = this.diskResponseCache == null ? null
+                    : String.join("\n", this.identity, UrlResolver.canonicalize(genericUrl));
+            final DiskCachedResponse diskCachedResponse = cachedResponse != null || diskKey == null ? null
+                    : this.diskResponseCache.lookup(diskKey);
+
+            final HttpResponse httpResponse;
+
+            if (cachedResponse != null) {
+                httpResponse = super.sendGetRequest(genericUrl, cachedResponse.getEtag());
+            } else if (diskCachedResponse != null) {
+                httpResponse = super.sendGetRequest(genericUrl, diskCachedResponse.getEtag(),
+                        diskCachedResponse.getLastModified());
+            } else {
+                httpResponse = super.sendGetRequest(genericUrl, null);
+            }
+
+            if (httpResponse.getStatusCode() == HttpStatusCodes.STATUS_CODE_NOT_MODIFIED) {
+                if (cachedResponse != null) {
+                    httpResponse.disconnect();
+                    this.conditionalRequestCache.recordNotModified();
+                    this.cache(key, genericUrl, cachedResponse.getBody(), cachedResponse.getSize());
+                    return (R) cachedResponse.getBody();
+                }
+
+                if (diskCachedResponse != null) {
+                    httpResponse.disconnect();
+                    this.diskResponseCache.recordNotModified();
+                    final R response = parser.parse(diskCachedResponse.getCharset(), diskCachedResponse.getLink(),
+                            diskCachedResponse.openBody());
+                    this.store(key, diskCachedResponse.getEtag(), responseType, response,
+                            diskCachedResponse.getSize());
+                    this.cache(key, genericUrl, response, diskCachedResponse.getSize());
+                    return response;
+                }
+            }
+
+            final InputStream rawContent = httpResponse.getContent();
+
+            if (rawContent == null) {
+                return null;
+            }
+
+            final Charset charset = httpResponse.getContentCharset();
+            final String link = httpResponse.getHeaders().getFirstHeaderStringValue(HttpHeader.LINK.getTag());
+            final String etag = httpResponse.getHeaders().getETag();
+            final String lastModified = httpResponse.getHeaders().getLastModified();
+            final CapturingInputStream capturingContent = diskKey == null || etag == null && lastModified == null
+                    ? null
+                    : new CapturingInputStream(rawContent);
+            final CountingInputStream content = new CountingInputStream(
+                    capturingContent == null ? rawContent : capturingContent);
+            final R response = parser.parse(charset, link, content);
+
+            if (response != null && etag != null) {
+                this.store(key, etag, responseType, response, content.getCount());
+            }
+
+            if (response != null && capturingContent != null) {
+                this.diskResponseCache.store(diskKey, etag, lastModified, link, charset,
+                        capturingContent.toByteArray());
+            } else if (diskKey != null) {
+                // The stored response is stale and cannot be revalidated any more
+                this.diskResponseCache.invalidate(diskKey);
+            }
+
+            if (response != null) {
+                this.cache(key, genericUrl, response, content.getCount());
+            }
+
+            return response;
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * Stores the parsed response in {@link ConditionalRequestCache} if it is
+     * configured.
+     *
+     * @param key          The key that identifies the request
+     * @param etag         The value of {@code "ETag"} header, or {@code null} if
+     *                     it was not sent
+     * @param responseType The type the body was parsed into
+     * @param body         The parsed response
+     * @param size         The size of the response body in bytes
+     */
+    private void store(final String key, final String etag, final Type responseType, final Object body,
+            final long size) {
+        if (this.conditionalRequestCache != null && etag != null && body != null) {
+            this.conditionalRequestCache.store(key, etag, responseType, body, size);
+        }
+    }
+
+    /**
+     * Stores the parsed response in {@link ResponseCache} if it is configured.
+     *
+     * @param key        The key that identifies the request
+     * @param genericUrl The API URL
+     * @param body       The parsed response
+     * @param size       The size of the response body in bytes
+     */
+    private void cache(final String key, final GenericUrl genericUrl, final Object body, final long size) {
+        if (this.responseCache != null) {
+            this.responseCache.put(key, genericUrl, body, size);
+        }
+    }
+
+    /**
+     * The interface that parses the HTTP response.
+     *
+     * @param <R> The type of the parsed response
+     */
+    @FunctionalInterface
+    private interface ResponseParser<R> {
+
+        /**
+         * Parses the content of the HTTP response.
+         *
+         * @param charset The charset of the content
+         * @param link    The value of {@code "Link"} header, or {@code null} if it
+         *                was not sent
+         * @param content The content of the HTTP response
+         * @return The parsed response
+         *
+         * @throws IOException If an error occurs during parsing
+         */
+        R parse(Charset charset, String link, InputStream content) throws IOException;
+    }
+
+    /**
+     * The input stream that keeps a copy of the bytes read from the content, so
+     * the raw response can be stored after it is parsed. The bytes not read by
+     * the parser are read when the stream is closed.
+     */
+    private static final class CapturingInputStream extends FilterInputStream {
+
+        /**
+         * The bytes read from the content
+         */
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        /**
+         * The constructor.
+         *
+         * @param content The content
+         */
+        private CapturingInputStream(final InputStream content) {
+            super(content);
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            final int read = super.read();
+
+            if (read >= 0) {
+                this.captured.write(read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+            final int count = super.read(bytes, offset, length);
+
+            if (count > 0) {
+                this.captured.write(bytes, offset, count);
+            }
+
+            return count;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            return Math.max(0, this.read(new byte[(int) Math.max(0L, Math.min(count, 8192L))]));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.transferTo(OutputStream.nullOutputStream());
+            } finally {
+                super.close();
+            }
+        }
+
+        /**
+         * Returns the bytes read from the content.
+         *
+         * @return The bytes read from the content
+         */
+        private byte[] toByteArray() {
+            return this.captured.toByteArray();
+        }
+    }
 }
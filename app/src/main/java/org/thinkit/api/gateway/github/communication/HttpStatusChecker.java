@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.api.gateway.github.catalog.ErrorHttpStatus;
+import org.thinkit.api.gateway.github.exception.AccessForbiddenException;
+import org.thinkit.api.gateway.github.exception.BadGatewayException;
+import org.thinkit.api.gateway.github.exception.BadRequestException;
+import org.thinkit.api.gateway.github.exception.InternalServerErrorException;
+import org.thinkit.api.gateway.github.exception.NotAcceptableException;
+import org.thinkit.api.gateway.github.exception.NotFoundException;
+import org.thinkit.api.gateway.github.exception.ServiceUnavailableException;
+import org.thinkit.api.gateway.github.exception.UserUnauthorizedException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class that converts the error HTTP status into the exception. It is
+ * shared by the blocking and the asynchronous communicators.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class HttpStatusChecker {
+
+    /**
+     * Check the status code of the HTTP response.
+     *
+     * <p>
+     * The exception will always be raised at runtime if a status code indicating a
+     * client error and a server error is detected.
+     *
+     * @param statusCode    The status code
+     * @param statusMessage The status message
+     */
+    static void check(final int statusCode, final String statusMessage) {
+
+        final ErrorHttpStatus errorHttpStatus = BiCatalog.getEnumByTag(ErrorHttpStatus.class, statusCode);
+
+        if (errorHttpStatus == null) {
+            return;
+        }
+
+        switch (errorHttpStatus) {
+        case BAD_REQUEST -> throw new BadRequestException(statusMessage);
+        case UNAUTHORIZED -> throw new UserUnauthorizedException(statusMessage);
+        case FORBIDDEN -> throw new AccessForbiddenException(statusMessage);
+        case NOT_FOUND -> throw new NotFoundException(statusMessage);
+        case NOT_ACCEPTABLE -> throw new NotAcceptableException(statusMessage);
+        case INTERNAL_SERVER_ERROR -> throw new InternalServerErrorException(statusMessage);
+        case BAD_GATEWAY -> throw new BadGatewayException(statusMessage);
+        case SERVICE_UNAVAILABLE -> throw new ServiceUnavailableException(statusMessage);
+        default -> throw new IllegalStateException(); // it will never happen
+        }
+    }
+
+    /**
+     * Returns the reason phrase of the status code. It is used when the response
+     * does not carry its reason phrase, like the responses over HTTP/2.
+     *
+     * @param statusCode The status code
+     * @return The reason phrase, or the status code as a string if it is not a
+     *         registered status code
+     */
+    static String getReasonPhrase(final int statusCode) {
+        return switch (statusCode) {
+        case 200 -> "OK";
+        case 201 -> "Created";
+        case 202 -> "Accepted";
+        case 204 -> "No Content";
+        case 301 -> "Moved Permanently";
+        case 302 -> "Found";
+        case 304 -> "Not Modified";
+        case 307 -> "Temporary Redirect";
+        case 308 -> "Permanent Redirect";
+        case 400 -> "Bad Request";
+        case 401 -> "Unauthorized";
+        case 403 -> "Forbidden";
+        case 404 -> "Not Found";
+        case 405 -> "Method Not Allowed";
+        case 406 -> "Not Acceptable";
+        case 409 -> "Conflict";
+        case 410 -> "Gone";
+        case 412 -> "Precondition Failed";
+        case 415 -> "Unsupported Media Type";
+        case 422 -> "Unprocessable Entity";
+        case 429 -> "Too Many Requests";
+        case 451 -> "Unavailable For Legal Reasons";
+        case 500 -> "Internal Server Error";
+        case 501 -> "Not Implemented";
+        case 502 -> "Bad Gateway";
+        case 503 -> "Service Unavailable";
+        case 504 -> "Gateway Timeout";
+        default -> String.valueOf(statusCode);
+        };
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import lombok.NonNull;
+
+/**
+ * The {@link LowLevelHttpRequest} sent by {@link JdkHttpTransport} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class JdkHttpRequest extends LowLevelHttpRequest {
+
+    /**
+     * The headers that are managed by {@link HttpClient} itself
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+
+    /**
+     * The transport
+     */
+    private final JdkHttpTransport transport;
+
+    /**
+     * The request method
+     */
+    private final String method;
+
+    /**
+     * The request builder
+     */
+    private final HttpRequest.Builder requestBuilder;
+
+    /**
+     * The constructor.
+     *
+     * @param transport The transport
+     * @param method    The request method
+     * @param url       The request url
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    JdkHttpRequest(@NonNull final JdkHttpTransport transport, @NonNull final String method,
+            @NonNull final String url) {
+        this.transport = transport;
+        this.method = method;
+        this.requestBuilder = HttpRequest.newBuilder(URI.create(url)).timeout(transport.getReadTimeout());
+    }
+
+    @Override
+    public void addHeader(final String name, final String value) throws IOException {
+        if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+            this.requestBuilder.header(name, value);
+        }
+    }
+
+    @Override
+    public LowLevelHttpResponse execute() throws IOException {
+
+        final HttpClient httpClient = this.transport.acquire();
+
+        try {
+            final HttpResponse<InputStream> httpResponse = httpClient
+                    .send(this.requestBuilder.method(this.method, this.createBodyPublisher()).build(),
+                            HttpResponse.BodyHandlers.ofInputStream());
+            return new JdkHttpResponse(this.transport, httpResponse);
+        } catch (InterruptedException e) {
+            this.transport.release();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (IOException | RuntimeException e) {
+            this.transport.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the body publisher of the streaming content set to this request.
+     *
+     * @return The body publisher
+     *
+     * @throws IOException If an error occurs while writing the content
+     */
+    private HttpRequest.BodyPublisher createBodyPublisher() throws IOException {
+
+        if (super.getStreamingContent() == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+
+        if (super.getContentType() != null) {
+            this.requestBuilder.header("Content-Type", super.getContentType());
+        }
+
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        super.getStreamingContent().writeTo(content);
+
+        return HttpRequest.BodyPublishers.ofByteArray(content.toByteArray());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import lombok.NonNull;
+
+/**
+ * The {@link LowLevelHttpResponse} received by {@link JdkHttpTransport} .
+ *
+ * <p>
+ * The stream acquired for the request is released when the content is closed
+ * or the response is disconnected, whichever comes first.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class JdkHttpResponse extends LowLevelHttpResponse {
+
+    /**
+     * The http response
+     */
+    private final HttpResponse<InputStream> httpResponse;
+
+    /**
+     * The content that releases the stream on close
+     */
+    private final InputStream content;
+
+    /**
+     * The header names
+     */
+    private final List<String> headerNames = new ArrayList<>();
+
+    /**
+     * The header values
+     */
+    private final List<String> headerValues = new ArrayList<>();
+
+    /**
+     * The constructor.
+     *
+     * @param transport    The transport
+     * @param httpResponse The http response
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    JdkHttpResponse(@NonNull final JdkHttpTransport transport, @NonNull final HttpResponse<InputStream> httpResponse) {
+        this.httpResponse = httpResponse;
+        this.content = new ReleasingInputStream(httpResponse.body(), transport);
+
+        httpResponse.headers().map().forEach((name, values) -> {
+            values.forEach(value -> {
+                this.headerNames.add(name);
+                this.headerValues.add(value);
+            });
+        });
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        return this.content;
+    }
+
+    @Override
+    public String getContentEncoding() throws IOException {
+        return this.httpResponse.headers().firstValue("Content-Encoding").orElse(null);
+    }
+
+    @Override
+    public long getContentLength() throws IOException {
+        return this.httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1L);
+    }
+
+    @Override
+    public String getContentType() throws IOException {
+        return this.httpResponse.headers().firstValue("Content-Type").orElse(null);
+    }
+
+    @Override
+    public String getStatusLine() throws IOException {
+        final String protocol = this.httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + this.httpResponse.statusCode() + " " + this.getReasonPhrase();
+    }
+
+    @Override
+    public int getStatusCode() throws IOException {
+        return this.httpResponse.statusCode();
+    }
+
+    @Override
+    public String getReasonPhrase() throws IOException {
+        // HTTP/2 does not carry the reason phrase, and HttpClient drops it for HTTP/1.1
+        return HttpStatusChecker.getReasonPhrase(this.httpResponse.statusCode());
+    }
+
+    @Override
+    public int getHeaderCount() throws IOException {
+        return this.headerNames.size();
+    }
+
+    @Override
+    public String getHeaderName(final int index) throws IOException {
+        return this.headerNames.get(index);
+    }
+
+    @Override
+    public String getHeaderValue(final int index) throws IOException {
+        return this.headerValues.get(index);
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+        this.content.close();
+    }
+
+    /**
+     * The input stream that gives the stream of the transport back when it is
+     * closed.
+     */
+    private static final class ReleasingInputStream extends FilterInputStream {
+
+        /**
+         * The transport
+         */
+        private final JdkHttpTransport transport;
+
+        /**
+         * Whether the stream is already released
+         */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * The constructor.
+         *
+         * @param inputStream The input stream
+         * @param transport   The transport
+         */
+        ReleasingInputStream(final InputStream inputStream, final JdkHttpTransport transport) {
+            super(inputStream);
+            this.transport = transport;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (this.released.compareAndSet(false, true)) {
+                    this.transport.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+
+import lombok.NonNull;
+
+/**
+ * The {@link HttpTransport} that delegates to the pool of
+ * {@link java.net.http.HttpClient} .
+ *
+ * <p>
+ * The clients are selected in round-robin order, and the count of the streams
+ * in flight over the whole pool is bounded by a semaphore.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class JdkHttpTransport extends HttpTransport {
+
+    /**
+     * The http clients
+     */
+    private final HttpClient[] httpClients;
+
+    /**
+     * The streams that can be opened
+     */
+    private final Semaphore streams;
+
+    /**
+     * The index of the next client
+     */
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    /**
+     * The read timeout
+     */
+    private final Duration readTimeout;
+
+    /**
+     * The constructor.
+     *
+     * @param connectionPoolSize   The count of the connections in the pool
+     * @param maxConcurrentStreams The count of the concurrent streams per
+     *                             connection
+     * @param connectTimeout       The connect timeout
+     * @param readTimeout          The read timeout
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    JdkHttpTransport(final int connectionPoolSize, final int maxConcurrentStreams,
+            @NonNull final Duration connectTimeout, @NonNull final Duration readTimeout) {
+        this.httpClients = new HttpClient[connectionPoolSize];
+        this.streams = new Semaphore(connectionPoolSize * maxConcurrentStreams, true);
+        this.readTimeout = readTimeout;
+
+        for (int i = 0; i < connectionPoolSize; i++) {
+            this.httpClients[i] = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout).followRedirects(HttpClient.Redirect.NORMAL).build();
+        }
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(final String method, final String url) throws IOException {
+        return new JdkHttpRequest(this, method, url);
+    }
+
+    /**
+     * Returns the read timeout applied to each request.
+     *
+     * @return The read timeout
+     */
+    Duration getReadTimeout() {
+        return this.readTimeout;
+    }
+
+    /**
+     * Returns the count of the streams that can be acquired without waiting.
+     *
+     * @return The count of the available streams
+     */
+    int getAvailableStreamCount() {
+        return this.streams.availablePermits();
+    }
+
+    /**
+     * Acquires a stream and returns the client that carries it. The stream must
+     * be given back by {@link #release()} when the response is consumed.
+     *
+     * @return The http client
+     *
+     * @throws InterruptedIOException If the current thread is interrupted while
+     *                                waiting for a stream
+     */
+    HttpClient acquire() throws InterruptedIOException {
+
+        try {
+            this.streams.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a stream");
+        }
+
+        return this.httpClients[Math.floorMod(this.nextClient.getAndIncrement(), this.httpClients.length)];
+    }
+
+    /**
+     * Releases the stream acquired by {@link #acquire()} .
+     */
+    void release() {
+        this.streams.release();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The transport based on {@link NetHttpTransport} , that is
+ * {@link java.net.HttpURLConnection} . This is the default transport of the
+ * communicator.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(staticName = "newInstance")
+public final class NetTransport implements Transport, Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -1826418209468470147L;
+
+    /**
+     * The http transport shared by all communicators
+     */
+    private static final HttpTransport HTTP_TRANSPORT = new NetHttpTransport();
+
+    @Override
+    public HttpTransport getHttpTransport() {
+        return HTTP_TRANSPORT;
+    }
+}
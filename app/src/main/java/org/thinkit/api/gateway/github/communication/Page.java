@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages a page of the paginated resource and the links to
+ * the other pages given by the {@code "Link"} header.
+ *
+ * @param <T> The type of the item
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class Page<T> implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -2209364735186424581L;
+
+    /**
+     * The items
+     */
+    @Getter
+    private List<T> items;
+
+    /**
+     * The links for each relation
+     */
+    @Getter
+    private Map<LinkRelation, String> links;
+
+    /**
+     * Tests if there is the next page.
+     *
+     * @return {@code true} if there is the next page, otherwise {@code false}
+     */
+    public boolean hasNext() {
+        return this.links.containsKey(LinkRelation.NEXT);
+    }
+
+    /**
+     * Returns the URL of the page for the relation.
+     *
+     * @param linkRelation The link relation
+     * @return The URL of the page, or {@code null} if there is no link for the
+     *         relation
+     */
+    public GenericUrl getUrl(final LinkRelation linkRelation) {
+        final String url = this.links.get(linkRelation);
+        return url == null ? null : new GenericUrl(url);
+    }
+}
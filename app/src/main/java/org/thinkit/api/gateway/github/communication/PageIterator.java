@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+
+import lombok.NonNull;
+
+/**
+ * The iterator that walks through the items of a paginated resource by
+ * following the {@code rel="next"} link of the {@code "Link"} header.
+ *
+ * <p>
+ * The pages are fetched lazily. The next page is requested only when the items
+ * of the current page are consumed, so only one page is held in memory at a
+ * time and no more request is sent once the caller stops iterating.
+ *
+ * @param <T> The type of the item
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class PageIterator<T> implements Iterator<T> {
+
+    /**
+     * The communicator
+     */
+    private final Communicator communicator;
+
+    /**
+     * The response class
+     */
+    private final Class<T> responseClass;
+
+    /**
+     * The URL of the next page, or {@code null} if there is no next page
+     */
+    private GenericUrl nextUrl;
+
+    /**
+     * The items of the current page
+     */
+    private Iterator<T> items = Collections.emptyIterator();
+
+    /**
+     * The constructor.
+     *
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private PageIterator(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass) {
+        this.communicator = communicator;
+        this.nextUrl = firstUrl;
+        this.responseClass = responseClass;
+    }
+
+    /**
+     * Returns the new instance of {@link PageIterator} based on the arguments.
+     *
+     * @param <T>           The type of the item
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     * @return The new instance of {@link PageIterator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> Iterator<T> from(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass) {
+        return new PageIterator<>(communicator, firstUrl, responseClass);
+    }
+
+    /**
+     * Returns the sequential stream of the items of a paginated resource. The
+     * pages are fetched lazily as the stream is consumed.
+     *
+     * @param <T>           The type of the item
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     * @return The stream of the items
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> Stream<T> stream(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(from(communicator, firstUrl, responseClass),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        while (!this.items.hasNext() && this.nextUrl != null) {
+            // Releases the consumed page before the next page is fetched
+            this.items = Collections.emptyIterator();
+
+            final Page<T> page = this.communicator.getPage(this.nextUrl, this.responseClass);
+            this.items = page.getItems().iterator();
+            this.nextUrl = page.getUrl(LinkRelation.NEXT);
+        }
+
+        return this.items.hasNext();
+    }
+
+    @Override
+    public T next() {
+
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return this.items.next();
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+
+import lombok.NonNull;
+
+/**
+ * The publisher of the items of a paginated resource that fetches the pages as
+ * the subscriber demands the items.
+ *
+ * <p>
+ * A page is requested only when the subscriber has requested more items than
+ * the pages already fetched hold, so at most one page is in flight and held in
+ * memory for each subscription however slow the subscriber is. The pages are
+ * fetched by following the {@code rel="next"} link like {@link PageIterator} ,
+ * and each subscription starts from the first page.
+ *
+ * <p>
+ * The signals to the subscriber are sent one at a time from the threads of the
+ * executor, which also send the blocking requests. The publisher follows the
+ * rules of the Reactive Streams specification: a non-positive demand is
+ * signalled as {@link IllegalArgumentException} , a failed request is signalled
+ * through {@link Flow.Subscriber#onError(Throwable)} , and no more request is
+ * sent once the subscription is cancelled.
+ *
+ * @param <T> The type of the item
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class PagePublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * The default executor, whose daemon threads exit after they have been idle
+     * for a while
+     */
+    private static final Executor DEFAULT_EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
+            TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                final Thread thread = new Thread(runnable, "github-api-gateway-publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The communicator
+     */
+    private final Communicator communicator;
+
+    /**
+     * The URL of the first page
+     */
+    private final GenericUrl firstUrl;
+
+    /**
+     * The response class
+     */
+    private final Class<T> responseClass;
+
+    /**
+     * The executor that fetches the pages and signals the subscribers
+     */
+    private final Executor executor;
+
+    /**
+     * The constructor.
+     *
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     * @param executor      The executor that fetches the pages and signals the
+     *                      subscribers
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private PagePublisher(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass, @NonNull final Executor executor) {
+        this.communicator = communicator;
+        this.firstUrl = firstUrl;
+        this.responseClass = responseClass;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the new instance of {@link PagePublisher} based on the arguments.
+     * The pages are fetched by the daemon threads shared by the publishers.
+     *
+     * @param <T>           The type of the item
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     * @return The new instance of {@link PagePublisher}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> Flow.Publisher<T> from(@NonNull final Communicator communicator,
+            @NonNull final GenericUrl firstUrl, @NonNull final Class<T> responseClass) {
+        return new PagePublisher<>(communicator, firstUrl, responseClass, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Returns the new instance of {@link PagePublisher} based on the arguments.
+     *
+     * @param <T>           The type of the item
+     * @param communicator  The communicator
+     * @param firstUrl      The URL of the first page
+     * @param responseClass The response class
+     * @param executor      The executor that fetches the pages and signals the
+     *                      subscribers
+     * @return The new instance of {@link PagePublisher}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> Flow.Publisher<T> from(@NonNull final Communicator communicator,
+            @NonNull final GenericUrl firstUrl, @NonNull final Class<T> responseClass,
+            @NonNull final Executor executor) {
+        return new PagePublisher<>(communicator, firstUrl, responseClass, executor);
+    }
+
+    @Override
+    public void subscribe(@NonNull final Flow.Subscriber<? super T> subscriber) {
+
+        final PageSubscription subscription = new PageSubscription(subscriber, this.firstUrl.clone());
+        subscriber.onSubscribe(subscription);
+
+        // The demand requested in onSubscribe is served after it returns
+        if (subscription.workInProgress.decrementAndGet() != 0) {
+            this.executor.execute(subscription);
+        }
+    }
+
+    /**
+     * The subscription that fetches the pages as its subscriber demands the
+     * items.
+     *
+     * <p>
+     * The signals are sent by the drain loop, which is run by one thread at a
+     * time. The calls of {@link #request(long)} and {@link #cancel()} only
+     * record the demand and schedule the loop, so they can be called from any
+     * thread including the subscriber's {@code onNext} without recursion.
+     */
+    private final class PageSubscription implements Flow.Subscription, Runnable {
+
+        /**
+         * The subscriber
+         */
+        private final Flow.Subscriber<? super T> subscriber;
+
+        /**
+         * The outstanding demand, which is capped at {@link Long#MAX_VALUE}
+         */
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * The count of the schedules not served by the drain loop yet. It starts
+         * at {@code 1} so that the loop does not run until the subscriber returns
+         * from {@code onSubscribe} .
+         */
+        private final AtomicInteger workInProgress = new AtomicInteger(1);
+
+        /**
+         * {@code true} if the subscription is cancelled or terminated
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * The error of the non-positive demand, or {@code null} if not requested
+         */
+        private volatile IllegalArgumentException demandError;
+
+        /**
+         * The URL of the next page, or {@code null} if there is no next page
+         */
+        private GenericUrl nextUrl;
+
+        /**
+         * The items of the current page
+         */
+        private Iterator<T> items = Collections.emptyIterator();
+
+        /**
+         * The constructor.
+         *
+         * @param subscriber The subscriber
+         * @param firstUrl   The URL of the first page
+         */
+        private PageSubscription(final Flow.Subscriber<? super T> subscriber, final GenericUrl firstUrl) {
+            this.subscriber = subscriber;
+            this.nextUrl = firstUrl;
+        }
+
+        @Override
+        public void request(final long n) {
+
+            if (n <= 0L) {
+                this.demandError = new IllegalArgumentException(
+                        String.format("The demand must be positive but was %d", n));
+            } else {
+                this.requested.accumulateAndGet(n, (current, added) -> {
+                    final long sum = current + added;
+                    return sum < 0L ? Long.MAX_VALUE : sum;
+                });
+            }
+
+            this.schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.schedule();
+        }
+
+        @Override
+        public void run() {
+
+            int missed = 1;
+
+            while (true) {
+                final long demand = this.requested.get();
+                long emitted = 0L;
+
+                while (emitted != demand && !this.isTerminated()) {
+                    if (this.items.hasNext()) {
+                        this.subscriber.onNext(this.items.next());
+                        emitted++;
+                    } else if (this.nextUrl == null) {
+                        this.complete();
+                    } else {
+                        this.fetchPage();
+                    }
+                }
+
+                if (!this.isTerminated() && !this.items.hasNext() && this.nextUrl == null) {
+                    this.complete();
+                }
+
+                if (this.cancelled) {
+                    // Releases the page and the subscriber held by the cancelled subscription
+                    this.items = Collections.emptyIterator();
+                    this.nextUrl = null;
+                } else if (emitted != 0L && demand != Long.MAX_VALUE) {
+                    this.requested.addAndGet(-emitted);
+                }
+
+                missed = this.workInProgress.addAndGet(-missed);
+
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Schedules the drain loop unless it is already scheduled.
+         */
+        private void schedule() {
+            if (this.workInProgress.getAndIncrement() == 0) {
+                PagePublisher.this.executor.execute(this);
+            }
+        }
+
+        /**
+         * Tests if no more signal is sent, sending the error of the non-positive
+         * demand if it is requested.
+         *
+         * @return {@code true} if the subscription is cancelled or terminated
+         */
+        private boolean isTerminated() {
+
+            if (this.cancelled) {
+                return true;
+            }
+
+            if (this.demandError != null) {
+                this.cancelled = true;
+                this.subscriber.onError(this.demandError);
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Fetches the next page, or sends the error if the request fails.
+         */
+        private void fetchPage() {
+            try {
+                final Page<T> page = PagePublisher.this.communicator.getPage(this.nextUrl,
+                        PagePublisher.this.responseClass);
+                this.items = page.getItems().iterator();
+                this.nextUrl = page.getUrl(LinkRelation.NEXT);
+            } catch (RuntimeException e) {
+                this.cancelled = true;
+                this.subscriber.onError(e);
+            }
+        }
+
+        /**
+         * Sends the completion to the subscriber.
+         */
+        private void complete() {
+            this.cancelled = true;
+            this.subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+import org.thinkit.api.gateway.github.catalog.QueryKey;
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+
+import lombok.NonNull;
+
+/**
+ * The iterator that fetches the pages of a paginated resource in parallel.
+ *
+ * <p>
+ * The first page is fetched on the caller thread, and the page count is taken
+ * from its {@code rel="last"} link. The following pages are then fetched
+ * concurrently by the threads of {@link ParallelPagination#getParallelism()} ,
+ * while the items are still returned in the order of the pages. At most
+ * {@link ParallelPagination#getPrefetch()} pages are fetched ahead of the page
+ * being consumed, so the memory stays flat however many pages there are.
+ *
+ * <p>
+ * If the first page has no {@code rel="last"} link, the remaining pages are
+ * followed one after another like {@link PageIterator} .
+ *
+ * @param <T> The type of the item
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class ParallelPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The communicator
+     */
+    private final Communicator communicator;
+
+    /**
+     * The response class
+     */
+    private final Class<T> responseClass;
+
+    /**
+     * The parallel pagination
+     */
+    private final ParallelPagination parallelPagination;
+
+    /**
+     * The pages that are being fetched in the order of the page
+     */
+    private final Deque<Future<List<T>>> pages = new ArrayDeque<>();
+
+    /**
+     * The URL of the first page, or {@code null} if it is already fetched
+     */
+    private GenericUrl firstUrl;
+
+    /**
+     * The URL of the next page when the pages are followed one after another
+     */
+    private GenericUrl nextUrl;
+
+    /**
+     * The URL of the last page
+     */
+    private GenericUrl lastUrl;
+
+    /**
+     * The number of the next page to be requested
+     */
+    private int nextPage;
+
+    /**
+     * The number of the last page
+     */
+    private int lastPage;
+
+    /**
+     * The executor that fetches the pages, it is created lazily
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * The items of the current page
+     */
+    private Iterator<T> items = Collections.emptyIterator();
+
+    /**
+     * The constructor.
+     *
+     * @param communicator       The communicator
+     * @param firstUrl           The URL of the first page
+     * @param responseClass      The response class
+     * @param parallelPagination The parallel pagination
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ParallelPageIterator(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass, @NonNull final ParallelPagination parallelPagination) {
+        this.communicator = communicator;
+        this.firstUrl = firstUrl;
+        this.responseClass = responseClass;
+        this.parallelPagination = parallelPagination;
+    }
+
+    /**
+     * Returns the new instance of {@link ParallelPageIterator} based on the
+     * arguments.
+     *
+     * @param <T>                The type of the item
+     * @param communicator       The communicator
+     * @param firstUrl           The URL of the first page
+     * @param responseClass      The response class
+     * @param parallelPagination The parallel pagination
+     * @return The new instance of {@link ParallelPageIterator}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> ParallelPageIterator<T> from(@NonNull final Communicator communicator,
+            @NonNull final GenericUrl firstUrl, @NonNull final Class<T> responseClass,
+            @NonNull final ParallelPagination parallelPagination) {
+        return new ParallelPageIterator<>(communicator, firstUrl, responseClass, parallelPagination);
+    }
+
+    /**
+     * Returns the sequential stream of the items of a paginated resource whose
+     * pages are fetched in parallel. Closing the stream cancels the pages that
+     * are being fetched.
+     *
+     * @param <T>                The type of the item
+     * @param communicator       The communicator
+     * @param firstUrl           The URL of the first page
+     * @param responseClass      The response class
+     * @param parallelPagination The parallel pagination
+     * @return The stream of the items
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T> Stream<T> stream(@NonNull final Communicator communicator, @NonNull final GenericUrl firstUrl,
+            @NonNull final Class<T> responseClass, @NonNull final ParallelPagination parallelPagination) {
+        final ParallelPageIterator<T> iterator = from(communicator, firstUrl, responseClass, parallelPagination);
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        while (!this.items.hasNext()) {
+            // Releases the consumed page before the next page is fetched
+            this.items = Collections.emptyIterator();
+
+            if (this.firstUrl != null) {
+                this.fetchFirstPage();
+            } else if (!this.pages.isEmpty()) {
+                this.items = this.await(this.pages.poll()).iterator();
+                this.requestPages();
+            } else if (this.nextUrl != null) {
+                final Page<T> page = this.communicator.getPage(this.nextUrl, this.responseClass);
+                this.items = page.getItems().iterator();
+                this.nextUrl = page.getUrl(LinkRelation.NEXT);
+            } else {
+                this.close();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return this.items.next();
+    }
+
+    /**
+     * Cancels the pages that are being fetched and stops the threads. The items
+     * of the current page that are not returned yet are discarded.
+     */
+    @Override
+    public void close() {
+
+        this.items = Collections.emptyIterator();
+        this.firstUrl = null;
+
+        if (this.executor != null) {
+            // Drains the queued pages first, otherwise an interrupted thread can start one of them
+            this.executor.shutdownNow();
+        }
+
+        this.pages.forEach(page -> page.cancel(true));
+        this.pages.clear();
+        this.nextUrl = null;
+        this.nextPage = this.lastPage + 1;
+    }
+
+    /**
+     * Fetches the first page and decides how to fetch the remaining pages from
+     * its links.
+     */
+    private void fetchFirstPage() {
+
+        final Page<T> page = this.communicator.getPage(this.firstUrl, this.responseClass);
+        this.firstUrl = null;
+        this.items = page.getItems().iterator();
+
+        final GenericUrl next = page.getUrl(LinkRelation.NEXT);
+        final GenericUrl last = page.getUrl(LinkRelation.LAST);
+
+        if (next == null) {
+            return;
+        }
+
+        final int nextPageNumber = getPageNumber(next);
+        final int lastPageNumber = last == null ? -1 : getPageNumber(last);
+
+        if (nextPageNumber < 1 || lastPageNumber < nextPageNumber) {
+            this.nextUrl = next;
+            return;
+        }
+
+        this.lastUrl = last;
+        this.nextPage = nextPageNumber;
+        this.lastPage = lastPageNumber;
+        this.requestPages();
+    }
+
+    /**
+     * Requests the pages until the prefetch window is filled.
+     */
+    private void requestPages() {
+
+        while (this.pages.size() < this.parallelPagination.getPrefetch() && this.nextPage <= this.lastPage) {
+            final GenericUrl pageUrl = this.lastUrl.clone();
+            pageUrl.set(QueryKey.PAGE.getTag(), this.nextPage++);
+            this.pages.add(this.getExecutor().submit(() -> {
+                return this.communicator.getPage(pageUrl, this.responseClass).getItems();
+            }));
+        }
+    }
+
+    /**
+     * Waits for the page to be fetched and returns its items.
+     *
+     * @param page The page being fetched
+     * @return The items of the page
+     */
+    private List<T> await(final Future<List<T>> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            this.close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            this.close();
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the executor, creating it on the first call. The threads are
+     * daemon threads and exit after they have been idle for a while, so an
+     * abandoned iterator does not keep them alive.
+     *
+     * @return The executor
+     */
+    private ThreadPoolExecutor getExecutor() {
+
+        if (this.executor == null) {
+            final int parallelism = this.parallelPagination.getParallelism();
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 10L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        final Thread thread = new Thread(runnable, "github-api-gateway-page");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        return this.executor;
+    }
+
+    /**
+     * Returns the page number in the URL.
+     *
+     * @param pageUrl The URL of the page
+     * @return The page number, or {@code -1} if it is not in the URL
+     */
+    private static int getPageNumber(final GenericUrl pageUrl) {
+
+        final Object page = pageUrl.getFirst(QueryKey.PAGE.getTag());
+
+        if (page == null) {
+            return -1;
+        }
+
+        try {
+            return Integer.parseInt(page.toString());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the rate limit of the GitHub API given by the
+ * {@code "X-RateLimit-*"} headers of the latest responses.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class RateLimit implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 8416935591718201342L;
+
+    /**
+     * The value that represents the unknown count
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * The maximum count of the requests in the current window
+     */
+    @Getter
+    private int limit;
+
+    /**
+     * The remaining count of the requests in the current window
+     */
+    @Getter
+    private int remaining;
+
+    /**
+     * The time the current window resets in UTC epoch seconds
+     */
+    @Getter
+    private long reset;
+
+    /**
+     * Returns the new instance of {@link RateLimit} that represents the rate
+     * limit not given by any response yet.
+     *
+     * @return The new instance of {@link RateLimit}
+     */
+    public static RateLimit unknownOf() {
+        return new RateLimit(UNKNOWN, UNKNOWN, 0L);
+    }
+
+    /**
+     * Tests if the rate limit is given by a response.
+     *
+     * @return {@code true} if the rate limit is known, otherwise {@code false}
+     */
+    public boolean isKnown() {
+        return this.remaining != UNKNOWN;
+    }
+}
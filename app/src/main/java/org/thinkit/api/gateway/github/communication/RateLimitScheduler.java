@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import lombok.ToString;
+
+/**
+ * The scheduler that keeps the requests within the rate limit of the GitHub
+ * API.
+ *
+ * <p>
+ * The scheduler reads the {@code "X-RateLimit-Remaining"} ,
+ * {@code "X-RateLimit-Reset"} and {@code "Retry-After"} headers of every
+ * response. Once the remaining count falls to the pacing threshold, the
+ * outgoing requests are spread evenly over the time left until the reset. When
+ * the remaining count is exhausted or the GitHub API asks to retry after a
+ * while, the callers are parked until the rate limit allows the request
+ * instead of failing.
+ *
+ * <p>
+ * The scheduler is shared by the communicators that send the requests with the
+ * same access token, because the rate limit is given for each token.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+public final class RateLimitScheduler {
+
+    /**
+     * The default ratio of the remaining count to the limit below which the
+     * requests are paced
+     */
+    private static final double DEFAULT_PACING_THRESHOLD = 0.2;
+
+    /**
+     * The margin added to the reset time to absorb the clock skew
+     */
+    private static final long RESET_MARGIN_MILLIS = 1000L;
+
+    /**
+     * The maximum count of the times a request is parked and sent again after
+     * the rate limit is exceeded
+     */
+    static final int MAX_PARKING_COUNT = 3;
+
+    /**
+     * The ratio of the remaining count to the limit below which the requests are
+     * paced
+     */
+    private final double pacingThreshold;
+
+    /**
+     * The latest rate limit
+     */
+    private RateLimit rateLimit = RateLimit.unknownOf();
+
+    /**
+     * The time until which no request is sent in epoch milliseconds
+     */
+    private long blockedUntil;
+
+    /**
+     * The time the next paced request is sent in epoch milliseconds
+     */
+    private long nextSlot;
+
+    /**
+     * The constructor.
+     *
+     * @param pacingThreshold The ratio of the remaining count to the limit below
+     *                        which the requests are paced
+     *
+     * @exception IllegalArgumentException If {@code pacingThreshold} is not
+     *                                     between 0 and 1
+     */
+    private RateLimitScheduler(final double pacingThreshold) {
+
+        if (pacingThreshold < 0.0 || pacingThreshold > 1.0) {
+            throw new IllegalArgumentException("The pacing threshold must be between 0 and 1");
+        }
+
+        this.pacingThreshold = pacingThreshold;
+    }
+
+    /**
+     * Returns the new instance of {@link RateLimitScheduler} that paces the
+     * requests once 20 percent of the limit remains.
+     *
+     * @return The new instance of {@link RateLimitScheduler}
+     */
+    public static RateLimitScheduler newInstance() {
+        return new RateLimitScheduler(DEFAULT_PACING_THRESHOLD);
+    }
+
+    /**
+     * Returns the new instance of {@link RateLimitScheduler} based on the
+     * argument. If {@code 1.0} is passed, the requests are always paced, and if
+     * {@code 0.0} is passed, the requests are only parked when the remaining
+     * count is exhausted.
+     *
+     * @param pacingThreshold The ratio of the remaining count to the limit below
+     *                        which the requests are paced
+     * @return The new instance of {@link RateLimitScheduler}
+     *
+     * @exception IllegalArgumentException If {@code pacingThreshold} is not
+     *                                     between 0 and 1
+     */
+    public static RateLimitScheduler of(final double pacingThreshold) {
+        return new RateLimitScheduler(pacingThreshold);
+    }
+
+    /**
+     * Returns the latest rate limit.
+     *
+     * @return The latest rate limit, or the rate limit that is not known if no
+     *         response has been received yet
+     */
+    public synchronized RateLimit getRateLimit() {
+        return this.rateLimit;
+    }
+
+    /**
+     * Parks the current thread until the request is allowed to be sent.
+     *
+     * @throws InterruptedException If the current thread is interrupted while
+     *                              parking
+     */
+    void acquire() throws InterruptedException {
+
+        final long delay = this.reserve();
+
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    /**
+     * Reserves the time the request is sent and returns the delay until the
+     * time.
+     *
+     * @return The delay in milliseconds until the request is allowed to be sent
+     */
+    synchronized long reserve() {
+
+        final long now = System.currentTimeMillis();
+        long start = Math.max(now, this.blockedUntil);
+
+        if (this.isPaced()) {
+            final long resetMillis = this.rateLimit.getReset() * 1000L;
+
+            if (resetMillis > start) {
+                start = Math.max(start, this.nextSlot);
+                this.nextSlot = start + (resetMillis - start) / Math.max(this.rateLimit.getRemaining(), 1);
+            }
+        }
+
+        return start - now;
+    }
+
+    /**
+     * Records the rate limit given by the headers of a response.
+     *
+     * @param statusCode The status code
+     * @param limit      The value of {@code "X-RateLimit-Limit"} header
+     * @param remaining  The value of {@code "X-RateLimit-Remaining"} header
+     * @param reset      The value of {@code "X-RateLimit-Reset"} header
+     * @param retryAfter The value of {@code "Retry-After"} header
+     * @return {@code true} if the request is rejected by the rate limit and
+     *         should be sent again after parking, otherwise {@code false}
+     */
+    synchronized boolean record(final int statusCode, final String limit, final String remaining,
+            final String reset, final String retryAfter) {
+
+        final int remainingCount = NumberUtils.toInt(remaining, RateLimit.UNKNOWN);
+        final long resetTime = NumberUtils.toLong(reset, 0L);
+        final long retryAfterSeconds = NumberUtils.toLong(retryAfter, -1L);
+
+        if (remainingCount != RateLimit.UNKNOWN && resetTime > 0L) {
+            this.update(NumberUtils.toInt(limit, RateLimit.UNKNOWN), remainingCount, resetTime);
+        }
+
+        if (remainingCount == 0) {
+            this.block(resetTime * 1000L + RESET_MARGIN_MILLIS);
+        }
+
+        final boolean rejected = (statusCode == 403 || statusCode == 429)
+                && (remainingCount == 0 || retryAfterSeconds >= 0L);
+
+        if (rejected && retryAfterSeconds >= 0L) {
+            this.block(System.currentTimeMillis() + retryAfterSeconds * 1000L);
+        }
+
+        return rejected;
+    }
+
+    /**
+     * Updates the rate limit. The responses may arrive out of order, so the
+     * smallest remaining count is kept within the same window.
+     *
+     * @param limit     The limit
+     * @param remaining The remaining count
+     * @param reset     The reset time in epoch seconds
+     */
+    private void update(final int limit, final int remaining, final long reset) {
+
+        if (!this.rateLimit.isKnown() || reset > this.rateLimit.getReset()) {
+            this.rateLimit = RateLimit.from(limit, remaining, reset);
+        } else if (reset == this.rateLimit.getReset() && remaining < this.rateLimit.getRemaining()) {
+            this.rateLimit = RateLimit.from(limit, remaining, reset);
+        }
+    }
+
+    /**
+     * Blocks the requests until the time passed as an argument.
+     *
+     * @param until The time in epoch milliseconds
+     */
+    private void block(final long until) {
+        this.blockedUntil = Math.max(this.blockedUntil, until);
+    }
+
+    /**
+     * Tests if the requests are paced.
+     *
+     * @return {@code true} if the requests are paced, otherwise {@code false}
+     */
+    private boolean isPaced() {
+        return this.rateLimit.isKnown() && this.rateLimit.getLimit() > 0
+                && this.rateLimit.getRemaining() <= this.rateLimit.getLimit() * this.pacingThreshold;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that coalesces the identical requests in flight into one request.
+ *
+ * <p>
+ * The first caller of a key sends the request, and the callers of the same key
+ * that arrive while the request is in flight wait for it and share its result,
+ * including the exception it throws. Nothing is kept once the request is
+ * completed, so this is not a cache.
+ *
+ * <p>
+ * The keys in flight are spread over the stripes that are locked separately,
+ * so the callers of different keys rarely wait for each other.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class RequestCoalescer {
+
+    /**
+     * The default count of the stripes
+     */
+    private static final int DEFAULT_STRIPE_COUNT = 64;
+
+    /**
+     * The stripes of the requests in flight
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * The count of the callers that shared the request of another caller
+     */
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * The constructor.
+     *
+     * @param stripeCount The count of the stripes
+     *
+     * @exception IllegalArgumentException If {@code stripeCount} is not positive
+     */
+    private RequestCoalescer(final int stripeCount) {
+
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("The stripe count must be positive");
+        }
+
+        // Rounds up to the power of two to select the stripe with the mask
+        int size = 1;
+
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new Stripe[size];
+
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link RequestCoalescer} with 64 stripes.
+     *
+     * @return The new instance of {@link RequestCoalescer}
+     */
+    public static RequestCoalescer newInstance() {
+        return new RequestCoalescer(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Returns the new instance of {@link RequestCoalescer} based on the argument.
+     * The count of the stripes is rounded up to the power of two.
+     *
+     * @param stripeCount The count of the stripes
+     * @return The new instance of {@link RequestCoalescer}
+     *
+     * @exception IllegalArgumentException If {@code stripeCount} is not positive
+     */
+    public static RequestCoalescer of(final int stripeCount) {
+        return new RequestCoalescer(stripeCount);
+    }
+
+    /**
+     * Returns the count of the callers that shared the request of another caller
+     * instead of sending their own.
+     *
+     * @return The count of the coalesced callers
+     */
+    @ToString.Include
+    public long getCoalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    /**
+     * Sends the request by the supplier passed as an argument, or waits for the
+     * request of the same key in flight and returns its result.
+     *
+     * @param <R>      The type of the result
+     * @param key      The key that identifies the request
+     * @param supplier The supplier that sends the request
+     * @return The result of the request
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    @SuppressWarnings("unchecked")
+    <R> R execute(@NonNull final String key, @NonNull final Supplier<R> supplier) {
+
+        final Stripe stripe = this.stripes[spread(key.hashCode()) & (this.stripes.length - 1)];
+        final CompletableFuture<Object> call;
+        final CompletableFuture<Object> leaderCall = new CompletableFuture<>();
+
+        synchronized (stripe) {
+            call = stripe.calls.putIfAbsent(key, leaderCall);
+        }
+
+        if (call == null) {
+            return this.lead(stripe, key, leaderCall, supplier);
+        }
+
+        this.coalescedCount.increment();
+
+        try {
+            return (R) call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the request as the first caller of the key and completes the call
+     * shared with the other callers.
+     *
+     * @param <R>      The type of the result
+     * @param stripe   The stripe of the key
+     * @param key      The key that identifies the request
+     * @param call     The call shared with the other callers
+     * @param supplier The supplier that sends the request
+     * @return The result of the request
+     */
+    private <R> R lead(final Stripe stripe, final String key, final CompletableFuture<Object> call,
+            final Supplier<R> supplier) {
+        try {
+            final R result = supplier.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            synchronized (stripe) {
+                stripe.calls.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Spreads the higher bits of the hash code to the lower bits.
+     *
+     * @param hashCode The hash code
+     * @return The spread hash code
+     */
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * The stripe that holds the requests in flight whose keys are mapped to it.
+     */
+    private static final class Stripe {
+
+        /**
+         * The requests in flight for each key
+         */
+        private final Map<String, CompletableFuture<Object>> calls = new HashMap<>();
+    }
+}
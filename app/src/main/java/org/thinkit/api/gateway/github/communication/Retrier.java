@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.api.client.http.HttpMethods;
+
+import lombok.NonNull;
+
+/**
+ * The class that decides whether a failed request is retried according to
+ * {@link RetryPolicy} and waits for the backoff.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class Retrier {
+
+    /**
+     * The retry policy
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The retry metrics
+     */
+    private final RetryMetrics retryMetrics;
+
+    /**
+     * The start of the current window of the retry budget in nanoseconds
+     */
+    private long windowStart = System.nanoTime();
+
+    /**
+     * The count of the retries in the current window
+     */
+    private int windowRetries;
+
+    /**
+     * The constructor.
+     *
+     * @param retryPolicy  The retry policy
+     * @param retryMetrics The retry metrics
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    Retrier(@NonNull final RetryPolicy retryPolicy, @NonNull final RetryMetrics retryMetrics) {
+        this.retryPolicy = retryPolicy;
+        this.retryMetrics = retryMetrics;
+    }
+
+    /**
+     * Tests if the request that received the status code is retried.
+     *
+     * @param method     The HTTP method
+     * @param statusCode The status code
+     * @param attempt    The count of the attempts so far
+     * @return {@code true} if the request is retried, otherwise {@code false}
+     */
+    boolean shouldRetry(final String method, final int statusCode, final int attempt) {
+        return this.retryPolicy.getRetryableStatusCodes().contains(statusCode) && this.acquire(method, attempt);
+    }
+
+    /**
+     * Tests if the request that failed with the exception is retried.
+     *
+     * @param method    The HTTP method
+     * @param exception The exception
+     * @param attempt   The count of the attempts so far
+     * @return {@code true} if the request is retried, otherwise {@code false}
+     */
+    boolean shouldRetry(final String method, final IOException exception, final int attempt) {
+
+        if (exception instanceof InterruptedIOException && !(exception instanceof SocketTimeoutException)) {
+            // The caller was interrupted, so it does not wait any more
+            return false;
+        }
+
+        return this.acquire(method, attempt);
+    }
+
+    /**
+     * Waits for the backoff before the retry. The delay is chosen at random
+     * between zero and the exponential backoff capped by the maximum delay.
+     *
+     * @param attempt The count of the attempts so far
+     *
+     * @throws InterruptedIOException If the current thread is interrupted while
+     *                                waiting
+     */
+    void backoff(final int attempt) throws InterruptedIOException {
+
+        final long baseDelay = this.retryPolicy.getBaseDelay().toMillis();
+        final long maxDelay = this.retryPolicy.getMaxDelay().toMillis();
+        final long backoff = attempt > 30 ? maxDelay : Math.min(maxDelay, baseDelay << (attempt - 1));
+
+        if (backoff <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoff + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Acquires a retry if the request is idempotent and neither the attempts nor
+     * the retry budget are exhausted.
+     *
+     * @param method  The HTTP method
+     * @param attempt The count of the attempts so far
+     * @return {@code true} if the retry is acquired, otherwise {@code false}
+     */
+    private boolean acquire(final String method, final int attempt) {
+
+        if (!HttpMethods.GET.equals(method) && !HttpMethods.HEAD.equals(method)) {
+            return false;
+        }
+
+        if (attempt >= this.retryPolicy.getMaxAttempts()) {
+            if (this.retryPolicy.getMaxAttempts() > 1) {
+                this.retryMetrics.recordExhausted();
+            }
+
+            return false;
+        }
+
+        if (!this.acquireBudget()) {
+            this.retryMetrics.recordBudgetExhausted();
+            return false;
+        }
+
+        this.retryMetrics.recordRetried();
+        return true;
+    }
+
+    /**
+     * Acquires a retry from the budget of the current window.
+     *
+     * @return {@code true} if the budget remains, otherwise {@code false}
+     */
+    private synchronized boolean acquireBudget() {
+
+        final long now = System.nanoTime();
+
+        if (now - this.windowStart >= this.retryPolicy.getRetryBudgetWindow().toNanos()) {
+            this.windowStart = now;
+            this.windowRetries = 0;
+        }
+
+        if (this.windowRetries >= this.retryPolicy.getRetryBudget()) {
+            return false;
+        }
+
+        this.windowRetries++;
+        return true;
+    }
+}
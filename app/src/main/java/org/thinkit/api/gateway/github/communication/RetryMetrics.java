@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.ToString;
+
+/**
+ * The class that counts the retries sent according to {@link RetryPolicy} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+public final class RetryMetrics implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 5226081497131340562L;
+
+    /**
+     * The count of the retries
+     */
+    private final LongAdder retriedCount = new LongAdder();
+
+    /**
+     * The count of the requests that failed after the maximum attempts
+     */
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    /**
+     * The count of the requests that failed without retry because the retry
+     * budget ran out
+     */
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    /**
+     * The constructor.
+     */
+    private RetryMetrics() {
+    }
+
+    /**
+     * Returns the new instance of {@link RetryMetrics} .
+     *
+     * @return The new instance of {@link RetryMetrics}
+     */
+    public static RetryMetrics newInstance() {
+        return new RetryMetrics();
+    }
+
+    /**
+     * Returns the count of the retries.
+     *
+     * @return The count of the retries
+     */
+    public long getRetriedCount() {
+        return this.retriedCount.sum();
+    }
+
+    /**
+     * Returns the count of the requests that failed after the maximum attempts.
+     *
+     * @return The count of the requests that failed after the maximum attempts
+     */
+    public long getExhaustedCount() {
+        return this.exhaustedCount.sum();
+    }
+
+    /**
+     * Returns the count of the requests that failed without retry because the
+     * retry budget ran out.
+     *
+     * @return The count of the requests that failed because the retry budget ran
+     *         out
+     */
+    public long getBudgetExhaustedCount() {
+        return this.budgetExhaustedCount.sum();
+    }
+
+    /**
+     * Counts a retry.
+     */
+    void recordRetried() {
+        this.retriedCount.increment();
+    }
+
+    /**
+     * Counts a request that failed after the maximum attempts.
+     */
+    void recordExhausted() {
+        this.exhaustedCount.increment();
+    }
+
+    /**
+     * Counts a request that failed because the retry budget ran out.
+     */
+    void recordBudgetExhausted() {
+        this.budgetExhaustedCount.increment();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * This data class manages the policy to retry the requests that failed
+ * transiently. If no value is set, the default value of each item is used.
+ *
+ * <p>
+ * Only the idempotent requests are retried, and only when the status code is
+ * one of {@link #getRetryableStatusCodes()} or the request fails with an I/O
+ * error. The delay before each retry is chosen at random between zero and the
+ * exponential backoff capped by {@link #getMaxDelay()} (full jitter), and at
+ * most {@link #getRetryBudget()} retries are sent in each
+ * {@link #getRetryBudgetWindow()} so that an outage does not multiply the
+ * load.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(staticName = "defaultOf")
+public final class RetryPolicy implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -4283104693316658911L;
+
+    /**
+     * The maximum count of the attempts including the first one
+     */
+    @Getter
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    /**
+     * The delay of the backoff before the first retry
+     */
+    @Getter
+    @Builder.Default
+    private Duration baseDelay = Duration.ofMillis(200);
+
+    /**
+     * The maximum delay of the backoff
+     */
+    @Getter
+    @Builder.Default
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    /**
+     * The maximum count of the retries in each window
+     */
+    @Getter
+    @Builder.Default
+    private int retryBudget = 100;
+
+    /**
+     * The window of the retry budget
+     */
+    @Getter
+    @Builder.Default
+    private Duration retryBudgetWindow = Duration.ofMinutes(1);
+
+    /**
+     * The status codes that are retried
+     */
+    @Getter
+    @Builder.Default
+    private Set<Integer> retryableStatusCodes = Set.of(500, 502, 503, 504);
+
+    /**
+     * Returns the new instance of {@link RetryPolicy} that never retries.
+     *
+     * @return The new instance of {@link RetryPolicy}
+     */
+    public static RetryPolicy noneOf() {
+        return RetryPolicy.builder().maxAttempts(1).build();
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.google.common.hash.Hashing;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+import org.thinkit.api.gateway.github.util.SecuritySchemeResolver;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The pool of the access tokens that the requests are spread over, so the
+ * rate limit of each token adds up.
+ *
+ * <p>
+ * Each request is sent with the token that has the largest remaining budget.
+ * The budget of a token is taken from the {@code "X-RateLimit-Remaining"}
+ * header of its responses and is decremented each time the token is selected,
+ * so the requests in flight are counted before their responses arrive. The
+ * token that is exhausted or asked to retry after a while is quarantined until
+ * its reset time and is not selected while any other token is available. If
+ * all tokens are quarantined, the token released first is selected and the
+ * request is parked by its {@link RateLimitScheduler} .
+ *
+ * <p>
+ * The budgets are kept in the atomic counters, so the selection takes no lock
+ * and scans the tokens without allocation. Each token has its own
+ * {@link RateLimitScheduler} , which paces the requests sent with it. The pool
+ * is shared by the communicators of a gateway.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class TokenPool {
+
+    /**
+     * The budget of the token whose rate limit is not known yet, which is the
+     * limit of the authenticated requests of the GitHub API
+     */
+    private static final int DEFAULT_BUDGET = 5000;
+
+    /**
+     * The margin added to the reset time to absorb the clock skew
+     */
+    private static final long RESET_MARGIN_MILLIS = 1000L;
+
+    /**
+     * The tokens
+     */
+    private final Token[] tokens;
+
+    /**
+     * The identity of the tokens used to separate the cached responses
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final String identity;
+
+    /**
+     * The constructor.
+     *
+     * @param tokens The tokens
+     */
+    private TokenPool(final Token[] tokens) {
+        this.tokens = tokens;
+        this.identity = Hashing.sha256()
+                .hashString(Arrays.stream(tokens).map(token -> token.accessToken).collect(Collectors.joining("\n")),
+                        StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    /**
+     * Returns the new instance of {@link TokenPool} that spreads the requests
+     * over the access tokens of the OAuth configs passed as an argument.
+     *
+     * @param oAuthConfigs The OAuth configs
+     * @return The new instance of {@link TokenPool}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the OAuth configs are empty
+     */
+    public static TokenPool from(@NonNull final List<OAuthConfig> oAuthConfigs) {
+
+        if (oAuthConfigs.isEmpty()) {
+            throw new IllegalArgumentException("The OAuth configs must not be empty");
+        }
+
+        return new TokenPool(oAuthConfigs.stream().map(oAuthConfig -> new Token(oAuthConfig.getAccessToken(),
+                RateLimitScheduler.newInstance())).toArray(Token[]::new));
+    }
+
+    /**
+     * Returns the new instance of {@link TokenPool} that has only the access
+     * token of the OAuth config passed as an argument.
+     *
+     * @param oAuthConfig The OAuth config
+     * @return The new instance of {@link TokenPool}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static TokenPool of(@NonNull final OAuthConfig oAuthConfig) {
+        return of(oAuthConfig, RateLimitScheduler.newInstance());
+    }
+
+    /**
+     * Returns the new instance of {@link TokenPool} that has only the access
+     * token of the OAuth config passed as an argument, whose requests are
+     * scheduled by the rate limit scheduler passed as an argument.
+     *
+     * @param oAuthConfig        The OAuth config
+     * @param rateLimitScheduler The rate limit scheduler
+     * @return The new instance of {@link TokenPool}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static TokenPool of(@NonNull final OAuthConfig oAuthConfig,
+            @NonNull final RateLimitScheduler rateLimitScheduler) {
+        return new TokenPool(new Token[] { new Token(oAuthConfig.getAccessToken(), rateLimitScheduler) });
+    }
+
+    /**
+     * Returns the count of the tokens.
+     *
+     * @return The count of the tokens
+     */
+    @ToString.Include
+    public int size() {
+        return this.tokens.length;
+    }
+
+    /**
+     * Returns the rate limit of the pool. If the pool has only one token, it is
+     * the rate limit of the token, otherwise it is the sum of the limits and the
+     * remaining counts of the tokens whose rate limits are known with the
+     * earliest reset time among them.
+     *
+     * @return The rate limit of the pool, or the rate limit that is not known if
+     *         no response has been received yet
+     */
+    public RateLimit getRateLimit() {
+
+        if (this.tokens.length == 1) {
+            return this.tokens[0].rateLimitScheduler.getRateLimit();
+        }
+
+        int limit = 0;
+        int remaining = 0;
+        long reset = Long.MAX_VALUE;
+        boolean known = false;
+
+        for (final Token token : this.tokens) {
+            final RateLimit rateLimit = token.rateLimitScheduler.getRateLimit();
+
+            if (rateLimit.isKnown()) {
+                known = true;
+                limit += Math.max(rateLimit.getLimit(), 0);
+                remaining += rateLimit.getRemaining();
+                reset = Math.min(reset, rateLimit.getReset());
+            }
+        }
+
+        return known ? RateLimit.from(limit, remaining, reset) : RateLimit.unknownOf();
+    }
+
+    /**
+     * Selects the token the next request is sent with, and counts the request
+     * in its budget.
+     *
+     * @return The token that has the largest remaining budget among the tokens
+     *         not quarantined, or the token released first if all tokens are
+     *         quarantined
+     */
+    Token select() {
+
+        if (this.tokens.length == 1) {
+            return this.tokens[0];
+        }
+
+        final long now = System.currentTimeMillis();
+        Token selected = null;
+        int selectedBudget = Integer.MIN_VALUE;
+        Token released = this.tokens[0];
+
+        for (final Token token : this.tokens) {
+            final long quarantinedUntil = token.quarantinedUntil.get();
+
+            if (quarantinedUntil > now) {
+                if (quarantinedUntil < released.quarantinedUntil.get()) {
+                    released = token;
+                }
+
+                continue;
+            }
+
+            final int budget = token.refill(now);
+
+            if (budget > selectedBudget) {
+                selected = token;
+                selectedBudget = budget;
+            }
+        }
+
+        if (selected == null) {
+            selected = released;
+        }
+
+        selected.budget.decrementAndGet();
+        return selected;
+    }
+
+    /**
+     * The access token and its rate limit.
+     */
+    static final class Token {
+
+        /**
+         * The access token
+         */
+        private final String accessToken;
+
+        /**
+         * The value of the {@code "Authorization"} header
+         */
+        @Getter(AccessLevel.PACKAGE)
+        private final String authorization;
+
+        /**
+         * The rate limit scheduler of the token
+         */
+        @Getter(AccessLevel.PACKAGE)
+        private final RateLimitScheduler rateLimitScheduler;
+
+        /**
+         * The remaining budget of the token
+         */
+        private final AtomicInteger budget = new AtomicInteger(DEFAULT_BUDGET);
+
+        /**
+         * The limit of the token
+         */
+        private volatile int limit = DEFAULT_BUDGET;
+
+        /**
+         * The reset time of the budget in epoch seconds, or {@code 0} if it is
+         * not known
+         */
+        private final AtomicLong reset = new AtomicLong();
+
+        /**
+         * The time until which the token is quarantined in epoch milliseconds
+         */
+        private final AtomicLong quarantinedUntil = new AtomicLong();
+
+        /**
+         * The constructor.
+         *
+         * @param accessToken        The access token
+         * @param rateLimitScheduler The rate limit scheduler of the token
+         */
+        private Token(final String accessToken, final RateLimitScheduler rateLimitScheduler) {
+            this.accessToken = StringUtils.defaultString(accessToken);
+            this.authorization = SecuritySchemeResolver.bearer(accessToken);
+            this.rateLimitScheduler = rateLimitScheduler;
+        }
+
+        /**
+         * Records the rate limit given by the headers of a response sent with the
+         * token, and quarantines the token if it is exhausted or asked to retry
+         * after a while.
+         *
+         * @param statusCode The status code
+         * @param limit      The value of {@code "X-RateLimit-Limit"} header
+         * @param remaining  The value of {@code "X-RateLimit-Remaining"} header
+         * @param reset      The value of {@code "X-RateLimit-Reset"} header
+         * @param retryAfter The value of {@code "Retry-After"} header
+         * @return {@code true} if the request is rejected by the rate limit,
+         *         otherwise {@code false}
+         */
+        boolean record(final int statusCode, final String limit, final String remaining, final String reset,
+                final String retryAfter) {
+
+            final boolean rejected = this.rateLimitScheduler.record(statusCode, limit, remaining, reset, retryAfter);
+            final int remainingCount = NumberUtils.toInt(remaining, RateLimit.UNKNOWN);
+            final long resetTime = NumberUtils.toLong(reset, 0L);
+
+            if (remainingCount != RateLimit.UNKNOWN && resetTime > 0L) {
+                this.limit = NumberUtils.toInt(limit, this.limit);
+                this.update(remainingCount, resetTime);
+
+                if (remainingCount == 0) {
+                    this.quarantine(resetTime * 1000L + RESET_MARGIN_MILLIS);
+                }
+            }
+
+            final long retryAfterSeconds = NumberUtils.toLong(retryAfter, -1L);
+
+            if (rejected) {
+                this.quarantine(retryAfterSeconds >= 0L ? System.currentTimeMillis() + retryAfterSeconds * 1000L
+                        : resetTime * 1000L + RESET_MARGIN_MILLIS);
+            }
+
+            return rejected;
+        }
+
+        /**
+         * Updates the budget with the remaining count of a response. The
+         * responses may arrive out of order and the budget already counts the
+         * requests in flight, so the smaller one is kept within the same window.
+         *
+         * @param remaining The remaining count
+         * @param resetTime The reset time in epoch seconds
+         */
+        private void update(final int remaining, final long resetTime) {
+
+            final long current = this.reset.get();
+
+            if (resetTime > current && this.reset.compareAndSet(current, resetTime)) {
+                this.budget.set(remaining);
+            } else if (resetTime >= this.reset.get()) {
+                this.budget.accumulateAndGet(remaining, Math::min);
+            }
+        }
+
+        /**
+         * Refills the budget to the limit if its window has been reset.
+         *
+         * @param now The current time in epoch milliseconds
+         * @return The remaining budget
+         */
+        private int refill(final long now) {
+
+            final long current = this.reset.get();
+
+            if (current > 0L && now >= current * 1000L && this.reset.compareAndSet(current, 0L)) {
+                this.budget.set(this.limit);
+            }
+
+            return this.budget.get();
+        }
+
+        /**
+         * Quarantines the token until the time passed as an argument.
+         *
+         * @param until The time in epoch milliseconds
+         */
+        private void quarantine(final long until) {
+            this.quarantinedUntil.accumulateAndGet(until, Math::max);
+        }
+    }
+}
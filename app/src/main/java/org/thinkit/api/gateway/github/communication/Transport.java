@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import com.google.api.client.http.HttpTransport;
+
+/**
+ * The interface that abstracts the transport used by the communicator to send
+ * HTTP requests.
+ *
+ * <p>
+ * The implementation of this interface decides how connections are opened,
+ * pooled and reused. {@link NetTransport} is used by default and
+ * {@link Http2Transport} can be selected through {@link CommunicationConfig}
+ * when the gateway is built.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public interface Transport {
+
+    /**
+     * Returns the HTTP transport that sends the requests.
+     *
+     * <p>
+     * The same instance must be returned every time this method is called so
+     * that the connections held by the transport can be reused.
+     *
+     * @return The HTTP transport
+     */
+    public HttpTransport getHttpTransport();
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.query;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the parallel pagination.
+ *
+ * <p>
+ * The pages after the first one are fetched by {@link #getParallelism()}
+ * threads at the same time, and at most {@link #getPrefetch()} pages are
+ * fetched ahead of the page being consumed.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParallelPagination implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -6806196212419315958L;
+
+    /**
+     * The count of the pages fetched at the same time
+     */
+    @Getter
+    private int parallelism;
+
+    /**
+     * The count of the pages fetched ahead of the page being consumed
+     */
+    @Getter
+    private int prefetch;
+
+    /**
+     * The constructor.
+     *
+     * @param parallelism The count of the pages fetched at the same time
+     * @param prefetch    The count of the pages fetched ahead of the page being
+     *                    consumed
+     *
+     * @exception IllegalArgumentException If {@code parallelism} is not positive
+     *                                     or {@code prefetch} is less than
+     *                                     {@code parallelism}
+     */
+    private ParallelPagination(final int parallelism, final int prefetch) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive");
+        }
+
+        if (prefetch < parallelism) {
+            throw new IllegalArgumentException("The prefetch must not be less than the parallelism");
+        }
+
+        this.parallelism = parallelism;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Returns the new instance of {@link ParallelPagination} based on the
+     * arguments.
+     *
+     * @param parallelism The count of the pages fetched at the same time
+     * @param prefetch    The count of the pages fetched ahead of the page being
+     *                    consumed
+     * @return The new instance of {@link ParallelPagination}
+     *
+     * @exception IllegalArgumentException If {@code parallelism} is not positive
+     *                                     or {@code prefetch} is less than
+     *                                     {@code parallelism}
+     */
+    public static ParallelPagination from(final int parallelism, final int prefetch) {
+        return new ParallelPagination(parallelism, prefetch);
+    }
+
+    /**
+     * Returns the new instance of {@link ParallelPagination} whose prefetch is
+     * twice the parallelism.
+     *
+     * @param parallelism The count of the pages fetched at the same time
+     * @return The new instance of {@link ParallelPagination}
+     *
+     * @exception IllegalArgumentException If {@code parallelism} is not positive
+     */
+    public static ParallelPagination of(final int parallelism) {
+        return new ParallelPagination(parallelism, parallelism * 2);
+    }
+}
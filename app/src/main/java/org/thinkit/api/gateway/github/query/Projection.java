@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.query;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The entity that manages the projection of the response fields.
+ *
+ * <p>
+ * The projection is the set of the JSON keys of the fields to be read, such
+ * as {@code "id"} or {@code "full_name"} . The values of the other fields are
+ * skipped by the generated decoders without being materialized, and the
+ * corresponding fields of the model are left unset. The nested models
+ * selected by the projection, such as {@code "owner"} , are read with all of
+ * their fields.
+ *
+ * <p>
+ * The projection is applied only when the generated decoders are enabled in
+ * {@link org.thinkit.api.gateway.github.communication.CommunicationConfig} ,
+ * otherwise all fields are read by reflection.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+public final class Projection implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -3907716250460263158L;
+
+    /**
+     * The JSON keys of the fields to be read
+     */
+    @Getter
+    private Set<String> fields;
+
+    /**
+     * The key that identifies the projection regardless of the order of the
+     * fields
+     */
+    @Getter
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String key;
+
+    /**
+     * The constructor.
+     *
+     * @param fields The JSON keys of the fields to be read
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     *                                     or contained in the fields
+     * @exception IllegalArgumentException If the fields are empty or contain an
+     *                                     empty key
+     */
+    private Projection(@NonNull final Set<String> fields) {
+
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The projection must have at least one field");
+        }
+
+        this.fields = Set.copyOf(fields);
+
+        if (this.fields.contains("")) {
+            throw new IllegalArgumentException("The field of the projection must not be empty");
+        }
+
+        this.key = String.join(",", new TreeSet<>(this.fields));
+    }
+
+    /**
+     * Returns the new instance of {@link Projection} based on the arguments.
+     *
+     * @param fields The JSON keys of the fields to be read
+     * @return The new instance of {@link Projection}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     *                                     or contained in the fields
+     * @exception IllegalArgumentException If the fields are empty or contain an
+     *                                     empty key
+     */
+    public static Projection of(@NonNull final String... fields) {
+        return new Projection(Set.copyOf(Arrays.asList(fields)));
+    }
+
+    /**
+     * Returns the new instance of {@link Projection} based on the arguments.
+     *
+     * @param fields The JSON keys of the fields to be read
+     * @return The new instance of {@link Projection}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     *                                     or contained in the fields
+     * @exception IllegalArgumentException If the fields are empty or contain an
+     *                                     empty key
+     */
+    public static Projection of(@NonNull final Set<String> fields) {
+        return new Projection(fields);
+    }
+}
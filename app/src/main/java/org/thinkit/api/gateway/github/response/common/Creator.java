@@ -19,8 +19,10 @@ import java.io.Serializable;
 import com.google.api.client.json.GenericJson;
 import com.google.api.client.util.Key;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -32,6 +34,7 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @Getter
+@Setter(AccessLevel.PACKAGE)
 public final class Creator extends GenericJson implements Serializable {
 
     /**
@@ -15,26 +15,38 @@
 package org.thinkit.api.gateway.github.response.repos;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 import com.google.api.client.json.GenericJson;
 import com.google.api.client.util.Key;
 
+import org.thinkit.api.gateway.github.catalog.RepositoryUrl;
 import org.thinkit.api.gateway.github.response.common.Creator;
 import org.thinkit.api.gateway.github.response.common.License;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
  * The entity that manages the repository information.
  *
+ * <p>
+ * The URL fields such as {@link #getForksUrl()} are derived from
+ * {@link #getFullName()} by {@link RepositoryUrl} if they are dropped by the
+ * compact mode of {@link org.thinkit.api.gateway.github.codec.DecodeOptions} ,
+ * so their getters return the same values in both modes.
+ *
  * @author Kato Shinya
  * @since 1.0.0
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @Getter
+@Setter(AccessLevel.PACKAGE)
 public final class Repository extends GenericJson implements Serializable {
 
     /**
@@ -324,18 +336,48 @@ public final class Repository extends GenericJson implements Serializable {
     @Key("created_at")
     private String createdAt;
 
+    /**
+     * The created datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long createdAtMillis = TimestampResolver.UNRESOLVED;
+
     /**
      * The updated datetime
      */
     @Key("updated_at")
     private String updatedAt;
 
+    /**
+     * The updated datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long updatedAtMillis = TimestampResolver.UNRESOLVED;
+
     /**
      * The pushed datetime
      */
     @Key("pushed_at")
     private String pushedAt;
 
+    /**
+     * The pushed datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long pushedAtMillis = TimestampResolver.UNRESOLVED;
+
     /**
      * The git url
      */
@@ -497,4 +539,557 @@ public final class Repository extends GenericJson implements Serializable {
      */
     @Key("subscribers_count")
     private int subscribersCount;
+
+    /**
+     * The mask of the URLs that are not stored but derived from the full name
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long derivedUrls;
+
+    /**
+     * Returns the html url.
+     *
+     * @return The html url
+     */
+    public String getHtmlUrl() {
+        return RepositoryUrl.HTML.resolve(this.htmlUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the url.
+     *
+     * @return The url
+     */
+    public String getUrl() {
+        return RepositoryUrl.URL.resolve(this.url, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the forks url.
+     *
+     * @return The forks url
+     */
+    public String getForksUrl() {
+        return RepositoryUrl.FORKS.resolve(this.forksUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the keys url.
+     *
+     * @return The keys url
+     */
+    public String getKeysUrl() {
+        return RepositoryUrl.KEYS.resolve(this.keysUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the collaborators url.
+     *
+     * @return The collaborators url
+     */
+    public String getCollaboratorsUrl() {
+        return RepositoryUrl.COLLABORATORS.resolve(this.collaboratorsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the teams url.
+     *
+     * @return The teams url
+     */
+    public String getTeamsUrl() {
+        return RepositoryUrl.TEAMS.resolve(this.teamsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the hooks url.
+     *
+     * @return The hooks url
+     */
+    public String getHooksUrl() {
+        return RepositoryUrl.HOOKS.resolve(this.hooksUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the issue events url.
+     *
+     * @return The issue events url
+     */
+    public String getIssueEventsUrl() {
+        return RepositoryUrl.ISSUE_EVENTS.resolve(this.issueEventsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the events url.
+     *
+     * @return The events url
+     */
+    public String getEventsUrl() {
+        return RepositoryUrl.EVENTS.resolve(this.eventsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the assignees url.
+     *
+     * @return The assignees url
+     */
+    public String getAssigneesUrl() {
+        return RepositoryUrl.ASSIGNEES.resolve(this.assigneesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the branches url.
+     *
+     * @return The branches url
+     */
+    public String getBranchesUrl() {
+        return RepositoryUrl.BRANCHES.resolve(this.branchesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the tags url.
+     *
+     * @return The tags url
+     */
+    public String getTagsUrl() {
+        return RepositoryUrl.TAGS.resolve(this.tagsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the git tags url.
+     *
+     * @return The git tags url
+     */
+    public String getGitTagsUrl() {
+        return RepositoryUrl.GIT_TAGS.resolve(this.gitTagsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the git refs url.
+     *
+     * @return The git refs url
+     */
+    public String getGitRefsUrl() {
+        return RepositoryUrl.GIT_REFS.resolve(this.gitRefsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the trees url.
+     *
+     * @return The trees url
+     */
+    public String getTreesUrl() {
+        return RepositoryUrl.TREES.resolve(this.treesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the statues url.
+     *
+     * @return The statues url
+     */
+    public String getStatusesUrl() {
+        return RepositoryUrl.STATUSES.resolve(this.statusesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the languages url.
+     *
+     * @return The languages url
+     */
+    public String getLanguagesUrl() {
+        return RepositoryUrl.LANGUAGES.resolve(this.languagesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the stargazers url.
+     *
+     * @return The stargazers url
+     */
+    public String getStargazersUrl() {
+        return RepositoryUrl.STARGAZERS.resolve(this.stargazersUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the contributors url.
+     *
+     * @return The contributors url
+     */
+    public String getContributorsUrl() {
+        return RepositoryUrl.CONTRIBUTORS.resolve(this.contributorsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the subscribers url.
+     *
+     * @return The subscribers url
+     */
+    public String getSubscribersUrl() {
+        return RepositoryUrl.SUBSCRIBERS.resolve(this.subscribersUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the subscription url.
+     *
+     * @return The subscription url
+     */
+    public String getSubscriptionUrl() {
+        return RepositoryUrl.SUBSCRIPTION.resolve(this.subscriptionUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the commits url.
+     *
+     * @return The commits url
+     */
+    public String getCommitsUrl() {
+        return RepositoryUrl.COMMITS.resolve(this.commitsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the git commits url.
+     *
+     * @return The git commits url
+     */
+    public String getGitCommitsUrl() {
+        return RepositoryUrl.GIT_COMMITS.resolve(this.gitCommitsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the comments url.
+     *
+     * @return The comments url
+     */
+    public String getCommentsUrl() {
+        return RepositoryUrl.COMMENTS.resolve(this.commentsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the issue comment url.
+     *
+     * @return The issue comment url
+     */
+    public String getIssueCommentUrl() {
+        return RepositoryUrl.ISSUE_COMMENT.resolve(this.issueCommentUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the contents url.
+     *
+     * @return The contents url
+     */
+    public String getContentsUrl() {
+        return RepositoryUrl.CONTENTS.resolve(this.contentsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the compare url.
+     *
+     * @return The compare url
+     */
+    public String getCompareUrl() {
+        return RepositoryUrl.COMPARE.resolve(this.compareUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the merges url.
+     *
+     * @return The merges url
+     */
+    public String getMergesUrl() {
+        return RepositoryUrl.MERGES.resolve(this.mergesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the archive url.
+     *
+     * @return The archive url
+     */
+    public String getArchiveUrl() {
+        return RepositoryUrl.ARCHIVE.resolve(this.archiveUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the downloads url.
+     *
+     * @return The downloads url
+     */
+    public String getDownloadsUrl() {
+        return RepositoryUrl.DOWNLOADS.resolve(this.downloadsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the issues url.
+     *
+     * @return The issues url
+     */
+    public String getIssuesUrl() {
+        return RepositoryUrl.ISSUES.resolve(this.issuesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the pulls url.
+     *
+     * @return The pulls url
+     */
+    public String getPullsUrl() {
+        return RepositoryUrl.PULLS.resolve(this.pullsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the milestones url.
+     *
+     * @return The milestones url
+     */
+    public String getMilestonesUrl() {
+        return RepositoryUrl.MILESTONES.resolve(this.milestonesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the notifications url.
+     *
+     * @return The notifications url
+     */
+    public String getNotificationsUrl() {
+        return RepositoryUrl.NOTIFICATIONS.resolve(this.notificationsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the labels url.
+     *
+     * @return The labels url
+     */
+    public String getLabelsUrl() {
+        return RepositoryUrl.LABELS.resolve(this.labelsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the releases url.
+     *
+     * @return The releases url
+     */
+    public String getReleasesUrl() {
+        return RepositoryUrl.RELEASES.resolve(this.releasesUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the deployment url.
+     *
+     * @return The deployment url
+     */
+    public String getDeploymentsUrl() {
+        return RepositoryUrl.DEPLOYMENTS.resolve(this.deploymentsUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the git url.
+     *
+     * @return The git url
+     */
+    public String getGitUrl() {
+        return RepositoryUrl.GIT.resolve(this.gitUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the ssh url.
+     *
+     * @return The ssh url
+     */
+    public String getSshUrl() {
+        return RepositoryUrl.SSH.resolve(this.sshUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the clone url.
+     *
+     * @return The clone url
+     */
+    public String getCloneUrl() {
+        return RepositoryUrl.CLONE.resolve(this.cloneUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Returns the svn url.
+     *
+     * @return The svn url
+     */
+    public String getSvnUrl() {
+        return RepositoryUrl.SVN.resolve(this.svnUrl, this.fullName, this.derivedUrls);
+    }
+
+    /**
+     * Drops the URLs that are equal to the ones derived from the full name, and
+     * marks them to be derived when their getters are called. It is called by
+     * the generated decoder in the compact mode.
+     */
+    void compactUrls() {
+        this.htmlUrl = this.compactUrl(RepositoryUrl.HTML, this.htmlUrl);
+        this.url = this.compactUrl(RepositoryUrl.URL, this.url);
+        this.forksUrl = this.compactUrl(RepositoryUrl.FORKS, this.forksUrl);
+        this.keysUrl = this.compactUrl(RepositoryUrl.KEYS, this.keysUrl);
+        this.collaboratorsUrl = this.compactUrl(RepositoryUrl.COLLABORATORS, this.collaboratorsUrl);
+        this.teamsUrl = this.compactUrl(RepositoryUrl.TEAMS, this.teamsUrl);
+        this.hooksUrl = this.compactUrl(RepositoryUrl.HOOKS, this.hooksUrl);
+        this.issueEventsUrl = this.compactUrl(RepositoryUrl.ISSUE_EVENTS, this.issueEventsUrl);
+        this.eventsUrl = this.compactUrl(RepositoryUrl.EVENTS, this.eventsUrl);
+        this.assigneesUrl = this.compactUrl(RepositoryUrl.ASSIGNEES, this.assigneesUrl);
+        this.branchesUrl = this.compactUrl(RepositoryUrl.BRANCHES, this.branchesUrl);
+        this.tagsUrl = this.compactUrl(RepositoryUrl.TAGS, this.tagsUrl);
+        this.gitTagsUrl = this.compactUrl(RepositoryUrl.GIT_TAGS, this.gitTagsUrl);
+        this.gitRefsUrl = this.compactUrl(RepositoryUrl.GIT_REFS, this.gitRefsUrl);
+        this.treesUrl = this.compactUrl(RepositoryUrl.TREES, this.treesUrl);
+        this.statusesUrl = this.compactUrl(RepositoryUrl.STATUSES, this.statusesUrl);
+        this.languagesUrl = this.compactUrl(RepositoryUrl.LANGUAGES, this.languagesUrl);
+        this.stargazersUrl = this.compactUrl(RepositoryUrl.STARGAZERS, this.stargazersUrl);
+        this.contributorsUrl = this.compactUrl(RepositoryUrl.CONTRIBUTORS, this.contributorsUrl);
+        this.subscribersUrl = this.compactUrl(RepositoryUrl.SUBSCRIBERS, this.subscribersUrl);
+        this.subscriptionUrl = this.compactUrl(RepositoryUrl.SUBSCRIPTION, this.subscriptionUrl);
+        this.commitsUrl = this.compactUrl(RepositoryUrl.COMMITS, this.commitsUrl);
+        this.gitCommitsUrl = this.compactUrl(RepositoryUrl.GIT_COMMITS, this.gitCommitsUrl);
+        this.commentsUrl = this.compactUrl(RepositoryUrl.COMMENTS, this.commentsUrl);
+        this.issueCommentUrl = this.compactUrl(RepositoryUrl.ISSUE_COMMENT, this.issueCommentUrl);
+        this.contentsUrl = this.compactUrl(RepositoryUrl.CONTENTS, this.contentsUrl);
+        this.compareUrl = this.compactUrl(RepositoryUrl.COMPARE, this.compareUrl);
+        this.mergesUrl = this.compactUrl(RepositoryUrl.MERGES, this.mergesUrl);
+        this.archiveUrl = this.compactUrl(RepositoryUrl.ARCHIVE, this.archiveUrl);
+        this.downloadsUrl = this.compactUrl(RepositoryUrl.DOWNLOADS, this.downloadsUrl);
+        this.issuesUrl = this.compactUrl(RepositoryUrl.ISSUES, this.issuesUrl);
+        this.pullsUrl = this.compactUrl(RepositoryUrl.PULLS, this.pullsUrl);
+        this.milestonesUrl = this.compactUrl(RepositoryUrl.MILESTONES, this.milestonesUrl);
+        this.notificationsUrl = this.compactUrl(RepositoryUrl.NOTIFICATIONS, this.notificationsUrl);
+        this.labelsUrl = this.compactUrl(RepositoryUrl.LABELS, this.labelsUrl);
+        this.releasesUrl = this.compactUrl(RepositoryUrl.RELEASES, this.releasesUrl);
+        this.deploymentsUrl = this.compactUrl(RepositoryUrl.DEPLOYMENTS, this.deploymentsUrl);
+        this.gitUrl = this.compactUrl(RepositoryUrl.GIT, this.gitUrl);
+        this.sshUrl = this.compactUrl(RepositoryUrl.SSH, this.sshUrl);
+        this.cloneUrl = this.compactUrl(RepositoryUrl.CLONE, this.cloneUrl);
+        this.svnUrl = this.compactUrl(RepositoryUrl.SVN, this.svnUrl);
+    }
+
+    /**
+     * Returns the URL to be stored in the compact mode.
+     *
+     * @param repositoryUrl The catalog of the URL
+     * @param url           The URL
+     * @return {@code null} if the URL is equal to the derived one, otherwise the
+     *         URL
+     */
+    private String compactUrl(final RepositoryUrl repositoryUrl, final String url) {
+
+        if (repositoryUrl.matches(this.fullName, url)) {
+            this.derivedUrls |= repositoryUrl.getMask();
+            return null;
+        }
+
+        return url;
+    }
+
+    /**
+     * Returns the created datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The created datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getCreatedAtMillis() {
+
+        if (this.createdAtMillis == TimestampResolver.UNRESOLVED) {
+            this.createdAtMillis = TimestampResolver.toEpochMillis(this.createdAt);
+        }
+
+        return this.createdAtMillis;
+    }
+
+    /**
+     * Returns the created datetime as the instant.
+     *
+     * @return The created datetime, or {@code null} if it is absent
+     */
+    public Instant getCreatedAtInstant() {
+        return TimestampResolver.toInstant(this.getCreatedAtMillis());
+    }
+
+    /**
+     * Sets the created datetime and resolves its epoch milliseconds.
+     *
+     * @param createdAt The created datetime
+     */
+    void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        this.createdAtMillis = TimestampResolver.toEpochMillis(createdAt);
+    }
+
+    /**
+     * Returns the updated datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The updated datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getUpdatedAtMillis() {
+
+        if (this.updatedAtMillis == TimestampResolver.UNRESOLVED) {
+            this.updatedAtMillis = TimestampResolver.toEpochMillis(this.updatedAt);
+        }
+
+        return this.updatedAtMillis;
+    }
+
+    /**
+     * Returns the updated datetime as the instant.
+     *
+     * @return The updated datetime, or {@code null} if it is absent
+     */
+    public Instant getUpdatedAtInstant() {
+        return TimestampResolver.toInstant(this.getUpdatedAtMillis());
+    }
+
+    /**
+     * Sets the updated datetime and resolves its epoch milliseconds.
+     *
+     * @param updatedAt The updated datetime
+     */
+    void setUpdatedAt(final String updatedAt) {
+        this.updatedAt = updatedAt;
+        this.updatedAtMillis = TimestampResolver.toEpochMillis(updatedAt);
+    }
+
+    /**
+     * Returns the pushed datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The pushed datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getPushedAtMillis() {
+
+        if (this.pushedAtMillis == TimestampResolver.UNRESOLVED) {
+            this.pushedAtMillis = TimestampResolver.toEpochMillis(this.pushedAt);
+        }
+
+        return this.pushedAtMillis;
+    }
+
+    /**
+     * Returns the pushed datetime as the instant.
+     *
+     * @return The pushed datetime, or {@code null} if it is absent
+     */
+    public Instant getPushedAtInstant() {
+        return TimestampResolver.toInstant(this.getPushedAtMillis());
+    }
+
+    /**
+     * Sets the pushed datetime and resolves its epoch milliseconds.
+     *
+     * @param pushedAt The pushed datetime
+     */
+    void setPushedAt(final String pushedAt) {
+        this.pushedAt = pushedAt;
+        this.pushedAtMillis = TimestampResolver.toEpochMillis(pushedAt);
+    }
 }
@@ -15,13 +15,17 @@
 package org.thinkit.api.gateway.github.response.repos.issues.comments;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 import com.google.api.client.util.Key;
 
 import org.thinkit.api.gateway.github.response.common.Creator;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -33,6 +37,7 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @Getter
+@Setter(AccessLevel.PACKAGE)
 public final class IssueComment implements Serializable {
 
     /**
@@ -82,12 +87,32 @@ public final class IssueComment implements Serializable {
     @Key("created_at")
     private String createdAt;
 
+    /**
+     * The created datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long createdAtMillis = TimestampResolver.UNRESOLVED;
+
     /**
      * The updated datetime
      */
     @Key("updated_at")
     private String updatedAt;
 
+    /**
+     * The updated datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long updatedAtMillis = TimestampResolver.UNRESOLVED;
+
     /**
      * The author association
      */
@@ -105,4 +130,76 @@ public final class IssueComment implements Serializable {
      */
     @Key("performed_via_github_app")
     private String performedViaGithubApp;
+
+    /**
+     * Returns the created datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The created datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getCreatedAtMillis() {
+
+        if (this.createdAtMillis == TimestampResolver.UNRESOLVED) {
+            this.createdAtMillis = TimestampResolver.toEpochMillis(this.createdAt);
+        }
+
+        return this.createdAtMillis;
+    }
+
+    /**
+     * Returns the created datetime as the instant.
+     *
+     * @return The created datetime, or {@code null} if it is absent
+     */
+    public Instant getCreatedAtInstant() {
+        return TimestampResolver.toInstant(this.getCreatedAtMillis());
+    }
+
+    /**
+     * Sets the created datetime and resolves its epoch milliseconds.
+     *
+     * @param createdAt The created datetime
+     */
+    void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        this.createdAtMillis = TimestampResolver.toEpochMillis(createdAt);
+    }
+
+    /**
+     * Returns the updated datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The updated datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getUpdatedAtMillis() {
+
+        if (this.updatedAtMillis == TimestampResolver.UNRESOLVED) {
+            this.updatedAtMillis = TimestampResolver.toEpochMillis(this.updatedAt);
+        }
+
+        return this.updatedAtMillis;
+    }
+
+    /**
+     * Returns the updated datetime as the instant.
+     *
+     * @return The updated datetime, or {@code null} if it is absent
+     */
+    public Instant getUpdatedAtInstant() {
+        return TimestampResolver.toInstant(this.getUpdatedAtMillis());
+    }
+
+    /**
+     * Sets the updated datetime and resolves its epoch milliseconds.
+     *
+     * @param updatedAt The updated datetime
+     */
+    void setUpdatedAt(final String updatedAt) {
+        this.updatedAt = updatedAt;
+        this.updatedAtMillis = TimestampResolver.toEpochMillis(updatedAt);
+    }
 }
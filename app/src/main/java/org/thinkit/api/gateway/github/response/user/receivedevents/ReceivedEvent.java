@@ -15,12 +15,17 @@
 package org.thinkit.api.gateway.github.response.user.receivedevents;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 import com.google.api.client.json.GenericJson;
 import com.google.api.client.util.Key;
 
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 /**
@@ -32,6 +37,7 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode(callSuper = false)
 @Getter
+@Setter(AccessLevel.PACKAGE)
 public final class ReceivedEvent extends GenericJson implements Serializable {
 
     /**
@@ -80,4 +86,50 @@ public final class ReceivedEvent extends GenericJson implements Serializable {
      */
     @Key("created_at")
     private String createdAt;
+
+    /**
+     * The created datetime in epoch milliseconds, or
+     * {@link TimestampResolver#UNRESOLVED} if it is not resolved yet
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long createdAtMillis = TimestampResolver.UNRESOLVED;
+
+    /**
+     * Returns the created datetime in epoch milliseconds. It is resolved once
+     * when the model is decoded, or when this method is called first if the model
+     * is parsed by reflection.
+     *
+     * @return The created datetime in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is absent
+     */
+    public long getCreatedAtMillis() {
+
+        if (this.createdAtMillis == TimestampResolver.UNRESOLVED) {
+            this.createdAtMillis = TimestampResolver.toEpochMillis(this.createdAt);
+        }
+
+        return this.createdAtMillis;
+    }
+
+    /**
+     * Returns the created datetime as the instant.
+     *
+     * @return The created datetime, or {@code null} if it is absent
+     */
+    public Instant getCreatedAtInstant() {
+        return TimestampResolver.toInstant(this.getCreatedAtMillis());
+    }
+
+    /**
+     * Sets the created datetime and resolves its epoch milliseconds.
+     *
+     * @param createdAt The created datetime
+     */
+    void setCreatedAt(final String createdAt) {
+        this.createdAt = createdAt;
+        this.createdAtMillis = TimestampResolver.toEpochMillis(createdAt);
+    }
 }
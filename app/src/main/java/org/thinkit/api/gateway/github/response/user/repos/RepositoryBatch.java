@@ -0,0 +1,335 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.response.user.repos;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.thinkit.api.gateway.github.catalog.RepositoryColumn;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the repositories in the columnar representation.
+ *
+ * <p>
+ * Each field is stored in its own column of the primitive array instead of
+ * the models of {@link UserRepository} , so a large listing of the
+ * repositories takes a few bytes per repository and the aggregations scan the
+ * contiguous arrays. The numeric fields of {@link RepositoryColumn} are stored
+ * as {@code int} , and the language is stored as the code of the dictionary
+ * {@link #getLanguages()} . The aggregations such as
+ * {@link #sum(RepositoryColumn)} are plain counted loops over the columns, so
+ * they can be compiled into the SIMD instructions by the JIT compiler.
+ *
+ * <p>
+ * The batch is filled by {@link RepositoryBatchReader} while the responses
+ * are read, and no model of {@link UserRepository} is created.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RepositoryBatch implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 8204471360519782351L;
+
+    /**
+     * The code of the repository whose language is not detected
+     */
+    public static final int NO_LANGUAGE = -1;
+
+    /**
+     * The code of the language that no repository in the batch has
+     */
+    public static final int UNKNOWN_LANGUAGE = -2;
+
+    /**
+     * The count of the repositories
+     */
+    @Getter
+    private int rowCount;
+
+    /**
+     * The repository ids
+     */
+    private long[] ids;
+
+    /**
+     * The numeric columns for each code of {@link RepositoryColumn}
+     */
+    private int[][] columns;
+
+    /**
+     * The codes of the languages
+     */
+    private int[] languageCodes;
+
+    /**
+     * The epoch milliseconds of the last push
+     */
+    private long[] pushedAtMillis;
+
+    /**
+     * The dictionary of the languages, in which the index is the code
+     */
+    @Getter
+    private List<String> languages;
+
+    /**
+     * The constructor.
+     *
+     * @param rowCount       The count of the repositories
+     * @param ids            The repository ids
+     * @param columns        The numeric columns
+     * @param languageCodes  The codes of the languages
+     * @param pushedAtMillis The epoch milliseconds of the last push
+     * @param languages      The dictionary of the languages
+     */
+    RepositoryBatch(final int rowCount, final long[] ids, final int[][] columns, final int[] languageCodes,
+            final long[] pushedAtMillis, final List<String> languages) {
+        this.rowCount = rowCount;
+        this.ids = ids;
+        this.columns = columns;
+        this.languageCodes = languageCodes;
+        this.pushedAtMillis = pushedAtMillis;
+        this.languages = List.copyOf(languages);
+    }
+
+    /**
+     * Returns the repository id of the row.
+     *
+     * @param row The index of the row
+     * @return The repository id
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public long getId(final int row) {
+        return this.ids[Objects.checkIndex(row, this.rowCount)];
+    }
+
+    /**
+     * Returns the value of the numeric column of the row.
+     *
+     * @param column The numeric column
+     * @param row    The index of the row
+     * @return The value
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public int getValue(final RepositoryColumn column, final int row) {
+        return this.columns[column.getCode()][Objects.checkIndex(row, this.rowCount)];
+    }
+
+    /**
+     * Returns the code of the language of the row.
+     *
+     * @param row The index of the row
+     * @return The code of the language, or {@link #NO_LANGUAGE} if the language
+     *         is not detected
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public int getLanguageCode(final int row) {
+        return this.languageCodes[Objects.checkIndex(row, this.rowCount)];
+    }
+
+    /**
+     * Returns the language of the row.
+     *
+     * @param row The index of the row
+     * @return The language, or {@code null} if the language is not detected
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public String getLanguage(final int row) {
+        final int code = this.getLanguageCode(row);
+        return code == NO_LANGUAGE ? null : this.languages.get(code);
+    }
+
+    /**
+     * Returns the epoch milliseconds of the last push of the row.
+     *
+     * @param row The index of the row
+     * @return The epoch milliseconds, or {@link TimestampResolver#NONE} if the
+     *         repository has never been pushed
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public long getPushedAtMillis(final int row) {
+        return this.pushedAtMillis[Objects.checkIndex(row, this.rowCount)];
+    }
+
+    /**
+     * Returns the instant of the last push of the row.
+     *
+     * @param row The index of the row
+     * @return The instant, or {@code null} if the repository has never been
+     *         pushed
+     *
+     * @exception IndexOutOfBoundsException If the row is out of range
+     */
+    public Instant getPushedAtInstant(final int row) {
+        return TimestampResolver.toInstant(this.getPushedAtMillis(row));
+    }
+
+    /**
+     * Returns the code of the language passed as an argument.
+     *
+     * @param language The language
+     * @return The code of the language, {@link #NO_LANGUAGE} if the language is
+     *         {@code null} , or {@link #UNKNOWN_LANGUAGE} if no repository in the
+     *         batch has the language
+     */
+    public int codeOf(final String language) {
+
+        if (language == null) {
+            return NO_LANGUAGE;
+        }
+
+        final int code = this.languages.indexOf(language);
+        return code < 0 ? UNKNOWN_LANGUAGE : code;
+    }
+
+    /**
+     * Returns the sum of the numeric column.
+     *
+     * @param column The numeric column
+     * @return The sum of the column
+     */
+    public long sum(final RepositoryColumn column) {
+
+        final int[] values = this.columns[column.getCode()];
+        long sum = 0L;
+
+        for (int i = 0; i < this.rowCount; i++) {
+            sum += values[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the numeric column of the rows that have the language
+     * passed as an argument.
+     *
+     * @param column       The numeric column
+     * @param languageCode The code of the language
+     * @return The sum of the column
+     */
+    public long sum(final RepositoryColumn column, final int languageCode) {
+
+        final int[] values = this.columns[column.getCode()];
+        final int[] codes = this.languageCodes;
+        long sum = 0L;
+
+        for (int i = 0; i < this.rowCount; i++) {
+            sum += codes[i] == languageCode ? values[i] : 0;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the maximum value of the numeric column.
+     *
+     * @param column The numeric column
+     * @return The maximum value, or {@code 0} if the batch is empty
+     */
+    public int max(final RepositoryColumn column) {
+
+        if (this.rowCount == 0) {
+            return 0;
+        }
+
+        final int[] values = this.columns[column.getCode()];
+        int max = Integer.MIN_VALUE;
+
+        for (int i = 0; i < this.rowCount; i++) {
+            max = Math.max(max, values[i]);
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the count of the repositories for each language. The index of the
+     * array is the code of the language.
+     *
+     * @return The count of the repositories for each language
+     */
+    public int[] countByLanguage() {
+
+        final int[] counts = new int[this.languages.size()];
+
+        for (int i = 0; i < this.rowCount; i++) {
+            final int code = this.languageCodes[i];
+
+            if (code != NO_LANGUAGE) {
+                counts[code]++;
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * Returns the sum of the numeric column for each language. The index of the
+     * array is the code of the language.
+     *
+     * @param column The numeric column
+     * @return The sum of the column for each language
+     */
+    public long[] sumByLanguage(final RepositoryColumn column) {
+
+        final int[] values = this.columns[column.getCode()];
+        final long[] sums = new long[this.languages.size()];
+
+        for (int i = 0; i < this.rowCount; i++) {
+            final int code = this.languageCodes[i];
+
+            if (code != NO_LANGUAGE) {
+                sums[code] += values[i];
+            }
+        }
+
+        return sums;
+    }
+
+    /**
+     * Returns the copy of the numeric column, whose length is the count of the
+     * repositories.
+     *
+     * @param column The numeric column
+     * @return The copy of the column
+     */
+    public int[] toArray(final RepositoryColumn column) {
+        return Arrays.copyOf(this.columns[column.getCode()], this.rowCount);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.response.user.repos;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import org.thinkit.api.gateway.github.catalog.RepositoryColumn;
+import org.thinkit.api.gateway.github.codec.JsonElementReader;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The reader that fills the columns of {@link RepositoryBatch} directly from
+ * the JSON objects of the repositories.
+ *
+ * <p>
+ * The values are appended to the growing primitive arrays while the JSON is
+ * read, and the fields other than the columns are skipped without being
+ * materialized. The same reader can read the pages of a listing one after
+ * another, and {@link #toBatch()} returns the batch of all the repositories
+ * read so far. The reader is not thread safe.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RepositoryBatchReader implements JsonElementReader {
+
+    /**
+     * The initial capacity of the columns
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The numeric columns
+     */
+    private static final RepositoryColumn[] COLUMNS = RepositoryColumn.values();
+
+    /**
+     * The JSON key of the repository id
+     */
+    private static final String ID = "id";
+
+    /**
+     * The JSON key of the language
+     */
+    private static final String LANGUAGE = "language";
+
+    /**
+     * The JSON key of the last push
+     */
+    private static final String PUSHED_AT = "pushed_at";
+
+    /**
+     * The count of the repositories read
+     */
+    private int rowCount;
+
+    /**
+     * The repository ids
+     */
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    /**
+     * The numeric columns for each code of {@link RepositoryColumn}
+     */
+    private final int[][] columns = new int[COLUMNS.length][INITIAL_CAPACITY];
+
+    /**
+     * The codes of the languages
+     */
+    private int[] languageCodes = new int[INITIAL_CAPACITY];
+
+    /**
+     * The epoch milliseconds of the last push
+     */
+    private long[] pushedAtMillis = new long[INITIAL_CAPACITY];
+
+    /**
+     * The dictionary of the languages, in which the index is the code
+     */
+    private final List<String> languages = new ArrayList<>();
+
+    /**
+     * The codes for each language
+     */
+    private final Map<String, Integer> languageCodeMap = new HashMap<>();
+
+    /**
+     * Returns the new instance of {@link RepositoryBatchReader} .
+     *
+     * @return The new instance of {@link RepositoryBatchReader}
+     */
+    public static RepositoryBatchReader newInstance() {
+        return new RepositoryBatchReader();
+    }
+
+    /**
+     * Reads the JSON object of a repository into the next row.
+     *
+     * @param reader The JSON reader
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    @Override
+    public void read(@NonNull final JsonReader reader) throws IOException {
+
+        if (this.rowCount == this.ids.length) {
+            this.grow();
+        }
+
+        final int row = this.rowCount;
+        this.ids[row] = 0L;
+        this.languageCodes[row] = RepositoryBatch.NO_LANGUAGE;
+        this.pushedAtMillis[row] = TimestampResolver.NONE;
+
+        for (final int[] column : this.columns) {
+            column[row] = 0;
+        }
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+            case ID -> this.ids[row] = reader.nextLong();
+            case LANGUAGE -> this.languageCodes[row] = this.encode(reader.nextString());
+            case PUSHED_AT -> this.pushedAtMillis[row] = TimestampResolver.toEpochMillis(reader.nextString());
+            default -> this.readColumn(reader, name, row);
+            }
+        }
+
+        reader.endObject();
+        this.rowCount++;
+    }
+
+    /**
+     * Returns the batch of the repositories read so far.
+     *
+     * @return The batch of the repositories
+     */
+    public RepositoryBatch toBatch() {
+
+        final int[][] trimmedColumns = new int[this.columns.length][];
+
+        for (int i = 0; i < this.columns.length; i++) {
+            trimmedColumns[i] = Arrays.copyOf(this.columns[i], this.rowCount);
+        }
+
+        return new RepositoryBatch(this.rowCount, Arrays.copyOf(this.ids, this.rowCount), trimmedColumns,
+                Arrays.copyOf(this.languageCodes, this.rowCount), Arrays.copyOf(this.pushedAtMillis, this.rowCount),
+                this.languages);
+    }
+
+    /**
+     * Reads the value into the numeric column if the name is the tag of
+     * {@link RepositoryColumn} , otherwise skips the value.
+     *
+     * @param reader The JSON reader
+     * @param name   The name of the field
+     * @param row    The index of the row
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    private void readColumn(final JsonReader reader, final String name, final int row) throws IOException {
+
+        for (final RepositoryColumn column : COLUMNS) {
+            if (column.getTag().equals(name)) {
+                this.columns[column.getCode()][row] = reader.nextInt();
+                return;
+            }
+        }
+
+        reader.skipValue();
+    }
+
+    /**
+     * Returns the code of the language, adding it to the dictionary if it is
+     * new.
+     *
+     * @param language The language
+     * @return The code of the language
+     */
+    private int encode(final String language) {
+        return this.languageCodeMap.computeIfAbsent(language, key -> {
+            this.languages.add(key);
+            return this.languages.size() - 1;
+        });
+    }
+
+    /**
+     * Doubles the capacity of the columns.
+     */
+    private void grow() {
+
+        final int capacity = this.ids.length * 2;
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.languageCodes = Arrays.copyOf(this.languageCodes, capacity);
+        this.pushedAtMillis = Arrays.copyOf(this.pushedAtMillis, capacity);
+
+        for (int i = 0; i < this.columns.length; i++) {
+            this.columns[i] = Arrays.copyOf(this.columns[i], capacity);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.NonNull;
+
+/**
+ * The interface that stores the checkpoints of the incremental
+ * synchronization. A checkpoint is the high-water mark of a resource, which is
+ * the latest {@code "updated_at"} synchronized so far in epoch milliseconds.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public interface CheckpointStore {
+
+    /**
+     * Returns the checkpoint of the key passed as an argument.
+     *
+     * @param key The key of the checkpoint
+     * @return The checkpoint in epoch milliseconds, or
+     *         {@link TimestampResolver#NONE} if it is not stored
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public long load(@NonNull final String key);
+
+    /**
+     * Stores the checkpoint of the key passed as an argument.
+     *
+     * @param key        The key of the checkpoint
+     * @param checkpoint The checkpoint in epoch milliseconds
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the checkpoint cannot be stored
+     */
+    public void save(@NonNull final String key, final long checkpoint);
+}
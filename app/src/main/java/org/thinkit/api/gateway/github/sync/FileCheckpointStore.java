@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The checkpoint store that persists the checkpoints in a properties file, so
+ * a restarted synchronization resumes from the last checkpoint instead of the
+ * full rescan.
+ *
+ * <p>
+ * The file is read once when the store is created, and it is rewritten as a
+ * whole each time a checkpoint is stored. The new content is written to a
+ * temporary file in the same directory and moved over the file, so the file
+ * keeps the previous checkpoints if the process dies while writing.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class FileCheckpointStore implements CheckpointStore {
+
+    /**
+     * The suffix of the temporary file
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The path of the file
+     */
+    @ToString.Include
+    private final Path path;
+
+    /**
+     * The checkpoints for each key
+     */
+    private final Properties checkpoints = new Properties();
+
+    /**
+     * The constructor.
+     *
+     * @param path The path of the file
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the file exists but cannot be read
+     */
+    private FileCheckpointStore(@NonNull final Path path) {
+
+        this.path = path.toAbsolutePath();
+
+        if (Files.exists(this.path)) {
+            try (Reader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+                this.checkpoints.load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link FileCheckpointStore} that persists the
+     * checkpoints in the file passed as an argument. The file is created when
+     * the first checkpoint is stored if it does not exist.
+     *
+     * @param path The path of the file
+     * @return The new instance of {@link FileCheckpointStore}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If the file exists but cannot be read
+     */
+    public static FileCheckpointStore from(@NonNull final Path path) {
+        return new FileCheckpointStore(path);
+    }
+
+    @Override
+    public synchronized long load(@NonNull final String key) {
+
+        final String checkpoint = this.checkpoints.getProperty(key);
+
+        if (checkpoint == null) {
+            return TimestampResolver.NONE;
+        }
+
+        try {
+            return Long.parseLong(checkpoint);
+        } catch (NumberFormatException e) {
+            return TimestampResolver.NONE;
+        }
+    }
+
+    @Override
+    public synchronized void save(@NonNull final String key, final long checkpoint) {
+
+        this.checkpoints.setProperty(key, String.valueOf(checkpoint));
+
+        try {
+            final Path directory = this.path.getParent();
+            Files.createDirectories(directory);
+
+            final Path temporary = Files.createTempFile(directory, this.path.getFileName().toString(),
+                    TEMPORARY_SUFFIX);
+
+            try {
+                try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                    this.checkpoints.store(writer, null);
+                }
+
+                this.replace(temporary);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Replaces the file with the temporary file, atomically if the file system
+     * supports it.
+     *
+     * @param temporary The temporary file
+     *
+     * @throws IOException If the file cannot be replaced
+     */
+    private void replace(final Path temporary) throws IOException {
+        try {
+            Files.move(temporary, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, this.path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.thinkit.api.gateway.github.RepositoryApi;
+import org.thinkit.api.gateway.github.catalog.IssueState;
+import org.thinkit.api.gateway.github.catalog.QueryKey;
+import org.thinkit.api.gateway.github.catalog.SyncResource;
+import org.thinkit.api.gateway.github.query.Pagination;
+import org.thinkit.api.gateway.github.query.QueryParameter;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.response.repos.issues.comments.IssueComment;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The engine that synchronizes the issues and the issue comments of the
+ * repositories incrementally through {@link RepositoryApi} .
+ *
+ * <p>
+ * The high-water mark of each repository and resource, which is the latest
+ * {@code "updated_at"} merged so far, is kept in {@link CheckpointStore} .
+ * The next synchronization requests only the resources updated since the
+ * checkpoint with the {@code "since"} parameter, sorted by
+ * {@code "updated_at"} in ascending order, and merges them into the caller's
+ * {@link SyncStore} page by page. The checkpoint is stored after each page is
+ * merged, so the synchronization restarted in the middle resumes from the
+ * last page merged instead of the full rescan.
+ *
+ * <p>
+ * The pages are followed by moving {@code "since"} to the last
+ * {@code "updated_at"} of the page instead of the page number, so a resource
+ * updated during the synchronization moves to the end of the listing without
+ * shifting the pages not read yet. The page number is advanced only while a
+ * whole page has the same {@code "updated_at"} . The checkpoint is taken from
+ * the timestamps of the GitHub API rather than the local clock, and the
+ * resources updated within {@code clockSkew} before the checkpoint are
+ * requested again, so the resource that becomes visible late on the GitHub
+ * API side is not missed. The resources requested again are merged again,
+ * which is why {@link SyncStore} must be idempotent.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class IncrementalSync {
+
+    /**
+     * The default count of the resources per page
+     */
+    private static final int DEFAULT_PER_PAGE = 100;
+
+    /**
+     * The maximum count of the resources per page of the GitHub API
+     */
+    private static final int MAXIMUM_PER_PAGE = 100;
+
+    /**
+     * The default window before the checkpoint requested again
+     */
+    private static final Duration DEFAULT_CLOCK_SKEW = Duration.ofMinutes(1L);
+
+    /**
+     * The field to sort by
+     */
+    private static final String SORT_UPDATED = "updated";
+
+    /**
+     * The direction of the sort
+     */
+    private static final String DIRECTION_ASC = "asc";
+
+    /**
+     * The delimiter between the resource and the repository name in the key of
+     * the checkpoint
+     */
+    private static final String KEY_DELIMITER = ":";
+
+    /**
+     * The repository API
+     */
+    private final RepositoryApi repositoryApi;
+
+    /**
+     * The checkpoint store
+     */
+    private final CheckpointStore checkpointStore;
+
+    /**
+     * The count of the resources per page
+     */
+    @ToString.Include
+    private final int perPage;
+
+    /**
+     * The window before the checkpoint requested again
+     */
+    @ToString.Include
+    private final Duration clockSkew;
+
+    /**
+     * The constructor.
+     *
+     * @param repositoryApi   The repository API
+     * @param checkpointStore The checkpoint store
+     * @param perPage         The count of the resources per page, or
+     *                        {@code null} to use the default {@code 100}
+     * @param clockSkew       The window before the checkpoint requested again,
+     *                        or {@code null} to use the default 1 minute
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code repositoryApi} or
+     *                                     {@code checkpointStore}
+     * @exception IllegalArgumentException If {@code perPage} is not between 1
+     *                                     and 100, or {@code clockSkew} is
+     *                                     negative
+     */
+    @Builder
+    private IncrementalSync(@NonNull final RepositoryApi repositoryApi, @NonNull final CheckpointStore checkpointStore,
+            final Integer perPage, final Duration clockSkew) {
+
+        this.repositoryApi = repositoryApi;
+        this.checkpointStore = checkpointStore;
+        this.perPage = perPage == null ? DEFAULT_PER_PAGE : perPage;
+        this.clockSkew = clockSkew == null ? DEFAULT_CLOCK_SKEW : clockSkew;
+
+        if (this.perPage < 1 || this.perPage > MAXIMUM_PER_PAGE) {
+            throw new IllegalArgumentException("The count per page must be between 1 and 100");
+        }
+
+        if (this.clockSkew.isNegative()) {
+            throw new IllegalArgumentException("The clock skew must not be negative");
+        }
+    }
+
+    /**
+     * Synchronizes the issues of the repository updated since the checkpoint
+     * into the store. The issues of all states are synchronized.
+     *
+     * @param repositoryName The repository name
+     * @param store          The store into which the issues are merged
+     * @return The result of the synchronization
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public SyncResult syncIssues(@NonNull final String repositoryName, @NonNull final SyncStore<? super Issue> store) {
+        return this.sync(repositoryName, SyncResource.ISSUES,
+                queryParameter -> this.repositoryApi.getIssues(repositoryName, queryParameter),
+                Issue::getUpdatedAtMillis, store);
+    }
+
+    /**
+     * Synchronizes the issue comments of the repository updated since the
+     * checkpoint into the store.
+     *
+     * @param repositoryName The repository name
+     * @param store          The store into which the issue comments are merged
+     * @return The result of the synchronization
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public SyncResult syncIssuesComments(@NonNull final String repositoryName,
+            @NonNull final SyncStore<? super IssueComment> store) {
+        return this.sync(repositoryName, SyncResource.ISSUE_COMMENTS,
+                queryParameter -> this.repositoryApi.getIssuesComments(repositoryName, queryParameter),
+                IssueComment::getUpdatedAtMillis, store);
+    }
+
+    /**
+     * Returns the key of the checkpoint of the resource of the repository.
+     *
+     * @param repositoryName The repository name
+     * @param syncResource   The resource
+     * @return The key of the checkpoint
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static String getCheckpointKey(@NonNull final String repositoryName,
+            @NonNull final SyncResource syncResource) {
+        return syncResource.getTag() + KEY_DELIMITER + repositoryName;
+    }
+
+    /**
+     * Synchronizes the resource updated since the checkpoint into the store.
+     *
+     * @param <T>            The type of the resource
+     * @param repositoryName The repository name
+     * @param syncResource   The resource
+     * @param fetcher        The function that fetches a page of the resource
+     * @param updatedAt      The function that returns {@code "updated_at"} of
+     *                       the resource in epoch milliseconds
+     * @param store          The store into which the resources are merged
+     * @return The result of the synchronization
+     */
+    private <T> SyncResult sync(final String repositoryName, final SyncResource syncResource,
+            final Function<QueryParameter, List<T>> fetcher, final ToLongFunction<T> updatedAt,
+            final SyncStore<? super T> store) {
+
+        final String key = getCheckpointKey(repositoryName, syncResource);
+        final long previousCheckpoint = this.checkpointStore.load(key);
+
+        long checkpoint = previousCheckpoint;
+        long since = this.rewind(previousCheckpoint);
+        int page = 1;
+        int requestCount = 0;
+        int mergedCount = 0;
+
+        while (true) {
+            final List<T> items = fetcher.apply(this.createQueryParameter(syncResource, since, page));
+            requestCount++;
+
+            if (items.isEmpty()) {
+                break;
+            }
+
+            store.merge(items);
+            mergedCount += items.size();
+
+            for (final T item : items) {
+                checkpoint = Math.max(checkpoint, updatedAt.applyAsLong(item));
+            }
+
+            this.checkpointStore.save(key, checkpoint);
+
+            if (items.size() < this.perPage) {
+                break;
+            }
+
+            final long lastUpdatedAt = updatedAt.applyAsLong(items.get(items.size() - 1));
+
+            if (lastUpdatedAt > since) {
+                since = lastUpdatedAt;
+                page = 1;
+            } else {
+                page++;
+            }
+        }
+
+        return SyncResult.from(requestCount, mergedCount, previousCheckpoint, checkpoint);
+    }
+
+    /**
+     * Returns the timestamp from which the resources are requested again.
+     *
+     * @param checkpoint The checkpoint in epoch milliseconds
+     * @return The checkpoint minus the clock skew, or
+     *         {@link TimestampResolver#NONE} if there is no checkpoint
+     */
+    private long rewind(final long checkpoint) {
+
+        if (checkpoint == TimestampResolver.NONE) {
+            return TimestampResolver.NONE;
+        }
+
+        return Math.max(0L, checkpoint - this.clockSkew.toMillis());
+    }
+
+    /**
+     * Returns the query parameter that requests a page of the resource updated
+     * since the timestamp in ascending order of {@code "updated_at"} .
+     *
+     * @param syncResource The resource
+     * @param since        The timestamp in epoch milliseconds, or
+     *                     {@link TimestampResolver#NONE} to request all
+     * @param page         The page number
+     * @return The query parameter
+     */
+    private QueryParameter createQueryParameter(final SyncResource syncResource, final long since, final int page) {
+
+        final Map<String, Object> queries = new LinkedHashMap<>(8);
+        queries.put(QueryKey.SORT.getTag(), SORT_UPDATED);
+        queries.put(QueryKey.DIRECTION.getTag(), DIRECTION_ASC);
+
+        if (since != TimestampResolver.NONE) {
+            queries.put(QueryKey.SINCE.getTag(), Instant.ofEpochMilli(since).toString());
+        }
+
+        if (syncResource == SyncResource.ISSUES) {
+            queries.put(QueryKey.STATE.getTag(), IssueState.ALL.getTag());
+        }
+
+        return QueryParameter.from(Pagination.from(this.perPage, page), queries);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The checkpoint store that holds the checkpoints in memory. The checkpoints
+ * are lost when the process exits, so use {@link FileCheckpointStore} to
+ * resume the synchronization after a restart.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryCheckpointStore implements CheckpointStore {
+
+    /**
+     * The checkpoints for each key
+     */
+    private final Map<String, Long> checkpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the new instance of {@link MemoryCheckpointStore} .
+     *
+     * @return The new instance of {@link MemoryCheckpointStore}
+     */
+    public static MemoryCheckpointStore newInstance() {
+        return new MemoryCheckpointStore();
+    }
+
+    @Override
+    public long load(@NonNull final String key) {
+        return this.checkpoints.getOrDefault(key, TimestampResolver.NONE);
+    }
+
+    @Override
+    public void save(@NonNull final String key, final long checkpoint) {
+        this.checkpoints.put(key, checkpoint);
+    }
+}
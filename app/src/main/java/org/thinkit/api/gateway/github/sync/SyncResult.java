@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The entity that manages the result of an incremental synchronization.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(staticName = "from")
+public final class SyncResult implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 3390546165812087413L;
+
+    /**
+     * The count of the requests sent
+     */
+    @Getter
+    private int requestCount;
+
+    /**
+     * The count of the resources merged into the store
+     */
+    @Getter
+    private int mergedCount;
+
+    /**
+     * The checkpoint the synchronization started from in epoch milliseconds, or
+     * {@link TimestampResolver#NONE} if it was the full synchronization
+     */
+    @Getter
+    private long previousCheckpoint;
+
+    /**
+     * The checkpoint stored at the end in epoch milliseconds, or
+     * {@link TimestampResolver#NONE} if no resource has been synchronized yet
+     */
+    @Getter
+    private long checkpoint;
+
+    /**
+     * Returns the instant of the checkpoint stored at the end.
+     *
+     * @return The instant of the checkpoint, or {@code null} if no resource has
+     *         been synchronized yet
+     */
+    public Instant getCheckpointInstant() {
+        return TimestampResolver.toInstant(this.checkpoint);
+    }
+}
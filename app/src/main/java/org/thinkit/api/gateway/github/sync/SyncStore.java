@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import java.util.List;
+
+import lombok.NonNull;
+
+/**
+ * The interface of the caller's store into which the synchronized resources
+ * are merged.
+ *
+ * <p>
+ * The same resource may be merged more than once, because the resources
+ * updated around the checkpoint are requested again to tolerate the clock
+ * skew, and the pages are merged again if the synchronization is restarted
+ * before the checkpoint is stored. So the merge must be an upsert keyed by
+ * the id of the resource.
+ *
+ * @param <T> The type of the resource
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface SyncStore<T> {
+
+    /**
+     * Merges the resources of a page into the store. The checkpoint is stored
+     * after this method returns, so the resources must be durable by then if the
+     * synchronization should resume after a restart.
+     *
+     * @param items The resources of a page in ascending order of
+     *              {@code "updated_at"}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public void merge(@NonNull final List<? extends T> items);
+}
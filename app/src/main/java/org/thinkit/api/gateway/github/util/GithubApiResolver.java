@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that provides the feature to resolve the {@link GithubApi} a URL
+ * was created from.
+ *
+ * <p>
+ * Only the path of the URL is compared with the path of each template, where
+ * {@code "%s"} matches one path segment, so the URLs on another host like the
+ * GitHub Enterprise Server are resolved as well.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GithubApiResolver {
+
+    /**
+     * The placeholder of the bind data in the template
+     */
+    private static final String PLACEHOLDER = "%s";
+
+    /**
+     * The patterns of the paths for each GitHub API
+     */
+    private static final Map<GithubApi, Pattern> PATH_PATTERNS = compilePathPatterns();
+
+    /**
+     * Returns the GitHub API whose template matches the path of the URL passed as
+     * an argument.
+     *
+     * @param genericUrl The URL
+     * @return The GitHub API, or {@code null} if no template matches the URL
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static GithubApi resolve(@NonNull final GenericUrl genericUrl) {
+
+        final String path = genericUrl.getRawPath();
+
+        if (path == null) {
+            return null;
+        }
+
+        for (final Map.Entry<GithubApi, Pattern> pathPattern : PATH_PATTERNS.entrySet()) {
+            if (pathPattern.getValue().matcher(path).matches()) {
+                return pathPattern.getKey();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Compiles the path of each template into the pattern.
+     *
+     * @return The patterns of the paths for each GitHub API
+     */
+    private static Map<GithubApi, Pattern> compilePathPatterns() {
+
+        final Map<GithubApi, Pattern> pathPatterns = new EnumMap<>(GithubApi.class);
+
+        for (final GithubApi githubApi : GithubApi.values()) {
+            final String template = githubApi.getTag();
+            final String path = template.substring(template.indexOf('/', template.indexOf("//") + 2));
+            final String[] literals = path.split(PLACEHOLDER, -1);
+            final StringBuilder pathPattern = new StringBuilder();
+
+            for (int i = 0; i < literals.length; i++) {
+                if (i > 0) {
+                    pathPattern.append("[^/]+");
+                }
+
+                pathPattern.append(Pattern.quote(literals[i]));
+            }
+
+            pathPatterns.put(githubApi, Pattern.compile(pathPattern.toString()));
+        }
+
+        return pathPatterns;
+    }
+}
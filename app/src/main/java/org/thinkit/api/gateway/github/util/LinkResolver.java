@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.thinkit.api.catalog.BiCatalog;
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class that provides the feature to resolve the {@code "Link"} header
+ * returned by the GitHub API for the paginated resources.
+ *
+ * <p>
+ * The header has the format below, and it is resolved into the map from
+ * {@link LinkRelation} to the URL. The relation not defined in
+ * {@link LinkRelation} is ignored.
+ *
+ * <pre>
+ * <code>
+ * &lt;https://api.github.com/user/repos?page=3&amp;per_page=100&gt;; rel="next",
+ * &lt;https://api.github.com/user/repos?page=50&amp;per_page=100&gt;; rel="last"
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LinkResolver {
+
+    /**
+     * The prefix of the relation parameter
+     */
+    private static final String REL_PREFIX = "rel=";
+
+    /**
+     * Returns the URLs of the {@code "Link"} header passed as an argument for
+     * each relation.
+     *
+     * @param link The value of {@code "Link"} header
+     * @return The URLs for each relation, or empty map if the header is empty
+     */
+    public static Map<LinkRelation, String> resolve(final String link) {
+
+        final Map<LinkRelation, String> links = new EnumMap<>(LinkRelation.class);
+
+        if (StringUtils.isEmpty(link)) {
+            return links;
+        }
+
+        int index = 0;
+
+        while (index < link.length()) {
+            final int urlStart = link.indexOf('<', index);
+
+            if (urlStart < 0) {
+                break;
+            }
+
+            final int urlEnd = link.indexOf('>', urlStart);
+
+            if (urlEnd < 0) {
+                break;
+            }
+
+            final int nextLink = link.indexOf('<', urlEnd);
+            final int parametersEnd = nextLink < 0 ? link.length() : nextLink;
+            final LinkRelation relation = resolveRelation(link.substring(urlEnd + 1, parametersEnd));
+
+            if (relation != null) {
+                links.put(relation, link.substring(urlStart + 1, urlEnd));
+            }
+
+            index = parametersEnd;
+        }
+
+        return links;
+    }
+
+    /**
+     * Returns the relation defined in the parameters of a link.
+     *
+     * @param parameters The parameters like {@code ; rel="next", }
+     * @return The relation, or {@code null} if the relation is not defined in
+     *         {@link LinkRelation}
+     */
+    private static LinkRelation resolveRelation(final String parameters) {
+
+        for (final String parameter : parameters.split(";")) {
+            final String trimmed = StringUtils.strip(parameter.trim(), ",").trim();
+
+            if (trimmed.startsWith(REL_PREFIX)) {
+                return BiCatalog.getEnumByTag(LinkRelation.class,
+                        StringUtils.strip(trimmed.substring(REL_PREFIX.length()), "\""));
+            }
+        }
+
+        return null;
+    }
+}
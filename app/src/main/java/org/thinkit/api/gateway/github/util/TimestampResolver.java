@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.google.api.client.util.Data;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class that provides the feature to resolve the timestamps returned by
+ * the GitHub API into the epoch milliseconds.
+ *
+ * <p>
+ * The GitHub API returns the timestamps in the fixed format
+ * {@code yyyy-MM-ddTHH:mm:ssZ} , such as {@code "2011-01-26T19:01:12Z"} ,
+ * which is parsed character by character without
+ * {@link java.time.format.DateTimeFormatter} and without allocating any
+ * object. The timestamp in the other ISO-8601 format, such as the one with the
+ * fraction of the second or the offset, falls back to
+ * {@link OffsetDateTime#parse(CharSequence)} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TimestampResolver {
+
+    /**
+     * The epoch milliseconds that means the timestamp is absent or invalid
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * The epoch milliseconds that means the timestamp is not resolved yet, which
+     * is used by the response models that resolve the timestamp lazily
+     */
+    public static final long UNRESOLVED = Long.MIN_VALUE + 1L;
+
+    /**
+     * The length of the timestamp in the fixed format
+     */
+    private static final int FIXED_LENGTH = 20;
+
+    /**
+     * The days from {@code 0000-03-01} to {@code 1970-01-01}
+     */
+    private static final long DAYS_0000_TO_1970 = 719_468L;
+
+    /**
+     * The days in a cycle of 400 years
+     */
+    private static final long DAYS_PER_CYCLE = 146_097L;
+
+    /**
+     * Returns the epoch milliseconds of the timestamp passed as an argument.
+     *
+     * @param timestamp The timestamp like {@code "2011-01-26T19:01:12Z"} , or
+     *                  {@code null}
+     * @return The epoch milliseconds, or {@link #NONE} if the timestamp is
+     *         {@code null} , empty or not in the ISO-8601 format
+     */
+    public static long toEpochMillis(final String timestamp) {
+
+        if (timestamp == null || Data.isNull(timestamp) || timestamp.isEmpty()) {
+            return NONE;
+        }
+
+        if (timestamp.length() == FIXED_LENGTH) {
+            final long epochMillis = parseFixed(timestamp);
+
+            if (epochMillis != NONE) {
+                return epochMillis;
+            }
+        }
+
+        try {
+            return OffsetDateTime.parse(timestamp).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Returns the instant of the epoch milliseconds passed as an argument.
+     *
+     * @param epochMillis The epoch milliseconds, or {@link #NONE}
+     * @return The instant, or {@code null} if the epoch milliseconds is
+     *         {@link #NONE}
+     */
+    public static Instant toInstant(final long epochMillis) {
+        return epochMillis == NONE ? null : Instant.ofEpochMilli(epochMillis);
+    }
+
+    /**
+     * Parses the timestamp in the fixed format {@code yyyy-MM-ddTHH:mm:ssZ} .
+     *
+     * @param timestamp The timestamp of 20 characters
+     * @return The epoch milliseconds, or {@link #NONE} if the timestamp is not in
+     *         the fixed format or has a field out of range
+     */
+    private static long parseFixed(final String timestamp) {
+
+        if (timestamp.charAt(4) != '-' || timestamp.charAt(7) != '-' || timestamp.charAt(10) != 'T'
+                || timestamp.charAt(13) != ':' || timestamp.charAt(16) != ':' || timestamp.charAt(19) != 'Z') {
+            return NONE;
+        }
+
+        final int year = parseDigits(timestamp, 0, 4);
+        final int month = parseDigits(timestamp, 5, 2);
+        final int day = parseDigits(timestamp, 8, 2);
+        final int hour = parseDigits(timestamp, 11, 2);
+        final int minute = parseDigits(timestamp, 14, 2);
+        final int second = parseDigits(timestamp, 17, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour < 0
+                || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return NONE;
+        }
+
+        final long seconds = ((toEpochDay(year, month, day) * 24L + hour) * 60L + minute) * 60L + second;
+        return seconds * 1000L;
+    }
+
+    /**
+     * Parses the decimal digits in the timestamp.
+     *
+     * @param timestamp The timestamp
+     * @param offset    The offset of the first digit
+     * @param length    The count of the digits
+     * @return The value of the digits, or {@code -1} if a character is not a
+     *         digit
+     */
+    private static int parseDigits(final String timestamp, final int offset, final int length) {
+
+        int value = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            final int digit = timestamp.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the length of the month.
+     *
+     * @param year  The year
+     * @param month The month from 1 to 12
+     * @return The count of the days in the month
+     */
+    private static int lengthOfMonth(final int year, final int month) {
+        return switch (month) {
+        case 2 -> (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+        case 4, 6, 9, 11 -> 30;
+        default -> 31;
+        };
+    }
+
+    /**
+     * Returns the days from the epoch to the date in the proleptic Gregorian
+     * calendar. The year is counted from March so that the leap day is the last
+     * day of the year.
+     *
+     * @param year  The year from 0 to 9999
+     * @param month The month from 1 to 12
+     * @param day   The day of the month
+     * @return The days from {@code 1970-01-01}
+     */
+    private static long toEpochDay(final int year, final int month, final int day) {
+
+        final int marchYear = month <= 2 ? year - 1 : year;
+        final int era = (marchYear >= 0 ? marchYear : marchYear - 399) / 400;
+        final int yearOfEra = marchYear - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+}
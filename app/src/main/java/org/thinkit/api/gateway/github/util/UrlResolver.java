@@ -14,14 +14,15 @@
 
 package org.thinkit.api.gateway.github.util;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.StringJoiner;
+import java.util.TreeMap;
 
 import com.google.api.client.http.GenericUrl;
 
 import org.thinkit.api.gateway.github.catalog.GithubApi;
-import org.thinkit.api.gateway.github.catalog.QuerySymbol;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -49,6 +50,11 @@ import lombok.NonNull;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class UrlResolver {
 
+    /**
+     * The compiled templates for each API
+     */
+    private static final Map<GithubApi, UrlTemplate> URL_TEMPLATES = compileUrlTemplates();
+
     /**
      * Returns an API URL object based on the Enum element of {@link GithubApi} and
      * query data and bind data passed as arguments.
@@ -59,61 +65,62 @@ public final class UrlResolver {
      *
      * <p>
      * The bind data passed as an argument will be replaced with the string defined
-     * as {@code "%s"} in the API URL using {@link String#format(String, Object...)}
-     * .
+     * as {@code "%s"} in the API URL in order. The bind data and the query data
+     * are percent-encoded.
      *
      * @param githubApi The GitHub API
      * @param queries   The query data
      * @param binds     The bind data
      * @return The API URL
      *
-     * @exception NullPointerException If {@code null} is passed as an argument
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the bind data is fewer than the
+     *                                     {@code "%s"} in the API URL
      */
     public static GenericUrl createUrl(@NonNull final GithubApi githubApi, @NonNull final Map<String, Object> queries,
             @NonNull final List<String> binds) {
+        return URL_TEMPLATES.get(githubApi).expand(binds, queries);
+    }
 
-        if (queries.isEmpty()) {
-            return new GenericUrl(bind(githubApi, binds));
-        }
-
-        final StringJoiner queryJoiner = new StringJoiner(QuerySymbol.AMPERSAND.getTag());
-        final String equal = QuerySymbol.EQUAL.getTag();
+    /**
+     * Returns the canonical form of the URL passed as an argument.
+     *
+     * <p>
+     * The query parameters are sorted by their names and the fragment is
+     * removed, so the URLs that point to the same resource are given the same
+     * string however their queries are ordered. The URL passed as an argument is
+     * not modified.
+     *
+     * @param genericUrl The URL
+     * @return The canonical URL
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static String canonicalize(@NonNull final GenericUrl genericUrl) {
 
-        queries.forEach((key, value) -> {
-            final StringBuilder query = new StringBuilder();
-            query.append(key).append(equal).append(value);
-            queryJoiner.add(query.toString());
-        });
+        final GenericUrl canonicalUrl = genericUrl.clone();
+        final Map<String, Object> sortedQueries = new TreeMap<>(canonicalUrl);
 
-        final StringJoiner urlJoiner = new StringJoiner(QuerySymbol.QUESTION.getTag()).add(bind(githubApi, binds))
-                .add(queryJoiner.toString());
+        canonicalUrl.clear();
+        canonicalUrl.putAll(sortedQueries);
+        canonicalUrl.setFragment(null);
 
-        return new GenericUrl(urlJoiner.toString());
+        return canonicalUrl.build();
     }
 
     /**
-     * Replace and return the bind data passed as argument with the {@code "%s"}
-     * string defined in the API URL. If the bind data does not exist, it returns
-     * the string defined in the Enum element of {@link GithubApi} .
-     *
-     * @param githubApi The GitHub API
-     * @param binds     The bind data
-     * @return The binded url, or raw url if the bind data does not exist
+     * Compiles the templates of all the APIs defined in {@link GithubApi} .
      *
-     * @exception NullPointerException If {@code null} is passed as an argument
+     * @return The compiled templates for each API
      */
-    private static String bind(@NonNull final GithubApi githubApi, @NonNull final List<String> binds) {
-
-        if (binds.isEmpty()) {
-            return githubApi.getTag();
-        }
+    private static Map<GithubApi, UrlTemplate> compileUrlTemplates() {
 
-        String bindedUrl = githubApi.getTag();
+        final Map<GithubApi, UrlTemplate> urlTemplates = new EnumMap<>(GithubApi.class);
 
-        for (final String bindSequence : binds) {
-            bindedUrl = String.format(bindedUrl, bindSequence);
+        for (final GithubApi githubApi : GithubApi.values()) {
+            urlTemplates.put(githubApi, UrlTemplate.compile(githubApi.getTag()));
         }
 
-        return bindedUrl;
+        return Collections.unmodifiableMap(urlTemplates);
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.client.http.GenericUrl;
+
+import lombok.NonNull;
+
+/**
+ * The API URL template compiled into the origin and the path parts, where each
+ * path part is split into the literal segments by the {@code "%s"}
+ * placeholders.
+ *
+ * <p>
+ * The template is parsed only once, and the URL is built from its parts
+ * directly into {@link GenericUrl} , so the expanded URL is never formatted
+ * into a string and parsed again. The bind values are set as the decoded path
+ * parts and the queries as the decoded parameters, and {@link GenericUrl}
+ * percent-encodes them when the URL is built, so a value that contains
+ * {@code "/"} , {@code "&"} or the non-ASCII characters cannot change the
+ * structure of the URL.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+final class UrlTemplate {
+
+    /**
+     * The placeholder in the template
+     */
+    private static final String PLACEHOLDER = "%s";
+
+    /**
+     * The separator of the scheme and the authority
+     */
+    private static final String SCHEME_SEPARATOR = "://";
+
+    /**
+     * The scheme
+     */
+    private final String scheme;
+
+    /**
+     * The host
+     */
+    private final String host;
+
+    /**
+     * The port, or {@code -1} if it is not specified
+     */
+    private final int port;
+
+    /**
+     * The literal segments of each path part, there is a placeholder between
+     * each of them
+     */
+    private final String[][] pathParts;
+
+    /**
+     * The count of the placeholders
+     */
+    private final int placeholderCount;
+
+    /**
+     * The constructor.
+     *
+     * @param origin    The origin of the template
+     * @param pathParts The literal segments of each path part
+     */
+    private UrlTemplate(final GenericUrl origin, final String[][] pathParts) {
+
+        int count = 0;
+
+        for (final String[] literals : pathParts) {
+            count += literals.length - 1;
+        }
+
+        this.scheme = origin.getScheme();
+        this.host = origin.getHost();
+        this.port = origin.getPort();
+        this.pathParts = pathParts;
+        this.placeholderCount = count;
+    }
+
+    /**
+     * Compiles the template passed as an argument.
+     *
+     * @param template The absolute URL that contains the {@code "%s"}
+     *                 placeholders in its path
+     * @return The compiled template
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static UrlTemplate compile(@NonNull final String template) {
+
+        final int pathStart = template.indexOf('/', template.indexOf(SCHEME_SEPARATOR) + SCHEME_SEPARATOR.length());
+
+        if (pathStart < 0) {
+            return new UrlTemplate(new GenericUrl(template), new String[0][]);
+        }
+
+        // The leading empty part makes the path start with a slash
+        final String[] parts = template.substring(pathStart).split("/", -1);
+        final String[][] pathParts = new String[parts.length][];
+
+        for (int i = 0; i < parts.length; i++) {
+            pathParts[i] = splitByPlaceholder(parts[i]);
+        }
+
+        return new UrlTemplate(new GenericUrl(template.substring(0, pathStart)), pathParts);
+    }
+
+    /**
+     * Returns the count of the placeholders.
+     *
+     * @return The count of the placeholders
+     */
+    int getPlaceholderCount() {
+        return this.placeholderCount;
+    }
+
+    /**
+     * Expands the template with the bind values and the queries passed as
+     * arguments. The bind values are bound to the placeholders in order, and the
+     * values beyond the count of the placeholders are ignored.
+     *
+     * @param binds   The bind values
+     * @param queries The queries
+     * @return The expanded URL
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the bind values are fewer than the
+     *                                     placeholders
+     */
+    GenericUrl expand(@NonNull final List<String> binds, @NonNull final Map<String, Object> queries) {
+
+        if (binds.size() < this.placeholderCount) {
+            throw new IllegalArgumentException(String.format("The template requires %d bind values but %d are given",
+                    this.placeholderCount, binds.size()));
+        }
+
+        final GenericUrl genericUrl = new GenericUrl();
+        genericUrl.setScheme(this.scheme);
+        genericUrl.setHost(this.host);
+        genericUrl.setPort(this.port);
+
+        if (this.pathParts.length > 0) {
+            final List<String> pathParts = new ArrayList<>(this.pathParts.length);
+            int bindIndex = 0;
+
+            for (final String[] literals : this.pathParts) {
+                if (literals.length == 1) {
+                    pathParts.add(literals[0]);
+                } else if (literals.length == 2 && literals[0].isEmpty() && literals[1].isEmpty()) {
+                    // The whole part is the bind value
+                    pathParts.add(binds.get(bindIndex++));
+                } else {
+                    final StringBuilder pathPart = new StringBuilder(literals[0]);
+
+                    for (int i = 1; i < literals.length; i++) {
+                        pathPart.append(binds.get(bindIndex++)).append(literals[i]);
+                    }
+
+                    pathParts.add(pathPart.toString());
+                }
+            }
+
+            genericUrl.setPathParts(pathParts);
+        }
+
+        queries.forEach((key, value) -> genericUrl.put(key, String.valueOf(value)));
+
+        return genericUrl;
+    }
+
+    /**
+     * Splits the path part passed as an argument into the literal segments by
+     * the placeholders.
+     *
+     * @param pathPart The path part
+     * @return The literal segments
+     */
+    private static String[] splitByPlaceholder(final String pathPart) {
+
+        final List<String> literals = new ArrayList<>();
+        int start = 0;
+        int placeholder;
+
+        while ((placeholder = pathPart.indexOf(PLACEHOLDER, start)) >= 0) {
+            literals.add(pathPart.substring(start, placeholder));
+            start = placeholder + PLACEHOLDER.length();
+        }
+
+        literals.add(pathPart.substring(start));
+
+        return literals.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.communication.Communicator;
+import org.thinkit.api.gateway.github.response.repos.Repository;
+import org.thinkit.api.gateway.github.response.user.User;
+import org.thinkit.api.gateway.github.user.GithubUser;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+
+/**
+ * The class that manages test case of {@link BulkGateway} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class BulkGatewayTest {
+
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The count of the requests in flight in total
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The largest count of the requests in flight in total
+     */
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * The count of the requests in flight for each communicator
+     */
+    private final Map<Integer, AtomicInteger> inFlightByCommunicator = new ConcurrentHashMap<>();
+
+    /**
+     * The largest count of the requests in flight for each communicator
+     */
+    private final Map<Integer, AtomicInteger> maxInFlightByCommunicator = new ConcurrentHashMap<>();
+
+    @Nested
+    class TestBuilder {
+
+        @Test
+        void testEmptyOAuthConfigsAreRejected() {
+            assertThrows(IllegalArgumentException.class, () -> BulkGateway.builder().oAuthConfigs(List.of()).build());
+        }
+
+        @Test
+        void testConcurrencyMustBePositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> BulkGateway.of(List.of(communicator(0, 0L)), 0, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> BulkGateway.of(List.of(communicator(0, 0L)), 1, 0));
+        }
+    }
+
+    @Nested
+    class TestFetchUsers {
+
+        @Test
+        void testAllUsersAreFetched() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 0L), communicator(1, 0L)), 4, 2);
+
+            try (Stream<BulkResult<GithubUser, User>> results = bulkGateway.fetchUsers(githubUsers(100))) {
+                final Set<String> logins = results.map(result -> result.getValue().getLogin())
+                        .collect(Collectors.toSet());
+
+                assertEquals(100, logins.size());
+                assertTrue(logins.contains("user99"));
+            }
+        }
+
+        @Test
+        void testFailedItemDoesNotAbortBatch() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 0L)), 4, 4);
+            final List<GithubUser> githubUsers = List.of(githubUser("octocat"), githubUser("broken"),
+                    githubUser("monalisa"));
+
+            try (Stream<BulkResult<GithubUser, User>> results = bulkGateway.fetchUsers(githubUsers)) {
+                final Map<String, BulkResult<GithubUser, User>> resultsByName = results
+                        .collect(Collectors.toMap(result -> result.getKey().getUserName(), Function.identity()));
+
+                assertEquals(3, resultsByName.size());
+                assertTrue(resultsByName.get("octocat").isSuccess());
+                assertTrue(resultsByName.get("monalisa").isSuccess());
+                assertFalse(resultsByName.get("broken").isSuccess());
+                assertTrue(resultsByName.get("broken").getException() instanceof IllegalStateException);
+            }
+        }
+
+        @Test
+        void testItemThrowingErrorDoesNotHangBatch() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 0L)), 4, 4);
+            final List<GithubUser> githubUsers = List.of(githubUser("octocat"), githubUser("error"),
+                    githubUser("monalisa"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                try (Stream<BulkResult<GithubUser, User>> results = bulkGateway.fetchUsers(githubUsers)) {
+                    final Map<String, BulkResult<GithubUser, User>> resultsByName = results
+                            .collect(Collectors.toMap(result -> result.getKey().getUserName(), Function.identity()));
+
+                    assertEquals(3, resultsByName.size());
+                    assertTrue(resultsByName.get("octocat").isSuccess());
+                    assertTrue(resultsByName.get("monalisa").isSuccess());
+                    assertTrue(resultsByName.get("error").getException().getCause() instanceof AssertionError);
+                }
+            });
+        }
+
+        @Test
+        void testResultsAreReturnedInCompletionOrder() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 0L)), 4, 4);
+            final List<GithubUser> githubUsers = List.of(githubUser("slow"), githubUser("octocat"));
+
+            try (Stream<BulkResult<GithubUser, User>> results = bulkGateway.fetchUsers(githubUsers)) {
+                assertEquals(List.of("octocat", "slow"),
+                        results.map(result -> result.getKey().getUserName()).collect(Collectors.toList()));
+            }
+        }
+
+        @Test
+        void testConcurrencyIsCapped() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 20L), communicator(1, 20L)), 3,
+                    1);
+
+            try (Stream<BulkResult<GithubUser, User>> results = bulkGateway.fetchUsers(githubUsers(20))) {
+                assertEquals(20L, results.filter(BulkResult::isSuccess).count());
+            }
+
+            assertTrue(maxInFlight.get() <= 2);
+            assertEquals(1, maxInFlightByCommunicator.get(0).get());
+            assertEquals(1, maxInFlightByCommunicator.get(1).get());
+        }
+    }
+
+    @Nested
+    class TestFetchRepositories {
+
+        @Test
+        void testRepositoriesAreFetchedByFullName() {
+            final BulkGateway bulkGateway = BulkGateway.of(List.of(communicator(0, 0L)), 2, 2);
+
+            try (Stream<BulkResult<String, Repository>> results = bulkGateway
+                    .fetchRepositories(List.of("octocat/Hello-World", "invalid", "octocat/"))) {
+                final Map<String, BulkResult<String, Repository>> resultsByName = results
+                        .collect(Collectors.toMap(BulkResult::getKey, Function.identity()));
+
+                assertEquals("octocat/Hello-World", resultsByName.get("octocat/Hello-World").getValue().getFullName());
+                assertTrue(resultsByName.get("invalid").getException() instanceof IllegalArgumentException);
+                assertTrue(resultsByName.get("octocat/").getException() instanceof IllegalArgumentException);
+            }
+        }
+    }
+
+    private Communicator communicator(final int id, final long delayMillis) {
+        return (Communicator) Proxy.newProxyInstance(Communicator.class.getClassLoader(),
+                new Class<?>[] { Communicator.class }, (proxy, method, args) -> {
+                    final GenericUrl genericUrl = (GenericUrl) args[0];
+                    final List<String> pathParts = genericUrl.getPathParts();
+                    final String name = pathParts.get(pathParts.size() - 1);
+
+                    final AtomicInteger communicatorInFlight = this.inFlightByCommunicator.computeIfAbsent(id,
+                            key -> new AtomicInteger());
+                    this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+                    this.maxInFlightByCommunicator.computeIfAbsent(id, key -> new AtomicInteger())
+                            .accumulateAndGet(communicatorInFlight.incrementAndGet(), Math::max);
+
+                    try {
+                        Thread.sleep(name.equals("slow") ? 300L : delayMillis);
+
+                        if (name.equals("broken")) {
+                            throw new IllegalStateException("The user is broken");
+                        }
+
+                        if (name.equals("error")) {
+                            throw new AssertionError("The user is an error");
+                        }
+
+                        // Both endpoints return a single object like the GitHub API
+                        final String body = pathParts.get(1).equals("repos")
+                                ? String.format("{\"full_name\":\"%s/%s\"}", pathParts.get(2), name)
+                                : String.format("{\"login\":\"%s\"}", name);
+
+                        if (method.getName().equals("get")) {
+                            return parse(body, (Class<?>) args[1]);
+                        }
+
+                        if (method.getName().equals("getAsList")) {
+                            return parse(body, ListGenericResolver.of((Class<?>) args[1]));
+                        }
+
+                        throw new UnsupportedOperationException(method.getName());
+                    } finally {
+                        this.inFlight.decrementAndGet();
+                        communicatorInFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    private static Object parse(final String json, final Type responseType) throws IOException {
+        return JSON_OBJECT_PARSER.parseAndClose(new StringReader(json), responseType);
+    }
+
+    private static List<GithubUser> githubUsers(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> githubUser("user" + i)).collect(Collectors.toList());
+    }
+
+    private static GithubUser githubUser(final String userName) {
+        return GithubUser.builder().userName(userName).build();
+    }
+}
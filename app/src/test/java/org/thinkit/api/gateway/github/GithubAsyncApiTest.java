@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponseException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.communication.AsyncCommunicator;
+import org.thinkit.api.gateway.github.communication.AsyncHttpCommunicator;
+import org.thinkit.api.gateway.github.communication.CommunicationConfig;
+import org.thinkit.api.gateway.github.content.DefaultQueryParameterMapper;
+import org.thinkit.api.gateway.github.content.entity.DefaultQueryParameter;
+import org.thinkit.api.gateway.github.exception.NotFoundException;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.GithubUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+import lombok.NonNull;
+
+/**
+ * The class that manages test case of {@link AsyncUsersApi} and
+ * {@link AsyncRepositoryApi} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class GithubAsyncApiTest {
+
+    /**
+     * The origin of the GitHub API
+     */
+    private static final String GITHUB_API_ORIGIN = "https://api.github.com";
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The communicator that sends the requests to the stub server
+     */
+    private AsyncCommunicator communicator;
+
+    /**
+     * The default query parameter
+     */
+    private DefaultQueryParameter defaultQueryParameter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/users/octocat", exchange -> respond(exchange, 200, "{\"login\":\"octocat\"}"));
+        this.stubServer.route("/users/octocat/following",
+                exchange -> respond(exchange, 200, "[{\"login\":\"monalisa\"}]"));
+        this.stubServer.route("/users/ghost", exchange -> respond(exchange, 404, "{}"));
+        this.stubServer.route("/repos/octocat/Hello-World",
+                exchange -> respond(exchange, 200, "{\"full_name\":\"octocat/Hello-World\"}"));
+        this.stubServer.route("/repos/octocat/Hello-World/issues",
+                exchange -> respond(exchange, 200, "[{\"number\":1347,\"title\":\"Found a bug\"}]"));
+        this.stubServer.route("/repos/octocat/Archived/issues", exchange -> respond(exchange, 410, "{}"));
+
+        final AsyncCommunicator delegate = AsyncHttpCommunicator.from(OAuthConfig.noneOf(),
+                CommunicationConfig.defaultOf());
+        final String origin = this.stubServer.url("");
+        this.communicator = new AsyncCommunicator() {
+
+            @Override
+            public <T> CompletableFuture<T> get(@NonNull final GenericUrl genericUrl,
+                    @NonNull final Class<T> responseClass) {
+                return delegate.get(rewrite(genericUrl, origin), responseClass);
+            }
+
+            @Override
+            public <T> CompletableFuture<List<T>> getAsList(@NonNull final GenericUrl genericUrl,
+                    @NonNull final Class<T> responseClass) {
+                return delegate.getAsList(rewrite(genericUrl, origin), responseClass);
+            }
+        };
+        this.defaultQueryParameter = DefaultQueryParameterMapper.newInstance().scan().get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestUsersApi {
+
+        @Test
+        void testUserIsFetched() {
+            assertEquals("octocat", usersApi("octocat").getUser().join().getLogin());
+        }
+
+        @Test
+        void testFollowingUsersAreFetched() {
+            final List<FollowingUser> followingUsers = usersApi("octocat").getFollowingUsers().join();
+
+            assertEquals(1, followingUsers.size());
+            assertEquals("monalisa", followingUsers.get(0).getLogin());
+        }
+
+        @Test
+        void testMissingUserFails() {
+            final CompletionException exception = assertThrows(CompletionException.class,
+                    () -> usersApi("ghost").getUser().join());
+
+            assertTrue(exception.getCause() instanceof NotFoundException);
+        }
+    }
+
+    @Nested
+    class TestRepositoryApi {
+
+        @Test
+        void testRepositoryIsFetchedAsSingleObject() {
+            assertEquals("octocat/Hello-World",
+                    repositoryApi().getRepository("Hello-World").join().getFullName());
+        }
+
+        @Test
+        void testIssuesAreFetched() {
+            final List<Issue> issues = repositoryApi().getIssues("Hello-World").join();
+
+            assertEquals(1, issues.size());
+            assertEquals(1347, issues.get(0).getNumber());
+            assertEquals("Found a bug", issues.get(0).getTitle());
+        }
+
+        @Test
+        void testUnmappedErrorStatusFails() {
+            final CompletionException exception = assertThrows(CompletionException.class,
+                    () -> repositoryApi().getIssues("Archived").join());
+
+            assertEquals(410, ((HttpResponseException) exception.getCause()).getStatusCode());
+        }
+    }
+
+    private AsyncUsersApi usersApi(final String userName) {
+        return GithubAsyncUsersApi.from(this.communicator, GithubUser.builder().userName(userName).build(),
+                this.defaultQueryParameter);
+    }
+
+    private AsyncRepositoryApi repositoryApi() {
+        return GithubAsyncRepositoryApi.from(this.communicator, GithubUser.builder().userName("octocat").build(),
+                this.defaultQueryParameter);
+    }
+
+    private static GenericUrl rewrite(final GenericUrl genericUrl, final String origin) {
+        return new GenericUrl(genericUrl.build().replace(GITHUB_API_ORIGIN, origin));
+    }
+}
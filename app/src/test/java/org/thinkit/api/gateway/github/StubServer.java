@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The local HTTP server that answers the registered paths with JSON bodies. It
+ * is shared by the tests and the benchmarks to exercise the communication
+ * without going through the network.
+ *
+ * <p>
+ * A path is answered with a fixed body by {@link #route(String, String)} , with
+ * the pages linked by the {@code "Link"} header like the GitHub API by
+ * {@link #paginate(String, int, int)} , or by any handler passed to
+ * {@link #route(String, HttpHandler)} . The requests to the other paths are
+ * answered with {@code 404 Not Found} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class StubServer implements AutoCloseable {
+
+    static {
+        // Avoids the delayed ACK stall of Nagle's algorithm on small responses
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    /**
+     * The http server
+     */
+    private final HttpServer httpServer;
+
+    /**
+     * The executor of the http server
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The count of the requests answered by the registered paths
+     */
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    /**
+     * The constructor.
+     *
+     * @throws IOException If the server cannot be bound
+     */
+    private StubServer() throws IOException {
+        this.httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.httpServer.setExecutor(this.executor);
+    }
+
+    /**
+     * Returns the new started instance of {@link StubServer} .
+     *
+     * @return The new started instance of {@link StubServer}
+     *
+     * @throws IOException If the server cannot be bound
+     */
+    public static StubServer start() throws IOException {
+        final StubServer stubServer = new StubServer();
+        stubServer.httpServer.start();
+        return stubServer;
+    }
+
+    /**
+     * Registers the JSON body returned for the path.
+     *
+     * @param path The path
+     * @param json The JSON body
+     * @return This instance
+     */
+    public StubServer route(final String path, final String json) {
+
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        return this.route(path, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+    }
+
+    /**
+     * Registers the handler that answers the requests to the path.
+     *
+     * @param path    The path
+     * @param handler The handler
+     * @return This instance
+     */
+    public StubServer route(final String path, final HttpHandler handler) {
+        this.httpServer.createContext(path, exchange -> {
+            this.requestCount.incrementAndGet();
+            handler.handle(exchange);
+        });
+
+        return this;
+    }
+
+    /**
+     * Registers the pages returned for the path. The page is selected by the
+     * {@code "page"} query parameter and holds the users whose logins are
+     * {@code "user<page>-<index>"} , and each page except the last one links the
+     * next and the last pages by the {@code "Link"} header.
+     *
+     * @param path      The path
+     * @param pageCount The count of the pages
+     * @param perPage   The count of the users per page
+     * @return This instance
+     */
+    public StubServer paginate(final String path, final int pageCount, final int perPage) {
+        return this.route(path, exchange -> {
+            final String query = exchange.getRequestURI().getQuery();
+            final int page = query == null ? 1 : Integer.parseInt(query.replaceAll(".*page=(\\d+).*", "$1"));
+
+            if (page < pageCount) {
+                exchange.getResponseHeaders().add("Link", String.format("<%s>; rel=\"next\", <%s>; rel=\"last\"",
+                        this.pageUrl(path, page + 1), this.pageUrl(path, pageCount)));
+            }
+
+            respond(exchange, 200, IntStream.rangeClosed(1, perPage)
+                    .mapToObj(index -> String.format("{\"login\":\"user%d-%d\"}", page, index))
+                    .collect(Collectors.joining(",", "[", "]")));
+        });
+    }
+
+    /**
+     * Returns the URL of the path on this server.
+     *
+     * @param path The path
+     * @return The URL
+     */
+    public String url(final String path) {
+        return "http://127.0.0.1:" + this.httpServer.getAddress().getPort() + path;
+    }
+
+    /**
+     * Returns the count of the requests answered by the registered paths.
+     *
+     * @return The count of the requests
+     */
+    public int getRequestCount() {
+        return this.requestCount.get();
+    }
+
+    /**
+     * Returns the URL of the page of the path registered by
+     * {@link #paginate(String, int, int)} .
+     *
+     * @param path The path
+     * @param page The page number
+     * @return The URL
+     */
+    public String pageUrl(final String path, final int page) {
+        return this.url(path) + "?page=" + page;
+    }
+
+    /**
+     * Sends the JSON body with the status code as the response of the exchange.
+     *
+     * @param exchange   The exchange
+     * @param statusCode The status code
+     * @param json       The JSON body
+     *
+     * @throws IOException If an error occurs while the response is sent
+     */
+    public static void respond(final HttpExchange exchange, final int statusCode, final String json)
+            throws IOException {
+
+        final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.httpServer.stop(0);
+        this.executor.shutdownNow();
+    }
+}
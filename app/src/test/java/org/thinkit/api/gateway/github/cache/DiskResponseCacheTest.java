@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The class that manages test case of {@link DiskResponseCache} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class DiskResponseCacheTest {
+
+    /**
+     * The directory of the segment files
+     */
+    @TempDir
+    Path directory;
+
+    @Nested
+    class TestLookup {
+
+        @Test
+        void testStoredResponseIsReturned() throws IOException {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            cache.store("key", "\"etag\"", "Mon, 01 Mar 2021 00:00:00 GMT", null, StandardCharsets.UTF_8,
+                    bytes("[1,2,3]"));
+
+            final DiskCachedResponse cachedResponse = cache.lookup("key");
+
+            assertEquals("\"etag\"", cachedResponse.getEtag());
+            assertEquals("Mon, 01 Mar 2021 00:00:00 GMT", cachedResponse.getLastModified());
+            assertNull(cachedResponse.getLink());
+            assertEquals(StandardCharsets.UTF_8, cachedResponse.getCharset());
+            assertEquals("[1,2,3]", read(cachedResponse));
+            assertNull(cache.lookup("other"));
+            assertEquals(ConditionalRequestStats.from(1L, 1L, 0L), cache.getStats());
+        }
+
+        @Test
+        void testStoredResponseSurvivesReopen() throws IOException {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            cache.store("key", "\"first\"", null, "<https://api.github.com/x?page=2>; rel=\"next\"",
+                    StandardCharsets.UTF_8, bytes("first"));
+            cache.store("key", "\"second\"", null, null, StandardCharsets.UTF_8, bytes("second"));
+            cache.close();
+
+            final DiskResponseCache reopenedCache = DiskResponseCache.from(directory);
+            final DiskCachedResponse cachedResponse = reopenedCache.lookup("key");
+
+            assertEquals(1, reopenedCache.getEntryCount());
+            assertEquals("\"second\"", cachedResponse.getEtag());
+            assertEquals("second", read(cachedResponse));
+        }
+
+        @Test
+        void testInvalidatedResponseStaysRemovedAfterReopen() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            cache.store("key", "\"etag\"", null, null, StandardCharsets.UTF_8, bytes("body"));
+            cache.store("other", "\"etag\"", null, null, StandardCharsets.UTF_8, bytes("body"));
+            cache.invalidate("key");
+            cache.invalidate("missing");
+
+            assertNull(cache.lookup("key"));
+            cache.close();
+
+            try (DiskResponseCache reopenedCache = DiskResponseCache.from(directory)) {
+                assertNull(reopenedCache.lookup("key"));
+                assertEquals(1, reopenedCache.getEntryCount());
+            }
+        }
+
+        @Test
+        void testResponseLargerThanSegmentRemovesStoredOneAfterReopen() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory, 4096);
+            cache.store("key", "\"small\"", null, null, StandardCharsets.UTF_8, new byte[10]);
+            cache.store("key", "\"large\"", null, null, StandardCharsets.UTF_8, new byte[5000]);
+
+            assertNull(cache.lookup("key"));
+            cache.close();
+
+            try (DiskResponseCache reopenedCache = DiskResponseCache.from(directory, 4096)) {
+                assertNull(reopenedCache.lookup("key"));
+            }
+        }
+
+        @Test
+        void testTornRecordIsIgnoredOnReopen() throws IOException {
+            final DiskResponseCache cache = DiskResponseCache.from(directory, 4096);
+            cache.store("first", "\"first\"", null, null, StandardCharsets.UTF_8, bytes("first"));
+            cache.store("second", "\"second\"", null, null, StandardCharsets.UTF_8, bytes("second"));
+            cache.close();
+
+            try (FileChannel channel = FileChannel.open(directory.resolve("00000000.segment"),
+                    StandardOpenOption.WRITE)) {
+                // Overwrites the payload of the second record, which starts at 54
+                channel.write(ByteBuffer.wrap(bytes("broken")), 70L);
+            }
+
+            final DiskResponseCache reopenedCache = DiskResponseCache.from(directory, 4096);
+
+            assertEquals("first", read(reopenedCache.lookup("first")));
+            assertNull(reopenedCache.lookup("second"));
+        }
+    }
+
+    @Nested
+    class TestLock {
+
+        @Test
+        void testLockedDirectoryIsRejected() {
+            try (DiskResponseCache cache = DiskResponseCache.from(directory)) {
+                assertThrows(IllegalStateException.class, () -> DiskResponseCache.from(directory));
+                cache.store("key", "\"etag\"", null, null, StandardCharsets.UTF_8, bytes("body"));
+            }
+
+            try (DiskResponseCache reopenedCache = DiskResponseCache.from(directory)) {
+                assertEquals(1, reopenedCache.getEntryCount());
+            }
+        }
+
+        @Test
+        void testClosedCacheIsRejected() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            cache.close();
+            cache.close();
+
+            assertThrows(IllegalStateException.class, () -> cache.lookup("key"));
+            assertThrows(IllegalStateException.class,
+                    () -> cache.store("key", null, null, null, StandardCharsets.UTF_8, bytes("body")));
+        }
+    }
+
+    @Nested
+    class TestCompact {
+
+        @Test
+        void testOverwrittenRecordsAreDropped() throws IOException {
+            final DiskResponseCache cache = DiskResponseCache.from(directory, 4096);
+            final byte[] body = new byte[1000];
+
+            for (int i = 0; i < 20; i++) {
+                cache.store("key" + i % 2, "\"" + i + "\"", null, null, StandardCharsets.UTF_8, body);
+            }
+
+            final DiskCachedResponse beforeCompaction = cache.lookup("key0");
+            cache.compact();
+
+            assertEquals(1, cache.getSegmentCount());
+            assertEquals(1000, beforeCompaction.getSize());
+            assertEquals("\"18\"", cache.lookup("key0").getEtag());
+            cache.close();
+
+            try (DiskResponseCache reopenedCache = DiskResponseCache.from(directory, 4096)) {
+                assertEquals("\"19\"", reopenedCache.lookup("key1").getEtag());
+            }
+        }
+
+        @Test
+        void testSegmentsAreCompactedWhenMostRecordsAreOverwritten() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory, 4096);
+
+            for (int i = 0; i < 100; i++) {
+                cache.store("key", "\"" + i + "\"", null, null, StandardCharsets.UTF_8, new byte[1000]);
+            }
+
+            assertEquals(1, cache.getEntryCount());
+            assertEquals(1, cache.getSegmentCount());
+        }
+
+        @Test
+        void testTooSmallSegmentIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> DiskResponseCache.from(directory, 1024));
+        }
+    }
+
+    private static byte[] bytes(final String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(final DiskCachedResponse cachedResponse) throws IOException {
+        try (InputStream body = cachedResponse.openBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.codec.DecodeOptions;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+
+/**
+ * The class that manages test case of {@link InternPool} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class InternPoolTest {
+
+    /**
+     * The user that appears several times in the issues
+     */
+    private static final String OCTOCAT = "{\"login\":\"octocat\",\"id\":1,\"node_id\":\"MDQ6VXNlcjE=\","
+            + "\"url\":\"https://api.github.com/users/octocat\",\"site_admin\":false}";
+
+    /**
+     * The user that has the same id as {@link #OCTOCAT} but was renamed
+     */
+    private static final String RENAMED = "{\"login\":\"monalisa\",\"id\":1,\"node_id\":\"MDQ6VXNlcjE=\","
+            + "\"url\":\"https://api.github.com/users/monalisa\",\"site_admin\":false}";
+
+    /**
+     * The issues where the same user appears as the issuer, the assignee and the
+     * user who closed them
+     */
+    private static final String ISSUES = "[{\"id\":1,\"user\":" + OCTOCAT + ",\"assignee\":" + OCTOCAT
+            + ",\"assignees\":[" + OCTOCAT + "]},{\"id\":2,\"user\":" + OCTOCAT + ",\"closed_by\":" + RENAMED + "}]";
+
+    @Nested
+    class TestIntern {
+
+        @Test
+        void testEqualEntitiesAreCollapsedWithinResponse() throws IOException {
+
+            final InternPool internPool = InternPool.builder().acrossResponses(false).build();
+            final List<Issue> issues = decode(internPool);
+            final Issue first = issues.get(0);
+
+            assertSame(first.getIssuer(), first.getAssignee());
+            assertSame(first.getIssuer(), first.getAssignees().get(0));
+            assertSame(first.getIssuer(), issues.get(1).getIssuer());
+            assertEquals("monalisa", issues.get(1).getClosedBy().getLogin());
+
+            final InternStats stats = internPool.getStats();
+            assertEquals(3L, stats.getHitCount());
+            assertEquals(2L, stats.getMissCount());
+            assertEquals(0L, stats.getEntryCount());
+            assertTrue(stats.getSavedBytes() > 0L);
+        }
+
+        @Test
+        void testEntitiesAreNotSharedAcrossResponsesByResponseInterner() throws IOException {
+
+            final InternPool internPool = InternPool.builder().acrossResponses(false).build();
+
+            assertNotSame(decode(internPool).get(0).getIssuer(), decode(internPool).get(0).getIssuer());
+        }
+
+        @Test
+        void testEntitiesAreSharedAcrossResponses() throws IOException {
+
+            final InternPool internPool = InternPool.newInstance();
+            final String issues = "[{\"id\":1,\"user\":" + OCTOCAT + "}]";
+            final List<Issue> first = decode(issues, internPool);
+            final List<Issue> second = decode(issues, internPool);
+
+            assertSame(first.get(0).getIssuer(), second.get(0).getIssuer());
+            assertEquals(1L, internPool.getStats().getEntryCount());
+            assertEquals(1L, internPool.getStats().getHitCount());
+        }
+
+        @Test
+        void testSavedBytesAddSizeOfCanonicalEntityForEachHit() throws IOException {
+
+            final InternPool internPool = InternPool.newInstance();
+            final String issues = "[{\"id\":1,\"user\":" + OCTOCAT + "}]";
+            decode(issues, internPool);
+            decode(issues, internPool);
+            final long savedBytes = internPool.getStats().getSavedBytes();
+            decode(issues, internPool);
+
+            assertTrue(savedBytes > 0L);
+            assertEquals(savedBytes * 2L, internPool.getStats().getSavedBytes());
+            assertEquals(2L, internPool.getStats().getHitCount());
+        }
+
+        @Test
+        void testEntitiesOfOtherTypesAreNotInterned() {
+
+            final InternPool internPool = InternPool.newInstance();
+            final Object value = new Object();
+
+            assertSame(value, internPool.intern(value));
+            assertEquals(0L, internPool.getStats().getMissCount());
+        }
+
+        @Test
+        void testMaximumSizeMustBePositive() {
+            assertThrows(IllegalArgumentException.class, () -> InternPool.builder().maximumSize(0L).build());
+        }
+    }
+
+    private static List<Issue> decode(final InternPool internPool) throws IOException {
+        return decode(ISSUES, internPool);
+    }
+
+    private static List<Issue> decode(final String json, final InternPool internPool) throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, ListGenericResolver.of(Issue.class),
+                DecodeOptions.builder().interner(internPool.newInterner()).build());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+
+/**
+ * The class that manages test case of {@link ResponseCache} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class ResponseCacheTest {
+
+    @Nested
+    class TestPut {
+
+        @Test
+        void testResponseIsServedWithinTtl() {
+            final ResponseCache responseCache = ResponseCache.newInstance();
+            final Object body = new Object();
+            responseCache.put("key", new GenericUrl("https://api.github.com/users/octocat"), body, 100L);
+
+            assertSame(body, responseCache.getIfPresent("key"));
+            assertNull(responseCache.getIfPresent("other"));
+
+            final ResponseCacheStats stats = responseCache.getStats();
+            assertEquals(1L, stats.getHitCount());
+            assertEquals(1L, stats.getMissCount());
+            assertEquals(0.5, stats.getHitRate());
+            assertEquals(1L, stats.getEntryCount());
+            assertEquals(103L, stats.getWeightedSize());
+        }
+
+        @Test
+        void testResponseWithZeroTtlIsNotCached() {
+            final ResponseCache responseCache = ResponseCache.builder().ttl(GithubApi.RECEIVED_EVENTS, Duration.ZERO)
+                    .build();
+            responseCache.put("key", new GenericUrl("https://api.github.com/users/octocat/received_events"),
+                    new Object(), 100L);
+
+            assertNull(responseCache.getIfPresent("key"));
+        }
+
+        @Test
+        void testTtlIsResolvedForEachGithubApi() {
+            final ResponseCache responseCache = ResponseCache.newInstance();
+
+            assertTrue(responseCache.getTtl(GithubApi.USER)
+                    .compareTo(responseCache.getTtl(GithubApi.RECEIVED_EVENTS)) > 0);
+            assertEquals(Duration.ofMinutes(1), responseCache.getTtl(null));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.Data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.response.repos.Repository;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.response.user.subscriptions.UserSubscription;
+import org.thinkit.api.gateway.github.util.ListGenericResolver;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+/**
+ * The class that manages test case of {@link JsonDecoders} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class JsonDecodersTest {
+
+    /**
+     * The JSON object parser that parses by reflection
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The issues that have the nested models, the nulls and the unknown fields
+     */
+    private static final String ISSUES = "[{\"id\":1,\"number\":1347,\"title\":\"Found a bug\",\"state\":\"open\","
+            + "\"locked\":true,\"user\":{\"login\":\"octocat\",\"id\":1,\"site_admin\":false,\"extra\":\"x\"},"
+            + "\"labels\":[{\"id\":208045946,\"name\":\"bug\",\"default\":true}],\"assignee\":null,"
+            + "\"assignees\":[{\"login\":\"octocat\",\"id\":1}],\"milestone\":null,\"closed_at\":null,"
+            + "\"reactions\":{\"total_count\":3,\"+1\":2,\"rocket\":1.5},\"topics\":[\"api\",null,true],"
+            + "\"performed_via_github_app\":null,\"closed_by\":{\"login\":\"hubot\",\"id\":2}},"
+            + "{\"id\":2,\"number\":1348,\"labels\":null,\"user\":null}]";
+
+    /**
+     * The subscription that has the unknown fields
+     */
+    private static final String SUBSCRIPTION = "{\"id\":1296269,\"name\":\"Hello-World\",\"private\":false,"
+            + "\"full_name\":\"octocat/Hello-World\",\"permissions\":{\"admin\":false,\"push\":false},"
+            + "\"visibility\":\"public\",\"license\":{\"key\":\"mit\",\"name\":\"MIT License\"}}";
+
+    /**
+     * The repository that has the URLs derivable from the full name and the one
+     * that is not
+     */
+    private static final String REPOSITORY = "{\"id\":1296269,\"full_name\":\"octocat/Hello-World\","
+            + "\"url\":\"https://api.github.com/repos/octocat/Hello-World\","
+            + "\"html_url\":\"https://github.com/octocat/Hello-World\","
+            + "\"forks_url\":\"https://api.github.com/repos/octocat/Hello-World/forks\","
+            + "\"keys_url\":\"https://api.github.com/repos/octocat/Hello-World/keys{/key_id}\","
+            + "\"ssh_url\":\"git@github.com:octocat/Hello-World.git\","
+            + "\"svn_url\":\"https://svn.github.com/octocat/Hello-World\",\"mirror_url\":null}";
+
+    @Nested
+    class TestDecode {
+
+        @Test
+        void testListIsEqualToReflection() throws IOException {
+
+            final Type type = ListGenericResolver.of(Issue.class);
+            final List<Issue> decoded = decode(ISSUES, type);
+            final List<Issue> parsed = parse(ISSUES, type);
+
+            assertEquals(parsed, decoded);
+
+            for (int i = 0; i < parsed.size(); i++) {
+                assertEquals(parsed.get(i).getUnknownKeys(), decoded.get(i).getUnknownKeys());
+                assertEquals(parsed.get(i).getIssuer().getUnknownKeys(), decoded.get(i).getIssuer().getUnknownKeys());
+            }
+        }
+
+        @Test
+        void testObjectIsEqualToReflection() throws IOException {
+
+            final UserSubscription decoded = decode(SUBSCRIPTION, UserSubscription.class);
+            final UserSubscription parsed = parse(SUBSCRIPTION, UserSubscription.class);
+
+            assertEquals(parsed, decoded);
+            assertEquals(parsed.getUnknownKeys(), decoded.getUnknownKeys());
+            assertEquals("octocat/Hello-World", decoded.getFullName());
+            assertNotNull(decoded.getFactory());
+        }
+
+        @Test
+        void testNullIsReadAsNullValueOfData() throws IOException {
+
+            final List<Issue> decoded = decode(ISSUES, ListGenericResolver.of(Issue.class));
+
+            assertSame(Data.NULL_STRING, decoded.get(0).getClosedAt());
+            assertTrue(Data.isNull(decoded.get(0).getAssignee()));
+            assertTrue(Data.isNull(decoded.get(1).getLabels()));
+            assertNull(decoded.get(1).getBody());
+        }
+
+        @Test
+        void testUnknownFieldsAreSkippedByDefault() throws IOException {
+
+            final UserSubscription decoded = decode(SUBSCRIPTION, UserSubscription.class, DecodeOptions.defaultOf());
+            final UserSubscription parsed = parse(SUBSCRIPTION, UserSubscription.class);
+
+            assertEquals(parsed, decoded);
+            assertTrue(decoded.getUnknownKeys().isEmpty());
+            assertEquals(2, parsed.getUnknownKeys().size());
+        }
+
+        @Test
+        void testProjectionSkipsUnselectedFields() throws IOException {
+
+            final List<Issue> decoded = decode(ISSUES, ListGenericResolver.of(Issue.class), DecodeOptions.builder()
+                    .retainUnknownFields(true).fields(Set.of("id", "title", "user", "topics")).build());
+            final Issue issue = decoded.get(0);
+
+            assertEquals(2, decoded.size());
+            assertEquals(1, issue.getId());
+            assertEquals("Found a bug", issue.getTitle());
+            assertEquals(0, issue.getNumber());
+            assertNull(issue.getState());
+            assertNull(issue.getLabels());
+            assertEquals("octocat", issue.getIssuer().getLogin());
+            assertEquals("x", issue.getIssuer().getUnknownKeys().get("extra"));
+            assertEquals(Set.of("topics"), issue.getUnknownKeys().keySet());
+            assertTrue(Data.isNull(decoded.get(1).getIssuer()));
+        }
+
+        @Test
+        void testCompactUrlsAreDerivedFromFullName() throws IOException {
+
+            final Repository decoded = decode(REPOSITORY, Repository.class,
+                    DecodeOptions.builder().compactUrls(true).build());
+            final Repository parsed = parse(REPOSITORY, Repository.class);
+
+            assertEquals(parsed, decoded);
+            assertEquals("https://api.github.com/repos/octocat/Hello-World/forks", decoded.getForksUrl());
+            assertEquals("https://api.github.com/repos/octocat/Hello-World/keys{/key_id}", decoded.getKeysUrl());
+            assertEquals("git@github.com:octocat/Hello-World.git", decoded.getSshUrl());
+            assertNull(decoded.get("forks_url"));
+            assertNull(decoded.get("ssh_url"));
+            assertEquals("https://svn.github.com/octocat/Hello-World", decoded.get("svn_url"));
+            assertEquals(parsed.getSvnUrl(), decoded.getSvnUrl());
+            assertNull(decoded.getCloneUrl());
+            assertSame(Data.NULL_STRING, decoded.getMirrorUrl());
+        }
+
+        @Test
+        void testTimestampIsResolvedToEpochMillis() throws IOException {
+
+            final String json = "{\"id\":1,\"created_at\":\"2011-04-22T13:33:48Z\",\"closed_at\":null}";
+            final Issue decoded = decode(json, Issue.class);
+            final Issue parsed = parse(json, Issue.class);
+
+            assertEquals(1_303_479_228_000L, decoded.getCreatedAtMillis());
+            assertEquals(decoded.getCreatedAtMillis(), parsed.getCreatedAtMillis());
+            assertEquals(Instant.parse("2011-04-22T13:33:48Z"), parsed.getCreatedAtInstant());
+            assertEquals(TimestampResolver.NONE, decoded.getClosedAtMillis());
+            assertNull(decoded.getUpdatedAtInstant());
+            assertEquals(parsed, decoded);
+        }
+
+        @Test
+        void testTypeWithoutDecoder() {
+            assertNull(JsonDecoders.of(GenericJson.class));
+            assertThrows(IllegalArgumentException.class, () -> decode("{}", GenericJson.class));
+        }
+
+        @Test
+        void testMismatchedJson() {
+            assertThrows(IOException.class, () -> decode(SUBSCRIPTION, ListGenericResolver.of(UserSubscription.class)));
+        }
+    }
+
+    private static <T> T decode(final String json, final Type type) throws IOException {
+        return decode(json, type, DecodeOptions.builder().retainUnknownFields(true).build());
+    }
+
+    private static <T> T decode(final String json, final Type type, final DecodeOptions options)
+            throws IOException {
+        return JsonDecoders.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, type, options);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T parse(final String json, final Type type) throws IOException {
+        return (T) JSON_OBJECT_PARSER.parseAndClose(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, type);
+    }
+}
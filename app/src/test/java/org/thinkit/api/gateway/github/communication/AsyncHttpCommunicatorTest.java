@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponseException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.GithubApiGateway;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.exception.NotFoundException;
+import org.thinkit.api.gateway.github.response.user.User;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.GithubUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link AsyncHttpCommunicator} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class AsyncHttpCommunicatorTest {
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The count of the requests received by the rate limited endpoint
+     */
+    private AtomicInteger rateLimitedCount;
+
+    /**
+     * The communicator
+     */
+    private AsyncCommunicator communicator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.rateLimitedCount = new AtomicInteger();
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/users/octocat", exchange -> respond(exchange, 200, "{\"login\":\"octocat\"}"));
+        this.stubServer.route("/users/octocat/following",
+                exchange -> respond(exchange, 200, "[{\"login\":\"monalisa\"},{\"login\":\"hubot\"}]"));
+        this.stubServer.route("/users/missing",
+                exchange -> respond(exchange, 404, "{\"message\":\"Not Found\"}"));
+        this.stubServer.route("/users/invalid",
+                exchange -> respond(exchange, 422, "{\"message\":\"Validation Failed\"}"));
+        this.stubServer.route("/users/limited", exchange -> {
+            if (this.rateLimitedCount.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                respond(exchange, 429, "{\"message\":\"secondary rate limit\"}");
+            } else {
+                respond(exchange, 200, "{\"login\":\"limited\"}");
+            }
+        });
+        this.communicator = AsyncHttpCommunicator.from(OAuthConfig.noneOf(), CommunicationConfig.defaultOf());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestGet {
+
+        @Test
+        void testObjectIsParsed() {
+            assertEquals("octocat", communicator.get(url("/users/octocat"), User.class).join().getLogin());
+        }
+
+        @Test
+        void testListIsParsed() {
+            final List<FollowingUser> followingUsers = communicator
+                    .getAsList(url("/users/octocat/following"), FollowingUser.class).join();
+
+            assertEquals(2, followingUsers.size());
+            assertEquals("hubot", followingUsers.get(1).getLogin());
+        }
+
+        @Test
+        void testMappedErrorStatusFailsWithDedicatedException() {
+            final CompletionException exception = assertThrows(CompletionException.class,
+                    () -> communicator.get(url("/users/missing"), User.class).join());
+
+            assertTrue(exception.getCause() instanceof NotFoundException);
+            assertEquals("Not Found", exception.getCause().getMessage());
+        }
+
+        @Test
+        void testOtherErrorStatusFailsWithHttpResponseException() {
+            final CompletionException exception = assertThrows(CompletionException.class,
+                    () -> communicator.get(url("/users/invalid"), User.class).join());
+            final HttpResponseException cause = (HttpResponseException) exception.getCause();
+
+            assertEquals(422, cause.getStatusCode());
+            assertEquals("Unprocessable Entity", cause.getStatusMessage());
+            assertEquals("{\"message\":\"Validation Failed\"}", cause.getContent());
+        }
+
+        @Test
+        void testRateLimitedRequestIsSentAgain() {
+            assertEquals("limited", communicator.get(url("/users/limited"), User.class).join().getLogin());
+            assertEquals(2, rateLimitedCount.get());
+        }
+    }
+
+    @Nested
+    class TestSerialization {
+
+        @Test
+        void testDefaultConfigIsSerializable() throws Exception {
+            final CommunicationConfig communicationConfig = roundTrip(CommunicationConfig.defaultOf());
+
+            assertEquals(ForkJoinPool.commonPool(), communicationConfig.getParsingExecutor());
+        }
+
+        @Test
+        void testGatewayIsSerializable() throws Exception {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+                output.writeObject(GithubApiGateway.from(GithubUser.builder().userName("octocat").build()));
+            }
+
+            assertTrue(bytes.size() > 0);
+        }
+    }
+
+    private GenericUrl url(final String path) {
+        return new GenericUrl(this.stubServer.url(path));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(final T object) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) input.readObject();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link ConcurrencyLimiter} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class ConcurrencyLimiterTest {
+
+    @Nested
+    class TestOf {
+
+        @Test
+        void testInitialLimitMustBePositive() {
+            assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(0, 10));
+        }
+
+        @Test
+        void testMaxLimitMustNotBeLessThanInitialLimit() {
+            assertThrows(IllegalArgumentException.class, () -> ConcurrencyLimiter.of(10, 5));
+        }
+    }
+
+    @Nested
+    class TestRelease {
+
+        @Test
+        void testLimitGrowsWhileLatencyIsFlat() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(2, 4);
+
+            for (int i = 0; i < 100; i++) {
+                limiter.acquire();
+                limiter.acquire();
+                limiter.release(1_000_000L, false);
+                limiter.release(1_000_000L, false);
+            }
+
+            assertEquals(4, limiter.getLimit());
+            assertEquals(0, limiter.getInFlightCount());
+        }
+
+        @Test
+        void testLimitDoesNotGrowWhileMostlyUnused() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(10, 20);
+
+            for (int i = 0; i < 100; i++) {
+                limiter.acquire();
+                limiter.release(1_000_000L, false);
+            }
+
+            assertEquals(10, limiter.getLimit());
+        }
+
+        @Test
+        void testLimitIsCutOncePerRoundTripWhenLatencyInflates() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(10, 10);
+
+            for (int i = 0; i < 20; i++) {
+                limiter.acquire();
+                limiter.release(1_000_000L, false);
+            }
+
+            // The slow requests started before the first cut
+            for (int i = 0; i < 5; i++) {
+                limiter.acquire();
+                limiter.release(1_000_000_000L, false);
+            }
+
+            assertEquals(9, limiter.getLimit());
+
+            // The request started after the cut
+            Thread.sleep(1L);
+            limiter.acquire();
+            limiter.release(0L, false);
+
+            assertEquals(8, limiter.getLimit());
+        }
+
+        @Test
+        void testLimitKeepsGrowingWhileFastAndSlowResponsesAreMixed() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(4, 8);
+
+            for (int i = 0; i < 300; i++) {
+                limiter.acquire();
+                limiter.acquire();
+                // The fast response such as 304 and the slow one with the body
+                limiter.release(1_000_000_000L, false);
+                limiter.release(20_000_000_000L, false);
+
+                assertTrue(limiter.getLimit() >= 3);
+            }
+
+            assertEquals(5, limiter.getLimit());
+            assertEquals(0, limiter.getInFlightCount());
+        }
+
+        @Test
+        void testLimitIsHalvedWhenDropped() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(8, 8);
+            limiter.acquire();
+            limiter.onDropped();
+
+            assertEquals(4, limiter.getLimit());
+            assertEquals(1L, limiter.getDroppedCount());
+        }
+    }
+
+    @Nested
+    class TestAcquire {
+
+        @Test
+        void testCallerWaitsBeyondLimit() throws InterruptedException {
+            final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(1, 1);
+            limiter.acquire();
+
+            final Thread waiter = new Thread(() -> {
+                try {
+                    limiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            waiter.start();
+
+            while (limiter.getQueueDepth() == 0) {
+                Thread.sleep(1L);
+            }
+
+            assertEquals(1, limiter.getInFlightCount());
+            limiter.onIgnored();
+            waiter.join(5000L);
+
+            assertEquals(0, limiter.getQueueDepth());
+            assertEquals(1, limiter.getInFlightCount());
+        }
+    }
+
+    @Nested
+    class TestSendGetRequest {
+
+        @Test
+        void testLimitIsCutWhenRequestIsRejected() throws IOException {
+            final AtomicInteger requestCount = new AtomicInteger();
+            final StubServer stubServer = StubServer.start();
+            stubServer.route("/users/octocat/following", exchange -> {
+                if (requestCount.incrementAndGet() == 1) {
+                    exchange.getResponseHeaders().add("Retry-After", "0");
+                    exchange.sendResponseHeaders(429, -1);
+                    exchange.close();
+                    return;
+                }
+
+                respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+            });
+
+            try {
+                final ConcurrencyLimiter limiter = ConcurrencyLimiter.of(10, 10);
+                final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/following"));
+
+                assertEquals("octocat",
+                        HttpCommunicator
+                                .from(OAuthConfig.noneOf(),
+                                        CommunicationConfig.builder().concurrencyLimiter(limiter).build())
+                                .getAsList(genericUrl, FollowingUser.class).get(0).getLogin());
+                assertEquals(2, requestCount.get());
+                assertEquals(5, limiter.getLimit());
+                assertEquals(1L, limiter.getDroppedCount());
+                assertEquals(0, limiter.getInFlightCount());
+            } finally {
+                stubServer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.cache.ConditionalRequestCache;
+import org.thinkit.api.gateway.github.cache.ConditionalRequestStats;
+import org.thinkit.api.gateway.github.cache.DiskResponseCache;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of the conditional requests sent by
+ * {@link HttpCommunicator} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class ConditionalRequestTest {
+
+    /**
+     * The entity tag returned by the stub server
+     */
+    private static final String ETAG = "\"644b5b0155e6404a9cc4bd9d8b1ae730\"";
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The count of the responses with body sent by the stub server
+     */
+    private AtomicInteger bodyCount;
+
+    /**
+     * The directory of the segment files
+     */
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.bodyCount = new AtomicInteger();
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/users/octocat/following", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            this.bodyCount.incrementAndGet();
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+        });
+        this.stubServer.route("/users/octocat/repos", exchange -> {
+            // Only the first response can be revalidated
+            if (this.bodyCount.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("ETag", ETAG);
+            }
+
+            respond(exchange, 200, "[]");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestGetAsList {
+
+        @Test
+        void testCachedBodyIsServedOnNotModified() {
+            final ConditionalRequestCache cache = ConditionalRequestCache.newInstance();
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().conditionalRequestCache(cache).build());
+
+            final List<FollowingUser> first = communicator.getAsList(url("per_page=1&page=1"), FollowingUser.class);
+            final List<FollowingUser> second = communicator.getAsList(url("page=1&per_page=1"), FollowingUser.class);
+
+            assertEquals("octocat", first.get(0).getLogin());
+            assertSame(first, second);
+            assertEquals(1, bodyCount.get());
+            assertEquals(ConditionalRequestStats.from(1L, 1L, 1L), cache.getStats());
+        }
+
+        @Test
+        void testModifiedResponseIsNotCountedAsNotModified() {
+            final ConditionalRequestCache cache = ConditionalRequestCache.newInstance();
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().conditionalRequestCache(cache).build());
+            final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/repos"));
+
+            communicator.getAsList(genericUrl, FollowingUser.class);
+            communicator.getAsList(genericUrl, FollowingUser.class);
+
+            assertEquals(2, bodyCount.get());
+            assertEquals(ConditionalRequestStats.from(1L, 1L, 0L), cache.getStats());
+        }
+
+        @Test
+        void testNoConditionalRequestIsSentWithoutCache() {
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf());
+
+            communicator.getAsList(url("page=1"), FollowingUser.class);
+            communicator.getAsList(url("page=1"), FollowingUser.class);
+
+            assertEquals(2, bodyCount.get());
+        }
+
+        @Test
+        void testRawBodyOnDiskIsParsedOnNotModifiedAfterRestart() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().diskResponseCache(cache).build());
+            communicator.getAsList(url("page=1"), FollowingUser.class);
+            cache.close();
+
+            final DiskResponseCache reopenedCache = DiskResponseCache.from(directory);
+            final Communicator restartedCommunicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().diskResponseCache(reopenedCache).build());
+            final List<FollowingUser> users = restartedCommunicator.getAsList(url("page=1"), FollowingUser.class);
+
+            assertEquals("octocat", users.get(0).getLogin());
+            assertEquals(1, bodyCount.get());
+            assertEquals(ConditionalRequestStats.from(1L, 0L, 1L), reopenedCache.getStats());
+        }
+    }
+
+    @Nested
+    class TestDiskResponseCache {
+
+        @Test
+        void testResponseWithoutValidatorInvalidatesStoredOne() {
+            final DiskResponseCache cache = DiskResponseCache.from(directory);
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().diskResponseCache(cache).build());
+            final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/repos"));
+
+            communicator.getAsList(genericUrl, FollowingUser.class);
+            assertEquals(1, cache.getEntryCount());
+
+            communicator.getAsList(genericUrl, FollowingUser.class);
+            assertEquals(0, cache.getEntryCount());
+            cache.close();
+
+            try (DiskResponseCache reopenedCache = DiskResponseCache.from(directory)) {
+                assertEquals(0, reopenedCache.getEntryCount());
+            }
+        }
+    }
+
+    private GenericUrl url(final String query) {
+        return new GenericUrl(this.stubServer.url("/users/octocat/following?" + query));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.exception.NotFoundException;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link Http2Transport} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class Http2TransportTest {
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.stubServer = StubServer.start().route("/users/octocat/following", "[{\"login\":\"octocat\"}]");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestBuilder {
+
+        @Test
+        void testDefaultsAreUsedForMissingSettings() {
+            final Http2Transport transport = Http2Transport.builder().connectionPoolSize(0).maxConcurrentStreams(-1)
+                    .build();
+
+            assertEquals(4, transport.getConnectionPoolSize());
+            assertEquals(100, transport.getMaxConcurrentStreams());
+            assertEquals(Duration.ofSeconds(20), transport.getConnectTimeout());
+            assertEquals(Duration.ofSeconds(20), transport.getReadTimeout());
+        }
+
+        @Test
+        void testSameHttpTransportIsReturned() {
+            final Http2Transport transport = Http2Transport.newInstance();
+
+            assertSame(transport.getHttpTransport(), transport.getHttpTransport());
+        }
+    }
+
+    @Nested
+    class TestSendGetRequest {
+
+        @Test
+        void testResponseIsParsedAndStreamsAreReleased() {
+            final Http2Transport transport = Http2Transport.builder().connectionPoolSize(2).maxConcurrentStreams(1)
+                    .build();
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().transport(transport).build());
+
+            // More requests than the streams of the pool
+            for (int i = 0; i < 5; i++) {
+                assertEquals("octocat", communicator.getAsList(url("/users/octocat/following"), FollowingUser.class)
+                        .get(0).getLogin());
+            }
+
+            assertEquals(2, ((JdkHttpTransport) transport.getHttpTransport()).getAvailableStreamCount());
+        }
+
+        @Test
+        void testErrorStatusIsMappedWithReasonPhrase() {
+            final Http2Transport transport = Http2Transport.builder().connectionPoolSize(1).maxConcurrentStreams(1)
+                    .build();
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().transport(transport).build());
+
+            final NotFoundException exception = assertThrows(NotFoundException.class,
+                    () -> communicator.getAsList(url("/users/missing/following"), FollowingUser.class));
+
+            assertEquals("Not Found", exception.getMessage());
+            assertEquals(1, ((JdkHttpTransport) transport.getHttpTransport()).getAvailableStreamCount());
+        }
+    }
+
+    private GenericUrl url(final String path) {
+        return new GenericUrl(this.stubServer.url(path));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+
+/**
+ * The class that manages test case of {@link JdkHttpResponse} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class JdkHttpResponseTest {
+
+    /**
+     * The timeout of the requests
+     */
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The transport
+     */
+    private JdkHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.transport = new JdkHttpTransport(1, 2, TIMEOUT, TIMEOUT);
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/users/octocat", exchange -> {
+            final byte[] body = "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().add("X-Test", "first");
+            exchange.getResponseHeaders().add("X-Test", "second");
+            exchange.sendResponseHeaders(404, body.length);
+
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestMapping {
+
+        @Test
+        void testStatusIsMapped() throws IOException {
+            final LowLevelHttpResponse response = execute();
+            response.disconnect();
+
+            assertEquals(404, response.getStatusCode());
+            assertEquals("Not Found", response.getReasonPhrase());
+            assertEquals("HTTP/1.1 404 Not Found", response.getStatusLine());
+        }
+
+        @Test
+        void testHeadersAreMapped() throws IOException {
+            final LowLevelHttpResponse response = execute();
+            response.disconnect();
+
+            final Map<String, List<String>> headers = new HashMap<>();
+
+            for (int i = 0; i < response.getHeaderCount(); i++) {
+                headers.computeIfAbsent(response.getHeaderName(i).toLowerCase(), name -> new ArrayList<>())
+                        .add(response.getHeaderValue(i));
+            }
+
+            assertEquals(List.of("first", "second"), headers.get("x-test"));
+            assertEquals("application/json; charset=utf-8", response.getContentType());
+            assertEquals(23L, response.getContentLength());
+            assertNull(response.getContentEncoding());
+        }
+    }
+
+    @Nested
+    class TestRelease {
+
+        @Test
+        void testStreamIsReleasedWhenContentIsClosed() throws IOException {
+            final LowLevelHttpResponse response = execute();
+            assertEquals(1, transport.getAvailableStreamCount());
+
+            try (InputStream content = response.getContent()) {
+                assertEquals("{\"message\":\"Not Found\"}", new String(content.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            assertEquals(2, transport.getAvailableStreamCount());
+        }
+
+        @Test
+        void testStreamIsReleasedOnceWhenClosedAgain() throws IOException {
+            final LowLevelHttpResponse response = execute();
+            response.getContent().close();
+            response.getContent().close();
+            response.disconnect();
+
+            assertEquals(2, transport.getAvailableStreamCount());
+        }
+
+        @Test
+        void testStreamIsReleasedWhenContentFailsToBeRead() throws IOException, InterruptedException {
+            try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                final Thread server = new Thread(() -> {
+                    try (Socket socket = serverSocket.accept()) {
+                        // Closes the connection before the whole content is sent
+                        final String response = "HTTP/1.1 200 OK\r\nContent-Length: 100\r\n\r\n0123456789";
+                        socket.getOutputStream().write(response.getBytes(StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                server.start();
+
+                final LowLevelHttpResponse response = transport
+                        .buildRequest("GET", String.format("http://127.0.0.1:%d/", serverSocket.getLocalPort()))
+                        .execute();
+                server.join(10000L);
+
+                try (InputStream content = response.getContent()) {
+                    assertThrows(IOException.class, content::readAllBytes);
+                }
+
+                assertEquals(2, transport.getAvailableStreamCount());
+            }
+        }
+    }
+
+    private LowLevelHttpResponse execute() throws IOException {
+        return this.transport.buildRequest("GET", this.stubServer.url("/users/octocat")).execute();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+
+/**
+ * The class that manages test case of {@link JdkHttpTransport} and
+ * {@link JdkHttpRequest} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class JdkHttpTransportTest {
+
+    /**
+     * The timeout long enough for the requests that must not time out
+     */
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The request received last by the stub server
+     */
+    private AtomicReference<String> receivedRequest;
+
+    /**
+     * The latch that releases the slow response of the stub server
+     */
+    private CountDownLatch slowResponseLatch;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.receivedRequest = new AtomicReference<>();
+        this.slowResponseLatch = new CountDownLatch(1);
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/echo", exchange -> {
+            final byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            this.receivedRequest.set(String.format("%s %s %s", exchange.getRequestMethod(),
+                    exchange.getRequestHeaders().getFirst("X-Test"), new String(requestBody, StandardCharsets.UTF_8)));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        this.stubServer.route("/slow", exchange -> {
+            try {
+                this.slowResponseLatch.await(10L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.slowResponseLatch.countDown();
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestAcquire {
+
+        @Test
+        void testClientsAreSelectedInRoundRobin() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(3, 1, TIMEOUT, TIMEOUT);
+            final List<HttpClient> httpClients = new ArrayList<>();
+
+            for (int i = 0; i < 3; i++) {
+                httpClients.add(transport.acquire());
+                transport.release();
+            }
+
+            assertNotSame(httpClients.get(0), httpClients.get(1));
+            assertNotSame(httpClients.get(1), httpClients.get(2));
+            assertNotSame(httpClients.get(2), httpClients.get(0));
+            assertSame(httpClients.get(0), transport.acquire());
+            assertSame(httpClients.get(1), transport.acquire());
+        }
+
+        @Test
+        void testStreamsAreBoundedOverPool() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(2, 3, TIMEOUT, TIMEOUT);
+            assertEquals(6, transport.getAvailableStreamCount());
+
+            transport.acquire();
+            assertEquals(5, transport.getAvailableStreamCount());
+
+            transport.release();
+            assertEquals(6, transport.getAvailableStreamCount());
+        }
+    }
+
+    @Nested
+    class TestExecute {
+
+        @Test
+        void testMethodHeadersAndContentAreSent() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(1, 1, TIMEOUT, TIMEOUT);
+            final LowLevelHttpRequest request = transport.buildRequest("POST", url("/echo"));
+            request.addHeader("X-Test", "value");
+            // The header managed by HttpClient is skipped instead of failing the request
+            request.addHeader("Connection", "close");
+            request.setStreamingContent(new ByteArrayContent("text/plain", "body".getBytes(StandardCharsets.UTF_8)));
+
+            final LowLevelHttpResponse response = request.execute();
+            response.disconnect();
+
+            assertEquals(204, response.getStatusCode());
+            assertEquals("POST value body", receivedRequest.get());
+            assertEquals(1, transport.getAvailableStreamCount());
+        }
+
+        @Test
+        void testReadTimeoutReleasesStream() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(1, 1, TIMEOUT, Duration.ofMillis(200L));
+
+            assertThrows(HttpTimeoutException.class, () -> transport.buildRequest("GET", url("/slow")).execute());
+            assertEquals(1, transport.getAvailableStreamCount());
+        }
+
+        @Test
+        void testConnectTimeoutReleasesStream() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(1, 1, Duration.ofMillis(200L), TIMEOUT);
+            final List<Socket> sockets = new ArrayList<>();
+
+            try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                // Fills the backlog of the server that never accepts, so the next connection hangs
+                while (true) {
+                    final Socket socket = new Socket();
+                    sockets.add(socket);
+
+                    try {
+                        socket.connect(serverSocket.getLocalSocketAddress(), 200);
+                    } catch (SocketTimeoutException e) {
+                        break;
+                    }
+                }
+
+                final String url = String.format("http://127.0.0.1:%d/", serverSocket.getLocalPort());
+
+                assertThrows(HttpConnectTimeoutException.class, () -> transport.buildRequest("GET", url).execute());
+                assertEquals(1, transport.getAvailableStreamCount());
+            } finally {
+                for (final Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+
+        @Test
+        void testRefusedConnectionReleasesStream() throws IOException {
+            final JdkHttpTransport transport = new JdkHttpTransport(1, 1, TIMEOUT, TIMEOUT);
+            final int port;
+
+            try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                port = serverSocket.getLocalPort();
+            }
+
+            final String url = String.format("http://127.0.0.1:%d/", port);
+
+            assertThrows(IOException.class, () -> transport.buildRequest("GET", url).execute());
+            assertEquals(1, transport.getAvailableStreamCount());
+        }
+    }
+
+    private String url(final String path) {
+        return this.stubServer.url(path);
+    }
+}
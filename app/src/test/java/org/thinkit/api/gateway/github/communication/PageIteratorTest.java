@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link PageIterator} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class PageIteratorTest {
+
+    /**
+     * The count of the pages served by the stub server
+     */
+    private static final int PAGE_COUNT = 3;
+
+    /**
+     * The count of the items per page
+     */
+    private static final int PER_PAGE = 2;
+
+    /**
+     * The path of the pages served by the stub server
+     */
+    private static final String PATH = "/users/octocat/following";
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.stubServer = StubServer.start().paginate(PATH, PAGE_COUNT, PER_PAGE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestStream {
+
+        @Test
+        void testAllPagesAreFollowedInOrder() {
+            final List<String> logins = PageIterator
+                    .stream(HttpCommunicator.from(OAuthConfig.noneOf()), new GenericUrl(stubServer.pageUrl(PATH, 1)),
+                            FollowingUser.class)
+                    .map(FollowingUser::getLogin).collect(Collectors.toList());
+
+            assertEquals(List.of("user1-1", "user1-2", "user2-1", "user2-2", "user3-1", "user3-2"), logins);
+            assertEquals(PAGE_COUNT, stubServer.getRequestCount());
+        }
+
+        @Test
+        void testNoPageIsFetchedBeyondConsumedItems() {
+            final List<FollowingUser> followingUsers = PageIterator
+                    .stream(HttpCommunicator.from(OAuthConfig.noneOf()), new GenericUrl(stubServer.pageUrl(PATH, 1)),
+                            FollowingUser.class)
+                    .limit(PER_PAGE + 1).collect(Collectors.toList());
+
+            assertEquals(PER_PAGE + 1, followingUsers.size());
+            assertEquals(2, stubServer.getRequestCount());
+        }
+    }
+}
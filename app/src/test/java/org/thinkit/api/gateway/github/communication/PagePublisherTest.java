@@ -0,0 +1,323 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link PagePublisher} . The cases follow
+ * the rules of the Reactive Streams specification noted in their names.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class PagePublisherTest {
+
+    /**
+     * The count of the pages served by the stub server
+     */
+    private static final int PAGE_COUNT = 3;
+
+    /**
+     * The count of the items per page
+     */
+    private static final int PER_PAGE = 2;
+
+    /**
+     * The items of all pages
+     */
+    private static final List<String> ALL_ITEMS = List.of("next:user1-1", "next:user1-2", "next:user2-1",
+            "next:user2-2", "next:user3-1", "next:user3-2");
+
+    /**
+     * The path of the pages served by the stub server
+     */
+    private static final String PATH = "/users/octocat/following";
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.stubServer = StubServer.start().paginate(PATH, PAGE_COUNT, PER_PAGE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestSubscribe {
+
+        @Test
+        void testRule109SubscriberMustNotBeNull() {
+            assertThrows(NullPointerException.class, () -> publisher().subscribe(null));
+        }
+
+        @Test
+        void testRule109DemandInOnSubscribeIsServed() throws InterruptedException {
+            final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE, false);
+            publisher().subscribe(subscriber);
+
+            assertEquals(ALL_ITEMS, subscriber.await(ALL_ITEMS.size()));
+            assertEquals("complete", subscriber.await());
+        }
+
+        @Test
+        void testEachSubscriptionStartsFromFirstPage() throws InterruptedException {
+            final Flow.Publisher<FollowingUser> publisher = publisher();
+            final TestSubscriber first = new TestSubscriber(Long.MAX_VALUE, false);
+            final TestSubscriber second = new TestSubscriber(Long.MAX_VALUE, false);
+            publisher.subscribe(first);
+            publisher.subscribe(second);
+
+            assertEquals(ALL_ITEMS, first.await(ALL_ITEMS.size()));
+            assertEquals(ALL_ITEMS, second.await(ALL_ITEMS.size()));
+        }
+    }
+
+    @Nested
+    class TestRequest {
+
+        @Test
+        void testRule101ItemsAreNotSignalledBeyondDemand() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.subscription.request(PER_PAGE + 1);
+
+            assertEquals(ALL_ITEMS.subList(0, PER_PAGE + 1), subscriber.await(PER_PAGE + 1));
+            subscriber.expectNoSignal();
+            assertEquals(2, stubServer.getRequestCount());
+        }
+
+        @Test
+        void testPagesAreFetchedOnlyForOutstandingDemand() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.expectNoSignal();
+            assertEquals(0, stubServer.getRequestCount());
+
+            subscriber.subscription.request(1);
+            subscriber.await();
+            subscriber.subscription.request(1);
+            subscriber.await();
+            assertEquals(1, stubServer.getRequestCount());
+
+            subscriber.subscription.request(1);
+            subscriber.await();
+            assertEquals(2, stubServer.getRequestCount());
+        }
+
+        @Test
+        void testRule105CompletionIsSignalledAfterLastItem() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.subscription.request(ALL_ITEMS.size());
+
+            assertEquals(ALL_ITEMS, subscriber.await(ALL_ITEMS.size()));
+            assertEquals("complete", subscriber.await());
+            assertEquals(PAGE_COUNT, stubServer.getRequestCount());
+        }
+
+        @Test
+        void testRule317DemandIsCappedAtMaxValue() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            subscriber.subscription.request(1);
+
+            assertEquals(ALL_ITEMS, subscriber.await(ALL_ITEMS.size()));
+            assertEquals("complete", subscriber.await());
+        }
+
+        @Test
+        void testRule309NonPositiveDemandIsSignalledAsError() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.subscription.request(0);
+
+            assertEquals("error:IllegalArgumentException", subscriber.await());
+
+            subscriber.subscription.request(1);
+            subscriber.expectNoSignal();
+        }
+
+        @Test
+        void testRule303RequestInOnNextIsNotReentrant() throws InterruptedException {
+            final TestSubscriber subscriber = new TestSubscriber(1, true);
+            publisher().subscribe(subscriber);
+
+            assertEquals(ALL_ITEMS, subscriber.await(ALL_ITEMS.size()));
+            assertEquals("complete", subscriber.await());
+            assertFalse(subscriber.overlapped);
+        }
+
+        @Test
+        void testRule104FailedRequestIsSignalledAsError() throws InterruptedException {
+            final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE, false);
+            PagePublisher.from(HttpCommunicator.from(OAuthConfig.noneOf()),
+                    new GenericUrl(stubServer.url("/not_found")), FollowingUser.class).subscribe(subscriber);
+
+            assertEquals("error", subscriber.await().split(":")[0]);
+            subscriber.expectNoSignal();
+        }
+    }
+
+    @Nested
+    class TestCancel {
+
+        @Test
+        void testRule306NoSignalIsSentAfterCancel() throws InterruptedException {
+            final TestSubscriber subscriber = subscribe();
+            subscriber.subscription.request(1);
+            subscriber.await();
+
+            subscriber.subscription.cancel();
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(ALL_ITEMS.size());
+
+            subscriber.expectNoSignal();
+            assertEquals(1, stubServer.getRequestCount());
+        }
+    }
+
+    private Flow.Publisher<FollowingUser> publisher() {
+        return PagePublisher.from(HttpCommunicator.from(OAuthConfig.noneOf()),
+                new GenericUrl(this.stubServer.pageUrl(PATH, 1)), FollowingUser.class);
+    }
+
+    private TestSubscriber subscribe() {
+        final TestSubscriber subscriber = new TestSubscriber(0, false);
+        this.publisher().subscribe(subscriber);
+        return subscriber;
+    }
+
+    /**
+     * The subscriber that records the signals.
+     */
+    private static final class TestSubscriber implements Flow.Subscriber<FollowingUser> {
+
+        /**
+         * The signals received
+         */
+        private final BlockingQueue<String> signals = new LinkedBlockingQueue<>();
+
+        /**
+         * The count of the calls of {@code onNext} in progress
+         */
+        private final AtomicInteger inOnNext = new AtomicInteger();
+
+        /**
+         * The demand requested in {@code onSubscribe}
+         */
+        private final long initialDemand;
+
+        /**
+         * {@code true} if an item is requested in each {@code onNext}
+         */
+        private final boolean requestInOnNext;
+
+        /**
+         * The subscription
+         */
+        private volatile Flow.Subscription subscription;
+
+        /**
+         * {@code true} if {@code onNext} is called while another is in progress
+         */
+        private volatile boolean overlapped;
+
+        private TestSubscriber(final long initialDemand, final boolean requestInOnNext) {
+            this.initialDemand = initialDemand;
+            this.requestInOnNext = requestInOnNext;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (this.initialDemand > 0) {
+                subscription.request(this.initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(final FollowingUser item) {
+
+            if (this.inOnNext.incrementAndGet() != 1) {
+                this.overlapped = true;
+            }
+
+            this.signals.add("next:" + item.getLogin());
+
+            if (this.requestInOnNext) {
+                this.subscription.request(1);
+            }
+
+            this.inOnNext.decrementAndGet();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.signals.add("error:" + throwable.getClass().getSimpleName());
+        }
+
+        @Override
+        public void onComplete() {
+            this.signals.add("complete");
+        }
+
+        private String await() throws InterruptedException {
+            return this.signals.poll(5L, TimeUnit.SECONDS);
+        }
+
+        private List<String> await(final int count) throws InterruptedException {
+
+            final List<String> received = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                received.add(this.await());
+            }
+
+            return received;
+        }
+
+        private void expectNoSignal() throws InterruptedException {
+            assertNull(this.signals.poll(200L, TimeUnit.MILLISECONDS));
+        }
+    }
+}
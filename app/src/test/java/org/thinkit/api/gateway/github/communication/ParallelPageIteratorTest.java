@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.catalog.LinkRelation;
+import org.thinkit.api.gateway.github.query.ParallelPagination;
+
+/**
+ * The class that manages test case of {@link ParallelPageIterator} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class ParallelPageIteratorTest {
+
+    /**
+     * The URL of the paginated resource
+     */
+    private static final String URL = "https://api.github.com/users/octocat/repos?per_page=2";
+
+    /**
+     * The count of the pages being fetched at the same time
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The largest count of the pages being fetched at the same time
+     */
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * The count of the pages after the first one whose fetch has started
+     */
+    private final AtomicInteger startedCount = new AtomicInteger();
+
+    /**
+     * The page numbers in the order their fetches completed
+     */
+    private final Queue<Integer> completionOrder = new ConcurrentLinkedQueue<>();
+
+    @Nested
+    class TestHasNext {
+
+        @Test
+        void testItemsKeepPageOrderWhenLaterPagesFinishFirst() {
+            final Communicator communicator = communicator(8, page -> {
+                sleep((8 - page) * 30L);
+                return items(page);
+            });
+
+            try (Stream<Integer> items = ParallelPageIterator.stream(communicator, new GenericUrl(URL),
+                    Integer.class, ParallelPagination.from(4, 4))) {
+                assertEquals(IntStream.rangeClosed(1, 8).boxed().flatMap(page -> items(page).stream())
+                        .collect(Collectors.toList()), items.collect(Collectors.toList()));
+            }
+
+            final List<Integer> completed = new ArrayList<>(completionOrder);
+            assertNotEquals(completed.stream().sorted().collect(Collectors.toList()), completed);
+        }
+
+        @Test
+        void testPagesInFlightNeverExceedPrefetch() {
+            final int prefetch = 3;
+            final Communicator communicator = communicator(20, page -> {
+                sleep(5L);
+                return items(page);
+            });
+            final ParallelPageIterator<Integer> iterator = ParallelPageIterator.from(communicator,
+                    new GenericUrl(URL), Integer.class, ParallelPagination.from(2, prefetch));
+            int maxAhead = 0;
+
+            while (iterator.hasNext()) {
+                final int page = iterator.next() / 10;
+                // The pages 2 to the current one have been taken from the window
+                maxAhead = Math.max(maxAhead, startedCount.get() - Math.max(0, page - 1));
+                sleep(2L);
+            }
+
+            assertTrue(maxAhead <= prefetch, "pages ahead: " + maxAhead);
+            assertTrue(maxInFlight.get() <= 2, "pages in flight: " + maxInFlight.get());
+            assertEquals(19, startedCount.get());
+        }
+
+        @Test
+        void testFailedPageReachesCaller() {
+            final Communicator communicator = communicator(5, page -> {
+                if (page == 3) {
+                    throw new IllegalStateException("The page 3 failed");
+                }
+
+                return items(page);
+            });
+            final ParallelPageIterator<Integer> iterator = ParallelPageIterator.from(communicator,
+                    new GenericUrl(URL), Integer.class, ParallelPagination.from(2, 4));
+            final List<Integer> items = new ArrayList<>();
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+                while (iterator.hasNext()) {
+                    items.add(iterator.next());
+                }
+            });
+
+            assertEquals("The page 3 failed", exception.getMessage());
+            assertEquals(List.of(10, 11, 20, 21), items);
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Nested
+    class TestClose {
+
+        @Test
+        void testPendingPagesAreCancelledAndThreadsStop() throws InterruptedException {
+            final CountDownLatch blocked = new CountDownLatch(2);
+            final CountDownLatch interrupted = new CountDownLatch(2);
+            final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            final Communicator communicator = communicator(10, page -> {
+                threads.add(Thread.currentThread());
+                blocked.countDown();
+
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+
+                return items(page);
+            });
+            final ParallelPageIterator<Integer> iterator = ParallelPageIterator.from(communicator,
+                    new GenericUrl(URL), Integer.class, ParallelPagination.from(2, 4));
+
+            assertEquals(10, iterator.next());
+            assertTrue(blocked.await(5L, TimeUnit.SECONDS));
+
+            iterator.close();
+
+            assertTrue(interrupted.await(5L, TimeUnit.SECONDS));
+            assertFalse(iterator.hasNext());
+
+            for (final Thread thread : threads) {
+                thread.join(5000L);
+                assertFalse(thread.isAlive());
+            }
+
+            assertEquals(2, startedCount.get());
+        }
+    }
+
+    private Communicator communicator(final int lastPage, final IntFunction<List<Integer>> pages) {
+        return (Communicator) Proxy.newProxyInstance(Communicator.class.getClassLoader(),
+                new Class<?>[] { Communicator.class }, (proxy, method, args) -> {
+                    if (!method.getName().equals("getPage")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+
+                    final Object pageParameter = ((GenericUrl) args[0]).getFirst("page");
+                    final int page = pageParameter == null ? 1 : Integer.parseInt(pageParameter.toString());
+
+                    if (page == 1) {
+                        return Page.from(items(1), Map.of(LinkRelation.NEXT, URL + "&page=2", LinkRelation.LAST,
+                                URL + "&page=" + lastPage));
+                    }
+
+                    this.startedCount.incrementAndGet();
+                    this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+
+                    try {
+                        final List<Integer> items = pages.apply(page);
+                        this.completionOrder.add(page);
+                        return Page.from(items, Map.of());
+                    } finally {
+                        this.inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    private static List<Integer> items(final int page) {
+        return List.of(page * 10, page * 10 + 1);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link RateLimitScheduler} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class RateLimitSchedulerTest {
+
+    @Nested
+    class TestReserve {
+
+        @Test
+        void testRequestIsNotDelayedWithEnoughRemaining() {
+            final RateLimitScheduler scheduler = RateLimitScheduler.newInstance();
+            scheduler.record(200, "5000", "4999", String.valueOf(epochSecond() + 3600), null);
+
+            assertEquals(0L, scheduler.reserve());
+            assertEquals(0L, scheduler.reserve());
+        }
+
+        @Test
+        void testRequestsArePacedBelowThreshold() {
+            final RateLimitScheduler scheduler = RateLimitScheduler.newInstance();
+            scheduler.record(200, "100", "10", String.valueOf(epochSecond() + 100), null);
+
+            assertEquals(0L, scheduler.reserve());
+            assertTrue(scheduler.reserve() > 9000L);
+        }
+
+        @Test
+        void testRequestIsParkedUntilResetWhenExhausted() {
+            final RateLimitScheduler scheduler = RateLimitScheduler.of(0.0);
+            final long reset = epochSecond() + 30;
+            assertFalse(scheduler.record(200, "60", "0", String.valueOf(reset), null));
+
+            assertTrue(scheduler.reserve() > 29000L);
+            assertEquals(RateLimit.from(60, 0, reset), scheduler.getRateLimit());
+        }
+    }
+
+    @Nested
+    class TestSendGetRequest {
+
+        @Test
+        void testRejectedRequestIsSentAgainAfterRetryAfter() throws IOException {
+            final AtomicInteger requestCount = new AtomicInteger();
+            final StubServer stubServer = StubServer.start();
+            stubServer.route("/users/octocat/following", exchange -> {
+                if (requestCount.incrementAndGet() == 1) {
+                    exchange.getResponseHeaders().add("Retry-After", "1");
+                    exchange.sendResponseHeaders(403, -1);
+                    exchange.close();
+                    return;
+                }
+
+                respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+            });
+
+            try {
+                final long start = System.nanoTime();
+                final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/following"));
+
+                assertEquals("octocat", HttpCommunicator.from(OAuthConfig.noneOf())
+                        .getAsList(genericUrl, FollowingUser.class).get(0).getLogin());
+                assertEquals(2, requestCount.get());
+                assertTrue(System.nanoTime() - start >= 900_000_000L);
+            } finally {
+                stubServer.close();
+            }
+        }
+    }
+
+    private static long epochSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link RequestCoalescer} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class RequestCoalescerTest {
+
+    /**
+     * The count of the concurrent callers
+     */
+    private static final int CALLER_COUNT = 8;
+
+    @Nested
+    class TestExecute {
+
+        @Test
+        void testIdenticalRequestsInFlightShareOneRequest() throws Exception {
+            final AtomicInteger requestCount = new AtomicInteger();
+            final CountDownLatch arrived = new CountDownLatch(1);
+            final StubServer stubServer = StubServer.start();
+            stubServer.route("/users/octocat/following", exchange -> {
+                requestCount.incrementAndGet();
+                arrived.countDown();
+
+                try {
+                    // Keeps the request in flight while the other callers arrive
+                    Thread.sleep(300L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+            });
+
+            final RequestCoalescer requestCoalescer = RequestCoalescer.newInstance();
+            final Communicator communicator = HttpCommunicator.from(OAuthConfig.noneOf(),
+                    CommunicationConfig.builder().requestCoalescer(requestCoalescer).build());
+            final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/following"));
+            final ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+
+            try {
+                final List<Future<List<FollowingUser>>> results = new ArrayList<>();
+                results.add(executor.submit(() -> communicator.getAsList(genericUrl, FollowingUser.class)));
+                arrived.await();
+
+                for (int i = 1; i < CALLER_COUNT; i++) {
+                    results.add(executor.submit(() -> communicator.getAsList(genericUrl, FollowingUser.class)));
+                }
+
+                final List<FollowingUser> first = results.get(0).get();
+
+                for (final Future<List<FollowingUser>> result : results) {
+                    assertSame(first, result.get());
+                }
+
+                assertEquals(1, requestCount.get());
+                assertEquals(CALLER_COUNT - 1, requestCoalescer.getCoalescedCount());
+            } finally {
+                executor.shutdownNow();
+                stubServer.close();
+            }
+        }
+
+        @Test
+        void testExceptionIsSharedWithWaitingCallers() throws Exception {
+            final RequestCoalescer requestCoalescer = RequestCoalescer.of(1);
+            final CountDownLatch leading = new CountDownLatch(1);
+            final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            try {
+                final Future<Object> leader = executor.submit(() -> requestCoalescer.execute("key", () -> {
+                    leading.countDown();
+
+                    // Fails only after the other caller waits for this request
+                    while (requestCoalescer.getCoalescedCount() == 0L) {
+                        Thread.onSpinWait();
+                    }
+
+                    throw new IllegalStateException("failed");
+                }));
+                leading.await();
+
+                assertThrows(IllegalStateException.class, () -> requestCoalescer.execute("key", () -> "unused"));
+                assertThrows(ExecutionException.class, leader::get);
+                assertEquals(1L, requestCoalescer.getCoalescedCount());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
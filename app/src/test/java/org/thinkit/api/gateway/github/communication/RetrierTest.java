@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.exception.ServiceUnavailableException;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link Retrier} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class RetrierTest {
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The count of the requests received by the stub server
+     */
+    private AtomicInteger requestCount;
+
+    /**
+     * The count of the requests that fail before the stub server succeeds
+     */
+    private int failureCount;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.requestCount = new AtomicInteger();
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/users/octocat/following", exchange -> {
+            if (this.requestCount.incrementAndGet() <= this.failureCount) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+
+            respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestShouldRetry {
+
+        @Test
+        void testTransientFailureIsRetried() {
+            failureCount = 2;
+            final CommunicationConfig communicationConfig = createConfig(3, 100);
+
+            assertEquals("octocat", getLogin(communicationConfig));
+            assertEquals(3, requestCount.get());
+            assertEquals(2L, communicationConfig.getRetryMetrics().getRetriedCount());
+            assertEquals(0L, communicationConfig.getRetryMetrics().getExhaustedCount());
+        }
+
+        @Test
+        void testFailureIsThrownAfterMaxAttempts() {
+            failureCount = Integer.MAX_VALUE;
+            final CommunicationConfig communicationConfig = createConfig(3, 100);
+
+            assertThrows(ServiceUnavailableException.class, () -> getLogin(communicationConfig));
+            assertEquals(3, requestCount.get());
+            assertEquals(1L, communicationConfig.getRetryMetrics().getExhaustedCount());
+        }
+
+        @Test
+        void testFailureIsThrownWhenBudgetRunsOut() {
+            failureCount = Integer.MAX_VALUE;
+            final CommunicationConfig communicationConfig = createConfig(5, 1);
+
+            assertThrows(ServiceUnavailableException.class, () -> getLogin(communicationConfig));
+            assertEquals(2, requestCount.get());
+            assertEquals(1L, communicationConfig.getRetryMetrics().getBudgetExhaustedCount());
+        }
+    }
+
+    private CommunicationConfig createConfig(final int maxAttempts, final int retryBudget) {
+        return CommunicationConfig.builder().retryPolicy(RetryPolicy.builder().maxAttempts(maxAttempts)
+                .baseDelay(Duration.ofMillis(1)).retryBudget(retryBudget).build()).build();
+    }
+
+    private String getLogin(final CommunicationConfig communicationConfig) {
+        final GenericUrl genericUrl = new GenericUrl(this.stubServer.url("/users/octocat/following"));
+        return HttpCommunicator.from(OAuthConfig.noneOf(), communicationConfig)
+                .getAsList(genericUrl, FollowingUser.class).get(0).getLogin();
+    }
+}
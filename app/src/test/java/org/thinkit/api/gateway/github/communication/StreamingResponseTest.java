@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.subscriptions.UserSubscription;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link Communicator#forEach} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class StreamingResponseTest {
+
+    /**
+     * The stub server
+     */
+    private StubServer stubServer;
+
+    /**
+     * The latch released when the first element is passed to the action
+     */
+    private CountDownLatch firstElement;
+
+    /**
+     * {@code true} if the first element was passed before the stub server sent
+     * the rest of the response
+     */
+    private AtomicBoolean streamed;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.firstElement = new CountDownLatch(1);
+        this.streamed = new AtomicBoolean();
+        this.stubServer = StubServer.start();
+        this.stubServer.route("/subscriptions", exchange -> {
+            final StringJoiner subscriptions = new StringJoiner(",", "[", "]");
+
+            for (int i = 0; i < 100; i++) {
+                subscriptions.add(String.format("{\"id\":%d,\"name\":\"repository-%d\"}", i, i));
+            }
+
+            respond(exchange, 200, subscriptions.toString());
+        });
+        this.stubServer.route("/slow", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write("[{\"id\":0,\"name\":\"first\"},".getBytes(StandardCharsets.UTF_8));
+                responseBody.flush();
+                this.streamed.set(this.firstElement.await(5, TimeUnit.SECONDS));
+                responseBody.write("{\"id\":1,\"name\":\"second\"}]".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        this.stubServer.route("/object", exchange -> {
+            respond(exchange, 200, "{\"id\":0}");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.stubServer.close();
+    }
+
+    @Nested
+    class TestForEach {
+
+        @Test
+        void testElementsArePassedInOrder() {
+
+            final List<String> names = new ArrayList<>();
+            HttpCommunicator.from(OAuthConfig.noneOf()).forEach(createUrl("/subscriptions"), UserSubscription.class,
+                    subscription -> names.add(subscription.getName()));
+
+            assertEquals(100, names.size());
+            assertEquals("repository-0", names.get(0));
+            assertEquals("repository-99", names.get(99));
+        }
+
+        @Test
+        void testElementIsPassedBeforeWholeResponseIsRead() {
+
+            final List<String> names = new ArrayList<>();
+            HttpCommunicator.from(OAuthConfig.noneOf()).forEach(createUrl("/slow"), UserSubscription.class,
+                    subscription -> {
+                        names.add(subscription.getName());
+                        firstElement.countDown();
+                    });
+
+            assertTrue(streamed.get());
+            assertEquals(List.of("first", "second"), names);
+        }
+
+        @Test
+        void testResponseThatIsNotArray() {
+            assertThrows(IllegalStateException.class, () -> HttpCommunicator.from(OAuthConfig.noneOf())
+                    .forEach(createUrl("/object"), UserSubscription.class, subscription -> {
+                    }));
+        }
+
+        @Test
+        void testExceptionOfActionIsPropagated() {
+            assertThrows(UnsupportedOperationException.class, () -> HttpCommunicator.from(OAuthConfig.noneOf())
+                    .forEach(createUrl("/subscriptions"), UserSubscription.class, subscription -> {
+                        throw new UnsupportedOperationException();
+                    }));
+        }
+    }
+
+    private GenericUrl createUrl(final String path) {
+        return new GenericUrl(this.stubServer.url(path));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.gateway.github.StubServer.respond;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.StubServer;
+import org.thinkit.api.gateway.github.response.user.following.FollowingUser;
+import org.thinkit.api.gateway.github.user.OAuthConfig;
+
+/**
+ * The class that manages test case of {@link TokenPool} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class TokenPoolTest {
+
+    @Nested
+    class TestFrom {
+
+        @Test
+        void testEmptyOAuthConfigsAreRejected() {
+            assertThrows(IllegalArgumentException.class, () -> TokenPool.from(Collections.emptyList()));
+        }
+
+        @Test
+        void testIdentityOfSingleTokenIsKept() {
+            assertEquals(TokenPool.of(oAuthConfig("a")).getIdentity(),
+                    TokenPool.from(List.of(oAuthConfig("a"))).getIdentity());
+            assertFalse(TokenPool.of(oAuthConfig("a")).getIdentity()
+                    .equals(TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b"))).getIdentity()));
+        }
+    }
+
+    @Nested
+    class TestSelect {
+
+        @Test
+        void testTokenWithLargestBudgetIsSelected() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final long reset = epochSecond() + 3600;
+            final TokenPool.Token first = tokenPool.select();
+            first.record(200, "5000", "100", String.valueOf(reset), null);
+
+            final TokenPool.Token second = tokenPool.select();
+            assertFalse(first == second);
+            second.record(200, "5000", "4000", String.valueOf(reset), null);
+
+            for (int i = 0; i < 10; i++) {
+                assertSame(second, tokenPool.select());
+            }
+        }
+
+        @Test
+        void testRequestsInFlightAreCounted() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final TokenPool.Token first = tokenPool.select();
+            final TokenPool.Token second = tokenPool.select();
+
+            assertFalse(first == second);
+            assertSame(first, tokenPool.select());
+            assertSame(second, tokenPool.select());
+        }
+
+        @Test
+        void testExhaustedTokenIsQuarantined() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final long reset = epochSecond() + 3600;
+            final TokenPool.Token exhausted = tokenPool.select();
+            exhausted.record(200, "5000", "0", String.valueOf(reset), null);
+
+            final TokenPool.Token other = tokenPool.select();
+            other.record(200, "5000", "1", String.valueOf(reset), null);
+
+            for (int i = 0; i < 10; i++) {
+                assertSame(other, tokenPool.select());
+            }
+        }
+
+        @Test
+        void testRejectedTokenIsQuarantined() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final TokenPool.Token rejected = tokenPool.select();
+            assertTrue(rejected.record(429, null, null, null, "60"));
+
+            final TokenPool.Token other = tokenPool.select();
+            assertFalse(rejected == other);
+            assertSame(other, tokenPool.select());
+        }
+
+        @Test
+        void testTokenReleasedFirstIsSelectedWhenAllAreQuarantined() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final long now = epochSecond();
+            final TokenPool.Token late = tokenPool.select();
+            late.record(200, "5000", "0", String.valueOf(now + 3600), null);
+            final TokenPool.Token early = tokenPool.select();
+            early.record(200, "5000", "0", String.valueOf(now + 60), null);
+
+            assertSame(early, tokenPool.select());
+        }
+    }
+
+    @Nested
+    class TestGetRateLimit {
+
+        @Test
+        void testRateLimitIsNotKnownBeforeResponse() {
+            assertFalse(TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b"))).getRateLimit().isKnown());
+        }
+
+        @Test
+        void testRateLimitsOfTokensAreSummedUp() {
+            final TokenPool tokenPool = TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b")));
+            final long reset = epochSecond() + 3600;
+            tokenPool.select().record(200, "5000", "4000", String.valueOf(reset + 60), null);
+            tokenPool.select().record(200, "5000", "3000", String.valueOf(reset), null);
+
+            assertEquals(RateLimit.from(10000, 7000, reset), tokenPool.getRateLimit());
+        }
+    }
+
+    @Nested
+    class TestSendGetRequest {
+
+        @Test
+        void testRequestsAreSpreadOverTokens() throws IOException {
+            final List<String> authorizations = Collections.synchronizedList(new ArrayList<>());
+            final StubServer stubServer = StubServer.start();
+            stubServer.route("/users/octocat/following", exchange -> {
+                authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+
+                respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+            });
+
+            try {
+                final GenericUrl genericUrl = new GenericUrl(stubServer.url("/users/octocat/following"));
+                final Communicator communicator = HttpCommunicator.from(
+                        TokenPool.from(List.of(oAuthConfig("a"), oAuthConfig("b"))), CommunicationConfig.defaultOf());
+
+                for (int i = 0; i < 4; i++) {
+                    communicator.getAsList(genericUrl, FollowingUser.class);
+                }
+
+                assertEquals(List.of("bearer a", "bearer b", "bearer a", "bearer b"), authorizations);
+            } finally {
+                stubServer.close();
+            }
+        }
+    }
+
+    private static OAuthConfig oAuthConfig(final String accessToken) {
+        return OAuthConfig.builder().accessToken(accessToken).build();
+    }
+
+    private static long epochSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+}
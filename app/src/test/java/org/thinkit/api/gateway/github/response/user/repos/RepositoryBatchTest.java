@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.response.user.repos;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.catalog.RepositoryColumn;
+import org.thinkit.api.gateway.github.codec.JsonDecoders;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+/**
+ * The class that manages test case of {@link RepositoryBatch} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class RepositoryBatchTest {
+
+    /**
+     * The page of the repositories that have the nested objects, the nulls and
+     * the fields other than the columns
+     */
+    private static final String PAGE = "[{\"id\":1296269,\"name\":\"Hello-World\",\"owner\":{\"id\":1,\"size\":9},"
+            + "\"language\":\"Java\",\"stargazers_count\":80,\"forks_count\":9,\"open_issues_count\":2,"
+            + "\"size\":108,\"topics\":[\"api\"],\"pushed_at\":\"2011-01-26T19:06:43Z\"},"
+            + "{\"id\":1296270,\"language\":null,\"stargazers_count\":5,\"forks_count\":null,\"pushed_at\":null},"
+            + "{\"id\":1296271,\"language\":\"Go\",\"stargazers_count\":15,\"forks_count\":1,\"size\":7},"
+            + "{\"id\":1296272,\"language\":\"Java\",\"stargazers_count\":20,\"open_issues_count\":4}]";
+
+    @Nested
+    class TestRead {
+
+        @Test
+        void testColumnsAreFilledFromJson() throws IOException {
+
+            final RepositoryBatch batch = read(PAGE);
+
+            assertEquals(4, batch.getRowCount());
+            assertEquals(1296269L, batch.getId(0));
+            assertEquals(80, batch.getValue(RepositoryColumn.STARGAZERS_COUNT, 0));
+            assertEquals(9, batch.getValue(RepositoryColumn.FORKS_COUNT, 0));
+            assertEquals(2, batch.getValue(RepositoryColumn.OPEN_ISSUES_COUNT, 0));
+            assertEquals(108, batch.getValue(RepositoryColumn.SIZE, 0));
+            assertEquals("Java", batch.getLanguage(0));
+            assertEquals(Instant.parse("2011-01-26T19:06:43Z"), batch.getPushedAtInstant(0));
+            assertEquals(List.of("Java", "Go"), batch.getLanguages());
+        }
+
+        @Test
+        void testNullsAreReadAsEmptyValues() throws IOException {
+
+            final RepositoryBatch batch = read(PAGE);
+
+            assertEquals(RepositoryBatch.NO_LANGUAGE, batch.getLanguageCode(1));
+            assertNull(batch.getLanguage(1));
+            assertEquals(0, batch.getValue(RepositoryColumn.FORKS_COUNT, 1));
+            assertEquals(0, batch.getValue(RepositoryColumn.SIZE, 1));
+            assertEquals(TimestampResolver.NONE, batch.getPushedAtMillis(1));
+            assertNull(batch.getPushedAtInstant(1));
+        }
+
+        @Test
+        void testPagesAreAppendedBeyondInitialCapacity() throws IOException {
+
+            final RepositoryBatchReader batchReader = RepositoryBatchReader.newInstance();
+            final StringJoiner page = new StringJoiner(",", "[", "]");
+
+            for (int i = 0; i < 50; i++) {
+                page.add("{\"id\":" + i + ",\"stargazers_count\":" + i + ",\"language\":\"L" + i % 3 + "\"}");
+            }
+
+            for (int i = 0; i < 3; i++) {
+                JsonDecoders.readEach(new ByteArrayInputStream(page.toString().getBytes(StandardCharsets.UTF_8)),
+                        StandardCharsets.UTF_8, batchReader);
+            }
+
+            final RepositoryBatch batch = batchReader.toBatch();
+
+            assertEquals(150, batch.getRowCount());
+            assertEquals(49L, batch.getId(149));
+            assertEquals(3 * (49 * 50 / 2), batch.sum(RepositoryColumn.STARGAZERS_COUNT));
+            assertEquals(3, batch.getLanguages().size());
+        }
+
+        @Test
+        void testRowOutOfRangeIsRejected() throws IOException {
+
+            final RepositoryBatch batch = read(PAGE);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.getId(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.getValue(RepositoryColumn.SIZE, -1));
+        }
+
+        @Test
+        void testNotArrayIsRejected() {
+            assertThrows(IOException.class, () -> read("{\"id\":1}"));
+        }
+    }
+
+    @Nested
+    class TestScan {
+
+        @Test
+        void testSumAndMax() throws IOException {
+
+            final RepositoryBatch batch = read(PAGE);
+
+            assertEquals(120L, batch.sum(RepositoryColumn.STARGAZERS_COUNT));
+            assertEquals(100L, batch.sum(RepositoryColumn.STARGAZERS_COUNT, batch.codeOf("Java")));
+            assertEquals(0L, batch.sum(RepositoryColumn.STARGAZERS_COUNT, batch.codeOf("Rust")));
+            assertEquals(5L, batch.sum(RepositoryColumn.STARGAZERS_COUNT, RepositoryBatch.NO_LANGUAGE));
+            assertEquals(80, batch.max(RepositoryColumn.STARGAZERS_COUNT));
+            assertEquals(0, read("[]").max(RepositoryColumn.STARGAZERS_COUNT));
+        }
+
+        @Test
+        void testAggregationByLanguage() throws IOException {
+
+            final RepositoryBatch batch = read(PAGE);
+
+            assertArrayEquals(new int[] { 2, 1 }, batch.countByLanguage());
+            assertArrayEquals(new long[] { 6L, 0L }, batch.sumByLanguage(RepositoryColumn.OPEN_ISSUES_COUNT));
+            assertArrayEquals(new int[] { 9, 0, 1, 0 }, batch.toArray(RepositoryColumn.FORKS_COUNT));
+        }
+    }
+
+    /**
+     * Reads the JSON array into the batch.
+     *
+     * @param json The JSON array of the repositories
+     * @return The batch
+     *
+     * @throws IOException If an error occurs while reading the JSON
+     */
+    private static RepositoryBatch read(final String json) throws IOException {
+
+        final RepositoryBatchReader batchReader = RepositoryBatchReader.newInstance();
+        JsonDecoders.readEach(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                batchReader);
+
+        return batchReader.toBatch();
+    }
+}
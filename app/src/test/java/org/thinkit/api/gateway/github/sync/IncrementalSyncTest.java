@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thinkit.api.gateway.github.RepositoryApi;
+import org.thinkit.api.gateway.github.catalog.QueryKey;
+import org.thinkit.api.gateway.github.catalog.SyncResource;
+import org.thinkit.api.gateway.github.query.QueryParameter;
+import org.thinkit.api.gateway.github.response.repos.issues.Issue;
+import org.thinkit.api.gateway.github.util.TimestampResolver;
+
+/**
+ * The class that manages test case of {@link IncrementalSync} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class IncrementalSyncTest {
+
+    /**
+     * The JSON object parser
+     */
+    private static final JsonObjectParser JSON_OBJECT_PARSER = new JsonObjectParser(GsonFactory.getDefaultInstance());
+
+    /**
+     * The repository name
+     */
+    private static final String REPOSITORY_NAME = "Hello-World";
+
+    /**
+     * The epoch second of the first update
+     */
+    private static final long BASE_SECOND = 1_600_000_000L;
+
+    /**
+     * The count of the issues per page
+     */
+    private static final int PER_PAGE = 3;
+
+    /**
+     * The issues served by the stub API for each id
+     */
+    private Map<Integer, Issue> issues;
+
+    /**
+     * The query parameters of the requests received by the stub API
+     */
+    private List<QueryParameter> requests;
+
+    /**
+     * The store of the caller
+     */
+    private Map<Integer, Issue> store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        this.issues = new HashMap<>();
+        this.requests = new ArrayList<>();
+        this.store = new HashMap<>();
+
+        for (int id = 1; id <= 10; id++) {
+            this.update(id, BASE_SECOND + id * 60L);
+        }
+    }
+
+    @Nested
+    class TestSyncIssues {
+
+        @Test
+        void testFirstSyncMergesAllIssues() {
+
+            final CheckpointStore checkpointStore = MemoryCheckpointStore.newInstance();
+            final SyncResult result = createSync(checkpointStore).syncIssues(REPOSITORY_NAME, store());
+
+            assertEquals(10, store.size());
+            assertEquals(TimestampResolver.NONE, result.getPreviousCheckpoint());
+            assertEquals(Instant.ofEpochSecond(BASE_SECOND + 600L), result.getCheckpointInstant());
+            assertEquals(result.getCheckpoint(), checkpointStore
+                    .load(IncrementalSync.getCheckpointKey(REPOSITORY_NAME, SyncResource.ISSUES)));
+            assertNull(requests.get(0).getQueries().get(QueryKey.SINCE.getTag()));
+            assertEquals("all", requests.get(0).getQueries().get(QueryKey.STATE.getTag()));
+        }
+
+        @Test
+        void testNextSyncRequestsOnlyUpdatedIssues() throws IOException {
+
+            final CheckpointStore checkpointStore = MemoryCheckpointStore.newInstance();
+            final IncrementalSync incrementalSync = createSync(checkpointStore);
+            incrementalSync.syncIssues(REPOSITORY_NAME, store());
+            requests.clear();
+
+            update(3, BASE_SECOND + 700L);
+            update(11, BASE_SECOND + 710L);
+            final SyncResult result = incrementalSync.syncIssues(REPOSITORY_NAME, store());
+
+            assertEquals(2, result.getRequestCount());
+            assertEquals(5, result.getMergedCount());
+            assertEquals(11, store.size());
+            assertEquals(BASE_SECOND + 700L, store.get(3).getUpdatedAtInstant().getEpochSecond());
+            assertEquals(Instant.ofEpochSecond(BASE_SECOND + 600L - 60L).toString(),
+                    requests.get(0).getQueries().get(QueryKey.SINCE.getTag()));
+        }
+
+        @Test
+        void testIssueUpdatedDuringSyncIsNotMissed() throws IOException {
+
+            final CheckpointStore checkpointStore = MemoryCheckpointStore.newInstance();
+            final List<Integer> merged = new ArrayList<>();
+
+            createSync(checkpointStore).syncIssues(REPOSITORY_NAME, items -> {
+                items.forEach(item -> merged.add(item.getId()));
+
+                if (merged.size() == PER_PAGE) {
+                    try {
+                        update(1, BASE_SECOND + 900L);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+
+            assertEquals(List.of(1, 2, 3, 3, 4, 5, 5, 6, 7, 7, 8, 9, 9, 10, 1, 1), merged);
+        }
+
+        @Test
+        void testPagesWithSameTimestampAreFollowedByPageNumber() throws IOException {
+
+            for (int id = 1; id <= 10; id++) {
+                update(id, BASE_SECOND);
+            }
+
+            final SyncResult result = createSync(MemoryCheckpointStore.newInstance()).syncIssues(REPOSITORY_NAME,
+                    store());
+
+            assertEquals(10, store.size());
+            assertEquals(5, result.getRequestCount());
+        }
+
+        @Test
+        void testRestartedSyncResumesFromLastPage(@TempDir final Path directory) {
+
+            final Path path = directory.resolve("checkpoints.properties");
+            final List<Integer> merged = new ArrayList<>();
+
+            assertThrows(IllegalStateException.class,
+                    () -> createSync(FileCheckpointStore.from(path)).syncIssues(REPOSITORY_NAME, items -> {
+                        if (merged.size() >= 2 * PER_PAGE) {
+                            throw new IllegalStateException("The job is killed");
+                        }
+
+                        items.forEach(item -> merged.add(item.getId()));
+                    }));
+
+            requests.clear();
+            final SyncResult result = createSync(FileCheckpointStore.from(path)).syncIssues(REPOSITORY_NAME, store());
+
+            assertEquals(Instant.ofEpochSecond(BASE_SECOND + 300L - 60L).toString(),
+                    requests.get(0).getQueries().get(QueryKey.SINCE.getTag()));
+            assertEquals(List.of(4, 5, 6, 7, 8, 9, 10),
+                    store.keySet().stream().sorted().collect(Collectors.toList()));
+            assertEquals(BASE_SECOND + 600L, result.getCheckpointInstant().getEpochSecond());
+        }
+
+        @Test
+        void testInvalidSettingsAreRejected() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> IncrementalSync.builder().repositoryApi(createRepositoryApi())
+                            .checkpointStore(MemoryCheckpointStore.newInstance()).perPage(101).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> IncrementalSync.builder().repositoryApi(createRepositoryApi())
+                            .checkpointStore(MemoryCheckpointStore.newInstance()).clockSkew(Duration.ofSeconds(-1L))
+                            .build());
+        }
+    }
+
+    @Nested
+    class TestFileCheckpointStore {
+
+        @Test
+        void testCheckpointsArePersisted(@TempDir final Path directory) {
+
+            final Path path = directory.resolve("sync").resolve("checkpoints.properties");
+            FileCheckpointStore.from(path).save("issues:Hello-World", 1_600_000_000_000L);
+
+            final CheckpointStore checkpointStore = FileCheckpointStore.from(path);
+
+            assertEquals(1_600_000_000_000L, checkpointStore.load("issues:Hello-World"));
+            assertEquals(TimestampResolver.NONE, checkpointStore.load("issues:Spoon-Knife"));
+        }
+    }
+
+    /**
+     * Returns the store of the caller that upserts the issues by the id.
+     *
+     * @return The store of the caller
+     */
+    private SyncStore<Issue> store() {
+        return items -> items.forEach(item -> this.store.put(item.getId(), item));
+    }
+
+    /**
+     * Returns the new engine on the stub API.
+     *
+     * @param checkpointStore The checkpoint store
+     * @return The new engine
+     */
+    private IncrementalSync createSync(final CheckpointStore checkpointStore) {
+        return IncrementalSync.builder().repositoryApi(this.createRepositoryApi()).checkpointStore(checkpointStore)
+                .perPage(PER_PAGE).clockSkew(Duration.ofMinutes(1L)).build();
+    }
+
+    /**
+     * Returns the stub API that serves the issues filtered by {@code "since"}
+     * and sorted by {@code "updated_at"} like the GitHub API.
+     *
+     * @return The stub API
+     */
+    private RepositoryApi createRepositoryApi() {
+        return (RepositoryApi) Proxy.newProxyInstance(RepositoryApi.class.getClassLoader(),
+                new Class<?>[] { RepositoryApi.class }, (proxy, method, args) -> {
+                    if (!method.getName().equals("getIssues") || args.length != 2) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+
+                    return this.getIssues((QueryParameter) args[1]);
+                });
+    }
+
+    /**
+     * Returns the page of the issues requested by the query parameter.
+     *
+     * @param queryParameter The query parameter
+     * @return The page of the issues
+     */
+    private List<Issue> getIssues(final QueryParameter queryParameter) {
+
+        this.requests.add(queryParameter);
+
+        final Object since = queryParameter.getQueries().get(QueryKey.SINCE.getTag());
+        final long sinceMillis = since == null ? Long.MIN_VALUE : Instant.parse(since.toString()).toEpochMilli();
+        final int perPage = queryParameter.getPagination().getPerPage();
+        final int page = queryParameter.getPagination().getPage();
+
+        return this.issues.values().stream().filter(issue -> issue.getUpdatedAtMillis() >= sinceMillis)
+                .sorted(Comparator.comparingLong(Issue::getUpdatedAtMillis).thenComparing(Issue::getId))
+                .skip((long) (page - 1) * perPage).limit(perPage).collect(Collectors.toList());
+    }
+
+    /**
+     * Updates the issue served by the stub API.
+     *
+     * @param id              The id of the issue
+     * @param updatedAtSecond The epoch second of the update
+     *
+     * @throws IOException If an error occurs while parsing the issue
+     */
+    private void update(final int id, final long updatedAtSecond) throws IOException {
+        final String json = String.format("{\"id\":%d,\"number\":%d,\"updated_at\":\"%s\"}", id, id,
+                Instant.ofEpochSecond(updatedAtSecond));
+        this.issues.put(id, JSON_OBJECT_PARSER.parseAndClose(new StringReader(json), Issue.class));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.api.gateway.github.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import com.google.api.client.util.Data;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * The class that manages test case of {@link TimestampResolver} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class TimestampResolverTest {
+
+    @Nested
+    class TestToEpochMillis {
+
+        @ParameterizedTest
+        @ValueSource(strings = { "2011-01-26T19:01:12Z", "1970-01-01T00:00:00Z", "1969-12-31T23:59:59Z",
+                "2000-02-29T12:00:00Z", "1900-02-28T23:59:59Z", "0001-01-01T00:00:00Z", "9999-12-31T23:59:59Z" })
+        void testFixedFormat(final String timestamp) {
+            assertEquals(Instant.parse(timestamp).toEpochMilli(), TimestampResolver.toEpochMillis(timestamp));
+        }
+
+        @Test
+        void testEveryDayIsEqualToInstant() {
+
+            Instant instant = Instant.parse("1999-12-01T01:02:03Z");
+            final Instant end = Instant.parse("2101-03-01T00:00:00Z");
+
+            while (instant.isBefore(end)) {
+                assertEquals(instant.toEpochMilli(), TimestampResolver.toEpochMillis(instant.toString()));
+                instant = instant.plus(1, ChronoUnit.DAYS).plusSeconds(3_607L);
+            }
+        }
+
+        @Test
+        void testOtherIsoFormatFallsBack() {
+            assertEquals(1_296_068_472_345L, TimestampResolver.toEpochMillis("2011-01-26T19:01:12.345Z"));
+            assertEquals(1_296_068_472_000L, TimestampResolver.toEpochMillis("2011-01-27T04:01:12+09:00"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "", "2021-02-29T00:00:00Z", "2021-13-01T00:00:00Z", "2021-01-01T24:00:00Z",
+                "2021-01-01T00:60:00Z", "2021-01-01 00:00:00Z", "2021-0a-01T00:00:00Z", "not a timestamp" })
+        void testInvalidTimestamp(final String timestamp) {
+            assertEquals(TimestampResolver.NONE, TimestampResolver.toEpochMillis(timestamp));
+        }
+
+        @Test
+        void testNullTimestamp() {
+            assertEquals(TimestampResolver.NONE, TimestampResolver.toEpochMillis(null));
+            assertEquals(TimestampResolver.NONE, TimestampResolver.toEpochMillis(Data.NULL_STRING));
+            assertNull(TimestampResolver.toInstant(TimestampResolver.NONE));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.client.http.GenericUrl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thinkit.api.gateway.github.catalog.GithubApi;
+
+/**
+ * The class that manages test case of {@link UrlResolver} .
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+public final class UrlResolverTest {
+
+    @Nested
+    class TestCreateUrl {
+
+        @Test
+        void testBindAllPlaceholders() {
+            assertEquals("https://api.github.com/repos/octocat/Hello-World/issues",
+                    UrlResolver.createUrl(GithubApi.ISSUES, Map.of(), List.of("octocat", "Hello-World")).build());
+        }
+
+        @Test
+        void testQueriesInOrder() {
+
+            final Map<String, Object> queries = new LinkedHashMap<>();
+            queries.put("per_page", 100);
+            queries.put("page", 2);
+
+            assertEquals("https://api.github.com/users/octocat/repos?per_page=100&page=2",
+                    UrlResolver.createUrl(GithubApi.USER_REPOSITORY, queries, List.of("octocat")).build());
+        }
+
+        @Test
+        void testEncodeBindValue() {
+            assertEquals("https://api.github.com/users/a%2Fb%20c%C3%A9",
+                    UrlResolver.createUrl(GithubApi.USER, Map.of(), List.of("a/b cé")).build());
+        }
+
+        @Test
+        void testEncodeQueryValue() {
+            assertEquals("https://api.github.com/users/octocat?q=a%26b%3Dc",
+                    UrlResolver.createUrl(GithubApi.USER, Map.of("q", "a&b=c"), List.of("octocat")).build());
+        }
+
+        @Test
+        void testUrlIsBuiltFromParts() {
+
+            final GenericUrl genericUrl = UrlResolver.createUrl(GithubApi.ISSUES, Map.of("page", 2),
+                    List.of("octocat", "a/b"));
+
+            assertEquals("api.github.com", genericUrl.getHost());
+            assertEquals(List.of("", "repos", "octocat", "a/b", "issues"), genericUrl.getPathParts());
+            assertEquals("2", genericUrl.getFirst("page"));
+            assertEquals(new GenericUrl(genericUrl.build()).build(), genericUrl.build());
+        }
+
+        @Test
+        void testFewerBindValues() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> UrlResolver.createUrl(GithubApi.REPOSITORY, Map.of(), List.of("octocat")));
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.gateway.github.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * The annotation processor that generates the JSON decoder of each response
+ * model at compile time.
+ *
+ * <p>
+ * A decoder is generated for each top level class that has the fields
+ * annotated with {@code com.google.api.client.util.Key} . The decoder is named
+ * after the model with the suffix {@code "JsonDecoder"} and is placed in the
+ * same package, where it reads the JSON object from the
+ * {@code com.google.gson.stream.JsonReader} and maps each field name to the
+ * setter of the model with a {@code switch} statement, so no reflection is
+ * used at parse time. The setters are expected to be generated by Lombok with
+ * {@code @Setter(AccessLevel.PACKAGE)} and are named by the convention of
+ * Lombok.
+ *
+ * <p>
+ * The value of the field excluded by the projection of {@code DecodeOptions}
+ * is skipped without being materialized, and the nested models are always
+ * read with all of their fields. If the model declares the non-private method
+ * {@code compactUrls()} , it is called after the object is read when the
+ * compact mode of {@code DecodeOptions} is enabled.
+ *
+ * <p>
+ * The supported field types are {@code int} , {@code long} , {@code double} ,
+ * {@code boolean} , {@link String} , the other models and {@link List} of the
+ * other models. A field of the other type is reported as an error.
+ *
+ * @author Kato Shinya
+ * @since 1.0.1
+ */
+@SupportedAnnotationTypes(JsonDecoderProcessor.KEY_ANNOTATION)
+public final class JsonDecoderProcessor extends AbstractProcessor {
+
+    /**
+     * The annotation that marks the fields of the model
+     */
+    static final String KEY_ANNOTATION = "com.google.api.client.util.Key";
+
+    /**
+     * The suffix of the decoder class
+     */
+    private static final String DECODER_SUFFIX = "JsonDecoder";
+
+    /**
+     * The value of {@code Key} that means the field name is used as the key
+     */
+    private static final String DEFAULT_KEY = "##default";
+
+    /**
+     * The method of the model that drops the URLs derived from the other fields
+     */
+    private static final String COMPACT_URLS = "compactUrls";
+
+    /**
+     * The package of the runtime classes used by the generated decoders
+     */
+    private static final String CODEC_PACKAGE = "org.thinkit.api.gateway.github.codec";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        final TypeElement keyAnnotation = super.processingEnv.getElementUtils().getTypeElement(KEY_ANNOTATION);
+
+        if (keyAnnotation == null) {
+            return false;
+        }
+
+        final Set<TypeElement> models = new LinkedHashSet<>();
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(keyAnnotation)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                models.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for (final TypeElement model : models) {
+            if (model.getNestingKind() != NestingKind.TOP_LEVEL) {
+                super.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "The decoder is not generated for the nested class", model);
+                continue;
+            }
+
+            this.generate(model);
+        }
+
+        return false;
+    }
+
+    /**
+     * Generates the decoder of the model passed as an argument.
+     *
+     * @param model The model
+     */
+    private void generate(final TypeElement model) {
+
+        final List<String> cases = new ArrayList<>();
+
+        for (final VariableElement field : this.getKeyFields(model)) {
+            final String reader = this.createReader(field);
+
+            if (reader == null) {
+                super.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "The type of the field is not supported by the decoder", field);
+                return;
+            }
+
+            cases.add(String.format("            case \"%s\" -> {%n"
+                    + "                if (options.includes(name)) {%n"
+                    + "                    model.%s(%s);%n"
+                    + "                } else {%n"
+                    + "                    reader.skipValue();%n"
+                    + "                }%n"
+                    + "            }%n", this.getKey(field), getSetterName(field), reader));
+        }
+
+        final String packageName = ((PackageElement) model.getEnclosingElement()).getQualifiedName().toString();
+        final String modelName = model.getSimpleName().toString();
+        final String decoderName = modelName + DECODER_SUFFIX;
+
+        try (Writer writer = super.processingEnv.getFiler()
+                .createSourceFile(packageName + "." + decoderName, model).openWriter()) {
+            writer.write(String.format("package %s;%n%n", packageName));
+            writer.write(String.format("import java.io.IOException;%n%n"));
+            writer.write(String.format("import javax.annotation.processing.Generated;%n%n"));
+            writer.write(String.format("import com.google.gson.stream.JsonReader;%n%n"));
+            writer.write(String.format("import %s.DecodeOptions;%n", CODEC_PACKAGE));
+            writer.write(String.format("import %s.JsonDecoder;%n", CODEC_PACKAGE));
+            writer.write(String.format("import %s.JsonDecoding;%n%n", CODEC_PACKAGE));
+            writer.write(String.format("/**%n * The decoder of {@link %s} .%n */%n", modelName));
+            writer.write(String.format("@Generated(\"%s\")%n", JsonDecoderProcessor.class.getName()));
+            writer.write(String.format("public final class %s implements JsonDecoder<%s> {%n%n", decoderName,
+                    modelName));
+            writer.write(String.format("    /**%n     * The singleton instance%n     */%n"));
+            writer.write(String.format("    public static final %s INSTANCE = new %s();%n%n", decoderName,
+                    decoderName));
+            writer.write(String.format("    private %s() {%n    }%n%n", decoderName));
+            writer.write(String.format("    @Override%n"));
+            writer.write(String.format("    public %s decode(final JsonReader reader, final DecodeOptions options)%n"
+                    + "            throws IOException {%n%n", modelName));
+            writer.write(String.format("        final %s model = JsonDecoding.beginObject(reader, new %s());%n%n",
+                    modelName, modelName));
+            writer.write(String.format("        while (reader.hasNext()) {%n"));
+            writer.write(String.format("            final String name = reader.nextName();%n%n"));
+            writer.write(String.format("            switch (name) {%n"));
+
+            for (final String c : cases) {
+                writer.write(c);
+            }
+
+            writer.write(
+                    String.format("            default -> JsonDecoding.readUnknown(reader, options, model, name);%n"));
+            writer.write(String.format("            }%n"));
+            writer.write(String.format("        }%n%n"));
+            writer.write(String.format("        reader.endObject();%n%n"));
+
+            if (this.hasCompactUrls(model)) {
+                writer.write(String.format("        if (options.isCompactUrls()) {%n"));
+                writer.write(String.format("            model.%s();%n", COMPACT_URLS));
+                writer.write(String.format("        }%n%n"));
+            }
+
+            writer.write(String.format("        return model;%n"));
+            writer.write(String.format("    }%n"));
+            writer.write(String.format("}%n"));
+        } catch (IOException e) {
+            super.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "The decoder cannot be generated: " + e.getMessage(), model);
+        }
+    }
+
+    /**
+     * Returns the fields of the model annotated with {@code Key} in the declared
+     * order.
+     *
+     * @param model The model
+     * @return The fields annotated with {@code Key}
+     */
+    private List<VariableElement> getKeyFields(final TypeElement model) {
+
+        final List<VariableElement> fields = new ArrayList<>();
+
+        for (final Element element : model.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.FIELD && !element.getModifiers().contains(Modifier.STATIC)
+                    && this.getKeyAnnotation(element) != null) {
+                fields.add((VariableElement) element);
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Tests if the model declares the method that drops the derivable URLs.
+     *
+     * @param model The model
+     * @return {@code true} if the model declares the non-private method
+     *         {@code compactUrls()} , otherwise {@code false}
+     */
+    private boolean hasCompactUrls(final TypeElement model) {
+
+        for (final Element element : model.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD && element.getSimpleName().contentEquals(COMPACT_URLS)
+                    && ((ExecutableElement) element).getParameters().isEmpty()
+                    && !element.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the JSON key of the field.
+     *
+     * @param field The field annotated with {@code Key}
+     * @return The JSON key
+     */
+    private String getKey(final VariableElement field) {
+
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : this
+                .getKeyAnnotation(field).getElementValues().entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals("value")
+                    && !DEFAULT_KEY.equals(value.getValue().getValue())) {
+                return value.getValue().getValue().toString();
+            }
+        }
+
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * Returns the {@code Key} annotation of the element.
+     *
+     * @param element The element
+     * @return The {@code Key} annotation, or {@code null} if the element is not
+     *         annotated
+     */
+    private AnnotationMirror getKeyAnnotation(final Element element) {
+
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(KEY_ANNOTATION)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the expression that reads the value of the field.
+     *
+     * @param field The field
+     * @return The expression, or {@code null} if the type of the field is not
+     *         supported
+     */
+    private String createReader(final VariableElement field) {
+
+        final TypeMirror type = field.asType();
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return switch (type.getKind()) {
+            case INT -> "JsonDecoding.readInt(reader)";
+            case LONG -> "JsonDecoding.readLong(reader)";
+            case DOUBLE -> "JsonDecoding.readDouble(reader)";
+            case BOOLEAN -> "JsonDecoding.readBoolean(reader)";
+            default -> null;
+            };
+        }
+
+        final DeclaredType declaredType = (DeclaredType) type;
+        final TypeElement typeElement = (TypeElement) declaredType.asElement();
+        final String typeName = typeElement.getQualifiedName().toString();
+
+        if (String.class.getName().equals(typeName)) {
+            return "JsonDecoding.readString(reader)";
+        }
+
+        if (List.class.getName().equals(typeName)) {
+            final List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (typeArguments.size() != 1 || typeArguments.get(0).getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+
+            final TypeElement itemElement = (TypeElement) ((DeclaredType) typeArguments.get(0)).asElement();
+            return this.isModel(itemElement)
+                    ? String.format("JsonDecoding.readList(reader, options.unprojected(), %s.INSTANCE, %s.class)",
+                            getDecoderName(itemElement), itemElement.getQualifiedName())
+                    : null;
+        }
+
+        return this.isModel(typeElement)
+                ? String.format("JsonDecoding.readObject(reader, options.unprojected(), %s.INSTANCE, %s.class)",
+                        getDecoderName(typeElement), typeName)
+                : null;
+    }
+
+    /**
+     * Tests if the type is a model that has its own decoder.
+     *
+     * @param typeElement The type
+     * @return {@code true} if the type is a top level class that has the fields
+     *         annotated with {@code Key} , otherwise {@code false}
+     */
+    private boolean isModel(final TypeElement typeElement) {
+        return typeElement.getNestingKind() == NestingKind.TOP_LEVEL && !this.getKeyFields(typeElement).isEmpty();
+    }
+
+    /**
+     * Returns the qualified name of the decoder of the model.
+     *
+     * @param model The model
+     * @return The qualified name of the decoder
+     */
+    private static String getDecoderName(final TypeElement model) {
+        return model.getQualifiedName() + DECODER_SUFFIX;
+    }
+
+    /**
+     * Returns the name of the setter that Lombok generates for the field.
+     *
+     * @param field The field
+     * @return The name of the setter
+     */
+    private static String getSetterName(final VariableElement field) {
+
+        String name = field.getSimpleName().toString();
+
+        if (field.asType().getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is")
+                && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}